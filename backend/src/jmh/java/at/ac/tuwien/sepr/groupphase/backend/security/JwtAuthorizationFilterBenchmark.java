@@ -0,0 +1,75 @@
+package at.ac.tuwien.sepr.groupphase.backend.security;
+
+import at.ac.tuwien.sepr.groupphase.backend.config.SecurityPropertiesConfig;
+import at.ac.tuwien.sepr.groupphase.backend.config.properties.SecurityProperties;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time one authenticated request through {@link JwtAuthorizationFilter}, with the verified-token
+ * cache disabled ({@code cacheSize = 0}, signature check and claim parsing on every request) and
+ * enabled.
+ *
+ * <p>Run with {@code mvn -Pjmh test-compile exec:exec -Dexec.args="JwtAuthorizationFilterBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthorizationFilterBenchmark {
+
+    @Param({"0", "10000"})
+    int cacheSize;
+
+    private JwtAuthorizationFilter filter;
+    private String header;
+
+    @Setup
+    public void setUp() {
+        SecurityPropertiesConfig.Auth auth = new SecurityPropertiesConfig.Auth();
+        auth.setHeader("Authorization");
+        auth.setPrefix("Bearer ");
+        SecurityPropertiesConfig.Jwt jwt = new SecurityPropertiesConfig.Jwt();
+        jwt.setSecret("?E(H+MbQeThWmZq4t7w!z%C*F-J@NcRfUjXn2r5u8x/A?D(G+KbPdSgVkYp3s6v9");
+        jwt.setType("JWT");
+        jwt.setIssuer("secure-backend");
+        jwt.setAudience("secure-app");
+        jwt.setExpirationTime(TimeUnit.HOURS.toMillis(12));
+        jwt.setVerifiedTokenCacheSize(cacheSize);
+        SecurityProperties properties = new SecurityProperties(auth, jwt);
+
+        filter = new JwtAuthorizationFilter(properties);
+        header = new JwtTokenizer(properties).getAuthToken("user@example.com", List.of("ROLE_USER"));
+    }
+
+    @Benchmark
+    public Authentication authenticatedRequest() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/news/unread");
+        request.addHeader("Authorization", header);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
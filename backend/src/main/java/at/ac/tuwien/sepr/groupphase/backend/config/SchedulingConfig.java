@@ -0,0 +1,15 @@
+package at.ac.tuwien.sepr.groupphase.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Runs the {@code @Scheduled} sweeps on the task scheduler auto-configured by Spring Boot.
+ *
+ * <p>Background work is handed to the shared {@code applicationTaskExecutor}; both pools are
+ * sized under {@code spring.task} and shut down by the application context.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
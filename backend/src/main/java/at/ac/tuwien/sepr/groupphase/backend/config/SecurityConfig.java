@@ -1,7 +1,10 @@
 package at.ac.tuwien.sepr.groupphase.backend.config;
 
+import at.ac.tuwien.sepr.groupphase.backend.security.ApiRateLimiter;
 import at.ac.tuwien.sepr.groupphase.backend.security.JwtAuthorizationFilter;
+import at.ac.tuwien.sepr.groupphase.backend.security.RateLimitFilter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -13,6 +16,7 @@ import org.springframework.security.config.annotation.web.configurers.HeadersCon
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -26,10 +30,14 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class SecurityConfig {
 
     private final JwtAuthorizationFilter jwtAuthorizationFilter;
+    private final RateLimitFilter rateLimitFilter;
 
     @Autowired
-    public SecurityConfig(JwtAuthorizationFilter jwtAuthorizationFilter) {
+    public SecurityConfig(JwtAuthorizationFilter jwtAuthorizationFilter,
+                          ApiRateLimiter apiRateLimiter,
+                          @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver) {
         this.jwtAuthorizationFilter = jwtAuthorizationFilter;
+        this.rateLimitFilter = new RateLimitFilter(apiRateLimiter, jwtAuthorizationFilter, exceptionResolver);
     }
 
     @Bean
@@ -81,6 +89,9 @@ public class SecurityConfig {
                     "/v3/api-docs/**"
                 ).permitAll()
 
+                // Prometheus scrape endpoint, only served on the management port
+                .requestMatchers(HttpMethod.GET, "/actuator/prometheus").permitAll()
+
                 // Public API
                 .requestMatchers(
                     "/api/v1/users/registration",
@@ -97,6 +108,7 @@ public class SecurityConfig {
                     "/api/v1/merchandise/*",
                     "/api/v1/merchandise/*/image",
                     "/api/v1/price-categories/**",
+                    "/api/v1/suggest",
                     "/health/**",
                     "/h2-console/**"
                 ).permitAll()
@@ -129,6 +141,14 @@ public class SecurityConfig {
                 UsernamePasswordAuthenticationFilter.class
             )
 
+            // -------------------------
+            // Rate limiting (needs the authenticated user)
+            // -------------------------
+            .addFilterAfter(
+                rateLimitFilter,
+                JwtAuthorizationFilter.class
+            )
+
             .build();
     }
 
@@ -50,4 +50,8 @@ public class SecurityProperties {
         return jwt.getExpirationTime();
     }
 
+    public int getJwtVerifiedTokenCacheSize() {
+        return jwt.getVerifiedTokenCacheSize();
+    }
+
 }
@@ -30,6 +30,7 @@ import at.ac.tuwien.sepr.groupphase.backend.repository.SeatRepository;
 import at.ac.tuwien.sepr.groupphase.backend.repository.SectorRepository;
 import at.ac.tuwien.sepr.groupphase.backend.repository.TicketRepository;
 import at.ac.tuwien.sepr.groupphase.backend.repository.UserRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.BlobStore;
 import at.ac.tuwien.sepr.groupphase.backend.type.CartItemType;
 import at.ac.tuwien.sepr.groupphase.backend.type.UserRole;
 import org.slf4j.Logger;
@@ -78,6 +79,7 @@ public class DataGenerator implements ApplicationRunner {
     private final PasswordEncoder passwordEncoder;
     private final CartRepository cartRepository;
     private final CartItemRepository cartItemRepository;
+    private final BlobStore blobStore;
 
     @Value("${app.datagen.enabled:false}")
     private boolean enabled;
@@ -98,7 +100,8 @@ public class DataGenerator implements ApplicationRunner {
         InvoiceMerchandiseItemRepository invoiceMerchandiseItemRepository,
         PasswordEncoder passwordEncoder,
         CartRepository cartRepository,
-        CartItemRepository cartItemRepository
+        CartItemRepository cartItemRepository,
+        BlobStore blobStore
     ) {
         this.userRepository = userRepository;
         this.locationRepository = locationRepository;
@@ -116,6 +119,7 @@ public class DataGenerator implements ApplicationRunner {
         this.passwordEncoder = passwordEncoder;
         this.cartRepository = cartRepository;
         this.cartItemRepository = cartItemRepository;
+        this.blobStore = blobStore;
     }
 
     @Override
@@ -997,9 +1001,7 @@ public class DataGenerator implements ApplicationRunner {
             try {
                 java.io.File file = new java.io.File(imagePath);
                 if (file.exists()) {
-                    byte[] imageBytes = java.nio.file.Files.readAllBytes(file.toPath());
-
-                    event.setImage(imageBytes);
+                    event.setImageKey(storeImage(file));
                     event.setImageContentType("image/jpeg");
                     eventRepository.save(event);
 
@@ -1202,9 +1204,7 @@ public class DataGenerator implements ApplicationRunner {
                         continue;
                     }
 
-                    byte[] imageBytes = java.nio.file.Files.readAllBytes(file.toPath());
-
-                    merch.setImage(imageBytes);
+                    merch.setImageKey(storeImage(file));
                     merch.setImageContentType(contentTypeForExtension(ext));
                     merchandiseRepository.save(merch);
 
@@ -1226,6 +1226,12 @@ public class DataGenerator implements ApplicationRunner {
         LOGGER.info("Merchandise image upload completed!");
     }
 
+    private String storeImage(java.io.File file) throws java.io.IOException {
+        try (java.io.InputStream content = java.nio.file.Files.newInputStream(file.toPath())) {
+            return blobStore.put(content);
+        }
+    }
+
     private String contentTypeForExtension(String ext) {
         return switch (ext.toLowerCase(java.util.Locale.ROOT)) {
             case "jpg", "jpeg" -> "image/jpeg";
@@ -1556,9 +1562,7 @@ public class DataGenerator implements ApplicationRunner {
             try {
                 java.io.File file = new java.io.File(imagePath);
                 if (file.exists()) {
-                    byte[] imageBytes = java.nio.file.Files.readAllBytes(file.toPath());
-
-                    newsItem.setImageData(imageBytes);
+                    newsItem.setImageKey(storeImage(file));
                     newsItem.setImageContentType("image/jpeg");
                     newsItemRepository.save(newsItem);
 
@@ -1,5 +1,6 @@
 package at.ac.tuwien.sepr.groupphase.backend.endpoint;
 
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.page.CursorPageDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.user.DetailedUserDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.user.UserCreateDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.user.UserRoleUpdateDto;
@@ -88,6 +89,32 @@ public class AdminEndpoint {
         );
     }
 
+    /**
+     * Returns users filtered by lock state and optional search term, ordered by email and
+     * continuing after a cursor instead of a page number. Selected by the presence of the
+     * {@code cursor} parameter; an empty cursor starts with the first user.
+     *
+     * @param locked whether to fetch locked or active users
+     * @param cursor the cursor returned with the previous page
+     * @param size   page size
+     * @param search optional search term (first name, last name or email)
+     * @return the users and the cursor of the next page
+     */
+    @GetMapping(params = "cursor")
+    public CursorPageDto<DetailedUserDto> getUsersByCursor(
+        @RequestParam(name = "locked") boolean locked,
+        @RequestParam(name = "cursor") String cursor,
+        @RequestParam(name = "size") int size,
+        @RequestParam(name = "search", required = false) String search
+    ) {
+        LOGGER.info(
+            "Fetching users (locked={}, cursor={}, size={}, search={})",
+            locked, cursor, size, search
+        );
+
+        return userService.findUsersByCursor(locked, search, cursor, size);
+    }
+
     /**
      * Updates the lock state of a user account.
      *
@@ -0,0 +1,45 @@
+package at.ac.tuwien.sepr.groupphase.backend.endpoint;
+
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.image.ImageBackfillDto;
+import at.ac.tuwien.sepr.groupphase.backend.service.ImageDerivativeService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.lang.invoke.MethodHandles;
+
+/**
+ * REST endpoint for administrative image maintenance.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/images")
+@Secured("ROLE_ADMIN")
+public class AdminImageEndpoint {
+
+    private static final Logger LOGGER =
+        LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    private final ImageDerivativeService imageDerivativeService;
+
+    public AdminImageEndpoint(ImageDerivativeService imageDerivativeService) {
+        this.imageDerivativeService = imageDerivativeService;
+    }
+
+    /**
+     * Generate the missing thumbnails and other derivatives of all stored images.
+     * Generation runs in the background.
+     *
+     * @return the number of images queued
+     */
+    @PostMapping("/derivatives")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ImageBackfillDto backfillDerivatives() {
+        LOGGER.info("POST /api/v1/admin/images/derivatives");
+        return new ImageBackfillDto(imageDerivativeService.backfill());
+    }
+}
@@ -1,19 +1,25 @@
 package at.ac.tuwien.sepr.groupphase.backend.endpoint;
 
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.CalendarDayDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.DetailedEventDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.EventCancellationDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.EventCreateDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.EventUpdateDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.FacetedEventSearchDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.SeatmapDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.SimpleEventDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.TopTenEventDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.page.CursorPageDto;
 import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
+import at.ac.tuwien.sepr.groupphase.backend.service.EventCancellationService;
 import at.ac.tuwien.sepr.groupphase.backend.service.EventService;
+import at.ac.tuwien.sepr.groupphase.backend.type.PriceBand;
 import jakarta.annotation.security.PermitAll;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -31,6 +37,7 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
 
 /**
@@ -41,9 +48,11 @@ import java.util.List;
 public class EventEndpoint {
 
     private final EventService eventService;
+    private final EventCancellationService eventCancellationService;
 
-    public EventEndpoint(EventService eventService) {
+    public EventEndpoint(EventService eventService, EventCancellationService eventCancellationService) {
         this.eventService = eventService;
+        this.eventCancellationService = eventCancellationService;
     }
 
     /**
@@ -63,6 +72,23 @@ public class EventEndpoint {
         return eventService.findAllAsDto(pageable);
     }
 
+    /**
+     * Get all events ordered by date, continuing after a cursor instead of a page number.
+     * Selected by the presence of the {@code cursor} parameter; an empty cursor starts at the first event.
+     *
+     * @param cursor the cursor returned with the previous page
+     * @param size   the page size (default: 12)
+     * @return events with minimum prices and the cursor of the next page
+     */
+    @PermitAll
+    @GetMapping(params = "cursor")
+    public CursorPageDto<SimpleEventDto> findAllByCursor(
+        @RequestParam(name = "cursor") String cursor,
+        @RequestParam(name = "size", defaultValue = "12") int size
+    ) {
+        return eventService.findAllByCursor(cursor, size);
+    }
+
     /**
      * Get event by ID with full details.
      *
@@ -165,6 +191,66 @@ public class EventEndpoint {
             title, type, duration, dateFrom, dateTo, locationId, priceMin, priceMax, pageable);
     }
 
+    /**
+     * Full-text search over title, type and description, ranked by relevance.
+     * Case and diacritics are ignored; parts of words match as well.
+     *
+     * @param query the search text
+     * @param page  the page number (default: 0)
+     * @param size  the page size (default: 12)
+     * @return page of matching events, best match first
+     */
+    @PermitAll
+    @GetMapping("/fulltext")
+    public Page<SimpleEventDto> searchFullText(
+        @RequestParam(name = "q") String query,
+        @RequestParam(name = "page", defaultValue = "0") int page,
+        @RequestParam(name = "size", defaultValue = "12") int size
+    ) {
+        return eventService.searchFullText(query, PageRequest.of(page, size));
+    }
+
+    /**
+     * Filter events by type, location, price band and month and return, for each of
+     * these facets, how many events every value would yield.
+     *
+     * @param type       event type (optional)
+     * @param locationId location ID (optional)
+     * @param priceBand  band of the lowest ticket price (optional)
+     * @param month      month in the format yyyy-MM (optional)
+     * @param page       the page number (default: 0)
+     * @param size       the page size (default: 12)
+     * @return page of matching events together with the facet counts
+     */
+    @PermitAll
+    @GetMapping("/facets")
+    public FacetedEventSearchDto searchFaceted(
+        @RequestParam(required = false, name = "type") String type,
+        @RequestParam(required = false, name = "locationId") Long locationId,
+        @RequestParam(required = false, name = "priceBand") PriceBand priceBand,
+        @RequestParam(required = false, name = "month") @DateTimeFormat(pattern = "yyyy-MM") YearMonth month,
+        @RequestParam(name = "page", defaultValue = "0") int page,
+        @RequestParam(name = "size", defaultValue = "12") int size
+    ) {
+        return eventService.searchFaceted(type, locationId, priceBand, month, PageRequest.of(page, size));
+    }
+
+    /**
+     * Calendar view: one summary per day with events in a range of months.
+     *
+     * @param from first month in the format yyyy-MM
+     * @param to   last month in the format yyyy-MM (optional, defaults to {@code from}, at most 12 months)
+     * @return days with their events, in date order
+     */
+    @PermitAll
+    @GetMapping("/calendar")
+    public List<CalendarDayDto> findCalendar(
+        @RequestParam(name = "from") @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+        @RequestParam(required = false, name = "to") @DateTimeFormat(pattern = "yyyy-MM") YearMonth to
+    ) {
+        return eventService.findCalendar(from, to);
+    }
+
     /**
      * Get top 10 events by ticket sales for a specific month and year.
      *
@@ -207,19 +293,18 @@ public class EventEndpoint {
     /**
      * Get image for an event.
      *
-     * @param id the event ID
-     * @return the image file
+     * @param id      the event ID
+     * @param size    the rendition: thumb, card or full (default)
+     * @param version the ETag of the image, makes the response cacheable forever
+     * @return the image file, or 304 Not Modified if the client has it cached
      */
     @PermitAll
     @GetMapping("/{id}/image")
-    public ResponseEntity<byte[]> getImage(@PathVariable("id") Long id) {
+    public ResponseEntity<Resource> getImage(@PathVariable("id") Long id,
+                                             @RequestParam(name = "size", required = false) String size,
+                                             @RequestParam(name = "v", required = false) String version) {
         try {
-            byte[] data = eventService.getImage(id);
-            String contentType = eventService.getImageContentType(id);
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.parseMediaType(contentType));
-            headers.setContentLength(data.length);
-            return new ResponseEntity<>(data, headers, HttpStatus.OK);
+            return ImageResponses.of(eventService.getImage(id, ImageResponses.size(size)), version);
         } catch (NotFoundException e) {
             if (e.getMessage().contains("kein Bild")) {
                 return ResponseEntity.noContent().build();
@@ -239,4 +324,30 @@ public class EventEndpoint {
     public void deleteImage(@PathVariable("id") Long id) {
         eventService.deleteImage(id);
     }
-}
\ No newline at end of file
+
+    /**
+     * Cancel an event and refund all sold tickets (admin only).
+     * The cancellation runs in the background; poll the progress endpoint for its state.
+     *
+     * @param id the event ID
+     * @return the initial progress of the cancellation job
+     */
+    @Secured("ROLE_ADMIN")
+    @PostMapping("/{id}/cancellation")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public EventCancellationDto cancelEvent(@PathVariable("id") Long id) {
+        return eventCancellationService.cancelEvent(id);
+    }
+
+    /**
+     * Get the progress of the latest cancellation of an event (admin only).
+     *
+     * @param id the event ID
+     * @return progress of the cancellation job
+     */
+    @Secured("ROLE_ADMIN")
+    @GetMapping("/{id}/cancellation")
+    public EventCancellationDto getCancellationProgress(@PathVariable("id") Long id) {
+        return eventCancellationService.getProgress(id);
+    }
+}
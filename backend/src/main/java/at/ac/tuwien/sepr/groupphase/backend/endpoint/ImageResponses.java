@@ -0,0 +1,53 @@
+package at.ac.tuwien.sepr.groupphase.backend.endpoint;
+
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.image.ImageResourceDto;
+import at.ac.tuwien.sepr.groupphase.backend.exception.ValidationException;
+import at.ac.tuwien.sepr.groupphase.backend.type.ImageSize;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Builds the responses of the image download endpoints.
+ *
+ * <p>The image is returned as a {@link Resource}, so Spring MVC streams it from the blob
+ * store, sets {@code Content-Length} from the file size and answers a {@code Range} request
+ * with {@code 206 Partial Content} on its own. The {@code size} parameter selects a rendition,
+ * defaulting to {@link ImageSize#FULL}.
+ *
+ * <p>The blob key is the SHA-256 of the served bytes and is sent as strong {@code ETag}, so a
+ * matching {@code If-None-Match} is answered with {@code 304 Not Modified} before the content
+ * is opened. A URL carrying that key as {@code v} parameter can never change its content and
+ * is marked immutable; all other URLs must be revalidated.
+ */
+final class ImageResponses {
+
+    private static final CacheControl VERSIONED = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+    private static final CacheControl UNVERSIONED = CacheControl.noCache().cachePublic();
+
+    private ImageResponses() {
+    }
+
+    static ResponseEntity<Resource> of(ImageResourceDto image, String version) {
+        return ResponseEntity.ok()
+            .eTag(image.key())
+            .cacheControl(image.key().equals(version) ? VERSIONED : UNVERSIONED)
+            .contentType(MediaType.parseMediaType(image.contentType()))
+            .body(image.content());
+    }
+
+    static ImageSize size(String size) {
+        if (size == null || size.isBlank()) {
+            return ImageSize.FULL;
+        }
+        try {
+            return ImageSize.valueOf(size.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Ungültige Bildgröße: " + size + " (erlaubt: thumb, card, full)");
+        }
+    }
+}
@@ -4,6 +4,7 @@ import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.invoice.CreditInvoiceDt
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.invoice.DetailedInvoiceDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.invoice.InvoiceCreateDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.invoice.SimpleInvoiceDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.page.CursorPageDto;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Invoice;
 import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
 import at.ac.tuwien.sepr.groupphase.backend.exception.ValidationException;
@@ -23,6 +24,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -69,6 +71,26 @@ public class InvoiceEndpoint {
         return ResponseEntity.ok(invoices);
     }
 
+    /**
+     * Returns detailed invoices for the authenticated user, continuing after a cursor.
+     * Selected by the presence of the {@code cursor} parameter; an empty cursor starts with the newest invoice.
+     *
+     * @param auth   the current authenticated user
+     * @param cursor the cursor returned with the previous page
+     * @param size   the page size (default: 12)
+     * @return detailed invoices and the cursor of the next page
+     */
+    @Secured("ROLE_USER")
+    @GetMapping(value = "/my", params = "cursor")
+    public ResponseEntity<CursorPageDto<DetailedInvoiceDto>> getMyInvoicesByCursor(
+        Authentication auth,
+        @RequestParam(name = "cursor") String cursor,
+        @RequestParam(name = "size", defaultValue = "12") int size
+    ) {
+        LOGGER.info("Fetching invoices for user {} after cursor {}", auth.getName(), cursor);
+        return ResponseEntity.ok(invoiceService.getMyInvoicesByCursor(auth.getName(), cursor, size));
+    }
+
     /**
      * Returns a list of credit invoices (e.g., from ticket cancellations) for the authenticated user.
      *
@@ -1,8 +1,10 @@
 package at.ac.tuwien.sepr.groupphase.backend.endpoint;
 
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.user.UserLoginDto;
+import at.ac.tuwien.sepr.groupphase.backend.security.LoginRateLimiter;
 import at.ac.tuwien.sepr.groupphase.backend.service.UserService;
 import jakarta.annotation.security.PermitAll;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -14,14 +16,17 @@ import org.springframework.web.bind.annotation.RestController;
 public class LoginEndpoint {
 
     private final UserService userService;
+    private final LoginRateLimiter loginRateLimiter;
 
-    public LoginEndpoint(UserService userService) {
+    public LoginEndpoint(UserService userService, LoginRateLimiter loginRateLimiter) {
         this.userService = userService;
+        this.loginRateLimiter = loginRateLimiter;
     }
 
     @PermitAll
     @PostMapping
-    public String login(@Valid @RequestBody UserLoginDto userLoginDto) {
+    public String login(@Valid @RequestBody UserLoginDto userLoginDto, HttpServletRequest request) {
+        loginRateLimiter.acquire(userLoginDto.getEmail(), request.getRemoteAddr());
         return userService.login(userLoginDto);
     }
 }
@@ -1,6 +1,7 @@
 package at.ac.tuwien.sepr.groupphase.backend.endpoint;
 
 
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.image.ImageResourceDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.merchandise.MerchandiseCreateDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.merchandise.SimpleMerchandiseDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.merchandise.DetailedMerchandiseDto;
@@ -10,6 +11,7 @@ import jakarta.annotation.security.PermitAll;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -154,12 +156,22 @@ public class MerchandiseEndpoint {
      * Retrieves the image associated with a merchandise item.
      *
      * @param id the ID of the merchandise item
-     * @return a {@link ResponseEntity} containing the image bytes
+     * @param size the rendition: thumb, card or full (default)
+     * @param version the ETag of the image, makes the response cacheable forever
+     * @return the streamed image, 304 Not Modified if the client has it cached, or 404 Not Found if the item has no image
      */
     @PermitAll
     @GetMapping("/{id}/image")
-    public ResponseEntity<byte[]> getImage(@PathVariable("id") Long id) {
-        LOGGER.info("GET /api/v1/merchandise/{}/image requested", id);
-        return merchandiseService.getImageResponse(id);
+    public ResponseEntity<Resource> getImage(
+        @PathVariable("id") Long id,
+        @RequestParam(name = "size", required = false) String size,
+        @RequestParam(name = "v", required = false) String version
+    ) {
+        LOGGER.info("GET /api/v1/merchandise/{}/image?size={} requested", id, size);
+        ImageResourceDto image = merchandiseService.getImage(id, ImageResponses.size(size));
+        if (image == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ImageResponses.of(image, version);
     }
 }
@@ -1,17 +1,21 @@
 package at.ac.tuwien.sepr.groupphase.backend.endpoint;
 
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.image.ImageResourceDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.newsItem.DetailedNewsItemDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.newsItem.NewsItemCreateDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.newsItem.NewsMarkReadDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.newsItem.NewsItemUpdateDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.newsItem.SimpleNewsItemDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.page.CursorPageDto;
 import at.ac.tuwien.sepr.groupphase.backend.service.NewsItemService;
 import jakarta.annotation.security.PermitAll;
+import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -76,6 +80,26 @@ public class NewsItemEndpoint {
         return result;
     }
 
+    /**
+     * Retrieves unread news items for the authenticated user, continuing after a cursor instead of a page number.
+     * Selected by the presence of the {@code cursor} parameter; an empty cursor starts with the newest item.
+     *
+     * @param authentication the authentication object containing the user's email
+     * @param cursor the cursor returned with the previous page
+     * @param size the page size (default: 12)
+     * @return unread {@link SimpleNewsItemDto} objects and the cursor of the next page
+     */
+    @Secured("ROLE_USER")
+    @GetMapping(value = "/unread", params = "cursor")
+    public CursorPageDto<SimpleNewsItemDto> getUnreadNewsByCursor(
+        Authentication authentication,
+        @RequestParam(name = "cursor") String cursor,
+        @RequestParam(name = "size", defaultValue = "12") int size
+    ) {
+        LOGGER.info("GET /api/v1/news/unread?cursor - User: {}", authentication.getName());
+        return newsItemService.getUnreadNewsByCursor(authentication.getName(), cursor, size);
+    }
+
     /**
      * Retrieves all read news items for the authenticated user, ordered by publication date (newest first).
      *
@@ -99,6 +123,26 @@ public class NewsItemEndpoint {
         return result;
     }
 
+    /**
+     * Retrieves read news items for the authenticated user, continuing after a cursor instead of a page number.
+     * Selected by the presence of the {@code cursor} parameter; an empty cursor starts with the newest item.
+     *
+     * @param authentication the authentication object containing the user's email
+     * @param cursor the cursor returned with the previous page
+     * @param size the page size (default: 12)
+     * @return read {@link SimpleNewsItemDto} objects and the cursor of the next page
+     */
+    @Secured("ROLE_USER")
+    @GetMapping(value = "/read", params = "cursor")
+    public CursorPageDto<SimpleNewsItemDto> getReadNewsByCursor(
+        Authentication authentication,
+        @RequestParam(name = "cursor") String cursor,
+        @RequestParam(name = "size", defaultValue = "12") int size
+    ) {
+        LOGGER.info("GET /api/v1/news/read?cursor - User: {}", authentication.getName());
+        return newsItemService.getReadNewsByCursor(authentication.getName(), cursor, size);
+    }
+
     /**
      * Retrieves all news items, ordered by publication date (newest first).
      * This endpoint is publicly accessible.
@@ -120,6 +164,25 @@ public class NewsItemEndpoint {
         return result;
     }
 
+    /**
+     * Retrieves all news items, continuing after a cursor instead of a page number.
+     * Selected by the presence of the {@code cursor} parameter; an empty cursor starts with the newest item.
+     * This endpoint is publicly accessible.
+     *
+     * @param cursor the cursor returned with the previous page
+     * @param size the page size (default: 12)
+     * @return {@link SimpleNewsItemDto} objects and the cursor of the next page
+     */
+    @PermitAll
+    @GetMapping(params = "cursor")
+    public CursorPageDto<SimpleNewsItemDto> findAllByCursor(
+        @RequestParam(name = "cursor") String cursor,
+        @RequestParam(name = "size", defaultValue = "12") int size
+    ) {
+        LOGGER.info("GET api/v1/news?cursor");
+        return newsItemService.findAllByCursor(cursor, size);
+    }
+
     /**
      * Retrieves all news items that are not visible to users do to their publication date being in the future.
      * This Endpoint is only accessible by admins.
@@ -141,6 +204,25 @@ public class NewsItemEndpoint {
         return result;
     }
 
+    /**
+     * Retrieves all news items published in the future, continuing after a cursor instead of a page number.
+     * Selected by the presence of the {@code cursor} parameter; an empty cursor starts with the next item to be published.
+     * This Endpoint is only accessible by admins.
+     *
+     * @param cursor the cursor returned with the previous page
+     * @param size the page size (default: 12)
+     * @return {@link SimpleNewsItemDto} objects and the cursor of the next page
+     */
+    @Secured("ROLE_ADMIN")
+    @GetMapping(value = "/unpublished", params = "cursor")
+    public CursorPageDto<SimpleNewsItemDto> getUnpublishedByCursor(
+        @RequestParam(name = "cursor") String cursor,
+        @RequestParam(name = "size", defaultValue = "12") int size
+    ) {
+        LOGGER.info("GET api/v1/news/unpublished?cursor");
+        return newsItemService.getUnpublishedByCursor(cursor, size);
+    }
+
     /**
      * Retrieves detailed information about a specific news item by its ID.
      * This endpoint is publicly accessible.
@@ -173,6 +255,22 @@ public class NewsItemEndpoint {
         LOGGER.info("POST /api/v1/news/{}/mark-read successful - User: {}", id, userEmail);
     }
 
+    /**
+     * Marks several news items as read by the authenticated user.
+     * Unknown or already read news items are ignored.
+     *
+     * @param dto the IDs of the news items to mark as read
+     * @param authentication the authentication object containing the user's email
+     */
+    @Secured("ROLE_USER")
+    @PostMapping("/mark-read")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void markAllAsRead(@Valid @RequestBody NewsMarkReadDto dto, Authentication authentication) {
+        String userEmail = authentication.getName();
+        LOGGER.info("POST /api/v1/news/mark-read - User: {}, Count: {}", userEmail, dto.ids().size());
+        newsItemService.markAllAsRead(dto.ids(), userEmail);
+    }
+
     /**
      * Creates a new news item (admin only).
      *
@@ -246,27 +344,26 @@ public class NewsItemEndpoint {
      * This endpoint is publicly accessible.
      *
      * @param id the ID of the news item
-     * @return the image data with appropriate content headers, or 404 Not Found if no image exists
+     * @param size the rendition: thumb, card or full (default)
+     * @param version the ETag of the image, makes the response cacheable forever
+     * @return the image data with appropriate content and caching headers, 304 Not Modified if the client has it cached,
+     *     or 404 Not Found if no image exists
      */
     @PermitAll
     @GetMapping("/{id}/image")
-    public ResponseEntity<byte[]> getImage(@PathVariable("id") Long id) {
-        LOGGER.info("GET /api/v1/news/{}/image", id);
+    public ResponseEntity<Resource> getImage(@PathVariable("id") Long id, @RequestParam(name = "size", required = false) String size,
+                                             @RequestParam(name = "v", required = false) String version) {
+        LOGGER.info("GET /api/v1/news/{}/image?size={}", id, size);
 
-        byte[] data = newsItemService.getImageData(id);
-        String contentType = newsItemService.getImageContentType(id);
+        ImageResourceDto image = newsItemService.getImage(id, ImageResponses.size(size));
 
-        if (data == null || data.length == 0) {
+        if (image == null) {
             LOGGER.info("GET /api/v1/news/{}/image - No image found", id);
             return ResponseEntity.notFound().build();
         }
 
-        LOGGER.info("GET /api/v1/news/{}/image successful - Size: {} bytes, Content-Type: {}", id, data.length, contentType);
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.parseMediaType(contentType));
-        headers.setContentLength(data.length);
-        return new ResponseEntity<>(data, headers, HttpStatus.OK);
+        LOGGER.info("GET /api/v1/news/{}/image successful - Key: {}, Content-Type: {}", id, image.key(), image.contentType());
+        return ImageResponses.of(image, version);
     }
 
     /**
@@ -1,5 +1,6 @@
 package at.ac.tuwien.sepr.groupphase.backend.endpoint;
 
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.page.CursorPageDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.reservation.DetailedReservationDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.reservation.SimpleReservationDto;
 import at.ac.tuwien.sepr.groupphase.backend.service.ReservationService;
@@ -11,6 +12,7 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.security.access.AccessDeniedException;
@@ -38,6 +40,20 @@ public class ReservationEndpoint {
         return reservationService.findByUser(auth.getName());
     }
 
+    /**
+     * Returns the current user's reservations, newest first, continuing after a cursor.
+     * Selected by the presence of the {@code cursor} parameter; an empty cursor starts with the newest reservation.
+     */
+    @Secured("ROLE_USER")
+    @GetMapping(value = "/my", params = "cursor")
+    public CursorPageDto<DetailedReservationDto> getMyReservationsByCursor(
+        Authentication auth,
+        @RequestParam(name = "cursor") String cursor,
+        @RequestParam(name = "size", defaultValue = "12") int size
+    ) {
+        return reservationService.findByUserByCursor(auth.getName(), cursor, size);
+    }
+
     /**
      * Returns a reservation by id (access-controlled via service).
      */
@@ -0,0 +1,41 @@
+package at.ac.tuwien.sepr.groupphase.backend.endpoint;
+
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.suggest.SuggestionDto;
+import at.ac.tuwien.sepr.groupphase.backend.service.SuggestionService;
+import jakarta.annotation.security.PermitAll;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST endpoint for typeahead suggestions of the search boxes.
+ */
+@RestController
+@RequestMapping("/api/v1/suggest")
+public class SuggestEndpoint {
+
+    private final SuggestionService suggestionService;
+
+    public SuggestEndpoint(SuggestionService suggestionService) {
+        this.suggestionService = suggestionService;
+    }
+
+    /**
+     * Suggest events, artists and locations for the text typed so far.
+     *
+     * @param query the search text
+     * @param limit maximum number of suggestions (default: 8)
+     * @return suggestions, most popular first
+     */
+    @PermitAll
+    @GetMapping
+    public List<SuggestionDto> suggest(
+        @RequestParam(name = "q") String query,
+        @RequestParam(name = "limit", defaultValue = "8") int limit
+    ) {
+        return suggestionService.suggest(query, limit);
+    }
+}
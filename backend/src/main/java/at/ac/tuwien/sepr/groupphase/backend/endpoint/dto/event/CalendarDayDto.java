@@ -0,0 +1,20 @@
+package at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Summary of all events on one calendar day.
+ *
+ * @param date       the day
+ * @param eventCount number of events on that day
+ * @param minPrice   lowest ticket price of the day in cents, null if no event has prices
+ * @param events     the events, ordered by start time
+ */
+public record CalendarDayDto(
+    LocalDate date,
+    int eventCount,
+    Integer minPrice,
+    List<CalendarEventDto> events
+) {
+}
@@ -0,0 +1,21 @@
+package at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event;
+
+import java.time.LocalTime;
+
+/**
+ * Event as listed in one day of the calendar.
+ *
+ * @param id       the event ID
+ * @param title    the event title
+ * @param type     the event type
+ * @param time     start time on that day
+ * @param minPrice lowest ticket price in cents, null if the event has no prices
+ */
+public record CalendarEventDto(
+    Long id,
+    String title,
+    String type,
+    LocalTime time,
+    Integer minPrice
+) {
+}
@@ -0,0 +1,19 @@
+package at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event;
+
+import at.ac.tuwien.sepr.groupphase.backend.type.CancellationStatus;
+
+import java.time.LocalDateTime;
+
+public record EventCancellationDto(
+    Long eventId,
+    CancellationStatus status,
+    int totalInvoices,
+    int processedInvoices,
+    int failedInvoices,
+    long totalTickets,
+    long processedTickets,
+    LocalDateTime startedAt,
+    LocalDateTime finishedAt,
+    double ticketsPerSecond
+) {
+}
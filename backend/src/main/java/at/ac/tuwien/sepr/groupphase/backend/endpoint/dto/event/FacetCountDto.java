@@ -0,0 +1,15 @@
+package at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event;
+
+/**
+ * Number of events for one value of a search facet.
+ *
+ * @param value the value to pass back as filter (type, location ID, price band or yyyy-MM)
+ * @param label human readable label of the value
+ * @param count number of matching events
+ */
+public record FacetCountDto(
+    String value,
+    String label,
+    long count
+) {
+}
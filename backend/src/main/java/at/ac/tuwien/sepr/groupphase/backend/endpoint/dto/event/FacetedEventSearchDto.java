@@ -0,0 +1,20 @@
+package at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event;
+
+import java.util.List;
+
+/**
+ * One page of a faceted event search with the counts per facet value.
+ * The counts of a facet respect all active filters except the facet's own,
+ * so alternative values stay selectable.
+ */
+public record FacetedEventSearchDto(
+    List<SimpleEventDto> events,
+    long totalElements,
+    int page,
+    int size,
+    List<FacetCountDto> types,
+    List<FacetCountDto> locations,
+    List<FacetCountDto> priceBands,
+    List<FacetCountDto> months
+) {
+}
@@ -0,0 +1,9 @@
+package at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.image;
+
+/**
+ * Result of starting the derivative backfill.
+ *
+ * @param queued number of images queued for derivative generation
+ */
+public record ImageBackfillDto(int queued) {
+}
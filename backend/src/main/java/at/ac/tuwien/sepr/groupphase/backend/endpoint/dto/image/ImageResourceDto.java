@@ -0,0 +1,17 @@
+package at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.image;
+
+import org.springframework.core.io.Resource;
+
+/**
+ * A stored image ready to be streamed to the client.
+ *
+ * @param key         the blob key (SHA-256 of the content)
+ * @param contentType the media type of the image
+ * @param content     the image content
+ */
+public record ImageResourceDto(
+    String key,
+    String contentType,
+    Resource content
+) {
+}
@@ -0,0 +1,14 @@
+package at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.newsItem;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record NewsMarkReadDto(
+    @NotEmpty
+    @Size(max = 500)
+    List<@NotNull Long> ids
+) {
+
+}
@@ -0,0 +1,16 @@
+package at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.page;
+
+import java.util.List;
+
+/**
+ * One page of a keyset paginated list.
+ *
+ * @param content    the entries of this page
+ * @param nextCursor opaque cursor to pass as {@code cursor} for the next page, null on the last page
+ * @param <T>        the entry type
+ */
+public record CursorPageDto<T>(
+    List<T> content,
+    String nextCursor
+) {
+}
@@ -0,0 +1,13 @@
+package at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.suggest;
+
+import at.ac.tuwien.sepr.groupphase.backend.type.SuggestionType;
+
+/**
+ * One typeahead suggestion; the client navigates to the entity of the given type and ID.
+ */
+public record SuggestionDto(
+    SuggestionType type,
+    Long id,
+    String label
+) {
+}
@@ -4,6 +4,7 @@ import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.errors.ErrorResponseDto
 import at.ac.tuwien.sepr.groupphase.backend.exception.AccountLockedException;
 import at.ac.tuwien.sepr.groupphase.backend.exception.InvalidCredentialsException;
 import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
+import at.ac.tuwien.sepr.groupphase.backend.exception.TooManyRequestsException;
 import at.ac.tuwien.sepr.groupphase.backend.exception.ValidationException;
 import at.ac.tuwien.sepr.groupphase.backend.exception.ConflictException;
 
@@ -145,6 +146,31 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         );
     }
 
+    /**
+     * Handles requests rejected by a rate or capacity limit.
+     *
+     * @param ex      the TooManyRequestsException carrying the retry delay
+     * @param request the current web request
+     * @return a response with HTTP 429 Too Many Requests and a {@code Retry-After} header
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    protected ResponseEntity<Object> handleTooManyRequests(TooManyRequestsException ex, WebRequest request) {
+        LOGGER.warn("TooManyRequestsException: {}", ex.getMessage());
+
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+
+        return buildErrorResponse(
+            ex,
+            HttpStatus.TOO_MANY_REQUESTS,
+            ex.getMessage(),
+            List.of(ex.getMessage()),
+            headers,
+            request
+        );
+    }
+
     /**
      * Handles validation errors originating from Spring's @Valid annotation
      * on request DTOs (syntactic or field-level validation).
@@ -218,6 +244,28 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         String message,
         List<String> errors,
         WebRequest request
+    ) {
+        return buildErrorResponse(ex, status, message, errors, new HttpHeaders(), request);
+    }
+
+    /**
+     * Builds a consistent {@link ErrorResponseDto} with additional response headers.
+     *
+     * @param ex      the thrown exception
+     * @param status  the HTTP status to return
+     * @param message the main message shown to the client
+     * @param errors  a list of detailed error messages
+     * @param headers the response headers
+     * @param request the current web request
+     * @return a fully configured {@link ResponseEntity} containing the error response body
+     */
+    private ResponseEntity<Object> buildErrorResponse(
+        Exception ex,
+        HttpStatus status,
+        String message,
+        List<String> errors,
+        HttpHeaders headers,
+        WebRequest request
     ) {
         ErrorResponseDto body = new ErrorResponseDto(
             Instant.now(),
@@ -227,7 +275,7 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
             request.getDescription(false).replace("uri=", "")
         );
 
-        return handleExceptionInternal(ex, body, new HttpHeaders(), status, request);
+        return handleExceptionInternal(ex, body, headers, status, request);
     }
 
 
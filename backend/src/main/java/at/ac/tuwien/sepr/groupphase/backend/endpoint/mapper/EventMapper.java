@@ -25,14 +25,18 @@ public interface EventMapper {
     @Mapping(target = "artists", ignore = true)
     @Mapping(target = "location", ignore = true)
     @Mapping(target = "tickets", ignore = true)
-    @Mapping(target = "image", ignore = true)
+    @Mapping(target = "imageKey", ignore = true)
     @Mapping(target = "imageContentType", ignore = true)
+    @Mapping(target = "minPrice", ignore = true)
+    @Mapping(target = "maxPrice", ignore = true)
     Event fromCreateDto(EventCreateDto dto);
 
     @Mapping(target = "artists", ignore = true)
     @Mapping(target = "location", ignore = true)
     @Mapping(target = "tickets", ignore = true)
-    @Mapping(target = "image", ignore = true)
+    @Mapping(target = "imageKey", ignore = true)
     @Mapping(target = "imageContentType", ignore = true)
+    @Mapping(target = "minPrice", ignore = true)
+    @Mapping(target = "maxPrice", ignore = true)
     Event fromUpdateDto(EventUpdateDto dto);
 }
\ No newline at end of file
@@ -10,15 +10,15 @@ import org.mapstruct.Mapping;
 @Mapper(componentModel = "spring")
 public interface MerchandiseMapper {
 
-    @Mapping(target = "hasImage", expression = "java(entity.getImage() != null && entity.getImage().length > 0)")
+    @Mapping(target = "hasImage", expression = "java(entity.hasImage())")
     SimpleMerchandiseDto toSimple(Merchandise entity);
 
-    @Mapping(target = "hasImage", expression = "java(entity.getImage() != null && entity.getImage().length > 0)")
+    @Mapping(target = "hasImage", expression = "java(entity.hasImage())")
     DetailedMerchandiseDto toDetailed(Merchandise entity);
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "deleted", ignore = true)
-    @Mapping(target = "image", ignore = true)
+    @Mapping(target = "imageKey", ignore = true)
     @Mapping(target = "imageContentType", ignore = true)
     Merchandise fromCreateDto(MerchandiseCreateDto dto);
 }
\ No newline at end of file
@@ -16,17 +16,17 @@ public interface NewsItemMapper {
     DetailedNewsItemDto toDetailed(NewsItem entity);
 
     @Mapping(target = "id", ignore = true)
-    @Mapping(target = "imageData", ignore = true)
+    @Mapping(target = "imageKey", ignore = true)
     @Mapping(target = "imageContentType", ignore = true)
     @Mapping(target = "publishedAt", expression = "java(dto.publishedAt() != null ? dto.publishedAt() : java.time.LocalDate.now())")
     NewsItem fromCreateDto(NewsItemCreateDto dto);
 
-    @Mapping(target = "imageData", ignore = true)
+    @Mapping(target = "imageKey", ignore = true)
     @Mapping(target = "imageContentType", ignore = true)
     @Mapping(target = "publishedAt", expression = "java(dto.publishedAt() != null ? dto.publishedAt() : java.time.LocalDate.now())")
     NewsItem fromUpdateDto(NewsItemUpdateDto dto);
 
-    @Mapping(target = "imageData", ignore = true)
+    @Mapping(target = "imageKey", ignore = true)
     @Mapping(target = "imageContentType", ignore = true)
     NewsItem fromDetailedDto(DetailedNewsItemDto dto);
 }
\ No newline at end of file
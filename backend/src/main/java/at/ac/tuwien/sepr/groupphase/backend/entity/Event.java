@@ -1,15 +1,17 @@
 package at.ac.tuwien.sepr.groupphase.backend.entity;
 
+import at.ac.tuwien.sepr.groupphase.backend.entity.listener.PriceRangeListener;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
-import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -23,7 +25,14 @@ import java.util.List;
 
 
 @Entity
-@Table(name = "events")
+@Table(
+    name = "events",
+    indexes = {
+        @Index(name = "idx_events_date_time", columnList = "date_time, id"),
+        @Index(name = "idx_events_min_price", columnList = "min_price")
+    }
+)
+@EntityListeners(PriceRangeListener.class)
 public class Event {
 
     @Id
@@ -65,13 +74,24 @@ public class Event {
     @OneToMany(mappedBy = "event", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     private List<Ticket> tickets = new ArrayList<>();
 
-    @Lob
-    @Column(name = "image", columnDefinition = "BLOB")
-    private byte[] image;
+    // Key of the image in the BlobStore, the content itself is stored outside the database
+    @Column(name = "image_key", length = 64)
+    private String imageKey;
 
     @Column(name = "image_content_type")
     private String imageContentType;
 
+    // Precomputed from the price categories of the location, see PriceRangeListener
+    @Column(name = "min_price")
+    private Integer minPrice;
+
+    @Column(name = "max_price")
+    private Integer maxPrice;
+
+    // Set when a cancellation starts, closes the event for sale, see EventCancellationServiceImpl
+    @Column(name = "cancelled", nullable = false)
+    private boolean cancelled;
+
     // --------------------------------------------------
     // Constructors
     // --------------------------------------------------
@@ -172,12 +192,12 @@ public class Event {
         this.tickets = tickets;
     }
 
-    public byte[] getImage() {
-        return image;
+    public String getImageKey() {
+        return imageKey;
     }
 
-    public void setImage(byte[] image) {
-        this.image = image;
+    public void setImageKey(String imageKey) {
+        this.imageKey = imageKey;
     }
 
     public String getImageContentType() {
@@ -188,6 +208,30 @@ public class Event {
         this.imageContentType = imageContentType;
     }
 
+    public Integer getMinPrice() {
+        return minPrice;
+    }
+
+    public void setMinPrice(Integer minPrice) {
+        this.minPrice = minPrice;
+    }
+
+    public Integer getMaxPrice() {
+        return maxPrice;
+    }
+
+    public void setMaxPrice(Integer maxPrice) {
+        this.maxPrice = maxPrice;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public void setCancelled(boolean cancelled) {
+        this.cancelled = cancelled;
+    }
+
 
 
     // --------------------------------------------------
@@ -0,0 +1,181 @@
+package at.ac.tuwien.sepr.groupphase.backend.entity;
+
+import at.ac.tuwien.sepr.groupphase.backend.type.CancellationStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress record of a mass cancellation of all sold tickets of one event.
+ *
+ * <p>The counters are updated in the same transaction that cancels a partition
+ * (all tickets of one original invoice), so after a crash the record reflects
+ * exactly the work that has been committed and the job can be resumed.
+ */
+@Entity
+@Table(
+    name = "event_cancellations",
+    indexes = @Index(name = "idx_event_cancellations_event", columnList = "event_id")
+)
+public class EventCancellation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private CancellationStatus status;
+
+    @Column(name = "total_invoices", nullable = false)
+    private int totalInvoices;
+
+    @Column(name = "processed_invoices", nullable = false)
+    private int processedInvoices;
+
+    @Column(name = "failed_invoices", nullable = false)
+    private int failedInvoices;
+
+    @Column(name = "total_tickets", nullable = false)
+    private long totalTickets;
+
+    @Column(name = "processed_tickets", nullable = false)
+    private long processedTickets;
+
+    @NotNull
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    public EventCancellation() {
+    }
+
+    public EventCancellation(Long eventId) {
+        this.eventId = eventId;
+        this.status = CancellationStatus.RUNNING;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public CancellationStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(CancellationStatus status) {
+        this.status = status;
+    }
+
+    public int getTotalInvoices() {
+        return totalInvoices;
+    }
+
+    public void setTotalInvoices(int totalInvoices) {
+        this.totalInvoices = totalInvoices;
+    }
+
+    public int getProcessedInvoices() {
+        return processedInvoices;
+    }
+
+    public void setProcessedInvoices(int processedInvoices) {
+        this.processedInvoices = processedInvoices;
+    }
+
+    public int getFailedInvoices() {
+        return failedInvoices;
+    }
+
+    public void setFailedInvoices(int failedInvoices) {
+        this.failedInvoices = failedInvoices;
+    }
+
+    public long getTotalTickets() {
+        return totalTickets;
+    }
+
+    public void setTotalTickets(long totalTickets) {
+        this.totalTickets = totalTickets;
+    }
+
+    public long getProcessedTickets() {
+        return processedTickets;
+    }
+
+    public void setProcessedTickets(long processedTickets) {
+        this.processedTickets = processedTickets;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EventCancellation that)) {
+            return false;
+        }
+        return id != null && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31;
+    }
+}
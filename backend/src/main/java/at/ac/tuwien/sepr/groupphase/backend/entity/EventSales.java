@@ -0,0 +1,107 @@
+package at.ac.tuwien.sepr.groupphase.backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * Rollup of the sold tickets of one event, keyed by the month and type of the event.
+ *
+ * <p>The counter is changed in the same transaction that sells or cancels tickets,
+ * so the top-ten ranking never has to aggregate the ticket table. Month and type are
+ * copied from the event and moved along when the event is updated.
+ */
+@Entity
+@Table(
+    name = "event_sales",
+    indexes = @Index(name = "idx_event_sales_month_type", columnList = "sales_year, sales_month, type")
+)
+public class EventSales {
+
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(name = "sales_year", nullable = false)
+    private int salesYear;
+
+    @Column(name = "sales_month", nullable = false)
+    private int salesMonth;
+
+    @Column(length = 100)
+    private String type;
+
+    @Column(name = "sold_count", nullable = false)
+    private long soldCount;
+
+    public EventSales() {
+    }
+
+    public EventSales(Long eventId, LocalDateTime dateTime, String type, long soldCount) {
+        this.eventId = eventId;
+        this.salesYear = dateTime.getYear();
+        this.salesMonth = dateTime.getMonthValue();
+        this.type = type;
+        this.soldCount = soldCount;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public int getSalesYear() {
+        return salesYear;
+    }
+
+    public void setSalesYear(int salesYear) {
+        this.salesYear = salesYear;
+    }
+
+    public int getSalesMonth() {
+        return salesMonth;
+    }
+
+    public void setSalesMonth(int salesMonth) {
+        this.salesMonth = salesMonth;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public long getSoldCount() {
+        return soldCount;
+    }
+
+    public void setSoldCount(long soldCount) {
+        this.soldCount = soldCount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EventSales that)) {
+            return false;
+        }
+        return eventId != null && eventId.equals(that.eventId);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31;
+    }
+}
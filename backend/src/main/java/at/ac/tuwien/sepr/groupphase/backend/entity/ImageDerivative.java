@@ -0,0 +1,65 @@
+package at.ac.tuwien.sepr.groupphase.backend.entity;
+
+import at.ac.tuwien.sepr.groupphase.backend.type.ImageSize;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * A downscaled rendition of an image in the blob store.
+ *
+ * <p>Derivatives are keyed by the blob key of the original, so entities sharing the same
+ * image also share its derivatives. An original that already fits a size is its own
+ * derivative for that size.
+ */
+@Entity
+@Table(
+    name = "image_derivatives",
+    uniqueConstraints = @UniqueConstraint(name = "uk_image_derivatives_source_size", columnNames = {"source_key", "image_size"})
+)
+public class ImageDerivative {
+
+    @Id
+    @GeneratedValue
+    private Long id;
+
+    @Column(name = "source_key", nullable = false, length = 64)
+    private String sourceKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "image_size", nullable = false, length = 10)
+    private ImageSize size;
+
+    @Column(name = "blob_key", nullable = false, length = 64)
+    private String blobKey;
+
+    public ImageDerivative() {
+    }
+
+    public ImageDerivative(String sourceKey, ImageSize size, String blobKey) {
+        this.sourceKey = sourceKey;
+        this.size = size;
+        this.blobKey = blobKey;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getSourceKey() {
+        return sourceKey;
+    }
+
+    public ImageSize getSize() {
+        return size;
+    }
+
+    public String getBlobKey() {
+        return blobKey;
+    }
+}
@@ -5,7 +5,6 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import jakarta.persistence.Lob;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -46,9 +45,8 @@ public class Merchandise {
     @Column(nullable = false)
     private Boolean redeemableWithPoints;
 
-    @Lob
-    @Column(name = "image", columnDefinition = "BLOB")
-    private byte[] image;
+    @Column(name = "image_key", length = 64)
+    private String imageKey;
 
     @Column(name = "image_content_type")
     private String imageContentType;
@@ -153,12 +151,12 @@ public class Merchandise {
         this.deleted = deleted;
     }
 
-    public byte[] getImage() {
-        return image;
+    public String getImageKey() {
+        return imageKey;
     }
 
-    public void setImage(byte[] image) {
-        this.image = image;
+    public void setImageKey(String imageKey) {
+        this.imageKey = imageKey;
     }
 
     public String getImageContentType() {
@@ -170,7 +168,7 @@ public class Merchandise {
     }
 
     public boolean hasImage() {
-        return image != null && image.length > 0;
+        return imageKey != null;
     }
 
     @Override
@@ -5,14 +5,17 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import jakarta.persistence.Lob;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "news_items")
+@Table(
+    name = "news_items",
+    indexes = @Index(name = "idx_news_items_published_at", columnList = "published_at, id")
+)
 public class NewsItem {
 
     @Id
@@ -37,9 +40,8 @@ public class NewsItem {
     @Column(nullable = false, length = 800)
     private String text;
 
-    @Lob
-    @Column(columnDefinition = "BLOB")
-    private byte[] imageData;
+    @Column(name = "image_key", length = 64)
+    private String imageKey;
 
     @Column(name = "image_content_type")
     private String imageContentType;
@@ -94,16 +96,16 @@ public class NewsItem {
         this.text = text;
     }
 
-    public byte[] getImageData() {
-        return imageData;
+    public String getImageKey() {
+        return imageKey;
     }
 
     public String getImageContentType() {
         return imageContentType;
     }
 
-    public void setImageData(byte[] imageData) {
-        this.imageData = imageData;
+    public void setImageKey(String imageKey) {
+        this.imageKey = imageKey;
     }
 
     public void setImageContentType(String imageContentType) {
@@ -4,9 +4,12 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Column;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
@@ -15,11 +18,16 @@ import java.time.LocalDateTime;
 /**
  * Entity representing a one-time password reset token.
  *
- * <p>The token itself is stored in hashed form only and is associated
- * with exactly one user account. Each token has a limited validity period
- * and is invalidated after use.
+ * <p>A token consists of a random selector, stored in plain text and used
+ * to look up the token, and a random verifier, stored in hashed form only.
+ * It is associated with exactly one user account. Each token has a limited
+ * validity period and is invalidated after use.
  */
 @Entity
+@Table(
+    uniqueConstraints = @UniqueConstraint(name = "uk_password_reset_token_selector", columnNames = "selector"),
+    indexes = @Index(name = "idx_password_reset_token_expires_at", columnList = "expires_at")
+)
 public class PasswordResetToken {
 
     @Id
@@ -27,7 +35,13 @@ public class PasswordResetToken {
     private Long id;
 
     /**
-     * Hashed representation of the reset token.
+     * Public part of the reset token, used to find the token.
+     */
+    @Column(nullable = false, length = 32)
+    private String selector;
+
+    /**
+     * Hashed representation of the secret part of the reset token.
      */
     @Column(nullable = false)
     private String tokenHash;
@@ -52,6 +66,14 @@ public class PasswordResetToken {
         return id;
     }
 
+    public String getSelector() {
+        return selector;
+    }
+
+    public void setSelector(String selector) {
+        this.selector = selector;
+    }
+
     public String getTokenHash() {
         return tokenHash;
     }
@@ -1,7 +1,9 @@
 package at.ac.tuwien.sepr.groupphase.backend.entity;
 
+import at.ac.tuwien.sepr.groupphase.backend.entity.listener.PriceRangeListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -14,6 +16,7 @@ import jakarta.validation.constraints.Size;
 
 @Entity
 @Table(name = "price_categories")
+@EntityListeners(PriceRangeListener.class)
 
 public class PriceCategory {
 
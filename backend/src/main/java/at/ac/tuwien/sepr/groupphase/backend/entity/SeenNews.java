@@ -2,18 +2,26 @@ package at.ac.tuwien.sepr.groupphase.backend.entity;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "seen_news")
+@Table(
+    name = "seen_news",
+    uniqueConstraints = @UniqueConstraint(name = "uk_seen_news_user_news_item", columnNames = {"user_id", "news_item_id"}),
+    indexes = @Index(name = "idx_seen_news_news_item", columnList = "news_item_id")
+)
 public class SeenNews {
-    @Id @GeneratedValue
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @ManyToOne
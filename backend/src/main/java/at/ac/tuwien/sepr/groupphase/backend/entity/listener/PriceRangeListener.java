@@ -0,0 +1,165 @@
+package at.ac.tuwien.sepr.groupphase.backend.entity.listener;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.Event;
+import at.ac.tuwien.sepr.groupphase.backend.entity.PriceCategory;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Sector;
+import at.ac.tuwien.sepr.groupphase.backend.repository.EventRepository;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * Keeps {@link Event#getMinPrice()} and {@link Event#getMaxPrice()} in sync with the
+ * price categories of the event's location. Saved events get their prices from
+ * EventServiceImpl right away; this listener picks up later changes to sectors and
+ * price categories.
+ *
+ * <p>Changes to events, sectors and price categories are collected per transaction and
+ * applied with a few bulk updates once the transaction has committed, so a data import
+ * touching thousands of rows triggers a handful of statements rather than one per row.
+ * Without an active transaction the refresh runs immediately. A {@link PriceRangeRefreshedEvent}
+ * carrying the new minimum prices of the affected events is published afterwards for
+ * in-memory structures that keep a copy of the prices.
+ */
+@Component
+public class PriceRangeListener {
+
+    private static final Logger LOGGER =
+        LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    private static final int CHUNK_SIZE = 1000;
+
+    // Resolved lazily: entity listeners are created while the EntityManagerFactory is built
+    private final ObjectProvider<EventRepository> eventRepository;
+    private final ObjectProvider<PlatformTransactionManager> transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public PriceRangeListener(ObjectProvider<EventRepository> eventRepository,
+                              ObjectProvider<PlatformTransactionManager> transactionManager,
+                              ApplicationEventPublisher eventPublisher) {
+        this.eventRepository = eventRepository;
+        this.transactionManager = transactionManager;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        PendingRefresh pending = pending();
+
+        if (entity instanceof PriceCategory priceCategory && priceCategory.getSector() != null) {
+            pending.sectorIds.add(priceCategory.getSector().getId());
+        } else if (entity instanceof Sector sector && sector.getLocation() != null) {
+            pending.locationIds.add(sector.getLocation().getId());
+        } else if (entity instanceof Event event && event.getId() != null) {
+            pending.eventIds.add(event.getId());
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh(pending);
+        }
+    }
+
+    private PendingRefresh pending() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new PendingRefresh();
+        }
+
+        PendingRefresh pending = (PendingRefresh) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            PendingRefresh created = new PendingRefresh();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PriceRangeListener.this);
+                    // Not in afterCommit: the in-memory structures copy an event's prices when it is
+                    // saved and apply the copy after commit, which must not overwrite the refreshed ones
+                    if (status == STATUS_COMMITTED) {
+                        refresh(created);
+                    }
+                }
+            });
+            pending = created;
+        }
+        return pending;
+    }
+
+    private void refresh(PendingRefresh pending) {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager.getObject());
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        EventRepository repository = eventRepository.getObject();
+        Map<Long, Integer> minPrices = new HashMap<>();
+        int updated = transaction.execute(status -> {
+            Set<Long> affected = new HashSet<>(pending.eventIds);
+            forChunks(pending.locationIds, chunk -> affected.addAll(repository.findIdsByLocationIds(chunk)));
+            forChunks(pending.sectorIds, chunk -> affected.addAll(repository.findIdsBySectorIds(chunk)));
+
+            int count = inChunks(pending.locationIds, repository::refreshPriceRangeByLocationIds)
+                + inChunks(pending.sectorIds, repository::refreshPriceRangeBySectorIds)
+                + inChunks(pending.eventIds, repository::refreshPriceRangeByEventIds);
+
+            forChunks(affected, chunk -> repository.findCatalogPrices(chunk)
+                .forEach(row -> minPrices.put((Long) row[0], (Integer) row[1])));
+            return count;
+        });
+
+        LOGGER.debug("Refreshed price range of {} events", updated);
+        if (!minPrices.isEmpty()) {
+            eventPublisher.publishEvent(new PriceRangeRefreshedEvent(minPrices));
+        }
+    }
+
+    private static int inChunks(Set<Long> ids, ToIntFunction<Collection<Long>> update) {
+        List<Long> all = new ArrayList<>(ids);
+        int updated = 0;
+        for (int i = 0; i < all.size(); i += CHUNK_SIZE) {
+            updated += update.applyAsInt(all.subList(i, Math.min(i + CHUNK_SIZE, all.size())));
+        }
+        return updated;
+    }
+
+    private static void forChunks(Set<Long> ids, Consumer<Collection<Long>> action) {
+        inChunks(ids, chunk -> {
+            action.accept(chunk);
+            return 0;
+        });
+    }
+
+    private static final class PendingRefresh {
+        private final Set<Long> eventIds = new HashSet<>();
+        private final Set<Long> sectorIds = new HashSet<>();
+        private final Set<Long> locationIds = new HashSet<>();
+
+        private boolean isEmpty() {
+            return eventIds.isEmpty() && sectorIds.isEmpty() && locationIds.isEmpty();
+        }
+    }
+}
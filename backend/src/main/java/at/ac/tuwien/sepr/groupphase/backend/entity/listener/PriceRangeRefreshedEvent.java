@@ -0,0 +1,12 @@
+package at.ac.tuwien.sepr.groupphase.backend.entity.listener;
+
+import java.util.Map;
+
+/**
+ * Published after the precomputed event prices were recomputed in the database.
+ *
+ * @param minPrices the new minimum price in cents of each affected event, keyed by event ID;
+ *                  the value is null for events without a price
+ */
+public record PriceRangeRefreshedEvent(Map<Long, Integer> minPrices) {
+}
@@ -0,0 +1,35 @@
+package at.ac.tuwien.sepr.groupphase.backend.exception;
+
+import java.time.Duration;
+
+/**
+ * Exception indicating that a request was rejected because the client or the
+ * system exceeded a rate or capacity limit.
+ *
+ * <p>The exception carries the time after which the client may retry, which is
+ * returned in the {@code Retry-After} header.
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    /**
+     * Creates a new {@code TooManyRequestsException}.
+     *
+     * @param message    description of the exceeded limit
+     * @param retryAfter the time after which the request may be retried
+     */
+    public TooManyRequestsException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Returns the time after which the request may be retried.
+     *
+     * @return the retry delay
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -32,4 +32,13 @@ public interface ArtistRepository extends JpaRepository<Artist, Long> {
      */
     @Query("SELECT a FROM Artist a JOIN a.members m WHERE m.id = :artistId AND a.isBand = true")
     List<Artist> findBandsByMemberId(@Param("artistId") Long artistId);
+
+    /**
+     * All band memberships as {@code [bandId, memberId]} pairs.
+     * Only includes artists where {@code isBand = true}.
+     *
+     * @return one row per band member link
+     */
+    @Query("SELECT a.id, m.id FROM Artist a JOIN a.members m WHERE a.isBand = true")
+    List<Object[]> findBandMemberships();
 }
\ No newline at end of file
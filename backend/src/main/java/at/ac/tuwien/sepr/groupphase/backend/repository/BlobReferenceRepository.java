@@ -0,0 +1,183 @@
+package at.ac.tuwien.sepr.groupphase.backend.repository;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * JDBC access to the image columns of events, merchandise and news items, independent of
+ * the entity mappings.
+ *
+ * <p>Used to move images from the former {@code BLOB} columns into the blob store and to
+ * find all blob keys that are still referenced, including those of image derivatives.
+ * The legacy columns are no longer mapped, so they only exist in databases created before
+ * the blob store.
+ */
+@Repository
+public class BlobReferenceRepository {
+
+    /**
+     * A table with an {@code image_key} column and the BLOB column it replaced.
+     *
+     * @param table        the table name
+     * @param legacyColumn the former BLOB column
+     */
+    public record ImageTable(String table, String legacyColumn) {
+    }
+
+    /**
+     * Consumes the content of one BLOB value while the result set is open.
+     *
+     * @param <T> the result type
+     */
+    @FunctionalInterface
+    public interface BlobReader<T> {
+        T read(InputStream content) throws IOException;
+    }
+
+    public static final List<ImageTable> IMAGE_TABLES = List.of(
+        new ImageTable("events", "image"),
+        new ImageTable("merchandise", "image"),
+        new ImageTable("news_items", "image_data"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BlobReferenceRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Whether a table has a column, regardless of the case the database reports names in.
+     *
+     * @param table  the table name
+     * @param column the column name
+     * @return true if the column exists
+     */
+    public boolean hasColumn(String table, String column) {
+        Boolean exists = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            return hasColumn(metaData, table.toUpperCase(Locale.ROOT), column.toUpperCase(Locale.ROOT))
+                || hasColumn(metaData, table.toLowerCase(Locale.ROOT), column.toLowerCase(Locale.ROOT));
+        });
+        return Boolean.TRUE.equals(exists);
+    }
+
+    /**
+     * IDs of rows that still hold their image in the legacy column, in ID order.
+     *
+     * @param imageTable the table
+     * @param afterId    only IDs greater than this
+     * @param limit      maximum number of IDs
+     * @return the IDs
+     */
+    public List<Long> findIdsWithLegacyImage(ImageTable imageTable, long afterId, int limit) {
+        return jdbcTemplate.queryForList(
+            "SELECT id FROM " + imageTable.table() + " WHERE " + imageTable.legacyColumn() + " IS NOT NULL AND id > ? ORDER BY id LIMIT ?",
+            Long.class, afterId, limit);
+    }
+
+    /**
+     * Stream the legacy image of one row.
+     *
+     * @param imageTable the table
+     * @param id         the row ID
+     * @param reader     consumes the image content
+     * @param <T>        the result type of the reader
+     * @return the result of the reader, or null if the row has no legacy image
+     */
+    public <T> T readLegacyImage(ImageTable imageTable, long id, BlobReader<T> reader) {
+        return jdbcTemplate.query(
+            "SELECT " + imageTable.legacyColumn() + " FROM " + imageTable.table() + " WHERE id = ?",
+            (ResultSet rs) -> {
+                if (!rs.next()) {
+                    return null;
+                }
+                try (InputStream content = rs.getBinaryStream(1)) {
+                    return content == null ? null : reader.read(content);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            },
+            id);
+    }
+
+    /**
+     * Point a row at its image in the blob store and clear the legacy column.
+     *
+     * @param imageTable the table
+     * @param id         the row ID
+     * @param key        the blob key
+     */
+    public void replaceLegacyImage(ImageTable imageTable, long id, String key) {
+        jdbcTemplate.update(
+            "UPDATE " + imageTable.table() + " SET image_key = ?, " + imageTable.legacyColumn() + " = NULL WHERE id = ?",
+            key, id);
+    }
+
+    /**
+     * Blob keys and content types of all images referenced by any row.
+     *
+     * @return content type by blob key
+     */
+    public Map<String, String> findImages() {
+        Map<String, String> images = new HashMap<>();
+        for (ImageTable imageTable : IMAGE_TABLES) {
+            jdbcTemplate.query(
+                "SELECT image_key, image_content_type FROM " + imageTable.table() + " WHERE image_key IS NOT NULL",
+                (RowCallbackHandler) rs -> images.putIfAbsent(rs.getString(1), rs.getString(2)));
+        }
+        return images;
+    }
+
+    /**
+     * All blob keys referenced by any row, including the derivatives of referenced images.
+     *
+     * @return the keys
+     */
+    public Set<String> findReferencedKeys() {
+        Set<String> keys = new HashSet<>();
+        for (ImageTable imageTable : IMAGE_TABLES) {
+            keys.addAll(jdbcTemplate.queryForList(
+                "SELECT DISTINCT image_key FROM " + imageTable.table() + " WHERE image_key IS NOT NULL", String.class));
+        }
+        keys.addAll(jdbcTemplate.queryForList(
+            "SELECT DISTINCT blob_key FROM image_derivatives WHERE source_key IN (" + referencedImageKeys() + ")", String.class));
+        return keys;
+    }
+
+    /**
+     * Delete the derivatives of images no row refers to any more.
+     *
+     * @return the number of deleted derivatives
+     */
+    public int deleteOrphanedDerivatives() {
+        return jdbcTemplate.update("DELETE FROM image_derivatives WHERE source_key NOT IN (" + referencedImageKeys() + ")");
+    }
+
+    private static String referencedImageKeys() {
+        return IMAGE_TABLES.stream()
+            .map(imageTable -> "SELECT image_key FROM " + imageTable.table() + " WHERE image_key IS NOT NULL")
+            .collect(Collectors.joining(" UNION "));
+    }
+
+    private static boolean hasColumn(DatabaseMetaData metaData, String table, String column) throws SQLException {
+        try (ResultSet columns = metaData.getColumns(null, null, table, column)) {
+            return columns.next();
+        }
+    }
+}
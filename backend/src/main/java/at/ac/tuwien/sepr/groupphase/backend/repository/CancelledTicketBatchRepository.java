@@ -0,0 +1,63 @@
+package at.ac.tuwien.sepr.groupphase.backend.repository;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.CancelledTicket;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * JDBC batch operations for cancelling many tickets at once.
+ *
+ * <p>{@link CancelledTicket} and {@code Ticket} use identity keys, which keeps Hibernate
+ * from batching inserts, so bulk cancellations go through {@link JdbcTemplate#batchUpdate}.
+ * Statements join the surrounding JPA transaction.
+ */
+@Repository
+public class CancelledTicketBatchRepository {
+
+    private static final String INSERT_CANCELLED_TICKET =
+        "INSERT INTO cancelled_tickets "
+            + "(user_id, event_name, event_date, cancellation_date, seat, invoice_id, net_price, tax_rate, gross_price) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String DELETE_TICKET = "DELETE FROM tickets WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CancelledTicketBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Insert cancelled tickets in JDBC batches. The invoice of every ticket must already be persisted.
+     *
+     * @param cancelledTickets the tickets to insert
+     * @param batchSize        number of rows per JDBC batch
+     */
+    public void insertAll(List<CancelledTicket> cancelledTickets, int batchSize) {
+        jdbcTemplate.batchUpdate(INSERT_CANCELLED_TICKET, cancelledTickets, batchSize, (ps, ct) -> {
+            ps.setObject(1, ct.getUser() != null ? ct.getUser().getId() : null);
+            ps.setString(2, ct.getEventName());
+            ps.setTimestamp(3, ct.getEventDate() != null ? Timestamp.valueOf(ct.getEventDate()) : null);
+            ps.setDate(4, ct.getCancellationDate() != null ? Date.valueOf(ct.getCancellationDate()) : null);
+            ps.setString(5, ct.getSeat());
+            ps.setLong(6, ct.getInvoice().getId());
+            ps.setDouble(7, ct.getNetPrice());
+            ps.setDouble(8, ct.getTaxRate());
+            ps.setDouble(9, ct.getGrossPrice());
+        });
+    }
+
+    /**
+     * Delete tickets by ID in JDBC batches.
+     *
+     * @param ticketIds the ticket IDs
+     * @param batchSize number of rows per JDBC batch
+     */
+    public void deleteTickets(List<Long> ticketIds, int batchSize) {
+        jdbcTemplate.batchUpdate(DELETE_TICKET, ticketIds, batchSize, (ps, id) -> ps.setLong(1, id));
+    }
+}
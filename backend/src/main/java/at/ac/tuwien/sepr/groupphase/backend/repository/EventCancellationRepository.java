@@ -0,0 +1,50 @@
+package at.ac.tuwien.sepr.groupphase.backend.repository;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.EventCancellation;
+import at.ac.tuwien.sepr.groupphase.backend.type.CancellationStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for {@link EventCancellation} progress records.
+ */
+@Repository
+public interface EventCancellationRepository extends JpaRepository<EventCancellation, Long> {
+
+    /**
+     * Find the most recent cancellation job of an event.
+     *
+     * @param eventId the event ID
+     * @return the latest job, if any
+     */
+    Optional<EventCancellation> findFirstByEventIdOrderByStartedAtDesc(Long eventId);
+
+    /**
+     * Find all jobs in the given state. Used on startup to resume interrupted jobs.
+     *
+     * @param status the job state
+     * @return list of matching jobs
+     */
+    List<EventCancellation> findByStatus(CancellationStatus status);
+
+    /**
+     * Atomically add one processed partition to the job counters.
+     * Must run inside the transaction that cancels the partition.
+     *
+     * @param id      the job ID
+     * @param tickets number of tickets cancelled in the partition
+     * @return number of updated rows
+     */
+    @Modifying
+    @Query("UPDATE EventCancellation c "
+        + "SET c.processedInvoices = c.processedInvoices + 1, "
+        + "c.processedTickets = c.processedTickets + :tickets "
+        + "WHERE c.id = :id")
+    int addProcessedPartition(@Param("id") Long id, @Param("tickets") long tickets);
+}
@@ -1,19 +1,24 @@
 package at.ac.tuwien.sepr.groupphase.backend.repository;
 
 import at.ac.tuwien.sepr.groupphase.backend.entity.Event;
+import at.ac.tuwien.sepr.groupphase.backend.repository.keyset.KeysetRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
  * Repository for managing {@link Event} entities.
  */
 @Repository
-public interface EventRepository extends JpaRepository<Event, Long> {
+public interface EventRepository extends JpaRepository<Event, Long>, KeysetRepository<Event> {
 
     /**
      * Find events by title containing search term (case-insensitive).
@@ -74,6 +79,15 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     @Query("SELECT e FROM Event e JOIN e.artists a WHERE a.id = :artistId")
     List<Event> findByArtistId(@Param("artistId") Long artistId);
 
+    /**
+     * Find all events featuring any of the given artists, each event once.
+     *
+     * @param artistIds the artist IDs
+     * @return events with at least one of these artists, ordered by date
+     */
+    @Query("SELECT DISTINCT e FROM Event e JOIN e.artists a WHERE a.id IN :artistIds ORDER BY e.dateTime")
+    List<Event> findByArtistIds(@Param("artistIds") Collection<Long> artistIds);
+
     /**
      * Find all events at a specific location.
      *
@@ -129,6 +143,112 @@ public interface EventRepository extends JpaRepository<Event, Long> {
         @Param("locationId") Long locationId
     );
 
+    /**
+     * Find one page of events with their location fetched.
+     * Ordering and limits are taken from the pageable; the count query only runs
+     * when the total cannot be derived from the page itself.
+     *
+     * @param pageable pagination and sort information
+     * @return page of events
+     */
+    @Query(value = "SELECT e FROM Event e JOIN FETCH e.location",
+        countQuery = "SELECT COUNT(e) FROM Event e")
+    Page<Event> findAllWithLocation(Pageable pageable);
+
+    /**
+     * Find events by ID with their location fetched, in no particular order.
+     *
+     * @param ids the event IDs
+     * @return the events that exist
+     */
+    @Query("SELECT e FROM Event e JOIN FETCH e.location WHERE e.id IN :ids")
+    List<Event> findAllWithLocationByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Columns of all events needed by the faceted search catalog:
+     * ID, type, location ID, location name, minimum price and date.
+     *
+     * @return one array per event
+     */
+    @Query("SELECT e.id, e.type, l.id, l.name, e.minPrice, e.dateTime FROM Event e JOIN e.location l")
+    List<Object[]> findCatalogRows();
+
+    /**
+     * Columns of all events needed by the calendar: ID, title, type, date and minimum price.
+     *
+     * @return one array per event
+     */
+    @Query("SELECT e.id, e.title, e.type, e.dateTime, e.minPrice FROM Event e")
+    List<Object[]> findCalendarRows();
+
+    /**
+     * Precomputed minimum price of the given events.
+     *
+     * @param eventIds the event IDs
+     * @return one array of ID and minimum price per event
+     */
+    @Query("SELECT e.id, e.minPrice FROM Event e WHERE e.id IN :eventIds")
+    List<Object[]> findCatalogPrices(@Param("eventIds") Collection<Long> eventIds);
+
+    /**
+     * Location and artists of all events, one row per event and artist.
+     * Used to rank artist and location suggestions by the sales of their events.
+     *
+     * @return list of Object arrays containing [eventId, locationId, artistId or null]
+     */
+    @Query("SELECT e.id, e.location.id, a.id FROM Event e LEFT JOIN e.artists a")
+    List<Object[]> findSuggestionLinks();
+
+    /**
+     * Paginated search with multiple optional criteria, evaluated entirely in the database.
+     * Price bounds are matched against the precomputed minimum price of the event;
+     * events without a price are excluded as soon as a price bound is given.
+     *
+     * @param title       the title search term (optional, case-insensitive partial match)
+     * @param type        the event type (optional, case-insensitive exact match)
+     * @param minDuration minimum duration in minutes (optional)
+     * @param maxDuration maximum duration in minutes (optional)
+     * @param startDate   earliest event date/time (optional)
+     * @param endDate     latest event date/time (optional)
+     * @param locationId  the location ID (optional)
+     * @param priceMin    lower bound for the minimum price in cents (optional)
+     * @param priceMax    upper bound for the minimum price in cents (optional)
+     * @param pageable    pagination and sort information
+     * @return page of matching events with their location fetched
+     */
+    @Query(value = "SELECT e FROM Event e JOIN FETCH e.location "
+        + "WHERE (:title IS NULL OR LOWER(e.title) LIKE LOWER(CONCAT('%', :title, '%'))) "
+        + "AND (:type IS NULL OR LOWER(e.type) = LOWER(:type)) "
+        + "AND (:minDuration IS NULL OR e.durationMinutes >= :minDuration) "
+        + "AND (:maxDuration IS NULL OR e.durationMinutes <= :maxDuration) "
+        + "AND (:startDate IS NULL OR e.dateTime >= :startDate) "
+        + "AND (:endDate IS NULL OR e.dateTime <= :endDate) "
+        + "AND (:locationId IS NULL OR e.location.id = :locationId) "
+        + "AND (:priceMin IS NULL OR e.minPrice >= :priceMin) "
+        + "AND (:priceMax IS NULL OR e.minPrice <= :priceMax)",
+        countQuery = "SELECT COUNT(e) FROM Event e "
+            + "WHERE (:title IS NULL OR LOWER(e.title) LIKE LOWER(CONCAT('%', :title, '%'))) "
+            + "AND (:type IS NULL OR LOWER(e.type) = LOWER(:type)) "
+            + "AND (:minDuration IS NULL OR e.durationMinutes >= :minDuration) "
+            + "AND (:maxDuration IS NULL OR e.durationMinutes <= :maxDuration) "
+            + "AND (:startDate IS NULL OR e.dateTime >= :startDate) "
+            + "AND (:endDate IS NULL OR e.dateTime <= :endDate) "
+            + "AND (:locationId IS NULL OR e.location.id = :locationId) "
+            + "AND (:priceMin IS NULL OR e.minPrice >= :priceMin) "
+            + "AND (:priceMax IS NULL OR e.minPrice <= :priceMax)")
+    Page<Event> searchEventsPage(
+        @Param("title") String title,
+        @Param("type") String type,
+        @Param("minDuration") Integer minDuration,
+        @Param("maxDuration") Integer maxDuration,
+        @Param("startDate") LocalDateTime startDate,
+        @Param("endDate") LocalDateTime endDate,
+        @Param("locationId") Long locationId,
+        @Param("priceMin") Integer priceMin,
+        @Param("priceMax") Integer priceMax,
+        Pageable pageable
+    );
+
     /**
      * Search events with price filter via Location → Sector → PriceCategory chain.
      * Finds events that have at least one seat in the specified price range.
@@ -157,33 +277,6 @@ public interface EventRepository extends JpaRepository<Event, Long> {
         @Param("locationId") Long locationId
     );
 
-    /**
-     * Find top 10 events by ticket sales for a specific month and year.
-     * Only counts sold tickets (tickets with an invoice).
-     * Optionally filter by event type.
-     *
-     * @param month the month (1-12)
-     * @param year  the year (e.g., 2026)
-     * @param type  the event type filter (optional)
-     * @return list of Object arrays containing [eventId, title, type, ticketCount]
-     */
-    @Query("SELECT e.id, e.title, e.type, COUNT(t.id) as ticketCount "
-        + "FROM Event e "
-        + "JOIN e.tickets t "
-        + "WHERE t.invoice IS NOT NULL "
-        + "AND t.invoice.invoiceCancellationDate IS NULL "
-        + "AND YEAR(e.dateTime) = :year "
-        + "AND MONTH(e.dateTime) = :month "
-        + "AND (:type IS NULL OR LOWER(e.type) = LOWER(:type)) "
-        + "GROUP BY e.id, e.title, e.type "
-        + "ORDER BY COUNT(t.id) DESC "
-        + "LIMIT 10")
-    List<Object[]> findTopTenEventsByTicketSales(
-        @Param("month") int month,
-        @Param("year") int year,
-        @Param("type") String type
-    );
-
     /**
      * Find the minimum ticket price for an event.
      * Checks all price categories in the event's location sectors.
@@ -197,4 +290,89 @@ public interface EventRepository extends JpaRepository<Event, Long> {
         + "JOIN PriceCategory pc ON pc.sector = s "
         + "WHERE e.id = :eventId")
     Integer findMinPriceForEvent(@Param("eventId") Long eventId);
-}
\ No newline at end of file
+
+    /**
+     * Find the minimum price category of a location.
+     *
+     * @param locationId the location ID
+     * @return the minimum base price in cents, or null if no prices exist
+     */
+    @Query("SELECT MIN(pc.basePrice) FROM PriceCategory pc WHERE pc.sector.location.id = :locationId")
+    Integer findMinPriceForLocation(@Param("locationId") Long locationId);
+
+    /**
+     * Find the maximum price category of a location.
+     *
+     * @param locationId the location ID
+     * @return the maximum base price in cents, or null if no prices exist
+     */
+    @Query("SELECT MAX(pc.basePrice) FROM PriceCategory pc WHERE pc.sector.location.id = :locationId")
+    Integer findMaxPriceForLocation(@Param("locationId") Long locationId);
+
+    /**
+     * Recompute the precomputed price range of the given events.
+     *
+     * @param eventIds the event IDs
+     * @return number of updated events
+     */
+    @Modifying
+    @Query("UPDATE Event e SET "
+        + "e.minPrice = (SELECT MIN(pc.basePrice) FROM PriceCategory pc WHERE pc.sector.location.id = e.location.id), "
+        + "e.maxPrice = (SELECT MAX(pc.basePrice) FROM PriceCategory pc WHERE pc.sector.location.id = e.location.id) "
+        + "WHERE e.id IN :eventIds")
+    int refreshPriceRangeByEventIds(@Param("eventIds") Collection<Long> eventIds);
+
+    /**
+     * Recompute the precomputed price range of all events at the given locations.
+     *
+     * @param locationIds the location IDs
+     * @return number of updated events
+     */
+    @Modifying
+    @Query("UPDATE Event e SET "
+        + "e.minPrice = (SELECT MIN(pc.basePrice) FROM PriceCategory pc WHERE pc.sector.location.id = e.location.id), "
+        + "e.maxPrice = (SELECT MAX(pc.basePrice) FROM PriceCategory pc WHERE pc.sector.location.id = e.location.id) "
+        + "WHERE e.location.id IN :locationIds")
+    int refreshPriceRangeByLocationIds(@Param("locationIds") Collection<Long> locationIds);
+
+    /**
+     * Close an event for sale before its tickets are cancelled.
+     *
+     * @param eventId the event ID
+     * @return number of updated events
+     */
+    @Modifying
+    @Query("UPDATE Event e SET e.cancelled = true WHERE e.id = :eventId")
+    int markCancelled(@Param("eventId") Long eventId);
+
+    /**
+     * Find the IDs of all events at the given locations.
+     *
+     * @param locationIds the location IDs
+     * @return the event IDs
+     */
+    @Query("SELECT e.id FROM Event e WHERE e.location.id IN :locationIds")
+    List<Long> findIdsByLocationIds(@Param("locationIds") Collection<Long> locationIds);
+
+    /**
+     * Recompute the precomputed price range of all events at the locations of the given sectors.
+     *
+     * @param sectorIds the sector IDs
+     * @return number of updated events
+     */
+    @Modifying
+    @Query("UPDATE Event e SET "
+        + "e.minPrice = (SELECT MIN(pc.basePrice) FROM PriceCategory pc WHERE pc.sector.location.id = e.location.id), "
+        + "e.maxPrice = (SELECT MAX(pc.basePrice) FROM PriceCategory pc WHERE pc.sector.location.id = e.location.id) "
+        + "WHERE e.location.id IN (SELECT s.location.id FROM Sector s WHERE s.id IN :sectorIds)")
+    int refreshPriceRangeBySectorIds(@Param("sectorIds") Collection<Long> sectorIds);
+
+    /**
+     * Find the IDs of all events at the locations of the given sectors.
+     *
+     * @param sectorIds the sector IDs
+     * @return the event IDs
+     */
+    @Query("SELECT e.id FROM Event e WHERE e.location.id IN (SELECT s.location.id FROM Sector s WHERE s.id IN :sectorIds)")
+    List<Long> findIdsBySectorIds(@Param("sectorIds") Collection<Long> sectorIds);
+}
@@ -0,0 +1,66 @@
+package at.ac.tuwien.sepr.groupphase.backend.repository;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.EventSales;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for the {@link EventSales} rollup.
+ */
+@Repository
+public interface EventSalesRepository extends JpaRepository<EventSales, Long> {
+
+    /**
+     * Atomically add to the sold counter of an event.
+     * Must run inside the transaction that sells or cancels the tickets.
+     *
+     * @param eventId the event ID
+     * @param delta   number of tickets sold, negative for cancellations
+     * @return number of updated rows, 0 if the event has no rollup row yet
+     */
+    @Modifying
+    @Query("UPDATE EventSales s SET s.soldCount = s.soldCount + :delta WHERE s.eventId = :eventId")
+    int addSold(@Param("eventId") Long eventId, @Param("delta") long delta);
+
+    /**
+     * Move the rollup row of an event to a new month and type after the event changed.
+     *
+     * @param eventId the event ID
+     * @param year    the year of the event date
+     * @param month   the month of the event date (1-12)
+     * @param type    the event type
+     * @return number of updated rows
+     */
+    @Modifying
+    @Query("UPDATE EventSales s SET s.salesYear = :year, s.salesMonth = :month, s.type = :type WHERE s.eventId = :eventId")
+    int moveEvent(@Param("eventId") Long eventId, @Param("year") int year, @Param("month") int month, @Param("type") String type);
+
+    /**
+     * Delete the rollup row of an event.
+     *
+     * @param eventId the event ID
+     * @return number of deleted rows
+     */
+    @Modifying
+    @Query("DELETE FROM EventSales s WHERE s.eventId = :eventId")
+    int deleteByEventId(@Param("eventId") Long eventId);
+
+    /**
+     * Count the sold tickets of every event from the ticket table.
+     * Only used to rebuild the rollup; a ticket counts as sold while its invoice is not cancelled.
+     *
+     * @return list of Object arrays containing [eventId, title, type, dateTime, ticketCount]
+     */
+    @Query("SELECT e.id, e.title, e.type, e.dateTime, "
+        + "SUM(CASE WHEN i.id IS NOT NULL AND i.invoiceCancellationDate IS NULL THEN 1 ELSE 0 END) "
+        + "FROM Event e "
+        + "LEFT JOIN e.tickets t "
+        + "LEFT JOIN t.invoice i "
+        + "GROUP BY e.id, e.title, e.type, e.dateTime")
+    List<Object[]> countSoldTicketsPerEvent();
+}
@@ -0,0 +1,47 @@
+package at.ac.tuwien.sepr.groupphase.backend.repository;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.ImageDerivative;
+import at.ac.tuwien.sepr.groupphase.backend.type.ImageSize;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for {@link ImageDerivative}s.
+ */
+@Repository
+public interface ImageDerivativeRepository extends JpaRepository<ImageDerivative, Long> {
+
+    /**
+     * Blob key of one rendition of an image.
+     *
+     * @param sourceKey blob key of the original
+     * @param size      the rendition
+     * @return the blob key of the derivative, empty if it was not generated yet
+     */
+    @Query("SELECT d.blobKey FROM ImageDerivative d WHERE d.sourceKey = :sourceKey AND d.size = :size")
+    Optional<String> findBlobKey(@Param("sourceKey") String sourceKey, @Param("size") ImageSize size);
+
+    /**
+     * Blob keys of all renditions of an image.
+     *
+     * @param sourceKey blob key of the original
+     * @return the blob keys of the derivatives generated so far
+     */
+    @Query("SELECT d.blobKey FROM ImageDerivative d WHERE d.sourceKey = :sourceKey")
+    List<String> findBlobKeys(@Param("sourceKey") String sourceKey);
+
+    /**
+     * Blob keys of originals that have a derivative for every given size.
+     *
+     * @param sizes the sizes
+     * @param count number of sizes
+     * @return the blob keys of the originals
+     */
+    @Query("SELECT d.sourceKey FROM ImageDerivative d WHERE d.size IN :sizes GROUP BY d.sourceKey HAVING COUNT(d) = :count")
+    List<String> findCompleteSourceKeys(@Param("sizes") List<ImageSize> sizes, @Param("count") long count);
+}
@@ -1,6 +1,7 @@
 package at.ac.tuwien.sepr.groupphase.backend.repository;
 
 import at.ac.tuwien.sepr.groupphase.backend.entity.Invoice;
+import at.ac.tuwien.sepr.groupphase.backend.repository.keyset.KeysetRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,7 +15,7 @@ import java.util.Optional;
  * Repository interface for accessing {@link Invoice} entities.
  */
 @Repository
-public interface InvoiceRepository extends JpaRepository<Invoice, Long> {
+public interface InvoiceRepository extends JpaRepository<Invoice, Long>, KeysetRepository<Invoice> {
 
     /**
      * Retrieves all invoices for a user, ordered by invoice date in descending order.
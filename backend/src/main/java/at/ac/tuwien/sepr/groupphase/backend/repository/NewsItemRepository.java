@@ -1,13 +1,88 @@
 package at.ac.tuwien.sepr.groupphase.backend.repository;
 
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.newsItem.SimpleNewsItemDto;
 import at.ac.tuwien.sepr.groupphase.backend.entity.NewsItem;
+import at.ac.tuwien.sepr.groupphase.backend.repository.keyset.KeysetRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface NewsItemRepository extends JpaRepository<NewsItem, Long> {
+public interface NewsItemRepository extends JpaRepository<NewsItem, Long>, KeysetRepository<NewsItem> {
     List<NewsItem> findByTitle(String title);
 
-}
\ No newline at end of file
+    /**
+     * Find news items published up to a day that the user has not marked as read.
+     *
+     * @param userId the user ID
+     * @param today the last publication day to include
+     * @param pageable the page to load
+     * @return page of news items, newest first
+     */
+    @Query(value = "SELECT n FROM NewsItem n WHERE n.publishedAt <= :today "
+        + "AND NOT EXISTS (SELECT s.id FROM SeenNews s WHERE s.newsItem = n AND s.user.id = :userId) "
+        + "ORDER BY n.publishedAt DESC, n.id DESC",
+        countQuery = "SELECT COUNT(n) FROM NewsItem n WHERE n.publishedAt <= :today "
+            + "AND NOT EXISTS (SELECT s.id FROM SeenNews s WHERE s.newsItem = n AND s.user.id = :userId)")
+    Page<NewsItem> findUnread(@Param("userId") Long userId, @Param("today") LocalDate today, Pageable pageable);
+
+    /**
+     * Find news items published up to a day that the user has marked as read.
+     *
+     * @param userId the user ID
+     * @param today the last publication day to include
+     * @param pageable the page to load
+     * @return page of news items, newest first
+     */
+    @Query(value = "SELECT n FROM NewsItem n WHERE n.publishedAt <= :today "
+        + "AND EXISTS (SELECT s.id FROM SeenNews s WHERE s.newsItem = n AND s.user.id = :userId) "
+        + "ORDER BY n.publishedAt DESC, n.id DESC",
+        countQuery = "SELECT COUNT(n) FROM NewsItem n WHERE n.publishedAt <= :today "
+            + "AND EXISTS (SELECT s.id FROM SeenNews s WHERE s.newsItem = n AND s.user.id = :userId)")
+    Page<NewsItem> findRead(@Param("userId") Long userId, @Param("today") LocalDate today, Pageable pageable);
+
+    /**
+     * Find news items to be published after a day.
+     *
+     * @param today the day after which the news items are published
+     * @param pageable the page to load
+     * @return page of news items, next to be published first
+     */
+    Page<NewsItem> findByPublishedAtAfterOrderByPublishedAtAscIdAsc(LocalDate today, Pageable pageable);
+
+    /**
+     * Load all news items published up to a day as list entries.
+     *
+     * @param today the last publication day to include
+     * @return the news items, newest first
+     */
+    @Query("SELECT new at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.newsItem.SimpleNewsItemDto(n.id, n.title, n.publishedAt, n.summary) "
+        + "FROM NewsItem n WHERE n.publishedAt <= :today ORDER BY n.publishedAt DESC, n.id DESC")
+    List<SimpleNewsItemDto> findPublishedFeed(@Param("today") LocalDate today);
+
+    /**
+     * Find the day the next scheduled news item is published.
+     *
+     * @param today the current day
+     * @return the earliest publication day after today, empty if nothing is scheduled
+     */
+    @Query("SELECT MIN(n.publishedAt) FROM NewsItem n WHERE n.publishedAt > :today")
+    Optional<LocalDate> findNextPublication(@Param("today") LocalDate today);
+
+    /**
+     * Find which of the given news item IDs exist.
+     *
+     * @param ids the news item IDs
+     * @return the IDs that exist
+     */
+    @Query("SELECT n.id FROM NewsItem n WHERE n.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,45 @@
+package at.ac.tuwien.sepr.groupphase.backend.repository;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.OutboundMail;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for the {@link OutboundMail} outbox.
+ */
+@Repository
+public interface OutboundMailRepository extends JpaRepository<OutboundMail, Long> {
+
+    /**
+     * Find mails whose next delivery attempt is due, oldest first.
+     *
+     * @param now      the current time
+     * @param pageable the maximum number of mails
+     * @return the due mails
+     */
+    @Query("SELECT m FROM OutboundMail m "
+        + "WHERE m.failedAt IS NULL AND m.nextAttemptAt <= :now "
+        + "ORDER BY m.nextAttemptAt, m.id")
+    List<OutboundMail> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Postpone the next delivery attempt of mails that are about to be sent, so they are
+     * not picked up again while the attempt is running.
+     *
+     * @param ids   the mail IDs
+     * @param until the time until which the mails are reserved
+     * @return the number of updated mails
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboundMail m SET m.nextAttemptAt = :until WHERE m.id IN :ids")
+    int lease(@Param("ids") List<Long> ids, @Param("until") LocalDateTime until);
+}
@@ -7,7 +7,9 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 /**
@@ -42,4 +44,23 @@ public interface PasswordResetTokenRepository
      * @return an optional reset token for the user
      */
     Optional<PasswordResetToken> findByUserId(Long userId);
-}
\ No newline at end of file
+
+    /**
+     * Retrieves the password reset token with the given selector.
+     *
+     * @param selector the public part of the reset token
+     * @return an optional reset token with the selector
+     */
+    Optional<PasswordResetToken> findBySelector(String selector);
+
+    /**
+     * Deletes all password reset tokens that expired before the given time.
+     *
+     * @param now the current time
+     * @return the number of deleted tokens
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM PasswordResetToken t WHERE t.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,66 @@
+package at.ac.tuwien.sepr.groupphase.backend.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JDBC batch inserts of read marks.
+ *
+ * <p>A row is only inserted if the user has not seen the news item yet and both the user and
+ * the news item still exist, so buffered marks can be written without looking them up first
+ * and a duplicate, a deleted news item or a deleted account never fails the batch.
+ */
+@Repository
+public class SeenNewsBatchRepository {
+
+    private static final String INSERT_MISSING =
+        "INSERT INTO seen_news (user_id, news_item_id, seen_at) "
+            + "SELECT ?, n.id, ? FROM news_items n WHERE n.id = ? "
+            + "AND EXISTS (SELECT 1 FROM users u WHERE u.id = ?) "
+            + "AND NOT EXISTS (SELECT 1 FROM seen_news s WHERE s.user_id = ? AND s.news_item_id = n.id)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SeenNewsBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * A news item a user has read.
+     *
+     * @param userId the user ID
+     * @param newsItemId the news item ID
+     * @param seenAt when the user read it
+     */
+    public record Mark(long userId, long newsItemId, LocalDateTime seenAt) {
+    }
+
+    /**
+     * Insert the marks that are not stored yet, in JDBC batches.
+     *
+     * @param marks the marks, at most one per user and news item
+     * @param batchSize number of rows per JDBC batch
+     * @return the number of inserted rows
+     */
+    public int insertMissing(Collection<Mark> marks, int batchSize) {
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_MISSING, List.copyOf(marks), batchSize, (ps, mark) -> {
+            ps.setLong(1, mark.userId());
+            ps.setTimestamp(2, Timestamp.valueOf(mark.seenAt()));
+            ps.setLong(3, mark.newsItemId());
+            ps.setLong(4, mark.userId());
+            ps.setLong(5, mark.userId());
+        });
+        int inserted = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                inserted += Math.max(count, 0);
+            }
+        }
+        return inserted;
+    }
+}
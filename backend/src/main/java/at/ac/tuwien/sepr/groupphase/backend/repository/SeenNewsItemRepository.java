@@ -4,6 +4,8 @@ import at.ac.tuwien.sepr.groupphase.backend.entity.NewsItem;
 import at.ac.tuwien.sepr.groupphase.backend.entity.SeenNews;
 import at.ac.tuwien.sepr.groupphase.backend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
@@ -12,4 +14,13 @@ public interface SeenNewsItemRepository extends JpaRepository<SeenNews, Long> {
     List<SeenNews> findByUser(User user);
 
     boolean existsByUserAndNewsItem(User user, NewsItem newsItem);
-}
\ No newline at end of file
+
+    /**
+     * Find the IDs of all news items a user has marked as read.
+     *
+     * @param userId the user ID
+     * @return the news item IDs
+     */
+    @Query("SELECT s.newsItem.id FROM SeenNews s WHERE s.user.id = :userId")
+    List<Long> findNewsItemIdsByUserId(@Param("userId") Long userId);
+}
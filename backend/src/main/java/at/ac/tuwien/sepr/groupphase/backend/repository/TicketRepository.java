@@ -3,6 +3,8 @@ package at.ac.tuwien.sepr.groupphase.backend.repository;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Reservation;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Ticket;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -19,4 +21,31 @@ public interface TicketRepository extends JpaRepository<Ticket, Long> {
     List<Ticket> findByInvoiceIsNull();
 
     List<Ticket> findByInvoiceIsNullAndReservationIsNull();
+
+    long countByEventIdAndInvoiceIsNotNull(Long eventId);
+
+    /**
+     * Find the IDs of all invoices through which tickets of the given event were sold.
+     * Each invoice is one partition of an event cancellation.
+     *
+     * @param eventId the event ID
+     * @return distinct invoice IDs
+     */
+    @Query("SELECT DISTINCT t.invoice.id FROM Ticket t WHERE t.event.id = :eventId AND t.invoice IS NOT NULL")
+    List<Long> findSoldInvoiceIdsByEventId(@Param("eventId") Long eventId);
+
+    /**
+     * Find all tickets of an event sold through one invoice, with seat, event, invoice and buyer fetched.
+     *
+     * @param eventId   the event ID
+     * @param invoiceId the original invoice ID
+     * @return sold tickets of the partition
+     */
+    @Query("SELECT t FROM Ticket t "
+        + "JOIN FETCH t.seat "
+        + "JOIN FETCH t.event "
+        + "JOIN FETCH t.invoice i "
+        + "LEFT JOIN FETCH i.user "
+        + "WHERE t.event.id = :eventId AND i.id = :invoiceId")
+    List<Ticket> findSoldByEventIdAndInvoiceId(@Param("eventId") Long eventId, @Param("invoiceId") Long invoiceId);
 }
\ No newline at end of file
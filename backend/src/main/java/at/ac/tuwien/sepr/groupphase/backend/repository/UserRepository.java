@@ -1,6 +1,7 @@
 package at.ac.tuwien.sepr.groupphase.backend.repository;
 
 import at.ac.tuwien.sepr.groupphase.backend.entity.User;
+import at.ac.tuwien.sepr.groupphase.backend.repository.keyset.KeysetRepository;
 import at.ac.tuwien.sepr.groupphase.backend.type.UserRole;
 import java.util.List;
 import java.util.Optional;
@@ -22,7 +23,7 @@ import org.springframework.stereotype.Repository;
  * a user based on the unique e-mail address used as login credential.
  */
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, KeysetRepository<User> {
 
     /**
      * Retrieves a user by their unique e-mail address.
@@ -0,0 +1,128 @@
+package at.ac.tuwien.sepr.groupphase.backend.repository.keyset;
+
+import at.ac.tuwien.sepr.groupphase.backend.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.function.Function;
+
+/**
+ * Sort order, position and size of a keyset page.
+ *
+ * <p>Entities are ordered by a sort attribute with the ID as tie breaker. The position is
+ * carried between requests as an opaque cursor: the URL-safe Base64 encoding of the sort
+ * attribute, the sort key and the ID of the last entity of the previous page. A cursor is
+ * only accepted for the sort attribute it was created for.
+ *
+ * @param attribute  the sort attribute, may be a dotted path such as {@code event.dateTime}
+ * @param keyType    the type of the sort key
+ * @param descending whether to sort from the highest key down
+ * @param afterKey   sort key of the last entity of the previous page, null on the first page
+ * @param afterId    ID of the last entity of the previous page, null on the first page
+ * @param size       the page size
+ * @param <K>        the sort key type
+ */
+public record Keyset<K extends Comparable<? super K>>(
+    String attribute,
+    Class<K> keyType,
+    boolean descending,
+    K afterKey,
+    Long afterId,
+    int size
+) {
+
+    public static final int MAX_SIZE = 100;
+
+    private static final char SEPARATOR = ';';
+
+    /**
+     * Keyset ordered by ascending key and ID.
+     *
+     * @param attribute the sort attribute
+     * @param keyType   the type of the sort key
+     * @param cursor    the cursor of the previous page, null or blank for the first page
+     * @param size      the page size (1 to {@value #MAX_SIZE})
+     * @return the keyset
+     * @throws ValidationException if the cursor or size is invalid
+     */
+    public static <K extends Comparable<? super K>> Keyset<K> ascending(String attribute, Class<K> keyType, String cursor, int size) {
+        return of(attribute, keyType, false, cursor, size);
+    }
+
+    /**
+     * Keyset ordered by descending key and ID.
+     *
+     * @param attribute the sort attribute
+     * @param keyType   the type of the sort key
+     * @param cursor    the cursor of the previous page, null or blank for the first page
+     * @param size      the page size (1 to {@value #MAX_SIZE})
+     * @return the keyset
+     * @throws ValidationException if the cursor or size is invalid
+     */
+    public static <K extends Comparable<? super K>> Keyset<K> descending(String attribute, Class<K> keyType, String cursor, int size) {
+        return of(attribute, keyType, true, cursor, size);
+    }
+
+    private static <K extends Comparable<? super K>> Keyset<K> of(String attribute, Class<K> keyType, boolean descending,
+                                                                  String cursor, int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new ValidationException("Seitengröße muss zwischen 1 und " + MAX_SIZE + " liegen");
+        }
+        if (cursor == null || cursor.isBlank()) {
+            return new Keyset<>(attribute, keyType, descending, null, null, size);
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int first = decoded.indexOf(SEPARATOR);
+            int last = decoded.lastIndexOf(SEPARATOR);
+            if (first < 0 || first == last || !decoded.substring(0, first).equals(attribute)) {
+                throw new ValidationException("Ungültiger Cursor");
+            }
+            K key = parse(keyType, decoded.substring(first + 1, last));
+            Long id = Long.valueOf(decoded.substring(last + 1));
+            return new Keyset<>(attribute, keyType, descending, key, id, size);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ValidationException("Ungültiger Cursor");
+        }
+    }
+
+    /**
+     * The cursor continuing after the last entity of a page.
+     *
+     * @param page the loaded page
+     * @param key  extracts the sort key of an entity
+     * @param id   extracts the ID of an entity
+     * @param <T>  the entity type
+     * @return the cursor, or null if there is no next page
+     */
+    public <T> String nextCursor(KeysetPage<T> page, Function<T, K> key, Function<T, Long> id) {
+        if (!page.hasNext() || page.content().isEmpty()) {
+            return null;
+        }
+        T last = page.content().get(page.content().size() - 1);
+        String raw = attribute + SEPARATOR + key.apply(last) + SEPARATOR + id.apply(last);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static <K> K parse(Class<K> keyType, String value) {
+        Object key;
+        if (keyType == String.class) {
+            key = value;
+        } else if (keyType == LocalDateTime.class) {
+            key = LocalDateTime.parse(value);
+        } else if (keyType == LocalDate.class) {
+            key = LocalDate.parse(value);
+        } else if (keyType == Long.class) {
+            key = Long.valueOf(value);
+        } else if (keyType == Integer.class) {
+            key = Integer.valueOf(value);
+        } else {
+            throw new IllegalStateException("Unsupported keyset key type: " + keyType.getName());
+        }
+        return keyType.cast(key);
+    }
+}
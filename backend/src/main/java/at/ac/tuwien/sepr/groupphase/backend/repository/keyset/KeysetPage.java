@@ -0,0 +1,13 @@
+package at.ac.tuwien.sepr.groupphase.backend.repository.keyset;
+
+import java.util.List;
+
+/**
+ * Entities returned by a keyset query.
+ *
+ * @param content the entities in sort order, at most the requested size
+ * @param hasNext whether more entities follow the last one
+ * @param <T>     the entity type
+ */
+public record KeysetPage<T>(List<T> content, boolean hasNext) {
+}
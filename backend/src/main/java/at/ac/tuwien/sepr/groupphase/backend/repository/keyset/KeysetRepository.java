@@ -0,0 +1,25 @@
+package at.ac.tuwien.sepr.groupphase.backend.repository.keyset;
+
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Repository fragment for keyset (seek) pagination.
+ *
+ * <p>Instead of skipping an offset, every page continues after the sort key and ID of the
+ * last entity of the previous page, so deep pages cost the same as the first one when the
+ * sort key and ID are indexed together.
+ *
+ * @param <T> the entity type
+ */
+public interface KeysetRepository<T> {
+
+    /**
+     * Load the entities following a keyset position.
+     *
+     * @param type   the entity class
+     * @param filter additional restrictions (optional); may add fetch joins
+     * @param keyset sort key, direction, position and page size
+     * @return the page and whether more entities follow
+     */
+    KeysetPage<T> findKeyset(Class<T> type, Specification<T> filter, Keyset<?> keyset);
+}
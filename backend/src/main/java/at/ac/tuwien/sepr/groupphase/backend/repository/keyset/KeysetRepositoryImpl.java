@@ -0,0 +1,91 @@
+package at.ac.tuwien.sepr.groupphase.backend.repository.keyset;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria implementation of {@link KeysetRepository}, shared by all repositories using the fragment.
+ *
+ * <p>For ascending order it generates {@code WHERE (k > ? OR (k = ? AND id > ?)) ORDER BY k, id}
+ * and limits the result to one row more than the page size to detect a next page. This is the
+ * expanded form of the row value comparison {@code (k, id) > (?, ?)}, which JPA criteria cannot
+ * express, and is answered by an index on {@code (k, id)} the same way.
+ *
+ * @param <T> the entity type
+ */
+public class KeysetRepositoryImpl<T> implements KeysetRepository<T> {
+
+    private static final String ID = "id";
+
+    private final EntityManager entityManager;
+
+    public KeysetRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public KeysetPage<T> findKeyset(Class<T> type, Specification<T> filter, Keyset<?> keyset) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(type);
+        Root<T> root = query.from(type);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter != null) {
+            Predicate restriction = filter.toPredicate(root, query, cb);
+            if (restriction != null) {
+                predicates.add(restriction);
+            }
+        }
+        if (keyset.afterId() != null) {
+            predicates.add(after(cb, root, keyset));
+        }
+
+        Path<?> key = path(root, keyset.attribute());
+        Path<Long> id = root.get(ID);
+        query.select(root)
+            .where(predicates.toArray(new Predicate[0]))
+            .orderBy(keyset.descending()
+                ? List.of(cb.desc(key), cb.desc(id))
+                : List.of(cb.asc(key), cb.asc(id)));
+
+        List<T> rows = entityManager.createQuery(query)
+            .setMaxResults(keyset.size() + 1)
+            .getResultList();
+
+        boolean hasNext = rows.size() > keyset.size();
+        return new KeysetPage<>(hasNext ? List.copyOf(rows.subList(0, keyset.size())) : rows, hasNext);
+    }
+
+    private static <T, K extends Comparable<? super K>> Predicate after(CriteriaBuilder cb, Root<T> root, Keyset<K> keyset) {
+        Path<K> key = path(root, keyset.attribute());
+        Path<Long> id = root.get(ID);
+        K afterKey = keyset.afterKey();
+        Long afterId = keyset.afterId();
+
+        if (keyset.descending()) {
+            return cb.or(cb.lessThan(key, afterKey), cb.and(cb.equal(key, afterKey), cb.lessThan(id, afterId)));
+        }
+        return cb.or(cb.greaterThan(key, afterKey), cb.and(cb.equal(key, afterKey), cb.greaterThan(id, afterId)));
+    }
+
+    /**
+     * Resolve a dotted attribute path such as {@code event.dateTime}.
+     */
+    private static <K> Path<K> path(Root<?> root, String attribute) {
+        Path<?> path = root;
+        for (String part : attribute.split("\\.")) {
+            path = path.get(part);
+        }
+        @SuppressWarnings("unchecked")
+        Path<K> typed = (Path<K>) path;
+        return typed;
+    }
+}
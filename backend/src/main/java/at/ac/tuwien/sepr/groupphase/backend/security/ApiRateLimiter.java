@@ -0,0 +1,139 @@
+package at.ac.tuwien.sepr.groupphase.backend.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Token bucket limits for groups of API routes, per user or client IP address.
+ *
+ * <p>Every {@link Policy} has its own buckets with a capacity (the allowed burst) and a refill
+ * period in which an empty bucket fills up again. Rejected requests are counted in
+ * {@code api.rate.limit.rejected}, the number of tracked keys is exposed as
+ * {@code api.rate.limit.keys}. Buckets that have refilled are evicted periodically.
+ */
+@Component
+public class ApiRateLimiter {
+
+    /**
+     * Groups of routes that share a limit.
+     */
+    public enum Policy {
+        /**
+         * Read requests, e.g. event lists and seat maps.
+         */
+        PUBLIC_READ("public-read"),
+        /**
+         * Requests that buy, reserve or cancel tickets or change the cart.
+         */
+        TICKET_WRITE("ticket-write"),
+        /**
+         * Login, registration and password reset.
+         */
+        AUTH("auth");
+
+        private final String tag;
+
+        Policy(String tag) {
+            this.tag = tag;
+        }
+
+        public String tag() {
+            return tag;
+        }
+    }
+
+    /**
+     * Result of a rate limit check.
+     *
+     * @param allowed    whether the request may proceed
+     * @param limit      the capacity of the bucket
+     * @param remaining  requests left in the bucket
+     * @param window     the refill period of the bucket
+     * @param reset      time until the bucket is full again
+     * @param retryAfter time until a rejected request may be retried
+     */
+    public record Decision(boolean allowed, int limit, int remaining, Duration window, Duration reset, Duration retryAfter) {
+    }
+
+    private final boolean enabled;
+    private final Map<Policy, TokenBucketRateLimiter> limiters = new EnumMap<>(Policy.class);
+    private final Map<Policy, Duration> windows = new EnumMap<>(Policy.class);
+    private final Map<Policy, Counter> rejected = new EnumMap<>(Policy.class);
+
+    public ApiRateLimiter(@Value("${app.rate-limit.enabled:true}") boolean enabled,
+                          @Value("${app.rate-limit.max-keys:100000}") int maxKeys,
+                          @Value("${app.rate-limit.public-read.capacity:300}") int publicReadCapacity,
+                          @Value("${app.rate-limit.public-read.refill-period:1m}") Duration publicReadPeriod,
+                          @Value("${app.rate-limit.ticket-write.capacity:30}") int ticketWriteCapacity,
+                          @Value("${app.rate-limit.ticket-write.refill-period:1m}") Duration ticketWritePeriod,
+                          @Value("${app.rate-limit.auth.capacity:20}") int authCapacity,
+                          @Value("${app.rate-limit.auth.refill-period:1m}") Duration authPeriod,
+                          MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        long now = System.nanoTime();
+        register(Policy.PUBLIC_READ, publicReadCapacity, publicReadPeriod, maxKeys, now, meterRegistry);
+        register(Policy.TICKET_WRITE, ticketWriteCapacity, ticketWritePeriod, maxKeys, now, meterRegistry);
+        register(Policy.AUTH, authCapacity, authPeriod, maxKeys, now, meterRegistry);
+    }
+
+    /**
+     * Whether requests are limited at all.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Count a request against the bucket of the key in the given policy.
+     *
+     * @param policy the route group
+     * @param key    the user name or client IP address
+     * @return the decision with the values for the rate limit response headers
+     */
+    public Decision acquire(Policy policy, String key) {
+        return acquire(policy, key, System.nanoTime());
+    }
+
+    Decision acquire(Policy policy, String key, long now) {
+        TokenBucketRateLimiter limiter = limiters.get(policy);
+        TokenBucketRateLimiter.Decision decision = limiter.tryAcquire(key, now);
+        if (!decision.allowed()) {
+            rejected.get(policy).increment();
+        }
+        return new Decision(
+            decision.allowed(),
+            limiter.capacity(),
+            decision.remaining(),
+            windows.get(policy),
+            Duration.ofNanos(decision.resetNanos()),
+            Duration.ofNanos(decision.retryAfterNanos()));
+    }
+
+    @Scheduled(fixedDelayString = "${app.rate-limit.eviction-interval:1m}", initialDelayString = "${app.rate-limit.eviction-interval:1m}")
+    void evictIdle() {
+        long now = System.nanoTime();
+        limiters.values().forEach(limiter -> limiter.evictIdle(now));
+    }
+
+    private void register(Policy policy, int capacity, Duration period, int maxKeys, long now, MeterRegistry meterRegistry) {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(capacity, period.toNanos(), maxKeys, now);
+        limiters.put(policy, limiter);
+        windows.put(policy, period);
+        rejected.put(policy, Counter.builder("api.rate.limit.rejected")
+            .description("Requests rejected by the API rate limit")
+            .tag("policy", policy.tag())
+            .register(meterRegistry));
+        Gauge.builder("api.rate.limit.keys", limiter, TokenBucketRateLimiter::size)
+            .description("Users and addresses with a partially used rate limit bucket")
+            .tag("policy", policy.tag())
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,125 @@
+package at.ac.tuwien.sepr.groupphase.backend.security;
+
+import at.ac.tuwien.sepr.groupphase.backend.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Password encoder that runs the (deliberately slow) hashing of its delegate on a bounded pool.
+ *
+ * <p>At most as many hashes as the pool has threads run at the same time and at most its
+ * queue capacity wait for a thread; further requests are rejected immediately with a
+ * {@link TooManyRequestsException} instead of piling up on request threads and taking every
+ * core. The time spent waiting and hashing is recorded per operation and per endpoint path
+ * of the calling request, so login, registration and password reset can be told apart.
+ * Hashes outside of a request, e.g. while generating data, are tagged with path {@code none}.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private static final Logger LOGGER =
+        LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(1);
+    private static final String NO_PATH = "none";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolTaskExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> hashTimers = new ConcurrentHashMap<>();
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, ThreadPoolTaskExecutor executor, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+
+        this.waitTimer = Timer.builder("password.hash.wait")
+            .description("Time a password hash waited for a hashing thread").register(meterRegistry);
+        this.rejected = Counter.builder("password.hash.rejected")
+            .description("Password hashes rejected because the queue was full").register(meterRegistry);
+        Gauge.builder("password.hash.queue", executor, ThreadPoolTaskExecutor::getQueueSize)
+            .description("Password hashes waiting for a hashing thread").register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(hashTimer("encode"), () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(hashTimer("matches"), () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Timer for the given operation and the mapped path of the current request, resolved on the
+     * calling thread since the hash itself runs on a pool thread without the request context.
+     */
+    private Timer hashTimer(String operation) {
+        String path = NO_PATH;
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null
+            && request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof String pattern) {
+            path = pattern;
+        }
+        String tagPath = path;
+        return hashTimers.computeIfAbsent(operation + " " + path, key -> Timer.builder("password.hash.duration")
+            .tag("operation", operation)
+            .tag("path", tagPath)
+            .description("Time spent hashing a password or checking it against its hash")
+            .register(meterRegistry));
+    }
+
+    private <T> T run(Timer timer, Callable<T> hash) {
+        long submitted = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+                return timer.recordCallable(hash);
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            LOGGER.warn("Password hashing queue is full, rejecting request");
+            throw new TooManyRequestsException("Too many concurrent password checks", RETRY_AFTER);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing a password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package at.ac.tuwien.sepr.groupphase.backend.security;
 
 import at.ac.tuwien.sepr.groupphase.backend.config.properties.SecurityProperties;
+import at.ac.tuwien.sepr.groupphase.backend.security.VerifiedTokenCache.VerifiedToken;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,16 +27,39 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 
 // @Order(Ordered.LOWEST_PRECEDENCE - 1)
 @Service
 public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
-    private final SecurityProperties securityProperties;
+    private static final Pattern PUBLIC_EVENTS = Pattern.compile("^/api/(v1/)?events(/.*)?$");
+    private static final Pattern PUBLIC_NEWS = Pattern.compile("^/api/(v1/)?news(/[0-9]+)?$");
 
-    public JwtAuthorizationFilter(SecurityProperties securityProperties) {
+    private final SecurityProperties securityProperties;
+    private final JwtParser parser;
+    private final VerifiedTokenCache verifiedTokens;
+    private final Timer validTokens;
+    private final Timer invalidTokens;
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+
+    public JwtAuthorizationFilter(SecurityProperties securityProperties, MeterRegistry meterRegistry) {
         this.securityProperties = securityProperties;
+        this.parser = Jwts.parser()
+            .verifyWith(Keys.hmacShaKeyFor(securityProperties.getJwtSecret().getBytes()))
+            .build();
+        this.verifiedTokens = new VerifiedTokenCache(securityProperties.getJwtVerifiedTokenCacheSize());
+        this.validTokens = Timer.builder("jwt.verification.duration").tag("result", "valid")
+            .description("Time taken to verify the signature of a token").register(meterRegistry);
+        this.invalidTokens = Timer.builder("jwt.verification.duration").tag("result", "invalid")
+            .description("Time taken to verify the signature of a token").register(meterRegistry);
+        this.cacheHits = Counter.builder("jwt.verification.cache").tag("result", "hit")
+            .description("Tokens found in the cache of verified tokens").register(meterRegistry);
+        this.cacheMisses = Counter.builder("jwt.verification.cache").tag("result", "miss")
+            .description("Tokens whose signature had to be verified").register(meterRegistry);
     }
 
     @Override
@@ -49,28 +77,77 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
         chain.doFilter(request, response);
     }
 
+    /**
+     * The user a request carries a valid token for. Unlike the authentication set by this
+     * filter, this also covers the public GET endpoints the filter skips.
+     *
+     * @param request the request
+     * @return the username, or null if the request has no valid token
+     */
+    String username(HttpServletRequest request) {
+        try {
+            VerifiedToken verified = verifiedToken(request);
+            return verified != null ? verified.username() : null;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
     private UsernamePasswordAuthenticationToken getAuthToken(HttpServletRequest request) {
+        VerifiedToken verified = verifiedToken(request);
+        if (verified == null) {
+            return null;
+        }
+
+        MDC.put("u", verified.username());
+
+        return new UsernamePasswordAuthenticationToken(verified.username(), null, verified.authorities());
+    }
+
+    private VerifiedToken verifiedToken(HttpServletRequest request) {
         String header = request.getHeader(securityProperties.getAuthHeader());
         if (header == null || !header.startsWith("Bearer ")) {
             return null;
         }
 
         String token = header.substring(7);
-        Claims claims = Jwts.parser()
-            .verifyWith(Keys.hmacShaKeyFor(securityProperties.getJwtSecret().getBytes()))
-            .build()
-            .parseSignedClaims(token)
-            .getPayload();
+        long now = System.currentTimeMillis();
+        VerifiedToken verified = verifiedTokens.get(token, now);
+        if (verified == null) {
+            cacheMisses.increment();
+            verified = timedVerify(token);
+            verifiedTokens.put(token, verified, now);
+        } else {
+            cacheHits.increment();
+        }
+        return verified;
+    }
+
+    private VerifiedToken timedVerify(String token) {
+        long start = System.nanoTime();
+        try {
+            VerifiedToken verified = verify(token);
+            validTokens.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return verified;
+        } catch (RuntimeException e) {
+            invalidTokens.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    /**
+     * Check signature and expiration of a token and read its subject and roles.
+     */
+    private VerifiedToken verify(String token) {
+        Claims claims = parser.parseSignedClaims(token).getPayload();
 
-        String username = claims.getSubject();
         List<String> roles = claims.get("rol", List.class);
         List<SimpleGrantedAuthority> authorities = roles.stream()
             .map(SimpleGrantedAuthority::new)
             .toList();
+        long expiresAt = claims.getExpiration() != null ? claims.getExpiration().getTime() : 0;
 
-        MDC.put("u", username);
-
-        return new UsernamePasswordAuthenticationToken(username, null, authorities);
+        return new VerifiedToken(claims.getSubject(), authorities, expiresAt);
     }
 
     @Override
@@ -78,12 +155,12 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
         String uri = request.getRequestURI();
         String method = request.getMethod();
 
-        boolean isPublicGetEndpoint = uri.matches("^/api/(v1/)?events(/.*)?$") || uri.matches("^/api/(v1/)?news(/[0-9]+)?$");
         boolean isGetRequest = "GET".equalsIgnoreCase(method);
+        boolean isPublicGetEndpoint = isGetRequest && (PUBLIC_EVENTS.matcher(uri).matches() || PUBLIC_NEWS.matcher(uri).matches());
 
-        System.out.println(">>> shouldNotFilter? uri=" + uri + ", method=" + method + ", skip=" + (isPublicGetEndpoint && isGetRequest));
+        LOGGER.trace("shouldNotFilter? uri={}, method={}, skip={}", uri, method, isPublicGetEndpoint);
 
-        return isPublicGetEndpoint && isGetRequest;
+        return isPublicGetEndpoint;
     }
 
 }
\ No newline at end of file
@@ -13,15 +13,14 @@ import java.util.List;
 public class JwtTokenizer {
 
     private final SecurityProperties securityProperties;
+    private final SecretKey key;
 
     public JwtTokenizer(SecurityProperties securityProperties) {
         this.securityProperties = securityProperties;
+        this.key = Keys.hmacShaKeyFor(securityProperties.getJwtSecret().getBytes());
     }
 
     public String getAuthToken(String user, List<String> roles) {
-        byte[] signingKey = securityProperties.getJwtSecret().getBytes();
-        SecretKey key = Keys.hmacShaKeyFor(signingKey);
-
         String token = Jwts.builder()
             .header().add("typ", securityProperties.getJwtType()).and()
             .issuer(securityProperties.getJwtIssuer())
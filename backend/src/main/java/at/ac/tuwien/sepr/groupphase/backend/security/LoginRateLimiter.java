@@ -0,0 +1,66 @@
+package at.ac.tuwien.sepr.groupphase.backend.security;
+
+import at.ac.tuwien.sepr.groupphase.backend.exception.TooManyRequestsException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Limits login attempts per e-mail address and per client IP address.
+ *
+ * <p>Attempts are counted in a sliding window before the password is checked, so a burst of
+ * guesses against one account, or from one address against many accounts, is rejected without
+ * running BCrypt. Idle keys are evicted periodically.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private static final Logger LOGGER =
+        LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    private final SlidingWindowRateLimiter perEmail;
+    private final SlidingWindowRateLimiter perIp;
+
+    public LoginRateLimiter(@Value("${app.login-rate-limit.per-email:10}") int perEmailLimit,
+                            @Value("${app.login-rate-limit.per-ip:50}") int perIpLimit,
+                            @Value("${app.login-rate-limit.window:1m}") Duration window) {
+        long windowMillis = Math.max(1, window.toMillis());
+        this.perEmail = new SlidingWindowRateLimiter(perEmailLimit, windowMillis);
+        this.perIp = new SlidingWindowRateLimiter(perIpLimit, windowMillis);
+    }
+
+    /**
+     * Count a login attempt.
+     *
+     * @param email the e-mail address the attempt is for
+     * @param ip the client IP address
+     * @throws TooManyRequestsException if either limit is exceeded
+     */
+    public void acquire(String email, String ip) {
+        acquire(email, ip, System.currentTimeMillis());
+    }
+
+    void acquire(String email, String ip, long now) {
+        long retryAfter = perIp.tryAcquire(ip, now);
+        if (retryAfter == 0 && email != null) {
+            retryAfter = perEmail.tryAcquire(email.trim().toLowerCase(Locale.ROOT), now);
+        }
+        if (retryAfter > 0) {
+            LOGGER.warn("Login attempt rate limited for email={} ip={}", email, ip);
+            throw new TooManyRequestsException("Too many login attempts", Duration.ofMillis(retryAfter));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.login-rate-limit.window:1m}", initialDelayString = "${app.login-rate-limit.window:1m}")
+    void evictIdle() {
+        long now = System.currentTimeMillis();
+        perEmail.evictIdle(now);
+        perIp.evictIdle(now);
+    }
+}
@@ -0,0 +1,135 @@
+package at.ac.tuwien.sepr.groupphase.backend.security;
+
+import at.ac.tuwien.sepr.groupphase.backend.exception.TooManyRequestsException;
+import at.ac.tuwien.sepr.groupphase.backend.security.ApiRateLimiter.Decision;
+import at.ac.tuwien.sepr.groupphase.backend.security.ApiRateLimiter.Policy;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Applies the {@link ApiRateLimiter} policies to API requests.
+ *
+ * <p>Requests with a valid token are limited per user and anonymous ones per client IP
+ * address; authentication requests are always limited per IP address. The user is taken from
+ * the {@link JwtAuthorizationFilter}, which runs first, or read from the token for the public
+ * GET endpoints that filter skips, such as the seat map. Every limited response carries {@code RateLimit-Limit},
+ * {@code RateLimit-Remaining}, {@code RateLimit-Reset} and {@code RateLimit-Policy} headers.
+ * A rejected request is answered by the regular exception handling with {@code 429} and a
+ * {@code Retry-After} header, without reaching the controller.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    private static final String API = "/api/v1/";
+    private static final List<String> AUTH_PATHS = List.of(
+        "/api/v1/authentication",
+        "/api/v1/users/registration",
+        "/api/v1/users/password-reset/");
+    private static final List<String> TICKET_PATHS = List.of(
+        "/api/v1/tickets",
+        "/api/v1/reservations",
+        "/api/v1/cart");
+
+    private final ApiRateLimiter rateLimiter;
+    private final JwtAuthorizationFilter jwtAuthorizationFilter;
+    private final HandlerExceptionResolver exceptionResolver;
+
+    public RateLimitFilter(ApiRateLimiter rateLimiter, JwtAuthorizationFilter jwtAuthorizationFilter,
+                           HandlerExceptionResolver exceptionResolver) {
+        this.rateLimiter = rateLimiter;
+        this.jwtAuthorizationFilter = jwtAuthorizationFilter;
+        this.exceptionResolver = exceptionResolver;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+        FilterChain chain) throws ServletException, IOException {
+        Policy policy = classify(request.getMethod(), request.getRequestURI());
+        if (policy == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        Decision decision = rateLimiter.acquire(policy, key(policy, request));
+        response.setHeader("RateLimit-Limit", Integer.toString(decision.limit()));
+        response.setHeader("RateLimit-Remaining", Integer.toString(decision.remaining()));
+        response.setHeader("RateLimit-Reset", Long.toString(seconds(decision.reset())));
+        response.setHeader("RateLimit-Policy", decision.limit() + ";w=" + seconds(decision.window()));
+
+        if (decision.allowed()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        LOGGER.warn("Rate limited {} {} (policy={})", request.getMethod(), request.getRequestURI(), policy.tag());
+        TooManyRequestsException rejection = new TooManyRequestsException("Too many requests", decision.retryAfter());
+        if (exceptionResolver.resolveException(request, response, null, rejection) == null) {
+            response.setHeader("Retry-After", Long.toString(seconds(decision.retryAfter())));
+            response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), rejection.getMessage());
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !rateLimiter.isEnabled();
+    }
+
+    /**
+     * The policy limiting a request, or {@code null} if the request is not limited.
+     */
+    static Policy classify(String method, String uri) {
+        if (!uri.startsWith(API)) {
+            return null;
+        }
+        boolean read = "GET".equals(method) || "HEAD".equals(method);
+        if ("POST".equals(method) && AUTH_PATHS.stream().anyMatch(path -> matches(uri, path))) {
+            return Policy.AUTH;
+        }
+        if (!read && !"OPTIONS".equals(method) && TICKET_PATHS.stream().anyMatch(path -> matches(uri, path))) {
+            return Policy.TICKET_WRITE;
+        }
+        return read ? Policy.PUBLIC_READ : null;
+    }
+
+    private static boolean matches(String uri, String path) {
+        if (path.endsWith("/")) {
+            return uri.startsWith(path);
+        }
+        return uri.equals(path) || uri.startsWith(path + "/");
+    }
+
+    private String key(Policy policy, HttpServletRequest request) {
+        String username = policy != Policy.AUTH ? username(request) : null;
+        return username != null ? "user:" + username : "ip:" + request.getRemoteAddr();
+    }
+
+    private String username(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null
+            && authentication.isAuthenticated()
+            && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return authentication.getName();
+        }
+        return jwtAuthorizationFilter.username(request);
+    }
+
+    private static long seconds(Duration duration) {
+        return (duration.toMillis() + 999) / 1000;
+    }
+}
@@ -0,0 +1,94 @@
+package at.ac.tuwien.sepr.groupphase.backend.security;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sliding window counter per key.
+ *
+ * <p>Each key keeps the number of requests in the current and in the previous fixed window. The
+ * requests in the sliding window are estimated as the current count plus the previous count
+ * weighted by how much of the previous window still overlaps the sliding window. That takes
+ * constant memory per key, unlike a log of request timestamps. Keys idle for two windows no
+ * longer contribute anything and are removed by {@link #evictIdle(long)}.
+ */
+final class SlidingWindowRateLimiter {
+
+    private final int limit;
+    private final long windowMillis;
+    private final ConcurrentHashMap<String, Window> windows = new ConcurrentHashMap<>();
+
+    SlidingWindowRateLimiter(int limit, long windowMillis) {
+        this.limit = limit;
+        this.windowMillis = windowMillis;
+    }
+
+    /**
+     * Count a request for the key if it is within the limit.
+     *
+     * @param key the key, e.g. an e-mail address or IP address
+     * @param now the current time in epoch milliseconds
+     * @return 0 if the request is allowed, otherwise the milliseconds until it may be retried
+     */
+    long tryAcquire(String key, long now) {
+        long windowStart = now - Math.floorMod(now, windowMillis);
+        Window window = windows.computeIfAbsent(key, k -> new Window(windowStart));
+        synchronized (window) {
+            window.roll(windowStart, windowMillis);
+            long elapsed = now - windowStart;
+            double estimate = window.previous * (double) (windowMillis - elapsed) / windowMillis + window.current;
+            if (estimate + 1 > limit) {
+                return retryAfter(window, elapsed);
+            }
+            window.current++;
+            return 0;
+        }
+    }
+
+    /**
+     * Remove keys whose windows no longer affect any decision.
+     *
+     * @param now the current time in epoch milliseconds
+     */
+    void evictIdle(long now) {
+        long threshold = now - 2 * windowMillis;
+        windows.values().removeIf(window -> {
+            synchronized (window) {
+                return window.start <= threshold;
+            }
+        });
+    }
+
+    int size() {
+        return windows.size();
+    }
+
+    private long retryAfter(Window window, long elapsed) {
+        if (window.current + 1 > limit) {
+            return windowMillis - elapsed;
+        }
+        // wait until the previous window has slid out far enough to make room for one request
+        long previousExcess = window.previous - (limit - window.current - 1);
+        long slidOut = (windowMillis * previousExcess + window.previous - 1) / window.previous;
+        return Math.max(1, slidOut - elapsed);
+    }
+
+    private static final class Window {
+
+        private long start;
+        private int previous;
+        private int current;
+
+        private Window(long start) {
+            this.start = start;
+        }
+
+        private void roll(long windowStart, long windowMillis) {
+            if (windowStart == start) {
+                return;
+            }
+            previous = windowStart - start == windowMillis ? current : 0;
+            current = 0;
+            start = windowStart;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package at.ac.tuwien.sepr.groupphase.backend.security;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket per key, stored as a single timestamp.
+ *
+ * <p>Instead of a token count and a refill time, every bucket keeps the time at which it will be
+ * full again (the generic cell rate algorithm). Taking a token moves that time one refill
+ * interval into the future; a request is rejected if the bucket would then need longer than
+ * the whole capacity to refill. Each bucket is one {@link AtomicLong} updated with
+ * compare-and-set, so concurrent requests never block each other.
+ *
+ * <p>A bucket that is full again behaves exactly like a missing one and is removed by
+ * {@link #evictIdle(long)}. The number of buckets is bounded: when the map is full even after
+ * removing idle buckets, new keys share one overflow bucket until room frees up.
+ */
+final class TokenBucketRateLimiter {
+
+    private final int capacity;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final int maxKeys;
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong overflow;
+
+    /**
+     * Result of an acquire attempt.
+     *
+     * @param allowed         whether the request may proceed
+     * @param remaining       tokens left after this request
+     * @param resetNanos      nanoseconds until the bucket is full again
+     * @param retryAfterNanos nanoseconds until a rejected request may be retried, 0 if allowed
+     */
+    record Decision(boolean allowed, int remaining, long resetNanos, long retryAfterNanos) {
+    }
+
+    /**
+     * Create buckets that hold {@code capacity} tokens and refill completely within {@code refillNanos}.
+     */
+    TokenBucketRateLimiter(int capacity, long refillNanos, int maxKeys, long now) {
+        this.capacity = Math.max(1, capacity);
+        this.intervalNanos = Math.max(1, refillNanos / this.capacity);
+        this.burstNanos = intervalNanos * this.capacity;
+        this.maxKeys = Math.max(1, maxKeys);
+        this.overflow = new AtomicLong(now);
+    }
+
+    /**
+     * Take a token from the bucket of the key if one is available.
+     *
+     * @param key the key, e.g. a user name or IP address
+     * @param now the current {@link System#nanoTime()}
+     * @return the decision
+     */
+    Decision tryAcquire(String key, long now) {
+        AtomicLong bucket = bucket(key, now);
+        while (true) {
+            long full = bucket.get();
+            long start = full - now > 0 ? full : now;
+            long next = start + intervalNanos;
+            long wait = next - now;
+            if (wait > burstNanos) {
+                return new Decision(false, 0, start - now, wait - burstNanos);
+            }
+            if (bucket.compareAndSet(full, next)) {
+                return new Decision(true, (int) ((burstNanos - wait) / intervalNanos), wait, 0);
+            }
+        }
+    }
+
+    /**
+     * Remove buckets that have refilled completely.
+     *
+     * @param now the current {@link System#nanoTime()}
+     */
+    void evictIdle(long now) {
+        buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    private AtomicLong bucket(String key, long now) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxKeys) {
+            evictIdle(now);
+            if (buckets.size() >= maxKeys) {
+                return overflow;
+            }
+        }
+        return buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+    }
+}
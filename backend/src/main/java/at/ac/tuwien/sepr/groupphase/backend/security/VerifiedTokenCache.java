@@ -0,0 +1,95 @@
+package at.ac.tuwien.sepr.groupphase.backend.security;
+
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded cache of JWTs whose signature and claims were already verified.
+ *
+ * <p>Entries are keyed by the SHA-256 of the token, so the tokens themselves are not kept in
+ * memory, and are dropped once the token expires. When the cache is full, the least recently
+ * used token is evicted.
+ */
+final class VerifiedTokenCache {
+
+    /**
+     * The verified content of a token.
+     *
+     * @param username the subject
+     * @param authorities the roles
+     * @param expiresAt the expiration time in epoch milliseconds
+     */
+    record VerifiedToken(String username, List<SimpleGrantedAuthority> authorities, long expiresAt) {
+    }
+
+    private final int maxEntries;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, VerifiedToken> entries;
+
+    VerifiedTokenCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    VerifiedToken get(String token, long now) {
+        if (maxEntries <= 0) {
+            return null;
+        }
+        String key = hash(token);
+        lock.lock();
+        try {
+            VerifiedToken verified = entries.get(key);
+            if (verified != null && verified.expiresAt() <= now) {
+                entries.remove(key);
+                return null;
+            }
+            return verified;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void put(String token, VerifiedToken verified, long now) {
+        if (maxEntries <= 0 || verified.expiresAt() <= now) {
+            return;
+        }
+        String key = hash(token);
+        lock.lock();
+        try {
+            entries.put(key, verified);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
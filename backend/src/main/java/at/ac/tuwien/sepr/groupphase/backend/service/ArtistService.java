@@ -47,10 +47,11 @@ public interface ArtistService {
 
     /**
      * Search artists by name and include bands where the artist is a member.
-     * This returns both direct matches and any bands containing the artist.
+     * This returns both direct matches and any bands containing the artist,
+     * directly or through another band.
      *
      * @param name the name to search for
-     * @return list of matching artists and their bands
+     * @return list of matching artists followed by their bands
      */
     List<Artist> searchArtistsWithBands(String name);
 
@@ -0,0 +1,75 @@
+package at.ac.tuwien.sepr.groupphase.backend.service;
+
+import org.springframework.core.io.Resource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Content-addressed storage for binary data such as images.
+ *
+ * <p>Blobs are identified by the lowercase hex SHA-256 of their content, so storing the same
+ * bytes twice yields the same key and one copy. Entities keep only that key. Since a key may be
+ * shared, blobs are never deleted on behalf of a single entity; unreferenced blobs are removed
+ * by a sweep over all references.
+ */
+public interface BlobStore {
+
+    /**
+     * Store the content of a stream.
+     *
+     * @param content the content, read to the end but not closed
+     * @return the key of the stored blob
+     * @throws IOException if the content cannot be read or stored
+     */
+    String put(InputStream content) throws IOException;
+
+    /**
+     * Store a byte array.
+     *
+     * @param content the content
+     * @return the key of the stored blob
+     * @throws IOException if the content cannot be stored
+     */
+    default String put(byte[] content) throws IOException {
+        return put(new ByteArrayInputStream(content));
+    }
+
+    /**
+     * A readable resource for a blob, streamed on demand.
+     *
+     * @param key the blob key
+     * @return the resource; its content length is the blob size
+     * @throws at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException if no blob exists for the key
+     */
+    Resource get(String key);
+
+    /**
+     * Whether a blob exists.
+     *
+     * @param key the blob key
+     * @return true if the blob is stored
+     */
+    boolean exists(String key);
+
+    /**
+     * Keys of all blobs last stored before a point in time. Storing existing content again
+     * counts as storing it, so a blob that was just (re-)uploaded is never included.
+     *
+     * @param cutoff the point in time
+     * @return the keys
+     * @throws IOException if the store cannot be listed
+     */
+    Set<String> keysStoredBefore(Instant cutoff) throws IOException;
+
+    /**
+     * Delete a blob. Does nothing if it does not exist.
+     *
+     * @param key the blob key
+     * @throws IOException if the blob cannot be deleted
+     */
+    void delete(String key) throws IOException;
+}
@@ -0,0 +1,31 @@
+package at.ac.tuwien.sepr.groupphase.backend.service;
+
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.EventCancellationDto;
+
+/**
+ * Service for cancelling a whole event, refunding every sold ticket with a credit invoice.
+ */
+public interface EventCancellationService {
+
+    /**
+     * Start (or resume) the cancellation of an event.
+     * Sold tickets are partitioned by their original invoice; each partition gets its own
+     * credit invoice and is processed asynchronously in its own transaction.
+     *
+     * @param eventId the event ID
+     * @return the progress of the started job
+     * @throws at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException if event not found
+     * @throws at.ac.tuwien.sepr.groupphase.backend.exception.ConflictException if a cancellation is already running
+     *                                                                          or the event has no sold tickets left
+     */
+    EventCancellationDto cancelEvent(Long eventId);
+
+    /**
+     * Get the progress of the latest cancellation of an event.
+     *
+     * @param eventId the event ID
+     * @return progress and throughput of the job
+     * @throws at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException if the event was never cancelled
+     */
+    EventCancellationDto getProgress(Long eventId);
+}
@@ -1,17 +1,24 @@
 package at.ac.tuwien.sepr.groupphase.backend.service;
 
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.page.CursorPageDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.CalendarDayDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.DetailedEventDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.EventCreateDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.EventUpdateDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.FacetedEventSearchDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.SimpleEventDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.TopTenEventDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.SeatmapDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.image.ImageResourceDto;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Event;
+import at.ac.tuwien.sepr.groupphase.backend.type.ImageSize;
+import at.ac.tuwien.sepr.groupphase.backend.type.PriceBand;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
 
 /**
@@ -110,10 +117,10 @@ public interface EventService {
     List<Event> searchEvents(String searchTerm);
 
     /**
-     * Find all events for a specific artist.
+     * Find all events for a specific artist, including events of all bands the artist plays in.
      *
      * @param artistId the artist ID
-     * @return list of events featuring this artist
+     * @return list of events featuring this artist or one of its bands, ordered by date
      */
     List<Event> findByArtistId(Long artistId);
 
@@ -130,7 +137,7 @@ public interface EventService {
      *
      * @param start the start date/time
      * @param end   the end date/time
-     * @return list of events within the range
+     * @return list of events within the range, ordered by date
      */
     List<Event> searchByDateRange(LocalDateTime start, LocalDateTime end);
 
@@ -217,6 +224,7 @@ public interface EventService {
     /**
      * Upload an image for an event.
      * Validates file size (max 5MB) and type (JPEG/PNG/WebP).
+     * Smaller renditions are generated in the background after the upload has committed.
      *
      * @param eventId the event ID
      * @param image   the image file
@@ -226,22 +234,14 @@ public interface EventService {
     void uploadImage(Long eventId, MultipartFile image);
 
     /**
-     * Get image data for an event.
+     * Get the image of an event for streaming.
      *
      * @param eventId the event ID
-     * @return the image bytes
+     * @param size    the rendition; the original is returned until it has been generated
+     * @return the image key, MIME type (e.g., "image/jpeg") and content
      * @throws at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException if event or image not found
      */
-    byte[] getImage(Long eventId);
-
-    /**
-     * Get image content type for an event.
-     *
-     * @param eventId the event ID
-     * @return the MIME type (e.g., "image/jpeg")
-     * @throws at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException if event or image not found
-     */
-    String getImageContentType(Long eventId);
+    ImageResourceDto getImage(Long eventId, ImageSize size);
 
     /**
      * Find all events ordered by date with pagination.
@@ -251,6 +251,16 @@ public interface EventService {
      */
     Page<SimpleEventDto> findAllAsDto(Pageable pageable);
 
+    /**
+     * Find all events ordered by date, continuing after a cursor.
+     *
+     * @param cursor the cursor returned with the previous page, null or blank for the first page
+     * @param size   the page size
+     * @return the events and the cursor of the next page
+     * @throws at.ac.tuwien.sepr.groupphase.backend.exception.ValidationException if cursor or size is invalid
+     */
+    CursorPageDto<SimpleEventDto> findAllByCursor(String cursor, int size);
+
     /**
      * Get event by ID with enriched price information as detailed DTO.
      * Includes location, artists, and minimum ticket price.
@@ -320,9 +330,10 @@ public interface EventService {
 
     /**
      * Find events by artist ID and return as DTOs with enriched prices.
+     * Includes events of all bands the artist plays in.
      *
      * @param artistId the artist ID
-     * @return list of events featuring this artist as DTOs
+     * @return list of events featuring this artist or one of its bands as DTOs
      */
     List<SimpleEventDto> findByArtistIdAsDto(Long artistId);
 
@@ -333,4 +344,39 @@ public interface EventService {
      * @throws at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException if event not found
      */
     void deleteImage(Long eventId);
-}
\ No newline at end of file
+
+    /**
+     * Full-text search over title, type and description, ranked by relevance.
+     * Matching is case- and diacritic-insensitive and also finds prefixes and
+     * infixes of words.
+     *
+     * @param query    the free-text query
+     * @param pageable pagination information (sorting is ignored, results are ranked)
+     * @return page of matching events, best match first
+     */
+    Page<SimpleEventDto> searchFullText(String query, Pageable pageable);
+
+    /**
+     * Filter events and count how many events each facet value would yield.
+     * Counts of a facet honour all other active filters, so selecting a value
+     * returns as many events as its count promised.
+     *
+     * @param type       event type (optional, case-insensitive)
+     * @param locationId location ID (optional)
+     * @param priceBand  band of the lowest ticket price (optional)
+     * @param month      month of the event date (optional)
+     * @param pageable   pagination information (results are ordered by date)
+     * @return page of matching events with counts per type, location, price band and month
+     */
+    FacetedEventSearchDto searchFaceted(String type, Long locationId, PriceBand priceBand, YearMonth month, Pageable pageable);
+
+    /**
+     * Per-day summaries of all events in a range of months, for calendar views.
+     *
+     * @param from first month
+     * @param to   last month (optional, defaults to {@code from})
+     * @return one summary per day with events, in date order
+     * @throws at.ac.tuwien.sepr.groupphase.backend.exception.ValidationException if the range is reversed or too long
+     */
+    List<CalendarDayDto> findCalendar(YearMonth from, YearMonth to);
+}
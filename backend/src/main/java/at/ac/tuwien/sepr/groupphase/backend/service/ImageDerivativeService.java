@@ -0,0 +1,47 @@
+package at.ac.tuwien.sepr.groupphase.backend.service;
+
+import at.ac.tuwien.sepr.groupphase.backend.type.ImageSize;
+
+import java.util.Set;
+
+/**
+ * Service for the downscaled renditions of uploaded images.
+ *
+ * <p>Derivatives are generated in the background, so an upload returns as soon as the
+ * original is stored. Until a derivative exists, the original is served in its place.
+ */
+public interface ImageDerivativeService {
+
+    /**
+     * Generate all derivatives of an image once the current transaction has committed.
+     *
+     * @param sourceKey   blob key of the original
+     * @param contentType content type of the original
+     */
+    void generateAfterCommit(String sourceKey, String contentType);
+
+    /**
+     * Blob key to serve for an image in a size.
+     *
+     * @param sourceKey blob key of the original
+     * @param size      the requested size
+     * @return the blob key of the derivative, or of the original if there is none (yet)
+     */
+    String resolve(String sourceKey, ImageSize size);
+
+    /**
+     * All blob keys that may be served for an image, e.g. to evict them from a cache
+     * when the image is replaced or deleted.
+     *
+     * @param sourceKey blob key of the original, may be null
+     * @return the blob keys of the original and its derivatives, empty if the key is null
+     */
+    Set<String> blobKeys(String sourceKey);
+
+    /**
+     * Generate the missing derivatives of all stored images.
+     *
+     * @return the number of images queued for generation
+     */
+    int backfill();
+}
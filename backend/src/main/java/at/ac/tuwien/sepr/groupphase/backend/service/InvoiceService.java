@@ -1,6 +1,7 @@
 package at.ac.tuwien.sepr.groupphase.backend.service;
 
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.invoice.SimpleInvoiceDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.page.CursorPageDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.invoice.InvoiceCreateDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.invoice.DetailedInvoiceDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.invoice.CreditInvoiceDto;
@@ -53,6 +54,17 @@ public interface InvoiceService {
      */
     List<DetailedInvoiceDto> getMyInvoices(String userEmail);
 
+    /**
+     * Retrieves invoices with tickets belonging to a specific user, newest first,
+     * continuing after a cursor.
+     *
+     * @param userEmail the email address identifying the user
+     * @param cursor    the cursor returned with the previous page, null or blank for the first page
+     * @param size      the page size
+     * @return the invoices and the cursor of the next page
+     */
+    CursorPageDto<DetailedInvoiceDto> getMyInvoicesByCursor(String userEmail, String cursor, int size);
+
     /**
      * Retrieves all merchandise-related invoices belonging to a specific user.
      *
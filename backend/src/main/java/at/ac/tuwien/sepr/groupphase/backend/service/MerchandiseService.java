@@ -1,9 +1,10 @@
 package at.ac.tuwien.sepr.groupphase.backend.service;
 
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.image.ImageResourceDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.merchandise.DetailedMerchandiseDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.merchandise.MerchandiseCreateDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.merchandise.SimpleMerchandiseDto;
-import org.springframework.http.ResponseEntity;
+import at.ac.tuwien.sepr.groupphase.backend.type.ImageSize;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -63,6 +64,7 @@ public interface MerchandiseService {
 
     /**
      * Uploads or replaces the image associated with a merchandise item.
+     * Smaller renditions are generated in the background.
      *
      * @param id the ID of the merchandise item
      * @param image the image file to associate with the merchandise
@@ -74,14 +76,14 @@ public interface MerchandiseService {
     void uploadImage(Long id, MultipartFile image);
 
     /**
-     * Retrieves the image associated with a merchandise item as an HTTP response.
-     * The returned response entity contains the image bytes and appropriate
-     * HTTP headers such as content type.
+     * Retrieves the image associated with a merchandise item for streaming.
+     * A missing or blank content type is reported as {@code application/octet-stream}.
      *
      * @param id the ID of the merchandise item
-     * @return a {@link ResponseEntity} containing the image bytes
+     * @param size the rendition; the original is returned until it has been generated
+     * @return the image key, content type and content, or null if the item has no image
      * @throws at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException
-     *         if no merchandise or image exists for the given ID
+     *         if no merchandise exists for the given ID
      */
-    ResponseEntity<byte[]> getImageResponse(Long id);
+    ImageResourceDto getImage(Long id, ImageSize size);
 }
\ No newline at end of file
@@ -1,13 +1,18 @@
 package at.ac.tuwien.sepr.groupphase.backend.service;
 
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.image.ImageResourceDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.newsItem.DetailedNewsItemDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.newsItem.NewsItemCreateDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.newsItem.NewsItemUpdateDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.newsItem.SimpleNewsItemDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.page.CursorPageDto;
+import at.ac.tuwien.sepr.groupphase.backend.type.ImageSize;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 /**
  * Service interface for managing news items.
  * Provides business logic for creating, retrieving, updating, and deleting news items,
@@ -51,6 +56,48 @@ public interface NewsItemService {
      */
     Page<SimpleNewsItemDto> getUnpublished(Pageable pageable);
 
+    /**
+     * Retrieves unread published news items for a user, continuing after a cursor.
+     * News items are ordered by publication date (newest first).
+     *
+     * @param userEmail the email of the user
+     * @param cursor the cursor returned with the previous page, null or blank for the first page
+     * @param size the page size
+     * @return the unread news items and the cursor of the next page
+     */
+    CursorPageDto<SimpleNewsItemDto> getUnreadNewsByCursor(String userEmail, String cursor, int size);
+
+    /**
+     * Retrieves read published news items for a user, continuing after a cursor.
+     * News items are ordered by publication date (newest first).
+     *
+     * @param userEmail the email of the user
+     * @param cursor the cursor returned with the previous page, null or blank for the first page
+     * @param size the page size
+     * @return the read news items and the cursor of the next page
+     */
+    CursorPageDto<SimpleNewsItemDto> getReadNewsByCursor(String userEmail, String cursor, int size);
+
+    /**
+     * Retrieves all published news items, continuing after a cursor.
+     * News items are ordered by publication date (newest first).
+     *
+     * @param cursor the cursor returned with the previous page, null or blank for the first page
+     * @param size the page size
+     * @return the news items and the cursor of the next page
+     */
+    CursorPageDto<SimpleNewsItemDto> findAllByCursor(String cursor, int size);
+
+    /**
+     * Retrieves all news items published in the future, continuing after a cursor.
+     * News items are ordered by publication date.
+     *
+     * @param cursor the cursor returned with the previous page, null or blank for the first page
+     * @param size the page size
+     * @return the news items and the cursor of the next page
+     */
+    CursorPageDto<SimpleNewsItemDto> getUnpublishedByCursor(String cursor, int size);
+
     /**
      * Retrieves detailed information about a specific news item by its ID.
      *
@@ -68,6 +115,15 @@ public interface NewsItemService {
      */
     void markAsRead(Long newsId, String userEmail);
 
+    /**
+     * Marks several news items as read by a user.
+     * IDs of news items that do not exist or were already read are ignored.
+     *
+     * @param newsIds the IDs of the news items to mark as read
+     * @param userEmail the email of the user
+     */
+    void markAllAsRead(List<Long> newsIds, String userEmail);
+
     /**
      * Creates a new news item.
      *
@@ -87,7 +143,7 @@ public interface NewsItemService {
 
     /**
      * Uploads an image for a specific news item.
-     * Replaces any existing image for the news item.
+     * Replaces any existing image for the news item; smaller renditions are generated in the background.
      *
      * @param newsId the ID of the news item
      * @param image the image file to upload
@@ -95,20 +151,13 @@ public interface NewsItemService {
     void uploadImage(Long newsId, MultipartFile image);
 
     /**
-     * Retrieves the image data for a specific news item.
-     *
-     * @param newsId the ID of the news item
-     * @return the image data as byte array, or null if no image exists
-     */
-    byte[] getImageData(Long newsId);
-
-    /**
-     * Retrieves the image data for a specific news item.
+     * Retrieves the image of a specific news item for streaming.
      *
      * @param newsId the ID of the news item
-     * @return the image data as byte array, or null if no image exists
+     * @param size the rendition; the original is returned until it has been generated
+     * @return the image key, content type and content, or null if no image exists
      */
-    String getImageContentType(Long newsId);
+    ImageResourceDto getImage(Long newsId, ImageSize size);
 
     /**
      * Deletes a news item by its ID.
@@ -1,5 +1,6 @@
 package at.ac.tuwien.sepr.groupphase.backend.service;
 
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.page.CursorPageDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.reservation.DetailedReservationDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.reservation.SimpleReservationDto;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Reservation;
@@ -17,5 +18,16 @@ public interface ReservationService {
 
     List<DetailedReservationDto> findByUser(String userEmail);
 
+    /**
+     * Tickets of the user's reservations, newest reservation first, continuing after a cursor.
+     * A page holds the tickets of up to {@code size} reservations.
+     *
+     * @param userEmail the email of the user
+     * @param cursor    the cursor returned with the previous page, null or blank for the first page
+     * @param size      the number of reservations per page
+     * @return the reserved tickets and the cursor of the next page
+     */
+    CursorPageDto<DetailedReservationDto> findByUserByCursor(String userEmail, String cursor, int size);
+
     void cancelReservations(List<Long> ticketIds, String userEmail) throws AccessDeniedException;
 }
@@ -0,0 +1,22 @@
+package at.ac.tuwien.sepr.groupphase.backend.service;
+
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.suggest.SuggestionDto;
+
+import java.util.List;
+
+/**
+ * Service for typeahead suggestions across events, artists and locations.
+ */
+public interface SuggestionService {
+
+    /**
+     * Suggest events, artists and locations with a word starting with the query,
+     * most popular first. Case and diacritics are ignored.
+     *
+     * @param query the text typed so far
+     * @param limit maximum number of suggestions (1-20)
+     * @return the suggestions, empty for a blank query
+     * @throws at.ac.tuwien.sepr.groupphase.backend.exception.ValidationException if the limit is out of range
+     */
+    List<SuggestionDto> suggest(String query, int limit);
+}
@@ -0,0 +1,29 @@
+package at.ac.tuwien.sepr.groupphase.backend.service;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.User;
+import at.ac.tuwien.sepr.groupphase.backend.type.UserRole;
+
+/**
+ * Immutable snapshot of the identifying attributes of a user.
+ *
+ * <p>Used by services that only need to know who the current user is, without
+ * loading or modifying the user entity.
+ *
+ * @param id          the user ID
+ * @param email       the e-mail address
+ * @param role        the role
+ * @param locked      whether the account is locked after failed logins
+ * @param adminLocked whether the account was locked by an administrator
+ */
+public record UserIdentity(Long id, String email, UserRole role, boolean locked, boolean adminLocked) {
+
+    /**
+     * Creates the snapshot of a user.
+     *
+     * @param user the user
+     * @return the identity of the user
+     */
+    public static UserIdentity of(User user) {
+        return new UserIdentity(user.getId(), user.getEmail(), user.getUserRole(), user.isLocked(), user.isAdminLocked());
+    }
+}
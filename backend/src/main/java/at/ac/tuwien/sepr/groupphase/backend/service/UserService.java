@@ -1,5 +1,6 @@
 package at.ac.tuwien.sepr.groupphase.backend.service;
 
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.page.CursorPageDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.user.DetailedUserDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.user.UserCreateDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.user.UserLockUpdateDto;
@@ -35,6 +36,17 @@ public interface UserService {
 
     User findById(Long id);
 
+    /**
+     * Returns the identity of the user with the given e-mail address.
+     *
+     * <p>Intended for callers that only need to know who the user is. The result
+     * may be served from a short-lived cache instead of the database.
+     *
+     * @param email the e-mail address of the user
+     * @return the identity of the user
+     */
+    UserIdentity findIdentityByEmail(String email);
+
     // ------------------------------------------------------------
     // Authentication / Registration
     // ------------------------------------------------------------
@@ -80,6 +92,23 @@ public interface UserService {
         Pageable pageable
     );
 
+    /**
+     * Returns users filtered by lock state and optional search term, ordered by email
+     * and continuing after a cursor instead of a page number.
+     *
+     * @param locked whether to return locked or active users
+     * @param search optional search term (first name, last name, email)
+     * @param cursor the cursor returned with the previous page, null or blank for the first page
+     * @param size   the page size
+     * @return the users and the cursor of the next page
+     */
+    CursorPageDto<DetailedUserDto> findUsersByCursor(
+        boolean locked,
+        String search,
+        String cursor,
+        int size
+    );
+
     // ------------------------------------------------------------
     // Admin: user management
     // ------------------------------------------------------------
@@ -9,6 +9,8 @@ import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
 import at.ac.tuwien.sepr.groupphase.backend.exception.ValidationException;
 import at.ac.tuwien.sepr.groupphase.backend.repository.ArtistRepository;
 import at.ac.tuwien.sepr.groupphase.backend.service.ArtistService;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.search.ArtistMembershipIndex;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.search.SuggestionIndex;
 
 import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
@@ -18,6 +20,7 @@ import org.springframework.stereotype.Service;
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -29,10 +32,15 @@ public class ArtistServiceImpl implements ArtistService {
 
     private final ArtistRepository artistRepository;
     private final ArtistMapper artistMapper;
+    private final SuggestionIndex suggestionIndex;
+    private final ArtistMembershipIndex artistMembershipIndex;
 
-    public ArtistServiceImpl(ArtistRepository artistRepository, ArtistMapper artistMapper) {
+    public ArtistServiceImpl(ArtistRepository artistRepository, ArtistMapper artistMapper, SuggestionIndex suggestionIndex,
+                             ArtistMembershipIndex artistMembershipIndex) {
         this.artistRepository = artistRepository;
         this.artistMapper = artistMapper;
+        this.suggestionIndex = suggestionIndex;
+        this.artistMembershipIndex = artistMembershipIndex;
     }
 
     @Override
@@ -75,6 +83,8 @@ public class ArtistServiceImpl implements ArtistService {
             saved = artistRepository.save(saved);
         }
 
+        suggestionIndex.artistSavedAfterCommit(saved);
+        artistMembershipIndex.artistSavedAfterCommit(saved);
         return saved;
     }
 
@@ -89,16 +99,22 @@ public class ArtistServiceImpl implements ArtistService {
         LOGGER.debug("Search artists with bands by name: {}", name);
 
         List<Artist> directMatches = artistRepository.findByNameContainingIgnoreCase(name);
-        Set<Artist> result = new HashSet<>(directMatches);
+        Set<Long> matchedIds = new HashSet<>();
+        directMatches.forEach(artist -> matchedIds.add(artist.getId()));
 
+        Set<Long> bandIds = new LinkedHashSet<>();
         for (Artist artist : directMatches) {
             if (!Boolean.TRUE.equals(artist.getIsBand())) {
-                List<Artist> bands = artistRepository.findBandsByMemberId(artist.getId());
-                result.addAll(bands);
+                bandIds.addAll(artistMembershipIndex.bandsOf(artist.getId()));
             }
         }
+        bandIds.removeAll(matchedIds);
 
-        return new ArrayList<>(result);
+        List<Artist> result = new ArrayList<>(directMatches);
+        if (!bandIds.isEmpty()) {
+            result.addAll(artistRepository.findAllById(bandIds));
+        }
+        return result;
     }
 
     @Override
@@ -13,6 +13,7 @@ import at.ac.tuwien.sepr.groupphase.backend.entity.Merchandise;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Reservation;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Ticket;
 import at.ac.tuwien.sepr.groupphase.backend.entity.User;
+import at.ac.tuwien.sepr.groupphase.backend.exception.ConflictException;
 import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
 import at.ac.tuwien.sepr.groupphase.backend.exception.ValidationException;
 import at.ac.tuwien.sepr.groupphase.backend.repository.CartItemRepository;
@@ -24,9 +25,13 @@ import at.ac.tuwien.sepr.groupphase.backend.repository.UserRepository;
 import at.ac.tuwien.sepr.groupphase.backend.service.CartService;
 import at.ac.tuwien.sepr.groupphase.backend.service.InvoiceService;
 import at.ac.tuwien.sepr.groupphase.backend.service.TicketService;
+import at.ac.tuwien.sepr.groupphase.backend.service.UserIdentity;
 import at.ac.tuwien.sepr.groupphase.backend.service.UserService;
 import at.ac.tuwien.sepr.groupphase.backend.type.CartItemType;
 import at.ac.tuwien.sepr.groupphase.backend.type.PaymentMethod;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Logger;
 import org.springframework.stereotype.Service;
@@ -54,6 +59,8 @@ public class CartServiceImpl implements CartService {
     private final TicketRepository ticketRepository;
 
     private final UserRepository userRepository;
+    private final Timer checkoutDuration;
+    private final DistributionSummary checkoutItems;
 
     public CartServiceImpl(
         CartRepository cartRepository,
@@ -64,7 +71,8 @@ public class CartServiceImpl implements CartService {
         TicketService ticketService,
         ReservationRepository reservationRepository,
         TicketRepository ticketRepository,
-        UserRepository userRepository
+        UserRepository userRepository,
+        MeterRegistry meterRegistry
     ) {
         this.cartRepository = cartRepository;
         this.cartItemRepository = cartItemRepository;
@@ -75,15 +83,21 @@ public class CartServiceImpl implements CartService {
         this.reservationRepository = reservationRepository;
         this.ticketRepository = ticketRepository;
         this.userRepository = userRepository;
+        this.checkoutDuration = Timer.builder("cart.checkout.duration")
+            .description("Time taken to check out a cart")
+            .register(meterRegistry);
+        this.checkoutItems = DistributionSummary.builder("cart.checkout.items")
+            .description("Items in a checked out cart")
+            .register(meterRegistry);
     }
 
     @Transactional(readOnly = true)
     @Override
     public CartDto getMyCart(String userEmail) {
         LOGGER.debug("Get cart for userEmail='{}'", userEmail);
-        User user = userService.findByEmail(userEmail);
-        Cart cart = cartRepository.findByUserId(user.getId())
-            .orElseGet(() -> cartRepository.save(new Cart(user)));
+        UserIdentity user = userService.findIdentityByEmail(userEmail);
+        Cart cart = cartRepository.findByUserId(user.id())
+            .orElseGet(() -> cartRepository.save(new Cart(userRepository.getReferenceById(user.id()))));
         return toDto(cart);
     }
 
@@ -292,6 +306,10 @@ public class CartServiceImpl implements CartService {
     @Transactional
     @Override
     public CartCheckoutResultDto checkout(String userEmail, PaymentMethod paymentMethod, PaymentDetailDto paymentDetail) throws AccessDeniedException {
+        return checkoutDuration.record(() -> checkoutCart(userEmail, paymentMethod, paymentDetail));
+    }
+
+    private CartCheckoutResultDto checkoutCart(String userEmail, PaymentMethod paymentMethod, PaymentDetailDto paymentDetail) {
         LOGGER.debug("Checkout started: userEmail='{}', paymentMethod={}", userEmail, paymentMethod);
         User user = userService.findByEmail(userEmail);
 
@@ -315,6 +333,12 @@ public class CartServiceImpl implements CartService {
         if (merchItems.isEmpty() && rewardItems.isEmpty() && ticketItems.isEmpty()) {
             throw new ValidationException("Cart is empty");
         }
+        for (CartItem item : ticketItems) {
+            if (item.getTicket() != null && item.getTicket().getEvent().isCancelled()) {
+                throw new ConflictException("Event " + item.getTicket().getEvent().getId() + " is cancelled");
+            }
+        }
+        checkoutItems.record(items.size());
 
         Long merchInvoiceId = null;
         Long ticketInvoiceId = null;
@@ -390,6 +414,9 @@ public class CartServiceImpl implements CartService {
         if (owner == null || owner.getId() == null || !owner.getId().equals(user.getId())) {
             throw new ValidationException("Ticket does not belong to this user!");
         }
+        if (ticket.getEvent().isCancelled()) {
+            throw new ConflictException("Event " + ticket.getEvent().getId() + " is cancelled");
+        }
 
 
 
@@ -0,0 +1,84 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs tasks on a shared executor, but at most a given number of them at the same time.
+ *
+ * <p>Further tasks wait in this executor's own queue rather than in the shared one, so one kind
+ * of background work cannot take every thread of the shared pool. Up to {@code limit} drain
+ * tasks are running on the shared executor, each taking queued tasks until none are left.
+ */
+final class ConcurrencyLimitedExecutor implements Executor {
+
+    private static final Logger LOGGER =
+        LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    private final Executor delegate;
+    private final int limit;
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger running = new AtomicInteger();
+
+    ConcurrencyLimitedExecutor(Executor delegate, int limit) {
+        this.delegate = delegate;
+        this.limit = Math.max(1, limit);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        queue.add(task);
+        try {
+            startDrainIfBelowLimit();
+        } catch (RejectedExecutionException e) {
+            queue.remove(task);
+            throw e;
+        }
+    }
+
+    private void startDrainIfBelowLimit() {
+        while (!queue.isEmpty()) {
+            int current = running.get();
+            if (current >= limit) {
+                return;
+            }
+            if (running.compareAndSet(current, current + 1)) {
+                try {
+                    delegate.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    running.decrementAndGet();
+                    throw e;
+                }
+                return;
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            Runnable task;
+            while ((task = queue.poll()) != null) {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    LOGGER.error("Background task failed", e);
+                }
+            }
+        } finally {
+            running.decrementAndGet();
+        }
+        try {
+            // a task queued after the last poll, but before the decrement, found the limit reached
+            startDrainIfBelowLimit();
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn("Could not run {} queued background tasks", queue.size(), e);
+        }
+    }
+}
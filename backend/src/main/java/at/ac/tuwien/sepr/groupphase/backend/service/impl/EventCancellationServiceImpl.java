@@ -0,0 +1,333 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl;
+
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.EventCancellationDto;
+import at.ac.tuwien.sepr.groupphase.backend.entity.CancelledTicket;
+import at.ac.tuwien.sepr.groupphase.backend.entity.EventCancellation;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Invoice;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Ticket;
+import at.ac.tuwien.sepr.groupphase.backend.exception.ConflictException;
+import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
+import at.ac.tuwien.sepr.groupphase.backend.repository.CancelledTicketBatchRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.EventCancellationRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.EventRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.InvoiceRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.TicketRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.EventCancellationService;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.sales.SalesRollup;
+import at.ac.tuwien.sepr.groupphase.backend.type.CancellationStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Cancels all sold tickets of an event.
+ *
+ * <p>Sold tickets are partitioned by their original invoice. Every partition is handled
+ * on the shared task executor, a few at a time, in its own transaction: one credit invoice
+ * is created, the cancelled tickets are inserted and the tickets deleted in JDBC batches,
+ * and the job counters are advanced. A partition is therefore either fully cancelled or untouched, and a job that
+ * was interrupted simply picks up the invoices that still have sold tickets.
+ *
+ * <p>The event is marked cancelled before the job starts, which closes it for purchases,
+ * reservations and new tickets. Sales that were already in flight at that moment are
+ * picked up by another round once the known partitions are done.
+ */
+@Service
+public class EventCancellationServiceImpl implements EventCancellationService {
+
+    private static final Logger LOGGER =
+        LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final EventRepository eventRepository;
+    private final TicketRepository ticketRepository;
+    private final InvoiceRepository invoiceRepository;
+    private final EventCancellationRepository cancellationRepository;
+    private final CancelledTicketBatchRepository batchRepository;
+    private final SalesRollup salesRollup;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final TaskExecutor coordinator;
+    private final Executor workers;
+    private final Set<Long> activeEvents = ConcurrentHashMap.newKeySet();
+
+    public EventCancellationServiceImpl(EventRepository eventRepository,
+                                        TicketRepository ticketRepository,
+                                        InvoiceRepository invoiceRepository,
+                                        EventCancellationRepository cancellationRepository,
+                                        CancelledTicketBatchRepository batchRepository,
+                                        SalesRollup salesRollup,
+                                        PlatformTransactionManager transactionManager,
+                                        @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                                        @Value("${app.event-cancellation.workers:4}") int workerCount,
+                                        @Value("${app.event-cancellation.batch-size:100}") int batchSize) {
+        this.eventRepository = eventRepository;
+        this.ticketRepository = ticketRepository;
+        this.invoiceRepository = invoiceRepository;
+        this.cancellationRepository = cancellationRepository;
+        this.batchRepository = batchRepository;
+        this.salesRollup = salesRollup;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.coordinator = taskExecutor;
+        this.workers = new ConcurrencyLimitedExecutor(taskExecutor, workerCount);
+    }
+
+    @Override
+    public EventCancellationDto cancelEvent(Long eventId) {
+        LOGGER.info("Cancel event {}", eventId);
+
+        if (!eventRepository.existsById(eventId)) {
+            throw new NotFoundException("Event not found: " + eventId);
+        }
+        if (!activeEvents.add(eventId)) {
+            throw new ConflictException("Cancellation of event " + eventId + " is already running");
+        }
+
+        try {
+            EventCancellation job = transactionTemplate.execute(status -> startOrResume(eventId));
+            EventCancellationDto started = toDto(job);
+            coordinator.execute(() -> run(job.getId(), eventId));
+            return started;
+        } catch (RuntimeException e) {
+            activeEvents.remove(eventId);
+            throw e;
+        }
+    }
+
+    @Override
+    public EventCancellationDto getProgress(Long eventId) {
+        LOGGER.debug("Get cancellation progress of event {}", eventId);
+        return cancellationRepository.findFirstByEventIdOrderByStartedAtDesc(eventId)
+            .map(this::toDto)
+            .orElseThrow(() -> new NotFoundException("No cancellation found for event: " + eventId));
+    }
+
+    /**
+     * Resume jobs that were still running when the application stopped.
+     *
+     * <p>This needs a schema that outlives a restart. With {@code ddl-auto: create-drop}, as in
+     * all profiles shipped with the application, the jobs are dropped together with the tickets
+     * they were cancelling and there is nothing to resume.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedJobs() {
+        for (EventCancellation job : cancellationRepository.findByStatus(CancellationStatus.RUNNING)) {
+            if (activeEvents.add(job.getEventId())) {
+                LOGGER.info("Resuming cancellation of event {} ({}/{} invoices done)",
+                    job.getEventId(), job.getProcessedInvoices(), job.getTotalInvoices());
+                coordinator.execute(() -> run(job.getId(), job.getEventId()));
+            }
+        }
+    }
+
+    private EventCancellation startOrResume(Long eventId) {
+        EventCancellation job = cancellationRepository.findFirstByEventIdOrderByStartedAtDesc(eventId)
+            .filter(j -> j.getStatus() != CancellationStatus.COMPLETED)
+            .orElse(null);
+
+        if (job == null) {
+            if (ticketRepository.countByEventIdAndInvoiceIsNotNull(eventId) == 0) {
+                throw new ConflictException("Event " + eventId + " has no sold tickets to cancel");
+            }
+            job = new EventCancellation(eventId);
+        }
+        eventRepository.markCancelled(eventId);
+
+        job.setStatus(CancellationStatus.RUNNING);
+        job.setFailedInvoices(0);
+        job.setFinishedAt(null);
+        job.setLastError(null);
+        return cancellationRepository.save(job);
+    }
+
+    /**
+     * Partition the remaining sold tickets and fan the partitions out to the workers,
+     * repeating until no sold tickets are left or a partition failed.
+     *
+     * <p>No thread waits for the partitions: the next round is started by whichever worker
+     * finishes the last partition of the current one.
+     */
+    void run(Long jobId, Long eventId) {
+        nextRound(jobId, eventId).whenComplete((ignored, e) -> {
+            if (e != null) {
+                LOGGER.error("Cancellation of event {} failed", eventId, e);
+            }
+            activeEvents.remove(eventId);
+        });
+    }
+
+    private CompletableFuture<Void> nextRound(Long jobId, Long eventId) {
+        try {
+            // Also picks up tickets sold by purchases that checked the event just before it was closed
+            List<Long> invoiceIds = ticketRepository.findSoldInvoiceIdsByEventId(eventId);
+            if (invoiceIds.isEmpty()) {
+                finish(jobId, 0, null);
+                return CompletableFuture.completedFuture(null);
+            }
+            long remainingTickets = ticketRepository.countByEventIdAndInvoiceIsNotNull(eventId);
+            int partitionCount = invoiceIds.size();
+
+            transactionTemplate.executeWithoutResult(status -> {
+                EventCancellation job = findJob(jobId);
+                job.setTotalInvoices(job.getProcessedInvoices() + partitionCount);
+                job.setTotalTickets(job.getProcessedTickets() + remainingTickets);
+                cancellationRepository.save(job);
+            });
+
+            LOGGER.info("Cancelling {} tickets of event {} in {} partitions",
+                remainingTickets, eventId, partitionCount);
+
+            AtomicInteger failed = new AtomicInteger();
+            AtomicReference<String> lastError = new AtomicReference<>();
+            CompletableFuture<?>[] partitions = new CompletableFuture<?>[partitionCount];
+            for (int i = 0; i < partitionCount; i++) {
+                Long invoiceId = invoiceIds.get(i);
+                partitions[i] = CompletableFuture.runAsync(() -> cancelPartition(jobId, eventId, invoiceId), workers)
+                    .exceptionally(e -> {
+                        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                        failed.incrementAndGet();
+                        lastError.set(cause.getMessage());
+                        LOGGER.error("Partition of event {} could not be cancelled", eventId, cause);
+                        return null;
+                    });
+            }
+
+            return CompletableFuture.allOf(partitions).thenCompose(ignored -> {
+                if (failed.get() == 0) {
+                    return nextRound(jobId, eventId);
+                }
+                finish(jobId, failed.get(), lastError.get());
+                return CompletableFuture.completedFuture(null);
+            });
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn("Cancellation of event {} interrupted, will resume on next start", eventId);
+            return CompletableFuture.completedFuture(null);
+        } catch (RuntimeException e) {
+            LOGGER.error("Cancellation of event {} failed", eventId, e);
+            finish(jobId, -1, e.getMessage());
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    /**
+     * Cancel all tickets of the event that were sold through one invoice.
+     *
+     * @return the number of cancelled tickets
+     */
+    int cancelPartition(Long jobId, Long eventId, Long invoiceId) {
+        Integer cancelled = transactionTemplate.execute(status -> {
+            List<Ticket> tickets = ticketRepository.findSoldByEventIdAndInvoiceId(eventId, invoiceId);
+            if (tickets.isEmpty()) {
+                return 0;
+            }
+
+            Invoice originalInvoice = tickets.getFirst().getInvoice();
+            final LocalDate today = LocalDate.now();
+
+            Invoice creditInvoice = new Invoice();
+            creditInvoice.setUser(originalInvoice.getUser());
+            creditInvoice.setOriginalInvoiceNumber(originalInvoice.getInvoiceNumber());
+            creditInvoice.setInvoiceCancellationDate(today);
+            creditInvoice.setInvoiceDate(originalInvoice.getInvoiceDate());
+            creditInvoice.setInvoiceNumber("INV-" + UUID.randomUUID());
+            creditInvoice.setEventDate(tickets.getFirst().getEvent().getDateTime());
+            creditInvoice = invoiceRepository.save(creditInvoice);
+            creditInvoice.setInvoiceNumber("INV-" + today.getYear() + "-" + creditInvoice.getId());
+
+            List<CancelledTicket> cancelledTickets = new ArrayList<>(tickets.size());
+            List<Long> ticketIds = new ArrayList<>(tickets.size());
+            for (Ticket t : tickets) {
+                cancelledTickets.add(new CancelledTicket(
+                    originalInvoice.getUser(),
+                    t.getEvent().getTitle(),
+                    t.getEvent().getDateTime(),
+                    today,
+                    "" + t.getSeat().getRowNumber() + "/" + t.getSeat().getSeatNumber(),
+                    t.getNetPrice(),
+                    t.getTaxRate(),
+                    t.getGrossPrice(),
+                    creditInvoice
+                ));
+                ticketIds.add(t.getId());
+            }
+
+            batchRepository.insertAll(cancelledTickets, batchSize);
+            batchRepository.deleteTickets(ticketIds, batchSize);
+            salesRollup.recordCancelled(tickets);
+            cancellationRepository.addProcessedPartition(jobId, tickets.size());
+
+            return tickets.size();
+        });
+
+        LOGGER.debug("Cancelled {} tickets of invoice {} (event {})", cancelled, invoiceId, eventId);
+        return cancelled == null ? 0 : cancelled;
+    }
+
+    private void finish(Long jobId, int failedInvoices, String lastError) {
+        transactionTemplate.executeWithoutResult(status -> {
+            EventCancellation job = findJob(jobId);
+            job.setFailedInvoices(Math.max(0, failedInvoices));
+            job.setStatus(failedInvoices == 0 ? CancellationStatus.COMPLETED : CancellationStatus.FAILED);
+            job.setFinishedAt(LocalDateTime.now());
+            if (lastError != null) {
+                job.setLastError(lastError.length() > MAX_ERROR_LENGTH ? lastError.substring(0, MAX_ERROR_LENGTH) : lastError);
+            }
+            cancellationRepository.save(job);
+
+            EventCancellationDto dto = toDto(job);
+            LOGGER.info("Cancellation of event {} finished with status {}: {}/{} tickets, {} tickets/s",
+                job.getEventId(), job.getStatus(), job.getProcessedTickets(), job.getTotalTickets(),
+                String.format("%.1f", dto.ticketsPerSecond()));
+        });
+    }
+
+    private EventCancellation findJob(Long jobId) {
+        return cancellationRepository.findById(jobId)
+            .orElseThrow(() -> new NotFoundException("Cancellation job not found: " + jobId));
+    }
+
+    private EventCancellationDto toDto(EventCancellation job) {
+        LocalDateTime end = job.getFinishedAt() != null ? job.getFinishedAt() : LocalDateTime.now();
+        long millis = Duration.between(job.getStartedAt(), end).toMillis();
+        double ticketsPerSecond = millis > 0 ? job.getProcessedTickets() * 1000.0 / millis : 0.0;
+
+        return new EventCancellationDto(
+            job.getEventId(),
+            job.getStatus(),
+            job.getTotalInvoices(),
+            job.getProcessedInvoices(),
+            job.getFailedInvoices(),
+            job.getTotalTickets(),
+            job.getProcessedTickets(),
+            job.getStartedAt(),
+            job.getFinishedAt(),
+            ticketsPerSecond
+        );
+    }
+}
@@ -1,13 +1,17 @@
 package at.ac.tuwien.sepr.groupphase.backend.service.impl;
 
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.CalendarDayDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.DetailedEventDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.EventCreateDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.EventUpdateDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.FacetedEventSearchDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.SeatmapDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.SimpleEventDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.image.ImageResourceDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.seat.SeatStatus;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.seat.SeatmapSeatDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.TopTenEventDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.page.CursorPageDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.mapper.EventMapper;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Artist;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Event;
@@ -22,24 +26,50 @@ import at.ac.tuwien.sepr.groupphase.backend.repository.ReservationRepository;
 import at.ac.tuwien.sepr.groupphase.backend.repository.SeatRepository;
 import at.ac.tuwien.sepr.groupphase.backend.repository.SectorRepository;
 import at.ac.tuwien.sepr.groupphase.backend.repository.TicketRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.keyset.Keyset;
+import at.ac.tuwien.sepr.groupphase.backend.repository.keyset.KeysetPage;
 import at.ac.tuwien.sepr.groupphase.backend.service.ArtistService;
+import at.ac.tuwien.sepr.groupphase.backend.service.BlobStore;
+import at.ac.tuwien.sepr.groupphase.backend.service.ImageDerivativeService;
 import at.ac.tuwien.sepr.groupphase.backend.service.EventService;
 
 import at.ac.tuwien.sepr.groupphase.backend.service.LocationService;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.blob.ImageByteCache;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.sales.SalesRollup;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.search.ArtistMembershipIndex;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.search.EventCalendar;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.search.EventCatalog;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.search.EventSearchIndex;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.search.SearchMeters;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.search.SuggestionIndex;
 import at.ac.tuwien.sepr.groupphase.backend.service.impl.validators.EventValidator;
+import at.ac.tuwien.sepr.groupphase.backend.type.ImageSize;
+import at.ac.tuwien.sepr.groupphase.backend.type.PriceBand;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.criteria.JoinType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
 import java.lang.invoke.MethodHandles;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -49,6 +79,8 @@ public class EventServiceImpl implements EventService {
     private static final Logger LOGGER = LoggerFactory.getLogger(
         MethodHandles.lookup().lookupClass());
 
+    private static final int MAX_CALENDAR_MONTHS = 12;
+
     private final EventRepository eventRepository;
     private final SectorRepository sectorRepository;
     private final SeatRepository seatRepository;
@@ -58,6 +90,20 @@ public class EventServiceImpl implements EventService {
     private final EventValidator eventValidator;
     private final LocationService locationService;
     private final ArtistService artistService;
+    private final EventSearchIndex eventSearchIndex;
+    private final EventCatalog eventCatalog;
+    private final SalesRollup salesRollup;
+    private final SuggestionIndex suggestionIndex;
+    private final ArtistMembershipIndex artistMembershipIndex;
+    private final EventCalendar eventCalendar;
+    private final BlobStore blobStore;
+    private final ImageDerivativeService imageDerivativeService;
+    private final ImageByteCache imageByteCache;
+    private final Timer seatmapLoad;
+    private final DistributionSummary seatmapSeats;
+    private final SearchMeters criteriaSearch;
+    private final SearchMeters fullTextSearch;
+    private final SearchMeters facetedSearch;
 
     public EventServiceImpl(EventRepository eventRepository,
                             SectorRepository sectorRepository,
@@ -67,7 +113,17 @@ public class EventServiceImpl implements EventService {
                             EventMapper eventMapper,
                             EventValidator eventValidator,
                             LocationService locationService,
-                            ArtistService artistService) {
+                            ArtistService artistService,
+                            EventSearchIndex eventSearchIndex,
+                            EventCatalog eventCatalog,
+                            SalesRollup salesRollup,
+                            SuggestionIndex suggestionIndex,
+                            ArtistMembershipIndex artistMembershipIndex,
+                            EventCalendar eventCalendar,
+                            BlobStore blobStore,
+                            ImageDerivativeService imageDerivativeService,
+                            ImageByteCache imageByteCache,
+                            MeterRegistry meterRegistry) {
         this.eventRepository = eventRepository;
         this.sectorRepository = sectorRepository;
         this.seatRepository = seatRepository;
@@ -77,6 +133,24 @@ public class EventServiceImpl implements EventService {
         this.eventValidator = eventValidator;
         this.locationService = locationService;
         this.artistService = artistService;
+        this.eventSearchIndex = eventSearchIndex;
+        this.eventCatalog = eventCatalog;
+        this.salesRollup = salesRollup;
+        this.suggestionIndex = suggestionIndex;
+        this.artistMembershipIndex = artistMembershipIndex;
+        this.eventCalendar = eventCalendar;
+        this.blobStore = blobStore;
+        this.imageDerivativeService = imageDerivativeService;
+        this.imageByteCache = imageByteCache;
+        this.seatmapLoad = Timer.builder("seatmap.load")
+            .description("Time taken to load the seat map of an event")
+            .register(meterRegistry);
+        this.seatmapSeats = DistributionSummary.builder("seatmap.seats")
+            .description("Seats on a loaded seat map")
+            .register(meterRegistry);
+        this.criteriaSearch = SearchMeters.register("criteria", meterRegistry);
+        this.fullTextSearch = SearchMeters.register("full-text", meterRegistry);
+        this.facetedSearch = SearchMeters.register("faceted", meterRegistry);
     }
 
     @Override
@@ -93,13 +167,22 @@ public class EventServiceImpl implements EventService {
     }
 
     @Override
+    @Transactional
     public Event create(Event event) {
         LOGGER.debug("Create event {}", event);
         validateEventData(event);
-        return eventRepository.save(event);
+        applyPriceRange(event);
+        Event saved = eventRepository.save(event);
+        eventSearchIndex.indexAfterCommit(saved);
+        eventCatalog.upsertAfterCommit(saved);
+        eventCalendar.upsertAfterCommit(saved);
+        salesRollup.eventCreated(saved);
+        suggestionIndex.eventSavedAfterCommit(saved);
+        return saved;
     }
 
     @Override
+    @Transactional
     public Event update(Event event) {
         LOGGER.debug("Update event {}", event.getId());
 
@@ -108,7 +191,14 @@ public class EventServiceImpl implements EventService {
         }
 
         validateEventData(event);
-        return eventRepository.save(event);
+        applyPriceRange(event);
+        Event saved = eventRepository.save(event);
+        eventSearchIndex.indexAfterCommit(saved);
+        eventCatalog.upsertAfterCommit(saved);
+        eventCalendar.upsertAfterCommit(saved);
+        salesRollup.eventUpdated(saved);
+        suggestionIndex.eventSavedAfterCommit(saved);
+        return saved;
     }
 
     @Override
@@ -124,6 +214,11 @@ public class EventServiceImpl implements EventService {
         }
 
         eventRepository.deleteById(id);
+        eventSearchIndex.removeAfterCommit(id);
+        eventCatalog.removeAfterCommit(id);
+        eventCalendar.removeAfterCommit(id);
+        salesRollup.eventDeleted(id);
+        suggestionIndex.eventRemovedAfterCommit(id);
     }
 
     @Override
@@ -165,7 +260,7 @@ public class EventServiceImpl implements EventService {
     @Override
     public List<Event> findByArtistId(Long artistId) {
         LOGGER.debug("Find events by artist id: {}", artistId);
-        return eventRepository.findByArtistId(artistId);
+        return eventRepository.findByArtistIds(artistMembershipIndex.withBands(artistId));
     }
 
     @Override
@@ -177,7 +272,7 @@ public class EventServiceImpl implements EventService {
     @Override
     public List<Event> searchByDateRange(LocalDateTime start, LocalDateTime end) {
         LOGGER.debug("Search events between {} and {}", start, end);
-        return eventRepository.findByDateTimeBetween(start, end);
+        return loadEventsInOrder(eventCalendar.idsBetween(start, end));
     }
 
     @Override
@@ -211,22 +306,16 @@ public class EventServiceImpl implements EventService {
     public List<TopTenEventDto> findTopTenByTicketSales(int month, int year, String type) {
         LOGGER.debug("Find top 10 events for {}/{} type: {}", month, year, type);
 
-        List<Object[]> results = eventRepository.findTopTenEventsByTicketSales(month, year, type);
-
-        return results.stream()
-            .map(row -> new TopTenEventDto(
-                (Long) row[0],
-                (String) row[1],
-                (String) row[2],
-                (Long) row[3]
-            ))
-            .toList();
+        return salesRollup.topTen(month, year, type);
     }
 
     @Override
     @Transactional(readOnly = true)
     public SeatmapDto getSeatmap(Long eventId) {
+        return seatmapLoad.record(() -> loadSeatmap(eventId));
+    }
 
+    private SeatmapDto loadSeatmap(Long eventId) {
         Event event = eventRepository.findById(eventId)
             .orElseThrow(() -> new NotFoundException("Event not found: " + eventId));
 
@@ -238,6 +327,7 @@ public class EventServiceImpl implements EventService {
             .toList();
 
         List<Seat> seats = seatRepository.findBySectorIdIn(sectorIds);
+        seatmapSeats.record(seats.size());
 
         int minRow = seats.stream().mapToInt(Seat::getRowNumber).min().orElse(-1);
         int maxRow = seats.stream().mapToInt(Seat::getRowNumber).max().orElse(-1);
@@ -330,14 +420,13 @@ public class EventServiceImpl implements EventService {
         Event event = eventRepository.findById(eventId)
             .orElseThrow(() -> new NotFoundException("Event mit ID " + eventId + " nicht gefunden"));
 
-        try {
-            byte[] imageData = image.getBytes();
-            String contentType = image.getContentType();
-
-            event.setImage(imageData);
-            event.setImageContentType(contentType);
+        try (InputStream content = image.getInputStream()) {
+            imageDerivativeService.blobKeys(event.getImageKey()).forEach(imageByteCache::invalidate);
+            event.setImageKey(blobStore.put(content));
+            event.setImageContentType(image.getContentType());
 
             eventRepository.save(event);
+            imageDerivativeService.generateAfterCommit(event.getImageKey(), event.getImageContentType());
 
             LOGGER.info("Bild für Event {} erfolgreich hochgeladen", eventId);
         } catch (Exception e) {
@@ -348,30 +437,18 @@ public class EventServiceImpl implements EventService {
 
     @Override
     @Transactional(readOnly = true)
-    public byte[] getImage(Long eventId) {
-        LOGGER.debug("Get image for event {}", eventId);
-
-        Event event = eventRepository.findById(eventId)
-            .orElseThrow(() -> new NotFoundException("Die Veranstaltung wurde nicht gefunden"));
-
-        if (event.getImage() == null) {
-            throw new NotFoundException("Es wurde kein Bild für diese Veranstaltung gefunden");
-        }
+    public ImageResourceDto getImage(Long eventId, ImageSize size) {
+        LOGGER.debug("Get {} image for event {}", size, eventId);
 
-        return event.getImage();
-    }
-
-    @Override
-    @Transactional(readOnly = true)
-    public String getImageContentType(Long eventId) {
         Event event = eventRepository.findById(eventId)
             .orElseThrow(() -> new NotFoundException("Die Veranstaltung wurde nicht gefunden"));
 
-        if (event.getImage() == null) {
+        if (event.getImageKey() == null) {
             throw new NotFoundException("Es wurde kein Bild für diese Veranstaltung gefunden");
         }
 
-        return event.getImageContentType();
+        String key = imageDerivativeService.resolve(event.getImageKey(), size);
+        return new ImageResourceDto(key, event.getImageContentType(), imageByteCache.get(key));
     }
 
     @Override
@@ -381,11 +458,12 @@ public class EventServiceImpl implements EventService {
         Event event = eventRepository.findById(eventId)
             .orElseThrow(() -> new NotFoundException("Event not found: " + eventId));
 
-        if (event.getImage() == null) {
+        if (event.getImageKey() == null) {
             throw new NotFoundException("Veranstaltung hat kein Bild");
         }
 
-        event.setImage(null);
+        imageDerivativeService.blobKeys(event.getImageKey()).forEach(imageByteCache::invalidate);
+        event.setImageKey(null);
         event.setImageContentType(null);
         eventRepository.save(event);
     }
@@ -396,16 +474,20 @@ public class EventServiceImpl implements EventService {
         LOGGER.debug("Find all events as DTOs with pagination (page={}, size={})",
             pageable.getPageNumber(), pageable.getPageSize());
 
-        List<Event> allEvents = eventRepository.findAllByOrderByDateTimeAsc();
-        List<SimpleEventDto> enrichedEvents = allEvents.stream()
-            .map(this::enrichEventWithPrice)
-            .toList();
+        return eventRepository.findAllWithLocation(withDefaultSort(pageable))
+            .map(this::enrichEventWithPrice);
+    }
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), enrichedEvents.size());
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<SimpleEventDto> findAllByCursor(String cursor, int size) {
+        LOGGER.debug("Find all events as DTOs after cursor {} (size={})", cursor, size);
 
-        List<SimpleEventDto> pageContent = enrichedEvents.subList(start, end);
-        return new PageImpl<>(pageContent, pageable, enrichedEvents.size());
+        Keyset<LocalDateTime> keyset = Keyset.ascending("dateTime", LocalDateTime.class, cursor, size);
+        KeysetPage<Event> page = eventRepository.findKeyset(Event.class, fetchLocation(), keyset);
+        return new CursorPageDto<>(
+            page.content().stream().map(this::enrichEventWithPrice).toList(),
+            keyset.nextCursor(page, Event::getDateTime, Event::getId));
     }
 
     @Override
@@ -486,46 +568,130 @@ public class EventServiceImpl implements EventService {
 
         LOGGER.debug("Search events with criteria, price filters, and pagination");
 
-        boolean hasCriteriaFilters = title != null || type != null || duration != null
-            || dateFrom != null || dateTo != null;
-        boolean hasPriceFilters = priceMin != null || priceMax != null;
+        Integer minDuration = duration != null && duration > 0 ? Math.max(0, duration - 30) : null;
+        Integer maxDuration = duration != null && duration > 0 ? duration + 30 : null;
 
-        List<Event> results;
-        if (hasCriteriaFilters) {
-            Integer minDuration = duration != null && duration > 0 ? Math.max(0, duration - 30) : null;
-            Integer maxDuration = duration != null && duration > 0 ? duration + 30 : null;
-            results = searchByCriteria(title, type, minDuration, maxDuration, dateFrom, dateTo, locationId);
-        } else {
-            results = findAll();
+        return criteriaSearch.record(() -> eventRepository.searchEventsPage(
+                    title, type, minDuration, maxDuration, dateFrom, dateTo, locationId, priceMin, priceMax,
+                    withDefaultSort(pageable))
+                .map(this::enrichEventWithPrice),
+            Page::getTotalElements);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<SimpleEventDto> searchFullText(String query, Pageable pageable) {
+        LOGGER.debug("Full-text search for '{}' (page={}, size={})",
+            query, pageable.getPageNumber(), pageable.getPageSize());
+
+        return fullTextSearch.record(() -> {
+            List<EventSearchIndex.Hit> hits = eventSearchIndex.search(query);
+            int start = (int) Math.min(pageable.getOffset(), hits.size());
+            int end = Math.min(start + pageable.getPageSize(), hits.size());
+
+            List<Long> pageIds = hits.subList(start, end).stream()
+                .map(EventSearchIndex.Hit::eventId)
+                .toList();
+            return new PageImpl<>(loadInOrder(pageIds), pageable, hits.size());
+        }, Page::getTotalElements);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public FacetedEventSearchDto searchFaceted(String type, Long locationId, PriceBand priceBand, YearMonth month, Pageable pageable) {
+        LOGGER.debug("Faceted search type={}, locationId={}, priceBand={}, month={} (page={}, size={})",
+            type, locationId, priceBand, month, pageable.getPageNumber(), pageable.getPageSize());
+
+        String typeFilter = type == null || type.isBlank() ? null : type;
+        return facetedSearch.record(() -> {
+            EventCatalog.Result result = eventCatalog.search(
+                new EventCatalog.Filter(typeFilter, locationId, priceBand, month),
+                pageable.getOffset(), pageable.getPageSize());
+
+            return new FacetedEventSearchDto(
+                loadInOrder(result.pageIds()),
+                result.total(),
+                pageable.getPageNumber(),
+                pageable.getPageSize(),
+                result.types(),
+                result.locations(),
+                result.priceBands(),
+                result.months()
+            );
+        }, FacetedEventSearchDto::totalElements);
+    }
+
+    @Override
+    public List<CalendarDayDto> findCalendar(YearMonth from, YearMonth to) {
+        LOGGER.debug("Find calendar from {} to {}", from, to);
+
+        if (from == null) {
+            throw new ValidationException("Startmonat muss angegeben werden");
+        }
+        YearMonth last = to != null ? to : from;
+        if (last.isBefore(from)) {
+            throw new ValidationException("Endmonat darf nicht vor dem Startmonat liegen");
         }
+        if (from.plusMonths(MAX_CALENDAR_MONTHS).isBefore(last.plusMonths(1))) {
+            throw new ValidationException("Der Kalender umfasst höchstens " + MAX_CALENDAR_MONTHS + " Monate");
+        }
+
+        return eventCalendar.days(from.atDay(1), last.atEndOfMonth());
+    }
 
-        List<SimpleEventDto> enrichedResults = results.stream()
+    /**
+     * Load events by ID and map them to DTOs in the order of the given IDs.
+     * IDs of events deleted in the meantime are skipped.
+     */
+    private List<SimpleEventDto> loadInOrder(List<Long> ids) {
+        return loadEventsInOrder(ids).stream()
             .map(this::enrichEventWithPrice)
             .toList();
+    }
 
-        if (hasPriceFilters) {
-            enrichedResults = enrichedResults.stream()
-                .filter(dto -> {
-                    if (dto.minPrice() == null) {
-                        return false;
-                    }
-                    boolean matchesMin = priceMin == null || dto.minPrice() >= priceMin;
-                    boolean matchesMax = priceMax == null || dto.minPrice() <= priceMax;
-                    return matchesMin && matchesMax;
-                })
-                .toList();
+    private List<Event> loadEventsInOrder(List<Long> ids) {
+        Map<Long, Event> events = eventRepository.findAllWithLocationByIdIn(ids).stream()
+            .collect(Collectors.toMap(Event::getId, Function.identity()));
+
+        return ids.stream()
+            .map(events::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    /**
+     * Order unsorted pages by date, with the ID as tie breaker so pages are stable.
+     */
+    private static Pageable withDefaultSort(Pageable pageable) {
+        if (pageable.getSort().isSorted()) {
+            return pageable;
         }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+            Sort.by(Sort.Order.asc("dateTime"), Sort.Order.asc("id")));
+    }
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), enrichedResults.size());
+    /**
+     * Set the price range of an event from the price categories of its location.
+     * Later changes to sectors or price categories are picked up by the PriceRangeListener.
+     */
+    private void applyPriceRange(Event event) {
+        if (event.getLocation() == null) {
+            return;
+        }
+        Long locationId = event.getLocation().getId();
+        event.setMinPrice(eventRepository.findMinPriceForLocation(locationId));
+        event.setMaxPrice(eventRepository.findMaxPriceForLocation(locationId));
+    }
 
-        List<SimpleEventDto> pageContent = enrichedResults.subList(start, end);
-        return new PageImpl<>(pageContent, pageable, enrichedResults.size());
+    private static Specification<Event> fetchLocation() {
+        return (root, query, cb) -> {
+            root.fetch("location", JoinType.LEFT);
+            return null;
+        };
     }
 
     private SimpleEventDto enrichEventWithPrice(Event event) {
         SimpleEventDto dto = eventMapper.toSimple(event);
-        Integer minPrice = findMinPriceForEvent(event.getId());
         return new SimpleEventDto(
             dto.id(),
             dto.title(),
@@ -534,14 +700,13 @@ public class EventServiceImpl implements EventService {
             dto.dateTime(),
             dto.locationName(),
             dto.locationCity(),
-            minPrice,
+            event.getMinPrice(),
             dto.description()
         );
     }
 
     private DetailedEventDto enrichDetailedEventWithPrice(Event event) {
         DetailedEventDto dto = eventMapper.toDetailed(event);
-        Integer minPrice = findMinPriceForEvent(event.getId());
         return new DetailedEventDto(
             dto.id(),
             dto.title(),
@@ -552,7 +717,7 @@ public class EventServiceImpl implements EventService {
             dto.location(),
             dto.artists(),
             dto.ticketCount(),
-            minPrice
+            event.getMinPrice()
         );
     }
 
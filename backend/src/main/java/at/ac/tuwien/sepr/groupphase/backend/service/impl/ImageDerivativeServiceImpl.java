@@ -0,0 +1,249 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.ImageDerivative;
+import at.ac.tuwien.sepr.groupphase.backend.repository.BlobReferenceRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.ImageDerivativeRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.BlobStore;
+import at.ac.tuwien.sepr.groupphase.backend.service.ImageDerivativeService;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.support.AfterCommit;
+import at.ac.tuwien.sepr.groupphase.backend.type.ImageSize;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Generates image derivatives with {@link ImageIO} on the shared task executor, a few images
+ * at a time.
+ *
+ * <p>Sizes are rendered from the largest down, each from the previous rendition, and encoded
+ * in the format of the original. Images that cannot be decoded (such as WebP) get no
+ * derivatives and are always served as uploaded, as are images with more pixels than
+ * {@code app.image-derivatives.max-pixels}: a small upload can declare huge dimensions,
+ * so the size is read from the header before any pixels are decoded.
+ */
+@Service
+public class ImageDerivativeServiceImpl implements ImageDerivativeService {
+
+    private static final Logger LOGGER =
+        LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    private static final Map<String, String> FORMATS = Map.of(
+        "image/jpeg", "jpeg",
+        "image/png", "png",
+        "image/gif", "gif");
+
+    private static final List<ImageSize> LARGEST_FIRST = Arrays.stream(ImageSize.values())
+        .sorted((a, b) -> Integer.compare(b.maxEdge(), a.maxEdge()))
+        .toList();
+
+    private final BlobStore blobStore;
+    private final ImageDerivativeRepository imageDerivativeRepository;
+    private final BlobReferenceRepository blobReferenceRepository;
+    private final long maxPixels;
+
+    private final Executor workers;
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    public ImageDerivativeServiceImpl(BlobStore blobStore,
+                                      ImageDerivativeRepository imageDerivativeRepository,
+                                      BlobReferenceRepository blobReferenceRepository,
+                                      @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                                      @Value("${app.image-derivatives.workers:2}") int workerCount,
+                                      @Value("${app.image-derivatives.max-pixels:40000000}") long maxPixels) {
+        this.blobStore = blobStore;
+        this.imageDerivativeRepository = imageDerivativeRepository;
+        this.blobReferenceRepository = blobReferenceRepository;
+        this.maxPixels = maxPixels;
+        this.workers = new ConcurrencyLimitedExecutor(taskExecutor, workerCount);
+    }
+
+    @Override
+    public void generateAfterCommit(String sourceKey, String contentType) {
+        AfterCommit.run(() -> submit(sourceKey, contentType));
+    }
+
+    @Override
+    public String resolve(String sourceKey, ImageSize size) {
+        return imageDerivativeRepository.findBlobKey(sourceKey, size).orElse(sourceKey);
+    }
+
+    @Override
+    public Set<String> blobKeys(String sourceKey) {
+        if (sourceKey == null) {
+            return Set.of();
+        }
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(sourceKey);
+        keys.addAll(imageDerivativeRepository.findBlobKeys(sourceKey));
+        return keys;
+    }
+
+    @Override
+    public int backfill() {
+        Set<String> complete = new HashSet<>(
+            imageDerivativeRepository.findCompleteSourceKeys(LARGEST_FIRST, LARGEST_FIRST.size()));
+
+        int queued = 0;
+        for (Map.Entry<String, String> image : blobReferenceRepository.findImages().entrySet()) {
+            if (!complete.contains(image.getKey()) && submit(image.getKey(), image.getValue())) {
+                queued++;
+            }
+        }
+        LOGGER.info("Queued {} images for derivative generation", queued);
+        return queued;
+    }
+
+    private boolean submit(String sourceKey, String contentType) {
+        String format = formatOf(contentType);
+        if (format == null || !pending.add(sourceKey)) {
+            return false;
+        }
+        try {
+            workers.execute(() -> {
+                try {
+                    generate(sourceKey, format);
+                } catch (IOException | RuntimeException e) {
+                    LOGGER.warn("Could not generate derivatives of image {}", sourceKey, e);
+                } finally {
+                    pending.remove(sourceKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(sourceKey);
+            throw e;
+        }
+        return true;
+    }
+
+    /**
+     * Generate and store the missing derivatives of one image.
+     *
+     * @param sourceKey blob key of the original
+     * @param format    ImageIO format name of the original
+     * @return the number of stored derivatives
+     * @throws IOException if the original cannot be read or a derivative cannot be stored
+     */
+    int generate(String sourceKey, String format) throws IOException {
+        final long start = System.currentTimeMillis();
+        BufferedImage image;
+        try (InputStream content = blobStore.get(sourceKey).getInputStream()) {
+            image = read(sourceKey, content);
+        }
+        if (image == null) {
+            return 0;
+        }
+
+        int stored = 0;
+        String blobKey = sourceKey;
+        for (ImageSize size : LARGEST_FIRST) {
+            if (Math.max(image.getWidth(), image.getHeight()) > size.maxEdge()) {
+                image = scale(image, size.maxEdge(), !"jpeg".equals(format));
+                blobKey = blobStore.put(encode(image, format));
+            }
+            if (imageDerivativeRepository.findBlobKey(sourceKey, size).isEmpty()) {
+                try {
+                    imageDerivativeRepository.save(new ImageDerivative(sourceKey, size, blobKey));
+                    stored++;
+                } catch (DataIntegrityViolationException e) {
+                    // generated concurrently for another entity with the same image
+                }
+            }
+        }
+
+        LOGGER.debug("Generated {} derivatives of image {} in {} ms", stored, sourceKey, System.currentTimeMillis() - start);
+        return stored;
+    }
+
+    /**
+     * Decode an image, unless it cannot be decoded or has too many pixels.
+     *
+     * @return the image, or null if no derivatives can be generated
+     */
+    private BufferedImage read(String sourceKey, InputStream content) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(content)) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                LOGGER.debug("Image {} cannot be decoded, no derivatives generated", sourceKey);
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    LOGGER.warn("Image {} has {} pixels, more than {}, no derivatives generated", sourceKey, pixels, maxPixels);
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Scale an image down so its longest edge is at most {@code maxEdge}, halving the size
+     * step by step to avoid the aliasing of a single large bilinear step.
+     */
+    private static BufferedImage scale(BufferedImage image, int maxEdge, boolean alpha) {
+        double ratio = (double) maxEdge / Math.max(image.getWidth(), image.getHeight());
+        int targetWidth = Math.max(1, (int) Math.round(image.getWidth() * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(image.getHeight() * ratio));
+
+        BufferedImage current = image;
+        do {
+            int width = Math.max(targetWidth, current.getWidth() / 2);
+            int height = Math.max(targetHeight, current.getHeight() / 2);
+            BufferedImage next = new BufferedImage(width, height, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (current.getWidth() > targetWidth || current.getHeight() > targetHeight);
+        return current;
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (!ImageIO.write(image, format, out)) {
+            throw new IOException("No ImageIO writer for " + format);
+        }
+        return out.toByteArray();
+    }
+
+    private static String formatOf(String contentType) {
+        return contentType == null ? null : FORMATS.get(contentType.trim().toLowerCase(Locale.ROOT));
+    }
+}
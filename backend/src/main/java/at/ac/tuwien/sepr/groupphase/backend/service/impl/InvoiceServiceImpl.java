@@ -4,6 +4,7 @@ import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.invoice.CreditInvoiceDt
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.invoice.DetailedInvoiceDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.invoice.InvoiceCreateDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.invoice.SimpleInvoiceDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.page.CursorPageDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.purchase.MerchandisePurchaseItemDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.mapper.InvoiceMapper;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.purchase.PaymentDetailDto;
@@ -18,15 +19,19 @@ import at.ac.tuwien.sepr.groupphase.backend.repository.CancelledTicketRepository
 import at.ac.tuwien.sepr.groupphase.backend.repository.MerchandiseRepository;
 import at.ac.tuwien.sepr.groupphase.backend.repository.UserRepository;
 import at.ac.tuwien.sepr.groupphase.backend.service.PdfService;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.sales.SalesRollup;
 import at.ac.tuwien.sepr.groupphase.backend.type.PaymentMethod;
 import at.ac.tuwien.sepr.groupphase.backend.exception.ValidationException;
 import at.ac.tuwien.sepr.groupphase.backend.repository.InvoiceRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.keyset.Keyset;
+import at.ac.tuwien.sepr.groupphase.backend.repository.keyset.KeysetPage;
 import at.ac.tuwien.sepr.groupphase.backend.service.InvoiceService;
 import at.ac.tuwien.sepr.groupphase.backend.service.TicketService;
 import at.ac.tuwien.sepr.groupphase.backend.service.UserService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -56,6 +61,7 @@ public class InvoiceServiceImpl implements InvoiceService {
     private final UserRepository userRepository;
     private final InvoiceMapper invoiceMapper;
     private final PdfService pdfService;
+    private final SalesRollup salesRollup;
 
     @Lazy
     private final TicketService ticketService;
@@ -63,7 +69,7 @@ public class InvoiceServiceImpl implements InvoiceService {
     public InvoiceServiceImpl(InvoiceRepository invoiceRepository, MerchandiseRepository merchandiseRepository,
                               UserService userService, UserRepository userRepository,
                               InvoiceMapper invoiceMapper, PdfService pdfService, @Lazy TicketService ticketService,
-                              CancelledTicketRepository cancelledTicketRepository) {
+                              CancelledTicketRepository cancelledTicketRepository, SalesRollup salesRollup) {
         this.invoiceRepository = invoiceRepository;
         this.merchandiseRepository = merchandiseRepository;
         this.userService = userService;
@@ -71,6 +77,7 @@ public class InvoiceServiceImpl implements InvoiceService {
         this.invoiceMapper = invoiceMapper;
         this.pdfService = pdfService;
         this.ticketService = ticketService;
+        this.salesRollup = salesRollup;
     }
 
     private User findUserOrThrow(String email) {
@@ -177,6 +184,7 @@ public class InvoiceServiceImpl implements InvoiceService {
     }
 
 
+    @Transactional
     @Override
     public SimpleInvoiceDto create(InvoiceCreateDto dto) {
         User user = findUserOrThrow(dto.userId());
@@ -204,13 +212,27 @@ public class InvoiceServiceImpl implements InvoiceService {
 
         invoice.setGrossTotal(grossTotal);
 
-        tickets.forEach(t -> t.setInvoice(invoice));
-        invoice.setTickets(tickets);
+        attachTickets(invoice, tickets);
         Invoice saved = invoiceRepository.save(invoice);
 
         return invoiceMapper.toSimple(saved);
     }
 
+    /**
+     * Attach tickets to an invoice and count those that were not sold before in the sales rollup.
+     * Every path that sells tickets goes through here, so the rollup never misses a sale.
+     */
+    private void attachTickets(Invoice invoice, List<Ticket> tickets) {
+        List<Ticket> newlySold = tickets.stream()
+            .filter(t -> t.getInvoice() == null)
+            .toList();
+        tickets.forEach(t -> t.setInvoice(invoice));
+        invoice.setTickets(tickets);
+        if (!newlySold.isEmpty()) {
+            salesRollup.recordSold(newlySold);
+        }
+    }
+
     private void checkTicketsNotEmpty(List<Ticket> tickets, List<Long> ticketIds) {
         if (tickets == null || tickets.isEmpty()) {
             throw new NotFoundException("No tickets found for ids: " + ticketIds);
@@ -376,6 +398,19 @@ public class InvoiceServiceImpl implements InvoiceService {
             .toList();
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPageDto<DetailedInvoiceDto> getMyInvoicesByCursor(String userEmail, String cursor, int size) {
+        Keyset<LocalDate> keyset = Keyset.descending("invoiceDate", LocalDate.class, cursor, size);
+        Specification<Invoice> filter = (root, query, cb) -> cb.and(
+            cb.equal(root.get("user").get("email"), userEmail),
+            cb.isNotEmpty(root.get("tickets")));
+        KeysetPage<Invoice> page = invoiceRepository.findKeyset(Invoice.class, filter, keyset);
+        return new CursorPageDto<>(
+            page.content().stream().map(invoiceMapper::toDetailed).toList(),
+            keyset.nextCursor(page, Invoice::getInvoiceDate, Invoice::getId));
+    }
+
     @Transactional
     @Override
     public List<CreditInvoiceDto> getMyCreditInvoices(String userEmail) {
@@ -11,6 +11,7 @@ import at.ac.tuwien.sepr.groupphase.backend.repository.LocationRepository;
 import at.ac.tuwien.sepr.groupphase.backend.service.LocationService;
 
 import at.ac.tuwien.sepr.groupphase.backend.service.SectorService;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.search.SuggestionIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -27,15 +28,18 @@ public class LocationServiceImpl implements LocationService {
     private final LocationMapper locationMapper;
     private final SectorMapper sectorMapper;
     private final SectorService sectorService;
+    private final SuggestionIndex suggestionIndex;
 
     public LocationServiceImpl(LocationRepository locationRepository,
                                LocationMapper locationMapper,
                                SectorMapper sectorMapper,
-                               SectorService sectorService) {
+                               SectorService sectorService,
+                               SuggestionIndex suggestionIndex) {
         this.locationRepository = locationRepository;
         this.locationMapper = locationMapper;
         this.sectorMapper = sectorMapper;
         this.sectorService = sectorService;
+        this.suggestionIndex = suggestionIndex;
     }
 
     @Override
@@ -54,7 +58,9 @@ public class LocationServiceImpl implements LocationService {
     @Override
     public Location create(Location location) {
         LOGGER.debug("Create location {}", location);
-        return locationRepository.save(location);
+        Location saved = locationRepository.save(location);
+        suggestionIndex.locationSavedAfterCommit(saved);
+        return saved;
     }
 
     @Override
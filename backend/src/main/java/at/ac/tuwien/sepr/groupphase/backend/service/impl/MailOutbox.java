@@ -0,0 +1,239 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.OutboundMail;
+import at.ac.tuwien.sepr.groupphase.backend.repository.OutboundMailRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.support.AfterCommit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Transactional outbox for e-mails.
+ *
+ * <p>{@link #enqueue} only stores the mail in the current transaction, so request threads
+ * never wait for the mail server. The poller claims due mails in batches and hands each batch
+ * to the shared task executor, with at most {@code senders} batches in flight; a batch is
+ * sent over one SMTP connection. The poller runs right after a mail was committed and
+ * otherwise every poll interval.
+ *
+ * <p>Claimed mails are reserved for a lease time, so mails of a sender that crashed are
+ * delivered later instead of being lost. Delivery is therefore at least once. A mail that
+ * could not be delivered is retried with exponential backoff until it has failed
+ * {@code max-attempts} times.
+ */
+@Component
+public class MailOutbox {
+
+    private static final Logger LOGGER =
+        LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboundMailRepository mailRepository;
+    private final JavaMailSender mailSender;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+
+    private final TaskExecutor taskExecutor;
+    private final Semaphore idleSenders;
+
+    public MailOutbox(OutboundMailRepository mailRepository,
+                      JavaMailSender mailSender,
+                      @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                      @Value("${app.mail-outbox.senders:2}") int senderCount,
+                      @Value("${app.mail-outbox.batch-size:20}") int batchSize,
+                      @Value("${app.mail-outbox.max-attempts:8}") int maxAttempts,
+                      @Value("${app.mail-outbox.initial-backoff:30s}") Duration initialBackoff,
+                      @Value("${app.mail-outbox.max-backoff:1h}") Duration maxBackoff,
+                      @Value("${app.mail-outbox.lease:5m}") Duration lease) {
+        this.mailRepository = mailRepository;
+        this.mailSender = mailSender;
+        this.taskExecutor = taskExecutor;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+        this.idleSenders = new Semaphore(Math.max(1, senderCount));
+    }
+
+    /**
+     * Store a plain text mail for delivery once the current transaction has committed.
+     *
+     * @param to      the recipient
+     * @param subject the subject
+     * @param text    the body
+     */
+    public void enqueue(String to, String subject, String text) {
+        mailRepository.save(new OutboundMail(to, subject, text));
+        AfterCommit.run(this::wakeUp);
+    }
+
+    /**
+     * Claim due mails for every idle sender and start sending them.
+     * Polls run one at a time, so no two polls claim the same mails.
+     *
+     * @return the number of claimed mails
+     */
+    synchronized int poll() {
+        int claimed = 0;
+        while (idleSenders.tryAcquire()) {
+            List<OutboundMail> batch;
+            try {
+                batch = claim(LocalDateTime.now());
+            } catch (RuntimeException e) {
+                idleSenders.release();
+                throw e;
+            }
+            if (batch.isEmpty()) {
+                idleSenders.release();
+                break;
+            }
+            claimed += batch.size();
+            try {
+                taskExecutor.execute(() -> {
+                    try {
+                        deliver(batch);
+                    } finally {
+                        idleSenders.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // the lease runs out and the batch is claimed again
+                idleSenders.release();
+                throw e;
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * Reserve the next batch of due mails.
+     */
+    List<OutboundMail> claim(LocalDateTime now) {
+        List<OutboundMail> due = mailRepository.findDue(now, PageRequest.of(0, batchSize));
+        if (!due.isEmpty()) {
+            mailRepository.lease(due.stream().map(OutboundMail::getId).toList(), now.plus(lease));
+        }
+        return due;
+    }
+
+    /**
+     * Send a batch over one connection, delete the delivered mails and reschedule the others.
+     */
+    void deliver(List<OutboundMail> batch) {
+        SimpleMailMessage[] messages = new SimpleMailMessage[batch.size()];
+        Map<Object, OutboundMail> mails = new IdentityHashMap<>();
+        for (int i = 0; i < messages.length; i++) {
+            OutboundMail mail = batch.get(i);
+            messages[i] = new SimpleMailMessage();
+            messages[i].setTo(mail.getRecipient());
+            messages[i].setSubject(mail.getSubject());
+            messages[i].setText(mail.getBody());
+            mails.put(messages[i], mail);
+        }
+
+        Map<OutboundMail, Exception> failures = new IdentityHashMap<>();
+        try {
+            mailSender.send(messages);
+        } catch (MailSendException e) {
+            e.getFailedMessages().forEach((message, cause) -> {
+                OutboundMail mail = mails.get(message);
+                if (mail != null) {
+                    failures.put(mail, cause);
+                }
+            });
+            if (failures.isEmpty()) {
+                batch.forEach(mail -> failures.put(mail, e));
+            }
+        } catch (MailException e) {
+            batch.forEach(mail -> failures.put(mail, e));
+        }
+
+        List<Long> delivered = new ArrayList<>();
+        for (OutboundMail mail : batch) {
+            if (!failures.containsKey(mail)) {
+                delivered.add(mail.getId());
+            }
+        }
+        if (!delivered.isEmpty()) {
+            mailRepository.deleteAllByIdInBatch(delivered);
+        }
+        if (!failures.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            failures.forEach((mail, cause) -> reschedule(mail, cause, now));
+            mailRepository.saveAll(failures.keySet());
+        }
+    }
+
+    /**
+     * Delay before the given attempt is retried: the initial backoff, doubled after every
+     * further failed attempt, but at most the maximum backoff.
+     */
+    Duration backoff(int attempts) {
+        int doublings = Math.min(attempts - 1, 30);
+        Duration delay = initialBackoff.multipliedBy(1L << doublings);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private void reschedule(OutboundMail mail, Exception cause, LocalDateTime now) {
+        int attempts = mail.getAttempts() + 1;
+        mail.setAttempts(attempts);
+        mail.setLastError(truncate(cause.getMessage()));
+        if (attempts >= maxAttempts) {
+            mail.setFailedAt(now);
+            LOGGER.error("Giving up on mail {} to {} after {} attempts", mail.getId(), mail.getRecipient(), attempts, cause);
+        } else {
+            Duration delay = backoff(attempts);
+            mail.setNextAttemptAt(now.plus(delay));
+            LOGGER.warn("Mail {} to {} could not be sent (attempt {}), retrying in {}",
+                mail.getId(), mail.getRecipient(), attempts, delay, cause);
+        }
+    }
+
+    private void wakeUp() {
+        try {
+            taskExecutor.execute(this::pollQuietly);
+        } catch (RejectedExecutionException e) {
+            LOGGER.debug("Mail outbox is shut down, mail will be sent after the next start");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail-outbox.poll-interval:5s}", initialDelayString = "${app.mail-outbox.poll-interval:5s}")
+    void pollQuietly() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not claim mails from the outbox", e);
+        }
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -1,5 +1,6 @@
 package at.ac.tuwien.sepr.groupphase.backend.service.impl;
 
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.image.ImageResourceDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.merchandise.DetailedMerchandiseDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.merchandise.MerchandiseCreateDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.merchandise.SimpleMerchandiseDto;
@@ -8,19 +9,21 @@ import at.ac.tuwien.sepr.groupphase.backend.entity.Merchandise;
 import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
 import at.ac.tuwien.sepr.groupphase.backend.exception.ValidationException;
 import at.ac.tuwien.sepr.groupphase.backend.repository.MerchandiseRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.BlobStore;
+import at.ac.tuwien.sepr.groupphase.backend.service.ImageDerivativeService;
 import at.ac.tuwien.sepr.groupphase.backend.service.MerchandiseService;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.blob.ImageByteCache;
+import at.ac.tuwien.sepr.groupphase.backend.type.ImageSize;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.invoke.MethodHandles;
 import java.util.List;
 import java.util.Locale;
@@ -34,6 +37,9 @@ public class MerchandiseServiceImpl implements MerchandiseService {
 
     private final MerchandiseRepository merchandiseRepository;
     private final MerchandiseMapper merchandiseMapper;
+    private final BlobStore blobStore;
+    private final ImageDerivativeService imageDerivativeService;
+    private final ImageByteCache imageByteCache;
 
     private static final Set<String> ALLOWED_IMAGE_TYPES = Set.of(
         "image/png",
@@ -42,9 +48,13 @@ public class MerchandiseServiceImpl implements MerchandiseService {
     );
     private static final long MAX_IMAGE_SIZE_BYTES = (3 * 1024 * 1024);
 
-    public MerchandiseServiceImpl(MerchandiseRepository merchandiseRepository, MerchandiseMapper merchandiseMapper) {
+    public MerchandiseServiceImpl(MerchandiseRepository merchandiseRepository, MerchandiseMapper merchandiseMapper, BlobStore blobStore,
+                                  ImageDerivativeService imageDerivativeService, ImageByteCache imageByteCache) {
         this.merchandiseRepository = merchandiseRepository;
         this.merchandiseMapper = merchandiseMapper;
+        this.blobStore = blobStore;
+        this.imageDerivativeService = imageDerivativeService;
+        this.imageByteCache = imageByteCache;
     }
 
     @Override
@@ -104,10 +114,12 @@ public class MerchandiseServiceImpl implements MerchandiseService {
         Merchandise m = getExisting(id);
         validateImage(image);
 
-        try {
-            m.setImage(image.getBytes());
+        try (InputStream content = image.getInputStream()) {
+            imageDerivativeService.blobKeys(m.getImageKey()).forEach(imageByteCache::invalidate);
+            m.setImageKey(blobStore.put(content));
             m.setImageContentType(normalizeContentType(image.getContentType()));
             merchandiseRepository.save(m);
+            imageDerivativeService.generateAfterCommit(m.getImageKey(), m.getImageContentType());
 
         } catch (IOException e) {
             throw new ValidationException("Image could not be processed!");
@@ -115,14 +127,13 @@ public class MerchandiseServiceImpl implements MerchandiseService {
     }
 
     @Override
-    @Transactional
-    public ResponseEntity<byte[]> getImageResponse(Long id) {
-        LOGGER.debug("Get image response for merchandise id={}", id);
+    @Transactional(readOnly = true)
+    public ImageResourceDto getImage(Long id, ImageSize size) {
+        LOGGER.debug("Get {} image for merchandise id={}", size, id);
         Merchandise m = getExisting(id);
 
-        byte[] data = m.getImage();
-        if (data == null || data.length == 0) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        if (!m.hasImage()) {
+            return null;
         }
 
         String contentType = m.getImageContentType();
@@ -130,11 +141,8 @@ public class MerchandiseServiceImpl implements MerchandiseService {
             contentType = MediaType.APPLICATION_OCTET_STREAM_VALUE;
         }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.parseMediaType(contentType));
-        headers.setContentLength(data.length);
-
-        return new ResponseEntity<>(data, headers, HttpStatus.OK);
+        String key = imageDerivativeService.resolve(m.getImageKey(), size);
+        return new ImageResourceDto(key, contentType, imageByteCache.get(key));
     }
 
     private Merchandise getExisting(Long id) {
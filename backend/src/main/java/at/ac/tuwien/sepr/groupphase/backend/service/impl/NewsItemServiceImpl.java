@@ -1,30 +1,43 @@
 package at.ac.tuwien.sepr.groupphase.backend.service.impl;
 
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.image.ImageResourceDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.newsItem.DetailedNewsItemDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.newsItem.NewsItemCreateDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.newsItem.NewsItemUpdateDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.newsItem.SimpleNewsItemDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.page.CursorPageDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.mapper.NewsItemMapper;
 import at.ac.tuwien.sepr.groupphase.backend.entity.NewsItem;
 import at.ac.tuwien.sepr.groupphase.backend.entity.SeenNews;
-import at.ac.tuwien.sepr.groupphase.backend.entity.User;
 import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
 import at.ac.tuwien.sepr.groupphase.backend.exception.ValidationException;
 import at.ac.tuwien.sepr.groupphase.backend.repository.NewsItemRepository;
-import at.ac.tuwien.sepr.groupphase.backend.repository.SeenNewsItemRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.keyset.Keyset;
+import at.ac.tuwien.sepr.groupphase.backend.repository.keyset.KeysetPage;
+import at.ac.tuwien.sepr.groupphase.backend.service.BlobStore;
+import at.ac.tuwien.sepr.groupphase.backend.service.ImageDerivativeService;
 import at.ac.tuwien.sepr.groupphase.backend.service.NewsItemService;
+import at.ac.tuwien.sepr.groupphase.backend.service.UserIdentity;
 import at.ac.tuwien.sepr.groupphase.backend.service.UserService;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.blob.ImageByteCache;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.news.NewsFeed;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.news.SeenNewsIndex;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.news.SeenNewsWriteBuffer;
 import at.ac.tuwien.sepr.groupphase.backend.service.impl.validators.NewsValidator;
+import at.ac.tuwien.sepr.groupphase.backend.type.ImageSize;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.invoke.MethodHandles;
 import java.time.LocalDate;
 import java.util.List;
@@ -33,111 +46,142 @@ import java.util.List;
 public class NewsItemServiceImpl implements NewsItemService {
 
     private final NewsItemRepository newsItemRepository;
-    private final SeenNewsItemRepository seenNewsItemRepository;
     private final NewsValidator newsValidator;
     private final UserService userService;
     private final NewsItemMapper newsItemMapper;
+    private final BlobStore blobStore;
+    private final ImageDerivativeService imageDerivativeService;
+    private final ImageByteCache imageByteCache;
+    private final SeenNewsIndex seenNewsIndex;
+    private final NewsFeed newsFeed;
+    private final SeenNewsWriteBuffer seenNewsWriteBuffer;
     private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
-    public NewsItemServiceImpl(NewsItemRepository newsItemRepository, SeenNewsItemRepository seenNewsItemRepository,
-                               NewsValidator newsValidator, UserService userService, NewsItemMapper newsItemMapper) {
+    public NewsItemServiceImpl(NewsItemRepository newsItemRepository,
+                               NewsValidator newsValidator, UserService userService, NewsItemMapper newsItemMapper,
+                               BlobStore blobStore, ImageDerivativeService imageDerivativeService, ImageByteCache imageByteCache,
+                               SeenNewsIndex seenNewsIndex, NewsFeed newsFeed, SeenNewsWriteBuffer seenNewsWriteBuffer) {
         this.newsItemRepository = newsItemRepository;
-        this.seenNewsItemRepository = seenNewsItemRepository;
         this.newsValidator = newsValidator;
         this.userService = userService;
         this.newsItemMapper = newsItemMapper;
+        this.blobStore = blobStore;
+        this.imageDerivativeService = imageDerivativeService;
+        this.imageByteCache = imageByteCache;
+        this.seenNewsIndex = seenNewsIndex;
+        this.newsFeed = newsFeed;
+        this.seenNewsWriteBuffer = seenNewsWriteBuffer;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<SimpleNewsItemDto> getUnreadNews(String userEmail, Pageable pageable) {
         LOGGER.trace("Getting unread news for user: {} with pagination "
             + "(page={}, size{})", userEmail, pageable.getPageNumber(), pageable.getPageSize());
 
-        User user = userService.findByEmail(userEmail);
-        List<SeenNews> seenNewsList = seenNewsItemRepository.findByUser(user);
-        List<Long> seenIds = seenNewsList.stream()
-            .map(seenNewsId -> seenNewsId.getNewsItem().getId())
-            .toList();
-
-        List<SimpleNewsItemDto> result = newsItemRepository.findAll().stream()
-            .filter(newsItem -> !seenIds.contains(newsItem.getId()))
-            .filter(newsItem -> newsItem.getPublishedAt().isBefore(LocalDate.now()) || newsItem.getPublishedAt().isEqual(LocalDate.now()))
-            .sorted((a, b) -> b.getPublishedAt().compareTo(a.getPublishedAt()))
-            .map(newsItemMapper::toSimple)
-            .toList();
+        UserIdentity user = userService.findIdentityByEmail(userEmail);
+        seenNewsWriteBuffer.flushIfPending(user.id());
+        Page<SimpleNewsItemDto> result = newsItemRepository.findUnread(user.id(), LocalDate.now(), pageable).map(newsItemMapper::toSimple);
+        LOGGER.trace("Found {} unread news items for user: {}", result.getTotalElements(), userEmail);
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), result.size());
-
-        List<SimpleNewsItemDto> pageContent = result.subList(start, end);
-        LOGGER.trace("Found {} unread news items for user: {}", result.size(), userEmail);
-
-        return new PageImpl<>(pageContent, pageable, result.size());
+        return result;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<SimpleNewsItemDto> getReadNews(String userEmail, Pageable pageable) {
         LOGGER.trace("Getting read news for user: {} with pagination "
             + "(page={}, size{})", userEmail, pageable.getPageNumber(), pageable.getPageSize());
 
-        User user = userService.findByEmail(userEmail);
-        List<SeenNews> seenNewsList = seenNewsItemRepository.findByUser(user);
-        List<Long> seenIds = seenNewsList.stream()
-            .map(seenNews -> seenNews.getNewsItem().getId())
-            .toList();
+        UserIdentity user = userService.findIdentityByEmail(userEmail);
+        seenNewsWriteBuffer.flushIfPending(user.id());
+        Page<SimpleNewsItemDto> result = newsItemRepository.findRead(user.id(), LocalDate.now(), pageable).map(newsItemMapper::toSimple);
+        LOGGER.trace("Found {} read news items for user: {}", result.getTotalElements(), userEmail);
 
-        List<SimpleNewsItemDto> result = newsItemRepository.findAll().stream()
-            .filter(newsItem -> seenIds.contains(newsItem.getId()))
-            .filter(newsItem -> newsItem.getPublishedAt().isBefore(LocalDate.now()) || newsItem.getPublishedAt().isEqual(LocalDate.now()))
-            .sorted((a, b) -> b.getPublishedAt().compareTo(a.getPublishedAt()))
-            .map(newsItemMapper::toSimple)
-            .toList();
+        return result;
+    }
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), result.size());
+    @Override
+    public Page<SimpleNewsItemDto> findAll(Pageable pageable) {
+        LOGGER.trace("Finding all published news items");
 
-        List<SimpleNewsItemDto> pageContent = result.subList(start, end);
-        LOGGER.trace("Found {} unread news items for user: {}", result.size(), userEmail);
+        Page<SimpleNewsItemDto> result = newsFeed.page(pageable);
+        LOGGER.trace("Found {} published news items", result.getTotalElements());
 
-        return new PageImpl<>(pageContent, pageable, result.size());
+        return result;
     }
 
     @Override
-    public Page<SimpleNewsItemDto> findAll(Pageable pageable) {
-        LOGGER.trace("Finding all published news items");
+    @Transactional(readOnly = true)
+    public Page<SimpleNewsItemDto> getUnpublished(Pageable pageable) {
+        LOGGER.trace("Finding all unpublished news items");
 
-        List<SimpleNewsItemDto> result = newsItemRepository.findAll().stream()
-            .filter(newsItem -> newsItem.getPublishedAt().isBefore(LocalDate.now()) || newsItem.getPublishedAt().isEqual(LocalDate.now()))
-            .sorted((a, b) -> b.getPublishedAt().compareTo(a.getPublishedAt()))
-            .map(newsItemMapper::toSimple)
-            .toList();
+        Page<SimpleNewsItemDto> result = newsItemRepository
+            .findByPublishedAtAfterOrderByPublishedAtAscIdAsc(LocalDate.now(), pageable)
+            .map(newsItemMapper::toSimple);
+        LOGGER.trace("Found {} unpublished news items", result.getTotalElements());
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), result.size());
+        return result;
+    }
 
-        List<SimpleNewsItemDto> pageContent = result.subList(start, end);
-        LOGGER.trace("Found {} published news items", result.size());
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<SimpleNewsItemDto> getUnreadNewsByCursor(String userEmail, String cursor, int size) {
+        LOGGER.trace("Getting unread news for user: {} after cursor {} (size={})", userEmail, cursor, size);
+        UserIdentity user = userService.findIdentityByEmail(userEmail);
+        seenNewsWriteBuffer.flushIfPending(user.id());
+        return findByCursor(publishedUntil(LocalDate.now()).and(seenBy(user.id(), false)), true, cursor, size);
+    }
 
-        return new PageImpl<>(pageContent, pageable, result.size());
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<SimpleNewsItemDto> getReadNewsByCursor(String userEmail, String cursor, int size) {
+        LOGGER.trace("Getting read news for user: {} after cursor {} (size={})", userEmail, cursor, size);
+        UserIdentity user = userService.findIdentityByEmail(userEmail);
+        seenNewsWriteBuffer.flushIfPending(user.id());
+        return findByCursor(publishedUntil(LocalDate.now()).and(seenBy(user.id(), true)), true, cursor, size);
     }
 
     @Override
-    public Page<SimpleNewsItemDto> getUnpublished(Pageable pageable) {
-        LOGGER.trace("Finsing all unpublished news items");
+    @Transactional(readOnly = true)
+    public CursorPageDto<SimpleNewsItemDto> findAllByCursor(String cursor, int size) {
+        LOGGER.trace("Finding published news items after cursor {} (size={})", cursor, size);
+        return findByCursor(publishedUntil(LocalDate.now()), true, cursor, size);
+    }
 
-        List<SimpleNewsItemDto> result = newsItemRepository.findAll().stream()
-            .filter(newsItem -> newsItem.getPublishedAt().isAfter(LocalDate.now()))
-            .sorted((a, b) -> a.getPublishedAt().compareTo(b.getPublishedAt()))
-            .map(newsItemMapper::toSimple)
-            .toList();
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<SimpleNewsItemDto> getUnpublishedByCursor(String cursor, int size) {
+        LOGGER.trace("Finding unpublished news items after cursor {} (size={})", cursor, size);
+        Specification<NewsItem> unpublished = (root, query, cb) -> cb.greaterThan(root.get("publishedAt"), LocalDate.now());
+        return findByCursor(unpublished, false, cursor, size);
+    }
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), result.size());
+    private CursorPageDto<SimpleNewsItemDto> findByCursor(Specification<NewsItem> filter, boolean newestFirst, String cursor, int size) {
+        Keyset<LocalDate> keyset = newestFirst
+            ? Keyset.descending("publishedAt", LocalDate.class, cursor, size)
+            : Keyset.ascending("publishedAt", LocalDate.class, cursor, size);
+        KeysetPage<NewsItem> page = newsItemRepository.findKeyset(NewsItem.class, filter, keyset);
+        return new CursorPageDto<>(
+            page.content().stream().map(newsItemMapper::toSimple).toList(),
+            keyset.nextCursor(page, NewsItem::getPublishedAt, NewsItem::getId));
+    }
 
-        List<SimpleNewsItemDto> pageContent = result.subList(start, end);
-        LOGGER.trace("Found {} unpublished news items", result.size());
+    private static Specification<NewsItem> publishedUntil(LocalDate today) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("publishedAt"), today);
+    }
 
-        return new PageImpl<>(pageContent, pageable, result.size());
+    /**
+     * News items the user has (or has not) marked as read, as a correlated subquery on {@link SeenNews}.
+     */
+    private static Specification<NewsItem> seenBy(Long userId, boolean seen) {
+        return (root, query, cb) -> {
+            Subquery<Long> seenNews = query.subquery(Long.class);
+            Root<SeenNews> seenRoot = seenNews.from(SeenNews.class);
+            seenNews.select(seenRoot.get("id"))
+                .where(cb.equal(seenRoot.get("newsItem"), root), cb.equal(seenRoot.get("user").get("id"), userId));
+            return seen ? cb.exists(seenNews) : cb.not(cb.exists(seenNews));
+        };
     }
 
     @Override
@@ -148,17 +192,37 @@ public class NewsItemServiceImpl implements NewsItemService {
     }
 
     @Override
-    @Transactional
     public void markAsRead(Long newsId, String userEmail) {
         LOGGER.trace("Marking news ID {} as read for user: {}", newsId, userEmail);
 
-        NewsItem newsItem = newsItemMapper.fromDetailedDto(findById(newsId));
-        User user = userService.findByEmail(userEmail);
-        boolean alreadySeen = seenNewsItemRepository.existsByUserAndNewsItem(user, newsItem);
-        if (!alreadySeen) {
-            SeenNews seenNews = new SeenNews(user, newsItem);
-            seenNewsItemRepository.save(seenNews);
+        UserIdentity user = userService.findIdentityByEmail(userEmail);
+        if (seenNewsIndex.isSeen(user.id(), newsId)) {
+            return;
+        }
+        if (!newsItemRepository.existsById(newsId)) {
+            throw new NotFoundException("News item not found: " + newsId);
+        }
+
+        seenNewsWriteBuffer.add(user.id(), List.of(newsId));
+        seenNewsIndex.markSeenAfterCommit(user.id(), newsId);
+    }
+
+    @Override
+    public void markAllAsRead(List<Long> newsIds, String userEmail) {
+        LOGGER.trace("Marking {} news items as read for user: {}", newsIds.size(), userEmail);
+
+        UserIdentity user = userService.findIdentityByEmail(userEmail);
+        List<Long> unseen = newsIds.stream()
+            .distinct()
+            .filter(newsId -> !seenNewsIndex.isSeen(user.id(), newsId))
+            .toList();
+        if (unseen.isEmpty()) {
+            return;
         }
+
+        List<Long> existing = newsItemRepository.findExistingIds(unseen);
+        seenNewsWriteBuffer.add(user.id(), existing);
+        existing.forEach(newsId -> seenNewsIndex.markSeenAfterCommit(user.id(), newsId));
     }
 
     @Override
@@ -174,7 +238,9 @@ public class NewsItemServiceImpl implements NewsItemService {
             newsItem.setPublishedAt(LocalDate.now());
         }
 
-        return newsItemMapper.toDetailed(newsItemRepository.save(newsItem));
+        DetailedNewsItemDto created = newsItemMapper.toDetailed(newsItemRepository.save(newsItem));
+        newsFeed.rebuildAfterCommit();
+        return created;
     }
 
     @Override
@@ -198,6 +264,7 @@ public class NewsItemServiceImpl implements NewsItemService {
         }
 
         NewsItem updatedNews = newsItemRepository.save(existingNews);
+        newsFeed.rebuildAfterCommit();
 
         return newsItemMapper.toDetailed(newsItemRepository.save(updatedNews));
     }
@@ -211,9 +278,11 @@ public class NewsItemServiceImpl implements NewsItemService {
         newsValidator.validateImage(image);
 
         NewsItem newsItem = newsItemRepository.findById(newsId).orElseThrow(() -> new NotFoundException("Die News wurde nicht gefunden"));
-        try {
-            newsItem.setImageData(image.getBytes());
+        try (InputStream content = image.getInputStream()) {
+            imageDerivativeService.blobKeys(newsItem.getImageKey()).forEach(imageByteCache::invalidate);
+            newsItem.setImageKey(blobStore.put(content));
             newsItem.setImageContentType(image.getContentType());
+            imageDerivativeService.generateAfterCommit(newsItem.getImageKey(), newsItem.getImageContentType());
         } catch (IOException e) {
             throw new ValidationException("Bilddaten konnten nicht gelesen werden");
         }
@@ -221,25 +290,17 @@ public class NewsItemServiceImpl implements NewsItemService {
 
     @Override
     @Transactional(readOnly = true)
-    public byte[] getImageData(Long newsId) {
-        LOGGER.debug("Get image for news item {}", newsId);
-
-        NewsItem newsItem = newsItemRepository.findById(newsId).orElseThrow(() -> new NotFoundException("Die News wurde nicht gefunden"));
-
-        return newsItem.getImageData();
-    }
-
-    @Override
-    public String getImageContentType(Long newsId) {
-        LOGGER.trace("Getting image content type for news news item {}", newsId);
+    public ImageResourceDto getImage(Long newsId, ImageSize size) {
+        LOGGER.debug("Get {} image for news item {}", size, newsId);
 
         NewsItem newsItem = newsItemRepository.findById(newsId).orElseThrow(() -> new NotFoundException("Die News wurde nicht gefunden"));
 
-        if (newsItem.getImageData() == null) {
-            throw new NotFoundException("Es wurde kein Bild für diese Veranstaltung gefunden");
+        if (newsItem.getImageKey() == null) {
+            return null;
         }
 
-        return newsItem.getImageContentType();
+        String key = imageDerivativeService.resolve(newsItem.getImageKey(), size);
+        return new ImageResourceDto(key, newsItem.getImageContentType(), imageByteCache.get(key));
     }
 
     @Override
@@ -249,11 +310,12 @@ public class NewsItemServiceImpl implements NewsItemService {
         NewsItem newsItem = newsItemRepository.findById(newsId)
             .orElseThrow(() -> new NotFoundException("Event not found: " + newsId));
 
-        if (newsItem.getImageData() == null) {
+        if (newsItem.getImageKey() == null) {
             throw new NotFoundException("Veranstaltung hat kein Bild");
         }
 
-        newsItem.setImageData(null);
+        imageDerivativeService.blobKeys(newsItem.getImageKey()).forEach(imageByteCache::invalidate);
+        newsItem.setImageKey(null);
         newsItem.setImageContentType(null);
         newsItemRepository.save(newsItem);
     }
@@ -269,5 +331,7 @@ public class NewsItemServiceImpl implements NewsItemService {
         }
 
         newsItemRepository.deleteById(id);
+        seenNewsIndex.forgetNewsItemAfterCommit(id);
+        newsFeed.rebuildAfterCommit();
     }
 }
\ No newline at end of file
@@ -7,20 +7,30 @@ import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
 import at.ac.tuwien.sepr.groupphase.backend.repository.PasswordResetTokenRepository;
 import at.ac.tuwien.sepr.groupphase.backend.repository.UserRepository;
 import at.ac.tuwien.sepr.groupphase.backend.service.PasswordResetService;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.search.UserSearchIndex;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.mail.MailException;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.lang.invoke.MethodHandles;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
 import java.time.LocalDateTime;
-import java.util.UUID;
-
+import java.util.Base64;
+
+/**
+ * Password reset based on split tokens.
+ *
+ * <p>A raw token has the form {@code <selector>.<verifier>}. The selector is stored in plain
+ * text and finds the token with an index lookup; the verifier is stored as a SHA-256 hash only
+ * and compared in constant time against that single row. Both parts are random, so a fast hash
+ * is sufficient for the verifier.
+ */
 @Service
 public class PasswordResetServiceImpl implements PasswordResetService {
 
@@ -28,22 +38,33 @@ public class PasswordResetServiceImpl implements PasswordResetService {
         MethodHandles.lookup().lookupClass());
 
     private static final int TOKEN_VALIDITY_MINUTES = 30;
+    private static final int SELECTOR_BYTES = 12;
+    private static final int VERIFIER_BYTES = 32;
+    private static final char SEPARATOR = '.';
+
+    private static final SecureRandom RANDOM = new SecureRandom();
 
     private final UserRepository userRepository;
     private final PasswordResetTokenRepository tokenRepository;
     private final PasswordEncoder passwordEncoder;
-    private final JavaMailSender mailSender;
+    private final MailOutbox mailOutbox;
+    private final UserIdentityCache userIdentityCache;
+    private final UserSearchIndex userSearchIndex;
 
     public PasswordResetServiceImpl(
         UserRepository userRepository,
         PasswordResetTokenRepository tokenRepository,
         PasswordEncoder passwordEncoder,
-        JavaMailSender mailSender
+        MailOutbox mailOutbox,
+        UserIdentityCache userIdentityCache,
+        UserSearchIndex userSearchIndex
     ) {
         this.userRepository = userRepository;
         this.tokenRepository = tokenRepository;
         this.passwordEncoder = passwordEncoder;
-        this.mailSender = mailSender;
+        this.mailOutbox = mailOutbox;
+        this.userIdentityCache = userIdentityCache;
+        this.userSearchIndex = userSearchIndex;
     }
 
     // -------------------------------------------------------------------------
@@ -90,9 +111,17 @@ public class PasswordResetServiceImpl implements PasswordResetService {
     public void resetPassword(String rawToken, String newPassword) {
         LOGGER.info("Attempting password reset using token");
 
-        PasswordResetToken resetToken = tokenRepository.findAll().stream()
-            .filter(t -> passwordEncoder.matches(rawToken, t.getTokenHash()))
-            .findFirst()
+        int separator = rawToken == null ? -1 : rawToken.indexOf(SEPARATOR);
+        if (separator < 0) {
+            throw new ConflictException("Invalid or expired reset token");
+        }
+        String selector = rawToken.substring(0, separator);
+        String verifier = rawToken.substring(separator + 1);
+
+        PasswordResetToken resetToken = tokenRepository.findBySelector(selector)
+            .filter(t -> MessageDigest.isEqual(
+                hashVerifier(verifier).getBytes(StandardCharsets.US_ASCII),
+                t.getTokenHash().getBytes(StandardCharsets.US_ASCII)))
             .orElseThrow(() ->
                 new ConflictException("Invalid or expired reset token"));
 
@@ -109,6 +138,8 @@ public class PasswordResetServiceImpl implements PasswordResetService {
         user.setLocked(false);
 
         userRepository.save(user);
+        userIdentityCache.invalidate(user.getEmail());
+        userSearchIndex.indexAfterCommit(user);
         tokenRepository.delete(resetToken);
 
         LOGGER.info("Password successfully reset for userId={}", user.getId());
@@ -118,39 +149,51 @@ public class PasswordResetServiceImpl implements PasswordResetService {
         tokenRepository.deleteByUserId(user.getId());
         tokenRepository.flush();
 
-        String rawToken = UUID.randomUUID().toString();
-        String hashedToken = passwordEncoder.encode(rawToken);
+        String selector = randomToken(SELECTOR_BYTES);
+        String verifier = randomToken(VERIFIER_BYTES);
+        String rawToken = selector + SEPARATOR + verifier;
 
         PasswordResetToken token = new PasswordResetToken();
         token.setUser(user);
-        token.setTokenHash(hashedToken);
+        token.setSelector(selector);
+        token.setTokenHash(hashVerifier(verifier));
         token.setExpiresAt(
             LocalDateTime.now().plusMinutes(TOKEN_VALIDITY_MINUTES));
 
         tokenRepository.save(token);
 
-        try {
-            sendResetMail(user.getEmail(), rawToken);
-        } catch (MailException ex) {
-            LOGGER.warn(
-                "Password reset mail could not be sent to email={}",
-                user.getEmail(),
-                ex
-            );
-        }
+        sendResetMail(user.getEmail(), rawToken);
     }
 
     private void sendResetMail(String email, String token) {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(email);
-        message.setSubject("Password reset");
-        message.setText(
+        mailOutbox.enqueue(
+            email,
+            "Password reset",
             "Sie haben ein Zurücksetzen Ihres Passworts angefordert.\n\n"
                 + "Bitte verwenden Sie den folgenden Link, um ein neues Passwort zu setzen:\n\n"
                 + "http://localhost:4200/#/password-reset/confirm?token=" + token + "\n\n"
                 + "Dieser Link ist " + TOKEN_VALIDITY_MINUTES + " Minuten gültig."
         );
+    }
+
+    /**
+     * Hash the secret part of a reset token for storage.
+     *
+     * @param verifier the verifier
+     * @return the Base64 encoded SHA-256 hash of the verifier
+     */
+    static String hashVerifier(String verifier) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(verifier.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
 
-        mailSender.send(message);
+    private static String randomToken(int bytes) {
+        byte[] random = new byte[bytes];
+        RANDOM.nextBytes(random);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(random);
     }
-}
\ No newline at end of file
+}
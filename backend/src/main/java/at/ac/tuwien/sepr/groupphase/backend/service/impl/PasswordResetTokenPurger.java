@@ -0,0 +1,51 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl;
+
+import at.ac.tuwien.sepr.groupphase.backend.repository.PasswordResetTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandles;
+import java.time.LocalDateTime;
+
+/**
+ * Deletes expired password reset tokens in the background.
+ *
+ * <p>Expired tokens are rejected on use anyway; purging them keeps tokens that were never used
+ * from piling up in the table.
+ */
+@Component
+public class PasswordResetTokenPurger {
+
+    private static final Logger LOGGER =
+        LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    private final PasswordResetTokenRepository tokenRepository;
+
+    public PasswordResetTokenPurger(PasswordResetTokenRepository tokenRepository) {
+        this.tokenRepository = tokenRepository;
+    }
+
+    /**
+     * Delete all tokens that have expired.
+     *
+     * @return the number of deleted tokens
+     */
+    public int purge() {
+        int deleted = tokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            LOGGER.info("Purged {} expired password reset tokens", deleted);
+        }
+        return deleted;
+    }
+
+    @Scheduled(fixedDelayString = "${app.password-reset.purge-interval:15m}", initialDelayString = "${app.password-reset.purge-interval:15m}")
+    void purgeQuietly() {
+        try {
+            purge();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not purge expired password reset tokens", e);
+        }
+    }
+}
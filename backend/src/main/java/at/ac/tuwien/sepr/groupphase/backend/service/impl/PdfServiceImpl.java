@@ -5,6 +5,9 @@ import at.ac.tuwien.sepr.groupphase.backend.entity.Invoice;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Ticket;
 import at.ac.tuwien.sepr.groupphase.backend.service.PdfService;
 import com.openhtmltopdf.pdfboxout.PdfRendererBuilder;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
@@ -24,10 +27,29 @@ public class PdfServiceImpl implements PdfService {
     private static final DateTimeFormatter TIME_FORMAT =
         DateTimeFormatter.ofPattern("HH:mm");
 
+    private final Timer renderDuration;
+    private final DistributionSummary renderSize;
+
+    public PdfServiceImpl(MeterRegistry meterRegistry) {
+        this.renderDuration = Timer.builder("pdf.render.duration")
+            .description("Time taken to render an invoice PDF")
+            .register(meterRegistry);
+        this.renderSize = DistributionSummary.builder("pdf.render.size")
+            .description("Size of rendered invoice PDFs")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
     // =========================
     // PDF Rendering
     // =========================
     public byte[] generateInvoicePdfFromHtml(String htmlContent) {
+        byte[] pdf = renderDuration.record(() -> render(htmlContent));
+        renderSize.record(pdf.length);
+        return pdf;
+    }
+
+    private byte[] render(String htmlContent) {
         try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
             PdfRendererBuilder builder = new PdfRendererBuilder();
             builder.useFastMode();
@@ -1,21 +1,29 @@
 package at.ac.tuwien.sepr.groupphase.backend.service.impl;
 
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.page.CursorPageDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.reservation.DetailedReservationDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.reservation.SimpleReservationDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.mapper.ReservationMapper;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Reservation;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Ticket;
 import at.ac.tuwien.sepr.groupphase.backend.entity.User;
+import at.ac.tuwien.sepr.groupphase.backend.exception.ConflictException;
 import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
 import at.ac.tuwien.sepr.groupphase.backend.exception.ValidationException;
 import at.ac.tuwien.sepr.groupphase.backend.repository.ReservationRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.keyset.Keyset;
+import at.ac.tuwien.sepr.groupphase.backend.repository.keyset.KeysetPage;
 import at.ac.tuwien.sepr.groupphase.backend.service.CartService;
 import at.ac.tuwien.sepr.groupphase.backend.service.ReservationService;
 
 import at.ac.tuwien.sepr.groupphase.backend.service.TicketService;
+import at.ac.tuwien.sepr.groupphase.backend.service.UserIdentity;
 import at.ac.tuwien.sepr.groupphase.backend.service.UserService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
 import java.lang.invoke.MethodHandles;
@@ -43,14 +51,23 @@ public class ReservationServiceImpl implements ReservationService {
     private final UserService userService;
     private final ReservationMapper reservationMapper;
     private final CartService cartService;
+    private final Counter heldTickets;
+    private final Counter holdConflicts;
 
     public ReservationServiceImpl(ReservationRepository reservationRepository, @Lazy TicketService ticketService, UserService userService,
-                                  ReservationMapper reservationMapper, @Lazy CartService cartService) {
+                                  ReservationMapper reservationMapper, @Lazy CartService cartService, MeterRegistry meterRegistry) {
         this.reservationRepository = reservationRepository;
         this.ticketService = ticketService;
         this.userService = userService;
         this.reservationMapper = reservationMapper;
         this.cartService = cartService;
+        this.heldTickets = Counter.builder("ticket.holds")
+            .description("Tickets put on hold by reservations")
+            .register(meterRegistry);
+        this.holdConflicts = Counter.builder("ticket.conflicts")
+            .description("Ticket requests rejected because a seat was already taken")
+            .tag("operation", "hold")
+            .register(meterRegistry);
     }
 
     private User findUserOrThrow(String email) {
@@ -103,11 +120,16 @@ public class ReservationServiceImpl implements ReservationService {
 
         for (Ticket ticket : tickets) {
             if (ticket.getReservation() != null) {
+                holdConflicts.increment();
                 throw new ValidationException("Ticket already exists for reservation: " + ticket.getId());
             }
             if (ticket.getInvoice() != null) {
+                holdConflicts.increment();
                 throw new ValidationException("Ticket " + ticket.getId() + " is already purchased (has invoice)");
             }
+            if (ticket.getEvent().isCancelled()) {
+                throw new ConflictException("Event " + ticket.getEvent().getId() + " is cancelled");
+            }
         }
         User user = findUserOrThrow(userEmail);
         Reservation reservationEntity = new Reservation();
@@ -119,14 +141,15 @@ public class ReservationServiceImpl implements ReservationService {
         reservationEntity.setReservationNumber("RES-" + LocalDate.now().getYear() + "-" + reservationEntity.getId());
         Reservation reservation = reservationRepository.save(reservationEntity);
         ticketService.reserve(reservation, ticketIds, userEmail);
+        heldTickets.increment(tickets.size());
         return reservationMapper.toSimple(reservation);
     }
 
     @Transactional
     @Override
     public List<DetailedReservationDto> findByUser(String userEmail) {
-        User user = findUserOrThrow(userEmail);
-        List<Reservation> reservations = reservationRepository.findByUserId(user.getId());
+        UserIdentity user = userService.findIdentityByEmail(userEmail);
+        List<Reservation> reservations = reservationRepository.findByUserId(user.id());
 
         return reservations.stream()
             .flatMap(r -> r.getTickets().stream()
@@ -135,6 +158,23 @@ public class ReservationServiceImpl implements ReservationService {
             .toList();
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPageDto<DetailedReservationDto> findByUserByCursor(String userEmail, String cursor, int size) {
+        UserIdentity user = userService.findIdentityByEmail(userEmail);
+        Keyset<Long> keyset = Keyset.descending("id", Long.class, cursor, size);
+        Specification<Reservation> ofUser = (root, query, cb) -> cb.equal(root.get("user").get("id"), user.id());
+        KeysetPage<Reservation> page = reservationRepository.findKeyset(Reservation.class, ofUser, keyset);
+
+        return new CursorPageDto<>(
+            page.content().stream()
+                .flatMap(r -> r.getTickets().stream()
+                    .map(t -> reservationMapper.toTicketDetailed(t, r))
+                )
+                .toList(),
+            keyset.nextCursor(page, Reservation::getId, Reservation::getId));
+    }
+
 
     @Transactional
     @Override
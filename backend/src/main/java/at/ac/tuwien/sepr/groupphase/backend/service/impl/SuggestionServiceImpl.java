@@ -0,0 +1,41 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl;
+
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.suggest.SuggestionDto;
+import at.ac.tuwien.sepr.groupphase.backend.exception.ValidationException;
+import at.ac.tuwien.sepr.groupphase.backend.service.SuggestionService;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.search.SearchMeters;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.search.SuggestionIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+
+@Service
+public class SuggestionServiceImpl implements SuggestionService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(
+        MethodHandles.lookup().lookupClass());
+
+    private static final int MAX_LIMIT = 20;
+
+    private final SuggestionIndex suggestionIndex;
+    private final SearchMeters suggestSearch;
+
+    public SuggestionServiceImpl(SuggestionIndex suggestionIndex, MeterRegistry meterRegistry) {
+        this.suggestionIndex = suggestionIndex;
+        this.suggestSearch = SearchMeters.register("suggest", meterRegistry);
+    }
+
+    @Override
+    public List<SuggestionDto> suggest(String query, int limit) {
+        LOGGER.debug("Suggest for '{}' (limit={})", query, limit);
+
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ValidationException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        return suggestSearch.record(() -> suggestionIndex.suggest(query, limit), List::size);
+    }
+}
@@ -28,6 +28,11 @@ import at.ac.tuwien.sepr.groupphase.backend.service.SeatService;
 import at.ac.tuwien.sepr.groupphase.backend.service.TicketService;
 
 import at.ac.tuwien.sepr.groupphase.backend.service.UserService;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.sales.SalesRollup;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Lazy;
@@ -62,11 +67,18 @@ public class TicketServiceImpl implements TicketService {
     private final CancelledTicketMapper cancelledTicketMapper;
     private final TicketMapper ticketMapper;
     private final ReservationRepository reservationRepository;
+    private final SalesRollup salesRollup;
+    private final Timer createDuration;
+    private final Timer purchaseDuration;
+    private final DistributionSummary createdTickets;
+    private final DistributionSummary purchasedTickets;
+    private final Counter createConflicts;
+    private final Counter purchaseConflicts;
 
 
     public TicketServiceImpl(TicketRepository ticketRepository, @Lazy InvoiceService invoiceService, UserService userService, SeatService seatService, EventServiceImpl eventService,
                              CancelledTicketRepository cancelledTicketRepository, CancelledTicketMapper cancelledTicketMapper, TicketMapper ticketMapper,
-                             ReservationRepository reservationRepository) {
+                             ReservationRepository reservationRepository, SalesRollup salesRollup, MeterRegistry meterRegistry) {
         this.ticketRepository = ticketRepository;
         this.invoiceService = invoiceService;
         this.userService = userService;
@@ -76,6 +88,34 @@ public class TicketServiceImpl implements TicketService {
         this.cancelledTicketMapper = cancelledTicketMapper;
         this.ticketMapper = ticketMapper;
         this.reservationRepository = reservationRepository;
+        this.salesRollup = salesRollup;
+        this.createDuration = operationDuration("create", meterRegistry);
+        this.purchaseDuration = operationDuration("purchase", meterRegistry);
+        this.createdTickets = operationTickets("create", meterRegistry);
+        this.purchasedTickets = operationTickets("purchase", meterRegistry);
+        this.createConflicts = conflicts("create", meterRegistry);
+        this.purchaseConflicts = conflicts("purchase", meterRegistry);
+    }
+
+    private static Timer operationDuration(String operation, MeterRegistry meterRegistry) {
+        return Timer.builder("ticket.operation.duration")
+            .description("Time taken to create or purchase tickets")
+            .tag("operation", operation)
+            .register(meterRegistry);
+    }
+
+    private static DistributionSummary operationTickets(String operation, MeterRegistry meterRegistry) {
+        return DistributionSummary.builder("ticket.operation.tickets")
+            .description("Tickets per create or purchase request")
+            .tag("operation", operation)
+            .register(meterRegistry);
+    }
+
+    private static Counter conflicts(String operation, MeterRegistry meterRegistry) {
+        return Counter.builder("ticket.conflicts")
+            .description("Ticket requests rejected because a seat was already taken")
+            .tag("operation", operation)
+            .register(meterRegistry);
     }
 
 
@@ -180,8 +220,11 @@ public class TicketServiceImpl implements TicketService {
     @Transactional
     @Override
     public List<DetailedTicketDto> create(List<TicketCreateDto> ticketsToCreate, String userEmail) {
+        return createDuration.record(() -> createTickets(ticketsToCreate, userEmail));
+    }
 
-        findUserOrThrow(userEmail);
+    private List<DetailedTicketDto> createTickets(List<TicketCreateDto> ticketsToCreate, String userEmail) {
+        userService.findIdentityByEmail(userEmail);
         if (ticketsToCreate.isEmpty()) {
             throw new IllegalArgumentException("Cannot create empty tickets");
         }
@@ -194,6 +237,7 @@ public class TicketServiceImpl implements TicketService {
                 );
             }
         }
+        createdTickets.record(ticketsToCreate.size());
 
 
         List<Ticket> tickets = ticketsToCreate.stream()
@@ -203,7 +247,12 @@ public class TicketServiceImpl implements TicketService {
                 Event event = eventService.findById(dto.eventId());
                 Seat seat = seatService.findById(dto.seatId());
 
+                if (event.isCancelled()) {
+                    throw new ConflictException("Event " + event.getId() + " is cancelled");
+                }
+
                 if (ticketRepository.existsByEventIdAndSeatId(event.getId(), seat.getId())) {
+                    createConflicts.increment();
                     throw new ValidationException(
                         "A ticket for event " + event.getTitle()
                             +
@@ -231,6 +280,7 @@ public class TicketServiceImpl implements TicketService {
         try {
             savedTickets = ticketRepository.saveAll(tickets);
         } catch (org.springframework.dao.DataIntegrityViolationException ex) {
+            createConflicts.increment();
             throw new ConflictException(
                 "Seat already booked for this event",
                 List.of("One of the selected seats was booked in the meantime."),
@@ -276,17 +326,25 @@ public class TicketServiceImpl implements TicketService {
     @Transactional
     @Override
     public List<DetailedTicketDto> purchase(List<Long> ticketIds, String userEmail) throws AccessDeniedException {
+        return purchaseDuration.record(() -> purchaseTickets(ticketIds, userEmail));
+    }
 
+    private List<DetailedTicketDto> purchaseTickets(List<Long> ticketIds, String userEmail) {
         if (ticketIds.isEmpty()) {
             throw new IllegalArgumentException("Cannot purchase empty tickets");
         }
+        purchasedTickets.record(ticketIds.size());
         User user = findUserOrThrow(userEmail);
 
         for (Long id : ticketIds) {
             Ticket ticket = findTicketOrThrow(id);
             if (ticket.getInvoice() != null) {
+                purchaseConflicts.increment();
                 throw new ValidationException("Cannot purchase ticket (already purchased) " + ticket.getInvoice());
             }
+            if (ticket.getEvent().isCancelled()) {
+                throw new ConflictException("Event " + ticket.getEvent().getId() + " is cancelled");
+            }
             verifyTicketOwnership(ticket, userEmail);
         }
 
@@ -337,7 +395,7 @@ public class TicketServiceImpl implements TicketService {
     @Transactional
     @Override
     public List<DetailedTicketDto> reserve(Reservation reservation, List<Long> ticketIds, String userEmail) {
-        findUserOrThrow(userEmail);
+        userService.findIdentityByEmail(userEmail);
         List<Ticket> tickets = ticketRepository.findAllById(ticketIds);
 
 
@@ -355,18 +413,24 @@ public class TicketServiceImpl implements TicketService {
     @Override
     public void deleteByIds(List<Long> ids, String userEmail) throws AccessDeniedException {
 
-        findUserOrThrow(userEmail);
+        userService.findIdentityByEmail(userEmail);
         List<Ticket> tickets = ticketRepository.findAllById(ids);
         for (Ticket t : tickets) {
             verifyTicketOwnership(t, userEmail);
         }
         LOGGER.info("Deleting tickets " + tickets);
+        List<Ticket> sold = tickets.stream()
+            .filter(t -> t.getInvoice() != null && t.getInvoice().getInvoiceCancellationDate() == null)
+            .toList();
+        if (!sold.isEmpty()) {
+            salesRollup.recordCancelled(sold);
+        }
         ticketRepository.deleteAll(tickets);
     }
 
     @Override
     public List<CancelledTicket> createCancelledTickets(List<Long> ticketIds, String userEmail, Invoice creditInvoice) {
-        User user = userService.findByEmail(userEmail);
+        userService.findIdentityByEmail(userEmail);
         List<CancelledTicket> cancelledTickets = new ArrayList<>();
         for (Ticket t : ticketRepository.findAllById(ticketIds)) {
             CancelledTicket cancelledTicket =
@@ -0,0 +1,90 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl;
+
+import at.ac.tuwien.sepr.groupphase.backend.service.UserIdentity;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.support.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Short-lived cache of user identities by e-mail address.
+ *
+ * <p>Entries expire after a fixed time to live and are invalidated when the profile, role, lock
+ * state or existence of a user changes, both right away and again once the change has
+ * committed. A lookup that started before an invalidation does not store its result, so a
+ * snapshot read from the old state is never cached. When the cache is full, expired entries
+ * are removed; if it is still full, lookups go to the database.
+ */
+@Component
+public class UserIdentityCache {
+
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public UserIdentityCache(@Value("${app.user-identity-cache.ttl:30s}") Duration ttl,
+                             @Value("${app.user-identity-cache.max-entries:10000}") int maxEntries) {
+        this.ttlMillis = ttl.toMillis();
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * The identity of the user with the given e-mail address.
+     *
+     * @param email the e-mail address
+     * @param loader loads the identity on a cache miss
+     * @return the identity
+     */
+    public UserIdentity get(String email, Function<String, UserIdentity> loader) {
+        return get(email, loader, System.currentTimeMillis());
+    }
+
+    UserIdentity get(String email, Function<String, UserIdentity> loader, long now) {
+        Entry cached = entries.get(email);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.identity();
+        }
+
+        long loadedGeneration = generation.get();
+        UserIdentity identity = loader.apply(email);
+        if (ttlMillis > 0 && hasRoom(now) && generation.get() == loadedGeneration) {
+            entries.put(email, new Entry(identity, now + ttlMillis));
+        }
+        return identity;
+    }
+
+    /**
+     * Drop the cached identity of a user now and after the current transaction has committed.
+     *
+     * @param email the e-mail address of the user
+     */
+    public void invalidate(String email) {
+        evict(email);
+        AfterCommit.run(() -> evict(email));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evict(String email) {
+        generation.incrementAndGet();
+        entries.remove(email);
+    }
+
+    private boolean hasRoom(long now) {
+        if (entries.size() < maxEntries) {
+            return true;
+        }
+        entries.values().removeIf(entry -> entry.expiresAt() <= now);
+        return entries.size() < maxEntries;
+    }
+
+    private record Entry(UserIdentity identity, long expiresAt) {
+    }
+}
@@ -1,5 +1,6 @@
 package at.ac.tuwien.sepr.groupphase.backend.service.impl;
 
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.page.CursorPageDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.user.DetailedUserDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.user.RewardPointsDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.user.UserCreateDto;
@@ -16,12 +17,18 @@ import at.ac.tuwien.sepr.groupphase.backend.exception.ConflictException;
 import at.ac.tuwien.sepr.groupphase.backend.exception.InvalidCredentialsException;
 import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
 import at.ac.tuwien.sepr.groupphase.backend.repository.UserRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.keyset.Keyset;
+import at.ac.tuwien.sepr.groupphase.backend.repository.keyset.KeysetPage;
 import at.ac.tuwien.sepr.groupphase.backend.security.JwtTokenizer;
+import at.ac.tuwien.sepr.groupphase.backend.service.UserIdentity;
 import at.ac.tuwien.sepr.groupphase.backend.service.UserService;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.search.UserSearchIndex;
 import at.ac.tuwien.sepr.groupphase.backend.service.impl.validators.UserValidator;
 import at.ac.tuwien.sepr.groupphase.backend.type.UserRole;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,9 +37,14 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -41,24 +53,32 @@ public class UserServiceImpl implements UserService {
     private static final Logger LOGGER =
         LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
+    private static final Object TRANSACTION_MEMO = new Object();
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenizer jwtTokenizer;
     private final UserValidator validator;
     private final UserMapper mapper;
+    private final UserIdentityCache userIdentityCache;
+    private final UserSearchIndex userSearchIndex;
 
     public UserServiceImpl(
         UserRepository userRepository,
         PasswordEncoder passwordEncoder,
         JwtTokenizer jwtTokenizer,
         UserValidator validator,
-        UserMapper mapper
+        UserMapper mapper,
+        UserIdentityCache userIdentityCache,
+        UserSearchIndex userSearchIndex
     ) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtTokenizer = jwtTokenizer;
         this.validator = validator;
         this.mapper = mapper;
+        this.userIdentityCache = userIdentityCache;
+        this.userSearchIndex = userSearchIndex;
     }
 
     // ============================================================
@@ -84,6 +104,8 @@ public class UserServiceImpl implements UserService {
             if (fails >= 5) {
                 user.setLocked(true);
                 userRepository.save(user);
+                userIdentityCache.invalidate(user.getEmail());
+                userSearchIndex.indexAfterCommit(user);
 
                 LOGGER.warn("Account locked after 5 failed attempts email={}", dto.getEmail());
                 throw new AccountLockedException("Account locked due to too many failed attempts");
@@ -122,6 +144,7 @@ public class UserServiceImpl implements UserService {
         entity.setLoginFailCount(0);
 
         User saved = userRepository.save(entity);
+        userSearchIndex.indexAfterCommit(saved);
 
         String token = jwtTokenizer.getAuthToken(
             saved.getEmail(),
@@ -154,6 +177,8 @@ public class UserServiceImpl implements UserService {
         LOGGER.info("Updating profile");
         User user = findByEmail(currentEmail);
         validator.validateForUpdate(user, dto);
+        forget(currentEmail);
+        forget(dto.email());
 
         user.setEmail(dto.email());
         user.setFirstName(dto.firstName());
@@ -161,6 +186,7 @@ public class UserServiceImpl implements UserService {
         user.setAddress(dto.address() != null && !dto.address().trim().isEmpty() ? dto.address() : null);
 
         User updated = userRepository.save(user);
+        userSearchIndex.indexAfterCommit(updated);
         LOGGER.info("Profile updated for user id: {}", updated.getId());
 
         return mapper.toDetailed(updated);
@@ -173,6 +199,8 @@ public class UserServiceImpl implements UserService {
         User user = findByEmail(email);
 
         userRepository.delete(user);
+        forget(email);
+        userSearchIndex.removeAfterCommit(user.getId());
         LOGGER.info("Account deleted for user: {}", email);
     }
 
@@ -214,6 +242,8 @@ public class UserServiceImpl implements UserService {
             } else {
                 result = userRepository.findAllUnlocked(pageable);
             }
+        } else if (userSearchIndex.isReady()) {
+            result = searchIndexed(locked, search, pageable);
         } else {
             if (locked) {
                 result = userRepository.searchAllLocked(
@@ -231,6 +261,68 @@ public class UserServiceImpl implements UserService {
         return result.map(mapper::toDetailed);
     }
 
+    @Override
+    public CursorPageDto<DetailedUserDto> findUsersByCursor(
+        boolean locked,
+        String search,
+        String cursor,
+        int size
+    ) {
+        LOGGER.info("Fetching users (locked={}, search={}, cursor={}, size={})", locked, search, cursor, size);
+
+        Specification<User> filter = lockState(locked);
+        if (search != null && !search.isBlank()) {
+            filter = filter.and(matching(search));
+        }
+        Keyset<String> keyset = Keyset.ascending("email", String.class, cursor, size);
+        KeysetPage<User> page = userRepository.findKeyset(User.class, filter, keyset);
+        return new CursorPageDto<>(
+            page.content().stream().map(mapper::toDetailed).toList(),
+            keyset.nextCursor(page, User::getEmail, User::getId));
+    }
+
+    /**
+     * Pages through the user IDs matched by the search index and loads only the users on
+     * the requested page, in one query.
+     */
+    private Page<User> searchIndexed(boolean locked, String search, Pageable pageable) {
+        List<Long> ids = userSearchIndex.search(search, locked);
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(findAllInOrder(ids), pageable, ids.size());
+        }
+        int from = (int) Math.min(pageable.getOffset(), ids.size());
+        int to = Math.min(from + pageable.getPageSize(), ids.size());
+        return new PageImpl<>(findAllInOrder(ids.subList(from, to)), pageable, ids.size());
+    }
+
+    private List<User> findAllInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Integer> positions = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            positions.put(ids.get(i), i);
+        }
+        // users deleted since they were indexed are simply missing from the page
+        return userRepository.findAllById(ids).stream()
+            .sorted(Comparator.comparing(user -> positions.get(user.getId())))
+            .toList();
+    }
+
+    private static Specification<User> lockState(boolean locked) {
+        return (root, query, cb) -> locked
+            ? cb.or(cb.isTrue(root.get("locked")), cb.isTrue(root.get("adminLocked")))
+            : cb.and(cb.isFalse(root.get("locked")), cb.isFalse(root.get("adminLocked")));
+    }
+
+    private static Specification<User> matching(String search) {
+        String pattern = "%" + search.toLowerCase() + "%";
+        return (root, query, cb) -> cb.or(
+            cb.like(cb.lower(root.get("firstName")), pattern),
+            cb.like(cb.lower(root.get("lastName")), pattern),
+            cb.like(cb.lower(root.get("email")), pattern));
+    }
+
     // ============================================================
     // Administrative User Management
     // ============================================================
@@ -280,6 +372,8 @@ public class UserServiceImpl implements UserService {
         }
 
         userRepository.save(targetUser);
+        userIdentityCache.invalidate(targetUser.getEmail());
+        userSearchIndex.indexAfterCommit(targetUser);
 
         LOGGER.info(
             "Successfully updated lock state of user id={} (locked={}, adminLocked={})",
@@ -298,7 +392,8 @@ public class UserServiceImpl implements UserService {
         user.setLocked(false);
         user.setLoginFailCount(0);
 
-        userRepository.save(user);
+        User saved = userRepository.save(user);
+        userSearchIndex.indexAfterCommit(saved);
     }
 
     @Override
@@ -337,6 +432,7 @@ public class UserServiceImpl implements UserService {
 
         targetUser.setUserRole(newRole);
         userRepository.save(targetUser);
+        userIdentityCache.invalidate(targetUser.getEmail());
 
         LOGGER.info(
             "Successfully updated role of user id={} to role={}",
@@ -349,12 +445,33 @@ public class UserServiceImpl implements UserService {
     // Internal Helper Methods
     // ============================================================
 
+    /**
+     * Finds a user by e-mail address.
+     *
+     * <p>Within a transaction the user is remembered, so nested services looking up the
+     * same user again get the managed entity without another query.
+     */
     @Override
     public User findByEmail(String email) {
-        return userRepository.findByEmail(email)
+        Map<String, User> memo = transactionMemo();
+        User remembered = memo != null ? memo.get(email) : null;
+        if (remembered != null) {
+            return remembered;
+        }
+
+        User user = userRepository.findByEmail(email)
             .orElseThrow(() ->
                 new NotFoundException("User not found: " + email)
             );
+        if (memo != null) {
+            memo.put(email, user);
+        }
+        return user;
+    }
+
+    @Override
+    public UserIdentity findIdentityByEmail(String email) {
+        return userIdentityCache.get(email, key -> UserIdentity.of(findByEmail(key)));
     }
 
     @Override
@@ -366,6 +483,41 @@ public class UserServiceImpl implements UserService {
     }
 
 
+    /**
+     * Forgets a user in the cache and the transaction memo after the e-mail or existence changed.
+     */
+    private void forget(String email) {
+        userIdentityCache.invalidate(email);
+        Map<String, User> memo = transactionMemo();
+        if (memo != null) {
+            memo.remove(email);
+        }
+    }
+
+    /**
+     * The users looked up in the current transaction, or null outside of a transaction.
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, User> transactionMemo() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+            || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return null;
+        }
+        Map<String, User> memo = (Map<String, User>) TransactionSynchronizationManager.getResource(TRANSACTION_MEMO);
+        if (memo == null) {
+            Map<String, User> created = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(TRANSACTION_MEMO, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TRANSACTION_MEMO);
+                }
+            });
+            memo = created;
+        }
+        return memo;
+    }
+
     private User getCurrentlyAuthenticatedUser() {
         Authentication authentication =
             SecurityContextHolder.getContext().getAuthentication();
@@ -0,0 +1,123 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl.blob;
+
+import at.ac.tuwien.sepr.groupphase.backend.repository.BlobReferenceRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.BlobReferenceRepository.ImageTable;
+import at.ac.tuwien.sepr.groupphase.backend.service.BlobStore;
+import at.ac.tuwien.sepr.groupphase.backend.service.ImageDerivativeService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Moves images from the former {@code BLOB} columns into the {@link BlobStore} and removes
+ * blobs no row refers to any more.
+ *
+ * <p>Both steps run once on startup. The migration reads one image at a time as a stream,
+ * stores it, and sets the row's {@code image_key} while clearing the old column, so it can be
+ * interrupted and resumed at any point. The sweep only removes blobs older than a grace period,
+ * which keeps blobs of uploads whose transaction has not committed yet. Afterwards the missing
+ * derivatives of all images are queued, which covers migrated images as well as generation
+ * jobs lost in a shutdown.
+ *
+ * <p>The migration only finds work in a database created before the blob store and kept
+ * across deployments. A schema created by {@code ddl-auto}, as in the shipped profiles, never
+ * has the legacy columns, and the migration does nothing.
+ */
+@Component
+public class BlobMigration {
+
+    private static final Logger LOGGER =
+        LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    private static final int BATCH_SIZE = 100;
+    private static final Duration SWEEP_GRACE = Duration.ofMinutes(10);
+
+    private final BlobReferenceRepository blobReferenceRepository;
+    private final BlobStore blobStore;
+    private final ImageDerivativeService imageDerivativeService;
+
+    public BlobMigration(BlobReferenceRepository blobReferenceRepository, BlobStore blobStore,
+                         ImageDerivativeService imageDerivativeService) {
+        this.blobReferenceRepository = blobReferenceRepository;
+        this.blobStore = blobStore;
+        this.imageDerivativeService = imageDerivativeService;
+    }
+
+    /**
+     * Migrate legacy images, sweep orphaned blobs and backfill missing derivatives.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void run() {
+        for (ImageTable imageTable : BlobReferenceRepository.IMAGE_TABLES) {
+            migrate(imageTable);
+        }
+        sweep(Instant.now().minus(SWEEP_GRACE));
+        imageDerivativeService.backfill();
+    }
+
+    /**
+     * Move all images of a table that are still stored in its legacy column.
+     *
+     * @param imageTable the table
+     * @return the number of migrated images
+     */
+    int migrate(ImageTable imageTable) {
+        if (!blobReferenceRepository.hasColumn(imageTable.table(), imageTable.legacyColumn())) {
+            return 0;
+        }
+
+        final long start = System.currentTimeMillis();
+        int migrated = 0;
+        long afterId = 0;
+        List<Long> ids;
+        do {
+            ids = blobReferenceRepository.findIdsWithLegacyImage(imageTable, afterId, BATCH_SIZE);
+            for (Long id : ids) {
+                String key = blobReferenceRepository.readLegacyImage(imageTable, id, blobStore::put);
+                if (key != null) {
+                    blobReferenceRepository.replaceLegacyImage(imageTable, id, key);
+                    migrated++;
+                }
+                afterId = id;
+            }
+        } while (ids.size() == BATCH_SIZE);
+
+        LOGGER.info("Moved {} images from {}.{} to the blob store in {} ms",
+            migrated, imageTable.table(), imageTable.legacyColumn(), System.currentTimeMillis() - start);
+        return migrated;
+    }
+
+    /**
+     * Delete blobs stored before a cutoff that no row references.
+     *
+     * @param cutoff only blobs last stored before this are considered
+     * @return the number of deleted blobs
+     */
+    int sweep(Instant cutoff) {
+        try {
+            blobReferenceRepository.deleteOrphanedDerivatives();
+            Set<String> candidates = new HashSet<>(blobStore.keysStoredBefore(cutoff));
+            candidates.removeAll(blobReferenceRepository.findReferencedKeys());
+            for (String key : candidates) {
+                blobStore.delete(key);
+            }
+            if (!candidates.isEmpty()) {
+                LOGGER.info("Deleted {} unreferenced blobs", candidates.size());
+            }
+            return candidates.size();
+        } catch (IOException e) {
+            LOGGER.warn("Could not sweep the blob store", e);
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl.blob;
+
+import org.springframework.core.io.AbstractResource;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * A resource reading from a byte buffer without copying it.
+ *
+ * <p>Every stream or channel works on its own view of the buffer, so one cached buffer can
+ * be served to many requests at the same time.
+ */
+final class ByteBufferResource extends AbstractResource {
+
+    private final String key;
+    private final ByteBuffer buffer;
+
+    ByteBufferResource(String key, ByteBuffer buffer) {
+        this.key = key;
+        this.buffer = buffer.asReadOnlyBuffer();
+    }
+
+    @Override
+    public String getDescription() {
+        return "Cached blob [" + key + "]";
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    @Override
+    public long contentLength() {
+        return buffer.remaining();
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return new BufferInputStream(buffer.duplicate());
+    }
+
+    @Override
+    public ReadableByteChannel readableChannel() {
+        ByteBuffer view = buffer.duplicate();
+        return new ReadableByteChannel() {
+            private boolean open = true;
+
+            @Override
+            public int read(ByteBuffer dst) {
+                if (!view.hasRemaining()) {
+                    return -1;
+                }
+                int n = Math.min(dst.remaining(), view.remaining());
+                dst.put(view.slice(view.position(), n));
+                view.position(view.position() + n);
+                return n;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return open;
+            }
+
+            @Override
+            public void close() {
+                open = false;
+            }
+        };
+    }
+
+    private static final class BufferInputStream extends InputStream {
+
+        private final ByteBuffer view;
+
+        private BufferInputStream(ByteBuffer view) {
+            this.view = view;
+        }
+
+        @Override
+        public int read() {
+            return view.hasRemaining() ? view.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!view.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, view.remaining());
+            view.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public long skip(long n) {
+            int skipped = (int) Math.max(0, Math.min(n, view.remaining()));
+            view.position(view.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return view.remaining();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl.blob;
+
+import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
+import at.ac.tuwien.sepr.groupphase.backend.service.BlobStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * {@link BlobStore} keeping every blob as a file named by its SHA-256 below a root directory.
+ *
+ * <p>Files are fanned out by the first two hex digits ({@code ab/abcdef...}) to keep
+ * directories small. Content is streamed to a temporary file while hashing and then moved
+ * into place atomically, so readers never see a partial blob and concurrent writes of the
+ * same content are harmless. Reads are served as {@link FileSystemResource}, which streams
+ * through a {@link java.nio.channels.FileChannel} and supports byte ranges.
+ */
+@Component
+public class FileSystemBlobStore implements BlobStore {
+
+    private static final Logger LOGGER =
+        LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    private static final Pattern KEY = Pattern.compile("[0-9a-f]{64}");
+    private static final String TMP = "tmp";
+
+    private final Path root;
+
+    public FileSystemBlobStore(@Value("${app.blob-store.root:./blobs}") Path root) throws IOException {
+        this.root = root.toAbsolutePath().normalize();
+        Files.createDirectories(this.root.resolve(TMP));
+        LOGGER.info("Blob store at {}", this.root);
+    }
+
+    @Override
+    public String put(InputStream content) throws IOException {
+        Path tmp = Files.createTempFile(root.resolve(TMP), "upload", ".part");
+        try {
+            MessageDigest digest = sha256();
+            try (OutputStream out = new DigestOutputStream(Files.newOutputStream(tmp), digest)) {
+                content.transferTo(out);
+            }
+            String key = HexFormat.of().formatHex(digest.digest());
+
+            Path target = path(key);
+            if (Files.exists(target)) {
+                // keep a re-uploaded blob away from the orphan sweep until its reference is committed
+                Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+                return key;
+            }
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // stored concurrently with the same content
+            }
+            return key;
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    @Override
+    public Resource get(String key) {
+        Path file = path(key);
+        if (!Files.isRegularFile(file)) {
+            throw new NotFoundException("Blob not found: " + key);
+        }
+        return new FileSystemResource(file);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.isRegularFile(path(key));
+    }
+
+    @Override
+    public Set<String> keysStoredBefore(Instant cutoff) throws IOException {
+        try (Stream<Path> files = Files.walk(root, 2)) {
+            return files
+                .filter(file -> KEY.matcher(file.getFileName().toString()).matches())
+                .filter(file -> lastModified(file).isBefore(cutoff))
+                .map(file -> file.getFileName().toString())
+                .collect(Collectors.toSet());
+        }
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(path(key));
+    }
+
+    private Path path(String key) {
+        if (key == null || !KEY.matcher(key).matches()) {
+            throw new IllegalArgumentException("Invalid blob key: " + key);
+        }
+        return root.resolve(key.substring(0, 2)).resolve(key);
+    }
+
+    private static Instant lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant();
+        } catch (IOException e) {
+            // deleted while listing
+            return Instant.MAX;
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
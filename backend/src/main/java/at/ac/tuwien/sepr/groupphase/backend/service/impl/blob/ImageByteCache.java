@@ -0,0 +1,272 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl.blob;
+
+import at.ac.tuwien.sepr.groupphase.backend.service.BlobStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Least-recently-used cache of image content in direct (off-heap) byte buffers.
+ *
+ * <p>Blobs are read once through their channel straight into a direct buffer and then served
+ * from it, so repeated requests for the same image do not touch the disk and the cached bytes
+ * stay off the heap. Writing a response still copies them through the small heap buffer of
+ * the message converter. All entries together stay within a byte budget; blobs larger than the entry limit
+ * are never cached. As blob keys are content hashes an entry can never become stale, but images
+ * that were replaced or deleted are evicted right away to free the budget.
+ *
+ * <p>The returned resource only reads the blob, and only touches the cache, once its content
+ * is actually read. A conditional request answered with {@code 304 Not Modified} therefore
+ * neither loads the image nor evicts other entries.
+ *
+ * <p>Requests, hits, evictions and resident bytes are exported as {@code image.cache.*} metrics.
+ * The gauges are registered when Spring Boot binds the cache as a {@link MeterBinder}.
+ */
+@Component
+public class ImageByteCache implements MeterBinder {
+
+    private static final Logger LOGGER =
+        LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    private final BlobStore blobStore;
+    private final long maxBytes;
+    private final long maxEntryBytes;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, ByteBuffer> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long residentBytes;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public ImageByteCache(BlobStore blobStore,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.image-cache.max-size:64MB}") DataSize maxSize,
+                          @Value("${app.image-cache.max-entry-size:4MB}") DataSize maxEntrySize) {
+        this.blobStore = blobStore;
+        this.maxBytes = maxSize.toBytes();
+        this.maxEntryBytes = Math.min(maxEntrySize.toBytes(), maxBytes);
+
+        this.hits = Counter.builder("image.cache.requests").tag("result", "hit")
+            .description("Image requests served from the cache").register(meterRegistry);
+        this.misses = Counter.builder("image.cache.requests").tag("result", "miss")
+            .description("Image requests read from the blob store").register(meterRegistry);
+        this.evictions = Counter.builder("image.cache.evictions")
+            .description("Images evicted to stay within the byte budget").register(meterRegistry);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        Gauge.builder("image.cache.resident", this, ImageByteCache::residentBytes).baseUnit("bytes")
+            .description("Bytes of image content held off-heap").register(meterRegistry);
+        Gauge.builder("image.cache.entries", this, ImageByteCache::size)
+            .description("Number of cached images").register(meterRegistry);
+        Gauge.builder("image.cache.hit.ratio", this, ImageByteCache::hitRatio)
+            .description("Share of image requests served from the cache").register(meterRegistry);
+    }
+
+    /**
+     * The content of a blob, read from the cache if possible once it is needed.
+     *
+     * @param key the blob key
+     * @return the content
+     * @throws at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException if no blob exists for the key
+     */
+    public Resource get(String key) {
+        return new CachedBlobResource(key, isCached(key) ? null : blobStore.get(key));
+    }
+
+    /**
+     * The content of a blob from the cache, reading and caching it on a miss.
+     *
+     * @param key  the blob key
+     * @param blob the stored blob, or null to look it up on a miss
+     */
+    private Resource load(String key, Resource blob) {
+        ByteBuffer cached = lookup(key);
+        if (cached != null) {
+            hits.increment();
+            return new ByteBufferResource(key, cached);
+        }
+        misses.increment();
+
+        Resource resource = blob != null ? blob : blobStore.get(key);
+        try {
+            long size = resource.contentLength();
+            if (size > maxEntryBytes) {
+                return resource;
+            }
+            ByteBuffer buffer = read(resource, (int) size);
+            put(key, buffer);
+            return new ByteBufferResource(key, buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read blob " + key, e);
+        }
+    }
+
+    /**
+     * Remove a blob from the cache.
+     *
+     * @param key the blob key, ignored if null
+     */
+    public void invalidate(String key) {
+        if (key == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            ByteBuffer removed = entries.remove(key);
+            if (removed != null) {
+                residentBytes -= removed.capacity();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long residentBytes() {
+        lock.lock();
+        try {
+            return residentBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+
+    private boolean isCached(String key) {
+        lock.lock();
+        try {
+            return entries.containsKey(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ByteBuffer lookup(String key) {
+        lock.lock();
+        try {
+            return entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void put(String key, ByteBuffer buffer) {
+        lock.lock();
+        try {
+            ByteBuffer previous = entries.put(key, buffer);
+            residentBytes += buffer.capacity() - (previous == null ? 0 : previous.capacity());
+
+            Iterator<Map.Entry<String, ByteBuffer>> eldest = entries.entrySet().iterator();
+            while (residentBytes > maxBytes && eldest.hasNext()) {
+                ByteBuffer evicted = eldest.next().getValue();
+                eldest.remove();
+                residentBytes -= evicted.capacity();
+                evictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static ByteBuffer read(Resource resource, int size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(size);
+        try (ReadableByteChannel channel = resource.readableChannel()) {
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // FileChannel reads straight into the direct buffer
+            }
+        }
+        if (buffer.hasRemaining()) {
+            LOGGER.warn("Blob {} shrank while reading ({} of {} bytes)", resource.getDescription(), buffer.position(), size);
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * A blob whose content is taken from the cache, or read into it, on first access.
+     * Its length is known without reading the content.
+     */
+    private final class CachedBlobResource extends AbstractResource {
+
+        private final String key;
+        private final Resource blob;
+        private volatile Resource content;
+
+        private CachedBlobResource(String key, Resource blob) {
+            this.key = key;
+            this.blob = blob;
+        }
+
+        @Override
+        public String getDescription() {
+            return "Blob [" + key + "]";
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+
+        @Override
+        public long contentLength() throws IOException {
+            Resource loaded = content;
+            if (loaded == null && blob != null) {
+                return blob.contentLength();
+            }
+            return content().contentLength();
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return content().getInputStream();
+        }
+
+        @Override
+        public ReadableByteChannel readableChannel() throws IOException {
+            return content().readableChannel();
+        }
+
+        private Resource content() {
+            Resource loaded = content;
+            if (loaded == null) {
+                loaded = load(key, blob);
+                content = loaded;
+            }
+            return loaded;
+        }
+    }
+}
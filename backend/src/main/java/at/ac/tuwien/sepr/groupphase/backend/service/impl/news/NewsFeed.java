@@ -0,0 +1,114 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl.news;
+
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.newsItem.SimpleNewsItemDto;
+import at.ac.tuwien.sepr.groupphase.backend.repository.NewsItemRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.support.AfterCommit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Immutable snapshot of all published news items, newest first.
+ *
+ * <p>The list of published news is served as a slice of the snapshot without a query. The
+ * snapshot is rebuilt after a news item was created, updated or deleted, and once more at the
+ * start of the next day a scheduled news item is published on, so scheduled news appear in the
+ * feed exactly when they are due.
+ */
+@Component
+public class NewsFeed {
+
+    private static final Logger LOGGER =
+        LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    private final NewsItemRepository newsItemRepository;
+    private final TaskScheduler taskScheduler;
+
+    private volatile Snapshot snapshot = new Snapshot(List.of(), null);
+    private ScheduledFuture<?> promotion;
+
+    public NewsFeed(NewsItemRepository newsItemRepository, TaskScheduler taskScheduler) {
+        this.newsItemRepository = newsItemRepository;
+        this.taskScheduler = taskScheduler;
+    }
+
+    /**
+     * Reload the published news from the database and schedule the next publication.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuild(LocalDate.now());
+    }
+
+    /**
+     * Reload the feed once the current transaction has committed.
+     */
+    public void rebuildAfterCommit() {
+        AfterCommit.run(this::rebuild);
+    }
+
+    /**
+     * A page of the published news items, newest first.
+     *
+     * @param pageable the page to return
+     * @return the page
+     */
+    public Page<SimpleNewsItemDto> page(Pageable pageable) {
+        List<SimpleNewsItemDto> items = snapshot.items();
+        int start = (int) Math.min(pageable.getOffset(), items.size());
+        int end = Math.min(start + pageable.getPageSize(), items.size());
+        return new PageImpl<>(items.subList(start, end), pageable, items.size());
+    }
+
+    LocalDate nextPublication() {
+        return snapshot.nextPublication();
+    }
+
+    synchronized void rebuild(LocalDate today) {
+        List<SimpleNewsItemDto> published = List.copyOf(newsItemRepository.findPublishedFeed(today));
+        LocalDate next = newsItemRepository.findNextPublication(today).orElse(null);
+        snapshot = new Snapshot(published, next);
+        schedulePromotion(next);
+
+        LOGGER.debug("Loaded {} published news items, next publication on {}", published.size(), next);
+    }
+
+    private void schedulePromotion(LocalDate next) {
+        if (promotion != null) {
+            promotion.cancel(false);
+            promotion = null;
+        }
+        if (next == null) {
+            return;
+        }
+        promotion = taskScheduler.schedule(this::promote, next.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    private void promote() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not publish scheduled news, retrying in a minute", e);
+            synchronized (this) {
+                promotion = taskScheduler.schedule(this::promote, Instant.now().plus(Duration.ofMinutes(1)));
+            }
+        }
+    }
+
+    private record Snapshot(List<SimpleNewsItemDto> items, LocalDate nextPublication) {
+    }
+}
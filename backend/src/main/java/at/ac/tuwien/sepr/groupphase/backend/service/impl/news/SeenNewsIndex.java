@@ -0,0 +1,166 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl.news;
+
+import at.ac.tuwien.sepr.groupphase.backend.repository.SeenNewsItemRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.support.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Cache of the news items each user has marked as read, one bitmap per user.
+ *
+ * <p>A bitmap stores the seen news item IDs relative to the smallest of them, so it takes one
+ * bit per news item published since the oldest one the user read, and a membership check is a
+ * single bit lookup. Bitmaps are loaded from {@code seen_news} on first use and kept for the
+ * most recently active users only. Marks and deleted news items are applied after their
+ * transaction has committed.
+ */
+@Component
+public class SeenNewsIndex {
+
+    private final SeenNewsItemRepository seenNewsItemRepository;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, IdBitmap> bitmaps;
+
+    public SeenNewsIndex(SeenNewsItemRepository seenNewsItemRepository,
+                         @Value("${app.seen-news.cached-users:10000}") int cachedUsers) {
+        this.seenNewsItemRepository = seenNewsItemRepository;
+        this.bitmaps = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, IdBitmap> eldest) {
+                return size() > cachedUsers;
+            }
+        };
+    }
+
+    /**
+     * Whether a user has marked a news item as read.
+     *
+     * @param userId the user ID
+     * @param newsItemId the news item ID
+     * @return true if the news item was seen
+     */
+    public boolean isSeen(Long userId, Long newsItemId) {
+        IdBitmap bitmap = bitmap(userId);
+        lock.lock();
+        try {
+            return bitmap.contains(newsItemId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Record a news item as read once the current transaction has committed.
+     *
+     * @param userId the user ID
+     * @param newsItemId the news item ID
+     */
+    public void markSeenAfterCommit(Long userId, Long newsItemId) {
+        AfterCommit.run(() -> markSeen(userId, newsItemId));
+    }
+
+    void markSeen(Long userId, Long newsItemId) {
+        lock.lock();
+        try {
+            IdBitmap bitmap = bitmaps.get(userId);
+            if (bitmap != null) {
+                bitmap.add(newsItemId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove a deleted news item from all bitmaps once the current transaction has committed.
+     *
+     * @param newsItemId the news item ID
+     */
+    public void forgetNewsItemAfterCommit(Long newsItemId) {
+        AfterCommit.run(() -> forgetNewsItem(newsItemId));
+    }
+
+    void forgetNewsItem(Long newsItemId) {
+        lock.lock();
+        try {
+            bitmaps.values().forEach(bitmap -> bitmap.remove(newsItemId));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int cachedUsers() {
+        lock.lock();
+        try {
+            return bitmaps.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private IdBitmap bitmap(Long userId) {
+        lock.lock();
+        try {
+            IdBitmap cached = bitmaps.get(userId);
+            if (cached != null) {
+                return cached;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        IdBitmap loaded = IdBitmap.of(seenNewsItemRepository.findNewsItemIdsByUserId(userId));
+        lock.lock();
+        try {
+            IdBitmap concurrent = bitmaps.putIfAbsent(userId, loaded);
+            return concurrent != null ? concurrent : loaded;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Set of IDs as bits relative to the smallest ID.
+     */
+    static final class IdBitmap {
+
+        private long base;
+        private BitSet bits = new BitSet();
+
+        static IdBitmap of(List<Long> ids) {
+            IdBitmap bitmap = new IdBitmap();
+            ids.stream().sorted().forEach(bitmap::add);
+            return bitmap;
+        }
+
+        boolean contains(long id) {
+            return id >= base && id - base <= Integer.MAX_VALUE && bits.get((int) (id - base));
+        }
+
+        void add(long id) {
+            if (bits.isEmpty()) {
+                base = id;
+            } else if (id < base) {
+                BitSet shifted = new BitSet();
+                int offset = Math.toIntExact(base - id);
+                bits.stream().forEach(bit -> shifted.set(bit + offset));
+                bits = shifted;
+                base = id;
+            }
+            bits.set(Math.toIntExact(id - base));
+        }
+
+        void remove(long id) {
+            if (contains(id)) {
+                bits.clear((int) (id - base));
+            }
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl.news;
+
+import at.ac.tuwien.sepr.groupphase.backend.repository.SeenNewsBatchRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.SeenNewsBatchRepository.Mark;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandles;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind buffer for read marks.
+ *
+ * <p>Marks are collected in memory, coalescing repeated marks of the same news item by the
+ * same user, and written in JDBC batches on the shared task executor at most one flush interval
+ * later, or as soon as a full batch is pending. Pending marks are written on shutdown. Readers
+ * that need the stored marks of a user, such as the unread list, flush first if that user has
+ * pending marks. Flushes always run on a background thread, outside of the caller's
+ * (possibly read-only) transaction, with each JDBC batch committed on its own.
+ *
+ * <p>If the database is unavailable, the marks are kept for the next flush. If a batch violates
+ * a constraint, e.g. because the user or news item was deleted concurrently, the marks are
+ * written one by one and those that can never be stored are dropped, so one bad mark does
+ * not block all others.
+ */
+@Component
+public class SeenNewsWriteBuffer {
+
+    private static final Logger LOGGER =
+        LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    private final SeenNewsBatchRepository seenNewsBatchRepository;
+    private final int batchSize;
+    private final AsyncTaskExecutor taskExecutor;
+
+    private final Object pendingLock = new Object();
+    private Map<Key, LocalDateTime> pending = new LinkedHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public SeenNewsWriteBuffer(SeenNewsBatchRepository seenNewsBatchRepository,
+                               @Qualifier("applicationTaskExecutor") AsyncTaskExecutor taskExecutor,
+                               @Value("${app.seen-news.batch-size:500}") int batchSize) {
+        this.seenNewsBatchRepository = seenNewsBatchRepository;
+        this.taskExecutor = taskExecutor;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Queue read marks of a user.
+     *
+     * @param userId the user ID
+     * @param newsItemIds the IDs of the read news items
+     */
+    public void add(Long userId, Collection<Long> newsItemIds) {
+        LocalDateTime now = LocalDateTime.now();
+        boolean full;
+        synchronized (pendingLock) {
+            for (Long newsItemId : newsItemIds) {
+                pending.putIfAbsent(new Key(userId, newsItemId), now);
+            }
+            full = pending.size() >= batchSize;
+        }
+        if (full) {
+            taskExecutor.execute(this::flushQuietly);
+        }
+    }
+
+    /**
+     * Write all pending marks if the user has any, so queries see every mark of the user.
+     *
+     * @param userId the user ID
+     */
+    public void flushIfPending(Long userId) {
+        boolean hasPending;
+        synchronized (pendingLock) {
+            hasPending = pending.keySet().stream().anyMatch(key -> key.userId() == userId);
+        }
+        if (!hasPending) {
+            return;
+        }
+        try {
+            taskExecutor.submit(this::flush).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOGGER.warn("Could not write read marks of user {}, keeping them for the next flush", userId, e.getCause());
+        }
+    }
+
+    int flush() {
+        flushLock.lock();
+        try {
+            Map<Key, LocalDateTime> batch;
+            synchronized (pendingLock) {
+                if (pending.isEmpty()) {
+                    return 0;
+                }
+                batch = pending;
+                pending = new LinkedHashMap<>();
+            }
+
+            List<Mark> marks = batch.entrySet().stream()
+                .map(entry -> new Mark(entry.getKey().userId(), entry.getKey().newsItemId(), entry.getValue()))
+                .toList();
+            try {
+                int inserted = seenNewsBatchRepository.insertMissing(marks, batchSize);
+                LOGGER.debug("Flushed {} read marks, {} new", batch.size(), inserted);
+                return inserted;
+            } catch (DataIntegrityViolationException e) {
+                LOGGER.warn("Batch of {} read marks violates a constraint, writing them one by one", marks.size(), e);
+                return insertOneByOne(marks);
+            } catch (RuntimeException e) {
+                requeue(marks);
+                throw e;
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private int insertOneByOne(List<Mark> marks) {
+        int inserted = 0;
+        for (int i = 0; i < marks.size(); i++) {
+            Mark mark = marks.get(i);
+            try {
+                inserted += seenNewsBatchRepository.insertMissing(List.of(mark), 1);
+            } catch (DataIntegrityViolationException e) {
+                LOGGER.warn("Dropping read mark of news item {} by user {}: {}",
+                    mark.newsItemId(), mark.userId(), e.getMostSpecificCause().getMessage());
+            } catch (RuntimeException e) {
+                requeue(marks.subList(i, marks.size()));
+                throw e;
+            }
+        }
+        return inserted;
+    }
+
+    private void requeue(List<Mark> marks) {
+        synchronized (pendingLock) {
+            marks.forEach(mark -> pending.putIfAbsent(new Key(mark.userId(), mark.newsItemId()), mark.seenAt()));
+        }
+    }
+
+    int pendingCount() {
+        synchronized (pendingLock) {
+            return pending.size();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flushQuietly();
+    }
+
+    @Scheduled(fixedDelayString = "${app.seen-news.flush-interval:1s}", initialDelayString = "${app.seen-news.flush-interval:1s}")
+    void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not write read marks, keeping them for the next flush", e);
+        }
+    }
+
+    private record Key(long userId, long newsItemId) {
+    }
+}
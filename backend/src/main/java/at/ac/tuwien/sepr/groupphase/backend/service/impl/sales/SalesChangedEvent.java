@@ -0,0 +1,11 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl.sales;
+
+import java.util.Map;
+
+/**
+ * Published by {@link SalesRollup} after a change to the sold tickets has committed.
+ *
+ * @param soldDeltas change of sold tickets per event ID, negative for cancellations
+ */
+public record SalesChangedEvent(Map<Long, Long> soldDeltas) {
+}
@@ -0,0 +1,298 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl.sales;
+
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.TopTenEventDto;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Event;
+import at.ac.tuwien.sepr.groupphase.backend.entity.EventSales;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Ticket;
+import at.ac.tuwien.sepr.groupphase.backend.repository.EventSalesRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.support.AfterCommit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.invoke.MethodHandles;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Sold tickets per event, month and type, kept both in the {@link EventSales} table
+ * and in an in-memory ranking for the top-ten endpoint.
+ *
+ * <p>Callers report sold and cancelled tickets from within their transaction; the rollup
+ * row is updated in that transaction and the ranking once it has committed. The ranking
+ * holds one sorted set per month and type plus one per month for all types, so a top-ten
+ * request reads the first ten entries of a single set.
+ *
+ * <p>On startup the table is recomputed from the tickets, which also covers data
+ * written without going through the services. Committed changes are published as
+ * {@link SalesChangedEvent} for other structures ranking by popularity.
+ */
+@Component
+public class SalesRollup {
+
+    private static final Logger LOGGER =
+        LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    private static final int TOP = 10;
+    private static final String ALL_TYPES = "";
+
+    private static final Comparator<Entry> BY_SOLD_DESC =
+        Comparator.comparingLong(Entry::sold).reversed().thenComparing(Entry::eventId);
+
+    private final EventSalesRepository eventSalesRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<RankingKey, NavigableSet<Entry>> rankings = new HashMap<>();
+
+    public SalesRollup(EventSalesRepository eventSalesRepository, PlatformTransactionManager transactionManager,
+                       ApplicationEventPublisher eventPublisher) {
+        this.eventSalesRepository = eventSalesRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+    }
+
+    private record RankingKey(int year, int month, String type) {
+    }
+
+    private record Entry(Long eventId, String title, String type, int year, int month, long sold) {
+
+        Entry withSold(long newSold) {
+            return new Entry(eventId, title, type, year, month, newSold);
+        }
+    }
+
+    /**
+     * Recompute the rollup table from the tickets and load the ranking.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        final long start = System.currentTimeMillis();
+        List<Entry> loaded = transactionTemplate.execute(status -> {
+            List<Object[]> rows = eventSalesRepository.countSoldTicketsPerEvent();
+            List<EventSales> sales = new ArrayList<>(rows.size());
+            List<Entry> result = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                Long eventId = (Long) row[0];
+                String type = (String) row[2];
+                LocalDateTime dateTime = (LocalDateTime) row[3];
+                long sold = ((Number) row[4]).longValue();
+                sales.add(new EventSales(eventId, dateTime, type, sold));
+                result.add(new Entry(eventId, (String) row[1], type, dateTime.getYear(), dateTime.getMonthValue(), sold));
+            }
+            eventSalesRepository.deleteAllInBatch();
+            eventSalesRepository.saveAll(sales);
+            return result;
+        });
+
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            rankings.clear();
+            if (loaded != null) {
+                loaded.forEach(this::put);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        LOGGER.info("Rebuilt sales rollup of {} events in {} ms",
+            loaded == null ? 0 : loaded.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Count newly sold tickets. Must be called inside the selling transaction.
+     *
+     * @param tickets the tickets that were just invoiced
+     */
+    public void recordSold(Collection<Ticket> tickets) {
+        apply(tickets, 1);
+    }
+
+    /**
+     * Count cancelled tickets. Must be called inside the cancelling transaction.
+     *
+     * @param tickets the sold tickets that are being cancelled
+     */
+    public void recordCancelled(Collection<Ticket> tickets) {
+        apply(tickets, -1);
+    }
+
+    /**
+     * Create the empty rollup row of a new event.
+     *
+     * @param event the saved event
+     */
+    public void eventCreated(Event event) {
+        eventSalesRepository.save(new EventSales(event.getId(), event.getDateTime(), event.getType(), 0));
+    }
+
+    /**
+     * Move the sales of an event after its date, type or title changed.
+     *
+     * @param event the saved event
+     */
+    public void eventUpdated(Event event) {
+        final Long eventId = event.getId();
+        final String title = event.getTitle();
+        final String type = event.getType();
+        final LocalDateTime dateTime = event.getDateTime();
+
+        if (eventSalesRepository.moveEvent(eventId, dateTime.getYear(), dateTime.getMonthValue(), type) == 0) {
+            eventSalesRepository.save(new EventSales(eventId, dateTime, type, 0));
+        }
+        AfterCommit.run(() -> move(eventId, title, type, dateTime.getYear(), dateTime.getMonthValue()));
+    }
+
+    /**
+     * Drop the rollup row of a deleted event.
+     *
+     * @param eventId the event ID
+     */
+    public void eventDeleted(Long eventId) {
+        eventSalesRepository.deleteByEventId(eventId);
+        AfterCommit.run(() -> remove(eventId));
+    }
+
+    /**
+     * The ten events with the most sold tickets in a month.
+     *
+     * @param month the month (1-12)
+     * @param year  the year
+     * @param type  event type filter, case-insensitive (optional)
+     * @return up to ten events, best selling first
+     */
+    public List<TopTenEventDto> topTen(int month, int year, String type) {
+        RankingKey key = new RankingKey(year, month, type == null || type.isBlank() ? ALL_TYPES : fold(type));
+
+        lock.readLock().lock();
+        try {
+            NavigableSet<Entry> ranking = rankings.get(key);
+            if (ranking == null) {
+                return List.of();
+            }
+            List<TopTenEventDto> top = new ArrayList<>(TOP);
+            Iterator<Entry> it = ranking.iterator();
+            while (it.hasNext() && top.size() < TOP) {
+                Entry entry = it.next();
+                top.add(new TopTenEventDto(entry.eventId(), entry.title(), entry.type(), entry.sold()));
+            }
+            return top;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(Collection<Ticket> tickets, int sign) {
+        Map<Long, Event> events = new LinkedHashMap<>();
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Ticket ticket : tickets) {
+            Event event = ticket.getEvent();
+            events.putIfAbsent(event.getId(), event);
+            deltas.merge(event.getId(), (long) sign, Long::sum);
+        }
+
+        List<Entry> changes = new ArrayList<>(events.size());
+        events.forEach((eventId, event) -> {
+            long delta = deltas.get(eventId);
+            if (eventSalesRepository.addSold(eventId, delta) == 0) {
+                eventSalesRepository.save(new EventSales(eventId, event.getDateTime(), event.getType(), Math.max(0, delta)));
+            }
+            changes.add(new Entry(eventId, event.getTitle(), event.getType(),
+                event.getDateTime().getYear(), event.getDateTime().getMonthValue(), delta));
+        });
+        AfterCommit.run(() -> {
+            changes.forEach(this::add);
+            eventPublisher.publishEvent(new SalesChangedEvent(deltas));
+        });
+    }
+
+    /**
+     * Apply a sold delta to the ranking, creating the entry from the change if needed.
+     */
+    void add(Entry change) {
+        lock.writeLock().lock();
+        try {
+            Entry current = entries.get(change.eventId());
+            long sold = Math.max(0, (current == null ? 0 : current.sold()) + change.sold());
+            Entry base = current == null ? change : current;
+            unlink(current);
+            put(base.withSold(sold));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void move(Long eventId, String title, String type, int year, int month) {
+        lock.writeLock().lock();
+        try {
+            Entry current = entries.get(eventId);
+            unlink(current);
+            put(new Entry(eventId, title, type, year, month, current == null ? 0 : current.sold()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long eventId) {
+        lock.writeLock().lock();
+        try {
+            unlink(entries.get(eventId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(Entry entry) {
+        entries.put(entry.eventId(), entry);
+        if (entry.sold() <= 0) {
+            return;
+        }
+        for (RankingKey key : keys(entry)) {
+            rankings.computeIfAbsent(key, k -> new TreeSet<>(BY_SOLD_DESC)).add(entry);
+        }
+    }
+
+    private void unlink(Entry entry) {
+        if (entry == null) {
+            return;
+        }
+        entries.remove(entry.eventId());
+        for (RankingKey key : keys(entry)) {
+            NavigableSet<Entry> ranking = rankings.get(key);
+            if (ranking != null && ranking.remove(entry) && ranking.isEmpty()) {
+                rankings.remove(key);
+            }
+        }
+    }
+
+    private static List<RankingKey> keys(Entry entry) {
+        RankingKey all = new RankingKey(entry.year(), entry.month(), ALL_TYPES);
+        if (entry.type() == null || entry.type().isBlank()) {
+            return List.of(all);
+        }
+        return List.of(all, new RankingKey(entry.year(), entry.month(), fold(entry.type())));
+    }
+
+    private static String fold(String type) {
+        return type.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,229 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl.search;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.Artist;
+import at.ac.tuwien.sepr.groupphase.backend.repository.ArtistRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.support.AfterCommit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory graph of band memberships in both directions, including the transitive closure.
+ *
+ * <p>Besides the direct links of the {@code band_members} table, every artist knows all bands
+ * it plays in directly or through another band, and every band all of its members down to the
+ * solo artists. Lookups are a single map access, so artist search and "events of an artist and
+ * their bands" need no query per artist.
+ *
+ * <p>The graph is loaded on startup and updated after an artist write has committed. Added
+ * members are merged into the closure incrementally; removed members recompute it in memory.
+ */
+@Component
+public class ArtistMembershipIndex {
+
+    private static final Logger LOGGER =
+        LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    private final ArtistRepository artistRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Set<Long>> directMembers = new HashMap<>();
+    private final Map<Long, Set<Long>> directBands = new HashMap<>();
+    private final Map<Long, Set<Long>> allMembers = new HashMap<>();
+    private final Map<Long, Set<Long>> allBands = new HashMap<>();
+
+    public ArtistMembershipIndex(ArtistRepository artistRepository) {
+        this.artistRepository = artistRepository;
+    }
+
+    /**
+     * Reload all memberships from the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        final long start = System.currentTimeMillis();
+        List<Object[]> memberships;
+
+        lock.writeLock().lock();
+        try {
+            // A membership change committed during the load is applied once the lock is released
+            memberships = artistRepository.findBandMemberships();
+            directMembers.clear();
+            directBands.clear();
+            for (Object[] membership : memberships) {
+                link((Long) membership[0], (Long) membership[1]);
+            }
+            recomputeClosure();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        LOGGER.info("Loaded {} band memberships in {} ms", memberships.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Replace the members of an artist once the current transaction has committed.
+     * Members of artists that are not bands are ignored.
+     *
+     * @param artist the saved artist
+     */
+    public void artistSavedAfterCommit(Artist artist) {
+        Long bandId = artist.getId();
+        Set<Long> memberIds = new HashSet<>();
+        if (Boolean.TRUE.equals(artist.getIsBand()) && artist.getMembers() != null) {
+            artist.getMembers().forEach(member -> memberIds.add(member.getId()));
+        }
+        AfterCommit.run(() -> setMembers(bandId, memberIds));
+    }
+
+    /**
+     * All bands an artist plays in, directly or as member of a member band.
+     *
+     * @param artistId the artist ID
+     * @return IDs of the bands, without the artist itself
+     */
+    public Set<Long> bandsOf(Long artistId) {
+        return lookup(allBands, artistId);
+    }
+
+    /**
+     * All members of a band, including members of member bands.
+     *
+     * @param bandId the band ID
+     * @return IDs of the members, without the band itself
+     */
+    public Set<Long> membersOf(Long bandId) {
+        return lookup(allMembers, bandId);
+    }
+
+    /**
+     * An artist together with all bands it plays in.
+     *
+     * @param artistId the artist ID
+     * @return IDs of the artist and its bands
+     */
+    public Set<Long> withBands(Long artistId) {
+        lock.readLock().lock();
+        try {
+            Set<Long> ids = new HashSet<>(allBands.getOrDefault(artistId, Set.of()));
+            ids.add(artistId);
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void setMembers(Long bandId, Set<Long> memberIds) {
+        lock.writeLock().lock();
+        try {
+            Set<Long> current = directMembers.getOrDefault(bandId, Set.of());
+            if (memberIds.containsAll(current)) {
+                for (Long memberId : memberIds) {
+                    if (!current.contains(memberId)) {
+                        link(bandId, memberId);
+                        close(bandId, memberId);
+                    }
+                }
+                return;
+            }
+
+            for (Long memberId : Set.copyOf(current)) {
+                unlink(bandId, memberId);
+            }
+            memberIds.forEach(memberId -> link(bandId, memberId));
+            recomputeClosure();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Set<Long> lookup(Map<Long, Set<Long>> closure, Long id) {
+        lock.readLock().lock();
+        try {
+            Set<Long> ids = closure.get(id);
+            return ids == null ? Set.of() : Set.copyOf(ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void link(Long bandId, Long memberId) {
+        directMembers.computeIfAbsent(bandId, id -> new HashSet<>()).add(memberId);
+        directBands.computeIfAbsent(memberId, id -> new HashSet<>()).add(bandId);
+    }
+
+    private void unlink(Long bandId, Long memberId) {
+        remove(directMembers, bandId, memberId);
+        remove(directBands, memberId, bandId);
+    }
+
+    /**
+     * Merge a new link into the closure: the band and everything above it gain the member
+     * and everything below it, and vice versa.
+     */
+    private void close(Long bandId, Long memberId) {
+        Set<Long> above = new HashSet<>(allBands.getOrDefault(bandId, Set.of()));
+        above.add(bandId);
+        Set<Long> below = new HashSet<>(allMembers.getOrDefault(memberId, Set.of()));
+        below.add(memberId);
+
+        for (Long member : below) {
+            addAll(allBands, member, above);
+        }
+        for (Long band : above) {
+            addAll(allMembers, band, below);
+        }
+    }
+
+    private void recomputeClosure() {
+        allMembers.clear();
+        allBands.clear();
+        for (Long bandId : directMembers.keySet()) {
+            allMembers.put(bandId, reachable(directMembers, bandId));
+        }
+        for (Long memberId : directBands.keySet()) {
+            allBands.put(memberId, reachable(directBands, memberId));
+        }
+    }
+
+    private static Set<Long> reachable(Map<Long, Set<Long>> edges, Long start) {
+        Set<Long> seen = new HashSet<>();
+        Deque<Long> pending = new ArrayDeque<>(edges.getOrDefault(start, Set.of()));
+        while (!pending.isEmpty()) {
+            Long next = pending.pop();
+            if (!next.equals(start) && seen.add(next)) {
+                pending.addAll(edges.getOrDefault(next, Set.of()));
+            }
+        }
+        return seen;
+    }
+
+    private static void addAll(Map<Long, Set<Long>> closure, Long id, Collection<Long> ids) {
+        Set<Long> target = closure.computeIfAbsent(id, key -> new HashSet<>());
+        for (Long other : ids) {
+            if (!other.equals(id)) {
+                target.add(other);
+            }
+        }
+    }
+
+    private static void remove(Map<Long, Set<Long>> edges, Long from, Long to) {
+        Set<Long> targets = edges.get(from);
+        if (targets != null && targets.remove(to) && targets.isEmpty()) {
+            edges.remove(from);
+        }
+    }
+}
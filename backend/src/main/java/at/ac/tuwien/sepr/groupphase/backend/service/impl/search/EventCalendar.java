@@ -0,0 +1,243 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl.search;
+
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.CalendarDayDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.CalendarEventDto;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Event;
+import at.ac.tuwien.sepr.groupphase.backend.entity.listener.PriceRangeRefreshedEvent;
+import at.ac.tuwien.sepr.groupphase.backend.repository.EventRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.support.AfterCommit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandles;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Events grouped by calendar day for month views and date range lookups.
+ *
+ * <p>Every day with events is one bucket in a sorted map keyed by epoch day, holding the
+ * event IDs as a primitive array ordered by start time. A range of days is a sub map view,
+ * so a month view touches only the buckets of that month. Title, type, start time and
+ * minimum price are kept per event, which is all a calendar cell shows.
+ *
+ * <p>The calendar is loaded on startup, updated after event writes have committed and
+ * refreshes its prices on every {@link PriceRangeRefreshedEvent}.
+ */
+@Component
+public class EventCalendar {
+
+    private static final Logger LOGGER =
+        LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    private static final long[] EMPTY = new long[0];
+
+    private static final Comparator<Entry> BY_START =
+        Comparator.comparing(Entry::dateTime).thenComparing(Entry::id);
+
+    private final EventRepository eventRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<Long, long[]> days = new TreeMap<>();
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    public EventCalendar(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    private record Entry(Long id, String title, String type, LocalDateTime dateTime, Integer minPrice) {
+
+        long day() {
+            return dateTime.toLocalDate().toEpochDay();
+        }
+    }
+
+    /**
+     * Reload the whole calendar from the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        final long start = System.currentTimeMillis();
+        Map<Long, List<Entry>> byDay = new HashMap<>();
+        List<Entry> loaded = new ArrayList<>();
+
+        lock.writeLock().lock();
+        try {
+            // Read under the lock, an event saved meanwhile is upserted after the swap
+            for (Object[] row : eventRepository.findCalendarRows()) {
+                if (row[3] == null) {
+                    continue;
+                }
+                Entry entry = new Entry((Long) row[0], (String) row[1], (String) row[2], (LocalDateTime) row[3], (Integer) row[4]);
+                loaded.add(entry);
+                byDay.computeIfAbsent(entry.day(), day -> new ArrayList<>()).add(entry);
+            }
+
+            days.clear();
+            entries.clear();
+            loaded.forEach(entry -> entries.put(entry.id(), entry));
+            byDay.forEach((day, dayEntries) -> days.put(day, dayEntries.stream()
+                .sorted(BY_START)
+                .mapToLong(Entry::id)
+                .toArray()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        LOGGER.info("Loaded {} events on {} calendar days in {} ms",
+            loaded.size(), byDay.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Update the minimum prices of the events whose precomputed prices changed.
+     */
+    @EventListener
+    public void onPriceRangeRefreshed(PriceRangeRefreshedEvent event) {
+        lock.writeLock().lock();
+        try {
+            event.minPrices().forEach((eventId, minPrice) ->
+                entries.computeIfPresent(eventId, (id, entry) ->
+                    new Entry(id, entry.title(), entry.type(), entry.dateTime(), minPrice)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Add or move an event once the current transaction has committed.
+     * The calendar fields are read immediately.
+     *
+     * @param event the saved event
+     */
+    public void upsertAfterCommit(Event event) {
+        Entry entry = new Entry(event.getId(), event.getTitle(), event.getType(), event.getDateTime(), event.getMinPrice());
+        AfterCommit.run(() -> upsert(entry));
+    }
+
+    /**
+     * Remove an event once the current transaction has committed.
+     *
+     * @param eventId the deleted event ID
+     */
+    public void removeAfterCommit(Long eventId) {
+        AfterCommit.run(() -> remove(eventId));
+    }
+
+    /**
+     * Summaries of all days with events in a date range.
+     *
+     * @param from first day, inclusive
+     * @param to   last day, inclusive
+     * @return one summary per day with at least one event, in date order
+     */
+    public List<CalendarDayDto> days(LocalDate from, LocalDate to) {
+        lock.readLock().lock();
+        try {
+            NavigableMap<Long, long[]> range = days.subMap(from.toEpochDay(), true, to.toEpochDay(), true);
+            List<CalendarDayDto> result = new ArrayList<>(range.size());
+            range.forEach((day, ids) -> result.add(summary(LocalDate.ofEpochDay(day), ids)));
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * IDs of the events starting within a time range.
+     *
+     * @param start earliest start, inclusive
+     * @param end   latest start, inclusive
+     * @return event IDs ordered by start time
+     */
+    public List<Long> idsBetween(LocalDateTime start, LocalDateTime end) {
+        lock.readLock().lock();
+        try {
+            List<Long> result = new ArrayList<>();
+            for (long[] ids : days.subMap(start.toLocalDate().toEpochDay(), true, end.toLocalDate().toEpochDay(), true).values()) {
+                for (long id : ids) {
+                    LocalDateTime dateTime = entries.get(id).dateTime();
+                    if (!dateTime.isBefore(start) && !dateTime.isAfter(end)) {
+                        result.add(id);
+                    }
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void upsert(Entry entry) {
+        lock.writeLock().lock();
+        try {
+            unlink(entries.remove(entry.id()));
+            if (entry.dateTime() == null) {
+                return;
+            }
+            entries.put(entry.id(), entry);
+
+            long[] ids = days.getOrDefault(entry.day(), EMPTY);
+            int pos = 0;
+            while (pos < ids.length && BY_START.compare(entries.get(ids[pos]), entry) < 0) {
+                pos++;
+            }
+            long[] updated = new long[ids.length + 1];
+            System.arraycopy(ids, 0, updated, 0, pos);
+            updated[pos] = entry.id();
+            System.arraycopy(ids, pos, updated, pos + 1, ids.length - pos);
+            days.put(entry.day(), updated);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long eventId) {
+        lock.writeLock().lock();
+        try {
+            unlink(entries.remove(eventId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void unlink(Entry entry) {
+        if (entry == null) {
+            return;
+        }
+        long[] ids = days.get(entry.day());
+        if (ids == null) {
+            return;
+        }
+        long[] remaining = Arrays.stream(ids).filter(id -> id != entry.id()).toArray();
+        if (remaining.length == 0) {
+            days.remove(entry.day());
+        } else {
+            days.put(entry.day(), remaining);
+        }
+    }
+
+    private CalendarDayDto summary(LocalDate date, long[] ids) {
+        List<CalendarEventDto> events = new ArrayList<>(ids.length);
+        Integer minPrice = null;
+        for (long id : ids) {
+            Entry entry = entries.get(id);
+            events.add(new CalendarEventDto(id, entry.title(), entry.type(), entry.dateTime().toLocalTime(), entry.minPrice()));
+            if (entry.minPrice() != null && (minPrice == null || entry.minPrice() < minPrice)) {
+                minPrice = entry.minPrice();
+            }
+        }
+        return new CalendarDayDto(date, ids.length, minPrice, events);
+    }
+}
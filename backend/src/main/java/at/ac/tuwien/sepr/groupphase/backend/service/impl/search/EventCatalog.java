@@ -0,0 +1,418 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl.search;
+
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.FacetCountDto;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Event;
+import at.ac.tuwien.sepr.groupphase.backend.entity.listener.PriceRangeRefreshedEvent;
+import at.ac.tuwien.sepr.groupphase.backend.repository.EventRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.support.AfterCommit;
+import at.ac.tuwien.sepr.groupphase.backend.type.PriceBand;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandles;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Compact columnar copy of the event catalog for faceted search.
+ *
+ * <p>Each event is one row across a set of primitive arrays; type and location are
+ * dictionary encoded, the minimum price is stored as its price band. A search walks the
+ * rows once and, per row, checks every active filter. Rows passing all filters are
+ * results and count towards every facet; rows failing exactly one filter only count
+ * towards that filter's facet. This yields the usual "other values of this facet"
+ * counts without a query per facet.
+ *
+ * <p>Rows are updated incrementally after event changes commit; deleted rows are
+ * tombstoned and reused by the next insert.
+ */
+@Component
+public class EventCatalog {
+
+    private static final Logger LOGGER =
+        LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int NO_VALUE = -1;
+    private static final int UNKNOWN_VALUE = -2;
+
+    private static final int TYPE = 0;
+    private static final int LOCATION = 1;
+    private static final int PRICE_BAND = 2;
+    private static final int MONTH = 3;
+
+    private static final PriceBand[] PRICE_BANDS = PriceBand.values();
+
+    private final EventRepository eventRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int[] typeCodes = new int[INITIAL_CAPACITY];
+    private int[] locationCodes = new int[INITIAL_CAPACITY];
+    private int[] priceBands = new int[INITIAL_CAPACITY];
+    private int[] months = new int[INITIAL_CAPACITY];
+    private long[] startTimes = new long[INITIAL_CAPACITY];
+    private final BitSet live = new BitSet();
+
+    private final Map<Long, Integer> rowsById = new HashMap<>();
+    private final Dictionary<String> types = new Dictionary<>();
+    private final Dictionary<Long> locations = new Dictionary<>();
+    private final Map<Long, String> locationNames = new HashMap<>();
+
+    public EventCatalog(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    /**
+     * Filters of a faceted search. Every field is optional.
+     *
+     * @param type       event type, case-insensitive
+     * @param locationId location ID
+     * @param priceBand  band of the minimum price
+     * @param month      month of the event date
+     */
+    public record Filter(String type, Long locationId, PriceBand priceBand, YearMonth month) {
+    }
+
+    /**
+     * Result of a faceted search.
+     *
+     * @param pageIds    event IDs of the requested page, ordered by date
+     * @param total      number of events matching all filters
+     * @param types      counts per event type
+     * @param locations  counts per location
+     * @param priceBands counts per price band
+     * @param months     counts per month, chronologically
+     */
+    public record Result(
+        List<Long> pageIds,
+        long total,
+        List<FacetCountDto> types,
+        List<FacetCountDto> locations,
+        List<FacetCountDto> priceBands,
+        List<FacetCountDto> months
+    ) {
+    }
+
+    /**
+     * Reload the whole catalog from the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        final long start = System.currentTimeMillis();
+        List<Object[]> rows;
+
+        lock.writeLock().lock();
+        try {
+            // Loaded while holding the lock, so no upsert that commits during the load is lost
+            rows = eventRepository.findCatalogRows();
+            live.clear();
+            rowsById.clear();
+            types.clear();
+            locations.clear();
+            locationNames.clear();
+            for (Object[] row : rows) {
+                put((Long) row[0], (String) row[1], (Long) row[2], (String) row[3],
+                    (Integer) row[4], (LocalDateTime) row[5]);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        LOGGER.info("Loaded {} events into the facet catalog in {} ms", rows.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Update the price column of the events whose precomputed prices changed.
+     */
+    @EventListener
+    public void onPriceRangeRefreshed(PriceRangeRefreshedEvent event) {
+        lock.writeLock().lock();
+        try {
+            event.minPrices().forEach((id, minPrice) -> {
+                Integer row = rowsById.get(id);
+                if (row != null) {
+                    priceBands[row] = PriceBand.of(minPrice).ordinal();
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Add or replace an event once the current transaction has committed.
+     * The catalog columns are read immediately.
+     *
+     * @param event the saved event with its location
+     */
+    public void upsertAfterCommit(Event event) {
+        Long id = event.getId();
+        String type = event.getType();
+        Long locationId = event.getLocation() != null ? event.getLocation().getId() : null;
+        String locationName = event.getLocation() != null ? event.getLocation().getName() : null;
+        Integer minPrice = event.getMinPrice();
+        LocalDateTime dateTime = event.getDateTime();
+        AfterCommit.run(() -> upsert(id, type, locationId, locationName, minPrice, dateTime));
+    }
+
+    /**
+     * Remove an event once the current transaction has committed.
+     *
+     * @param eventId the deleted event ID
+     */
+    public void removeAfterCommit(Long eventId) {
+        AfterCommit.run(() -> remove(eventId));
+    }
+
+    /**
+     * Add or replace an event in the catalog.
+     */
+    public void upsert(Long id, String type, Long locationId, String locationName, Integer minPrice, LocalDateTime dateTime) {
+        lock.writeLock().lock();
+        try {
+            put(id, type, locationId, locationName, minPrice, dateTime);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove an event from the catalog.
+     */
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowsById.remove(id);
+            if (row != null) {
+                live.clear(row);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Run a faceted search in a single pass over the catalog.
+     *
+     * @param filter the active filters
+     * @param offset index of the first result of the page
+     * @param limit  maximum number of results of the page
+     * @return the page of event IDs and the facet counts
+     */
+    public Result search(Filter filter, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            final int type = filter.type() == null ? NO_VALUE : types.codeOrUnknown(fold(filter.type()));
+            final int location = filter.locationId() == null ? NO_VALUE : locations.codeOrUnknown(filter.locationId());
+            final int band = filter.priceBand() == null ? NO_VALUE : filter.priceBand().ordinal();
+            final int month = filter.month() == null ? NO_VALUE : monthKey(filter.month());
+
+            long[] typeCounts = new long[types.size()];
+            long[] locationCounts = new long[locations.size()];
+            long[] bandCounts = new long[PRICE_BANDS.length];
+            Map<Integer, Long> monthCounts = new TreeMap<>();
+            List<Integer> matches = new ArrayList<>();
+
+            for (int row = live.nextSetBit(0); row >= 0; row = live.nextSetBit(row + 1)) {
+                int failed = 0;
+                int failedFacet = NO_VALUE;
+                if (type != NO_VALUE && typeCodes[row] != type) {
+                    failed++;
+                    failedFacet = TYPE;
+                }
+                if (location != NO_VALUE && locationCodes[row] != location) {
+                    failed++;
+                    failedFacet = LOCATION;
+                }
+                if (band != NO_VALUE && priceBands[row] != band) {
+                    failed++;
+                    failedFacet = PRICE_BAND;
+                }
+                if (month != NO_VALUE && months[row] != month) {
+                    failed++;
+                    failedFacet = MONTH;
+                }
+                if (failed > 1) {
+                    continue;
+                }
+
+                if (failed == 0) {
+                    matches.add(row);
+                }
+                if ((failed == 0 || failedFacet == TYPE) && typeCodes[row] >= 0) {
+                    typeCounts[typeCodes[row]]++;
+                }
+                if (failed == 0 || failedFacet == LOCATION) {
+                    locationCounts[locationCodes[row]]++;
+                }
+                if (failed == 0 || failedFacet == PRICE_BAND) {
+                    bandCounts[priceBands[row]]++;
+                }
+                if (failed == 0 || failedFacet == MONTH) {
+                    monthCounts.merge(months[row], 1L, Long::sum);
+                }
+            }
+
+            matches.sort(Comparator.<Integer>comparingLong(row -> startTimes[row]).thenComparingLong(row -> ids[row]));
+            int from = (int) Math.min(offset, matches.size());
+            int to = Math.min(from + limit, matches.size());
+            List<Long> pageIds = matches.subList(from, to).stream().map(row -> ids[row]).toList();
+
+            return new Result(
+                pageIds,
+                matches.size(),
+                typeFacet(typeCounts),
+                locationFacet(locationCounts),
+                priceBandFacet(bandCounts),
+                monthFacet(monthCounts)
+            );
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of events in the catalog.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return rowsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(Long id, String type, Long locationId, String locationName, Integer minPrice, LocalDateTime dateTime) {
+        Integer row = rowsById.get(id);
+        if (row == null) {
+            row = live.nextClearBit(0);
+            ensureCapacity(row + 1);
+            rowsById.put(id, row);
+            live.set(row);
+        }
+
+        ids[row] = id;
+        typeCodes[row] = type == null ? NO_VALUE : types.code(fold(type), type);
+        locationCodes[row] = locations.code(locationId, locationId);
+        if (locationName != null) {
+            locationNames.put(locationId, locationName);
+        }
+        priceBands[row] = PriceBand.of(minPrice).ordinal();
+        months[row] = monthKey(YearMonth.from(dateTime));
+        startTimes[row] = dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, ids.length * 2);
+        ids = Arrays.copyOf(ids, newCapacity);
+        typeCodes = Arrays.copyOf(typeCodes, newCapacity);
+        locationCodes = Arrays.copyOf(locationCodes, newCapacity);
+        priceBands = Arrays.copyOf(priceBands, newCapacity);
+        months = Arrays.copyOf(months, newCapacity);
+        startTimes = Arrays.copyOf(startTimes, newCapacity);
+    }
+
+    private List<FacetCountDto> typeFacet(long[] counts) {
+        List<FacetCountDto> facet = new ArrayList<>();
+        for (int code = 0; code < counts.length; code++) {
+            if (counts[code] > 0) {
+                String label = types.label(code);
+                facet.add(new FacetCountDto(label, label, counts[code]));
+            }
+        }
+        facet.sort(Comparator.comparingLong(FacetCountDto::count).reversed().thenComparing(FacetCountDto::label));
+        return facet;
+    }
+
+    private List<FacetCountDto> locationFacet(long[] counts) {
+        List<FacetCountDto> facet = new ArrayList<>();
+        for (int code = 0; code < counts.length; code++) {
+            if (counts[code] > 0) {
+                Long locationId = locations.label(code);
+                String name = locationNames.getOrDefault(locationId, String.valueOf(locationId));
+                facet.add(new FacetCountDto(String.valueOf(locationId), name, counts[code]));
+            }
+        }
+        facet.sort(Comparator.comparingLong(FacetCountDto::count).reversed().thenComparing(FacetCountDto::label));
+        return facet;
+    }
+
+    private static List<FacetCountDto> priceBandFacet(long[] counts) {
+        List<FacetCountDto> facet = new ArrayList<>();
+        for (PriceBand band : PRICE_BANDS) {
+            if (counts[band.ordinal()] > 0) {
+                facet.add(new FacetCountDto(band.name(), band.name(), counts[band.ordinal()]));
+            }
+        }
+        return facet;
+    }
+
+    private static List<FacetCountDto> monthFacet(Map<Integer, Long> counts) {
+        List<FacetCountDto> facet = new ArrayList<>(counts.size());
+        counts.forEach((key, count) -> {
+            String month = YearMonth.of(key / 12, key % 12 + 1).toString();
+            facet.add(new FacetCountDto(month, month, count));
+        });
+        return facet;
+    }
+
+    private static int monthKey(YearMonth month) {
+        return month.getYear() * 12 + month.getMonthValue() - 1;
+    }
+
+    private static String fold(String type) {
+        return type.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Maps column values to dense integer codes and back.
+     */
+    private static final class Dictionary<K> {
+        private final Map<K, Integer> codes = new HashMap<>();
+        private final List<Object> labels = new ArrayList<>();
+
+        int code(K key, Object label) {
+            return codes.computeIfAbsent(key, k -> {
+                labels.add(label);
+                return labels.size() - 1;
+            });
+        }
+
+        int codeOrUnknown(K key) {
+            return codes.getOrDefault(key, UNKNOWN_VALUE);
+        }
+
+        @SuppressWarnings("unchecked")
+        <L> L label(int code) {
+            return (L) labels.get(code);
+        }
+
+        int size() {
+            return labels.size();
+        }
+
+        void clear() {
+            codes.clear();
+            labels.clear();
+        }
+    }
+}
@@ -0,0 +1,328 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl.search;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.Event;
+import at.ac.tuwien.sepr.groupphase.backend.repository.EventRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.support.AfterCommit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process inverted index over event title, type and description with BM25 ranking.
+ *
+ * <p>Every folded token maps to the events containing it together with a field-weighted
+ * term frequency. A trigram dictionary over the vocabulary resolves prefix and infix
+ * matches ("trav" finds "traviata") without scanning documents. Query tokens are combined
+ * with AND; per token the best matching vocabulary term counts, with exact matches ranked
+ * above prefix and infix matches.
+ *
+ * <p>The index is rebuilt from the database on startup and updated incrementally by
+ * {@link at.ac.tuwien.sepr.groupphase.backend.service.EventService} after a create,
+ * update or delete has committed.
+ */
+@Component
+public class EventSearchIndex {
+
+    private static final Logger LOGGER =
+        LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int TYPE_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private static final double EXACT_BOOST = 1.0;
+    private static final double PREFIX_BOOST = 0.8;
+    private static final double INFIX_BOOST = 0.5;
+
+    private final EventRepository eventRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+    private final Map<Long, Integer> documentLengths = new HashMap<>();
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<String, Set<String>> trigramTerms = new HashMap<>();
+    private long totalLength;
+
+    public EventSearchIndex(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    /**
+     * A matching event and its relevance.
+     *
+     * @param eventId the event ID
+     * @param score   the BM25 score, higher is better
+     */
+    public record Hit(Long eventId, double score) {
+    }
+
+    /**
+     * Rebuild the whole index from the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        final long start = System.currentTimeMillis();
+        List<Event> events;
+        int terms;
+
+        lock.writeLock().lock();
+        try {
+            // Read under the lock: an event committed meanwhile waits and is indexed on top
+            events = eventRepository.findAll();
+            documents.clear();
+            documentLengths.clear();
+            postings.clear();
+            trigramTerms.clear();
+            totalLength = 0;
+            for (Event event : events) {
+                add(event.getId(), event.getTitle(), event.getType(), event.getDescription());
+            }
+            terms = postings.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        LOGGER.info("Indexed {} events with {} terms in {} ms",
+            events.size(), terms, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Add or replace an event once the current transaction has committed.
+     * The indexed fields are read immediately.
+     *
+     * @param event the saved event
+     */
+    public void indexAfterCommit(Event event) {
+        Long id = event.getId();
+        String title = event.getTitle();
+        String type = event.getType();
+        String description = event.getDescription();
+        AfterCommit.run(() -> index(id, title, type, description));
+    }
+
+    /**
+     * Remove an event once the current transaction has committed.
+     *
+     * @param eventId the deleted event ID
+     */
+    public void removeAfterCommit(Long eventId) {
+        AfterCommit.run(() -> remove(eventId));
+    }
+
+    /**
+     * Add or replace an event in the index.
+     */
+    public void index(Long id, String title, String type, String description) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+            add(id, title, type, description);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove an event from the index.
+     */
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Find all events matching every token of the query, best match first.
+     *
+     * @param query free text
+     * @return ranked hits, empty for a blank query
+     */
+    public List<Hit> search(String query) {
+        List<String> tokens = TextNormalizer.tokenize(query);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (documents.isEmpty()) {
+                return List.of();
+            }
+            double averageLength = Math.max(1.0, (double) totalLength / documents.size());
+
+            Map<Long, Double> scores = null;
+            for (String token : new HashSet<>(tokens)) {
+                Map<Long, Double> tokenScores = scoreToken(token, averageLength);
+                if (scores == null) {
+                    scores = tokenScores;
+                } else {
+                    Iterator<Map.Entry<Long, Double>> it = scores.entrySet().iterator();
+                    while (it.hasNext()) {
+                        Map.Entry<Long, Double> entry = it.next();
+                        Double tokenScore = tokenScores.get(entry.getKey());
+                        if (tokenScore == null) {
+                            it.remove();
+                        } else {
+                            entry.setValue(entry.getValue() + tokenScore);
+                        }
+                    }
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(scores.size());
+            scores.forEach((id, score) -> hits.add(new Hit(id, score)));
+            hits.sort(Comparator.comparingDouble(Hit::score).reversed().thenComparing(Hit::eventId));
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of indexed events.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Double> scoreToken(String token, double averageLength) {
+        Map<Long, Double> best = new HashMap<>();
+        for (Map.Entry<String, Double> term : expand(token).entrySet()) {
+            Map<Long, Integer> docs = postings.get(term.getKey());
+            double idf = Math.log(1 + (documents.size() - docs.size() + 0.5) / (docs.size() + 0.5));
+            for (Map.Entry<Long, Integer> posting : docs.entrySet()) {
+                double tf = posting.getValue();
+                double norm = 1 - B + B * documentLengths.get(posting.getKey()) / averageLength;
+                double score = term.getValue() * idf * tf * (K1 + 1) / (tf + K1 * norm);
+                best.merge(posting.getKey(), score, Math::max);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Vocabulary terms matching a query token, with the boost for the kind of match.
+     */
+    private Map<String, Double> expand(String token) {
+        Map<String, Double> terms = new HashMap<>();
+        if (postings.containsKey(token)) {
+            terms.put(token, EXACT_BOOST);
+        }
+        if (token.length() < 2) {
+            return terms;
+        }
+
+        Set<String> candidates = null;
+        Set<String> grams = token.length() == 2 ? Set.of("^" + token) : innerTrigrams(token);
+        for (String gram : grams) {
+            Set<String> withGram = trigramTerms.getOrDefault(gram, Set.of());
+            if (candidates == null) {
+                candidates = new HashSet<>(withGram);
+            } else {
+                candidates.retainAll(withGram);
+            }
+            if (candidates.isEmpty()) {
+                return terms;
+            }
+        }
+
+        for (String candidate : candidates) {
+            if (candidate.equals(token)) {
+                continue;
+            }
+            if (candidate.startsWith(token)) {
+                terms.put(candidate, PREFIX_BOOST);
+            } else if (candidate.contains(token)) {
+                terms.put(candidate, INFIX_BOOST);
+            }
+        }
+        return terms;
+    }
+
+    private static Set<String> innerTrigrams(String token) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 3 <= token.length(); i++) {
+            grams.add(token.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    private void add(Long id, String title, String type, String description) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = addField(frequencies, title, TITLE_WEIGHT)
+            + addField(frequencies, type, TYPE_WEIGHT)
+            + addField(frequencies, description, DESCRIPTION_WEIGHT);
+
+        documents.put(id, frequencies);
+        documentLengths.put(id, length);
+        totalLength += length;
+
+        frequencies.forEach((term, tf) -> {
+            Map<Long, Integer> docs = postings.computeIfAbsent(term, t -> {
+                for (String gram : TextNormalizer.trigrams(t)) {
+                    trigramTerms.computeIfAbsent(gram, g -> new HashSet<>()).add(t);
+                }
+                return new HashMap<>();
+            });
+            docs.put(id, tf);
+        });
+    }
+
+    private static int addField(Map<String, Integer> frequencies, String text, int weight) {
+        List<String> tokens = TextNormalizer.tokenize(text);
+        for (String token : tokens) {
+            frequencies.merge(token, weight, Integer::sum);
+        }
+        return tokens.size() * weight;
+    }
+
+    private void removeDocument(Long id) {
+        Map<String, Integer> frequencies = documents.remove(id);
+        if (frequencies == null) {
+            return;
+        }
+        totalLength -= documentLengths.remove(id);
+
+        for (String term : frequencies.keySet()) {
+            Map<Long, Integer> docs = postings.get(term);
+            docs.remove(id);
+            if (docs.isEmpty()) {
+                postings.remove(term);
+                for (String gram : TextNormalizer.trigrams(term)) {
+                    Set<String> terms = trigramTerms.get(gram);
+                    terms.remove(term);
+                    if (terms.isEmpty()) {
+                        trigramTerms.remove(gram);
+                    }
+                }
+            }
+        }
+    }
+}
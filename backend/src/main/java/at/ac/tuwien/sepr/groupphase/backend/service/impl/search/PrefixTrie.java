@@ -0,0 +1,232 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Compressed prefix trie (radix tree) mapping string keys to weighted values.
+ *
+ * <p>Every node knows the highest weight in its subtree, so the k best completions of a
+ * prefix are found with a best-first walk that only expands the subtrees that can still
+ * contribute, independent of how many keys share the prefix. A value may be stored under
+ * several keys; it is returned at most once. Not thread-safe.
+ *
+ * @param <V> the value type, compared with {@code equals}
+ */
+final class PrefixTrie<V> {
+
+    private final Node<V> root = new Node<>("");
+    private final Comparator<V> tieBreaker;
+    private int size;
+
+    /**
+     * Create an empty trie.
+     *
+     * @param tieBreaker order of values with equal weight
+     */
+    PrefixTrie(Comparator<V> tieBreaker) {
+        this.tieBreaker = tieBreaker;
+    }
+
+    private static final class Node<V> {
+        private String label;
+        private final Map<Character, Node<V>> children = new HashMap<>();
+        private final Map<V, Long> values = new HashMap<>();
+        private long best = Long.MIN_VALUE;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private void updateBest() {
+            long max = Long.MIN_VALUE;
+            for (long weight : values.values()) {
+                max = Math.max(max, weight);
+            }
+            for (Node<V> child : children.values()) {
+                max = Math.max(max, child.best);
+            }
+            best = max;
+        }
+    }
+
+    /**
+     * Store a value under a key, replacing its weight if it is already stored there.
+     */
+    void put(String key, V value, long weight) {
+        if (put(root, key, 0, value, weight)) {
+            size++;
+        }
+    }
+
+    /**
+     * Remove a value from a key.
+     */
+    void remove(String key, V value) {
+        if (remove(root, key, 0, value)) {
+            size--;
+        }
+    }
+
+    /**
+     * Number of key/value pairs.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Remove all keys.
+     */
+    void clear() {
+        root.children.clear();
+        root.values.clear();
+        root.best = Long.MIN_VALUE;
+        size = 0;
+    }
+
+    /**
+     * The values with the highest weight under all keys starting with the prefix.
+     *
+     * @param prefix the key prefix, empty for all keys
+     * @param limit  maximum number of values
+     * @return distinct values, highest weight first
+     */
+    List<V> top(String prefix, int limit) {
+        Node<V> start = find(prefix);
+        if (start == null || limit <= 0) {
+            return List.of();
+        }
+
+        // Nodes are ranked by the best weight below them, values by their own weight.
+        // On equal weight nodes are expanded first so ties are resolved by the tie breaker.
+        PriorityQueue<Candidate<V>> queue = new PriorityQueue<>(
+            Comparator.<Candidate<V>>comparingLong(Candidate<V>::weight).reversed()
+                .thenComparing(c -> c.node() == null)
+                .thenComparing((a, b) -> a.node() == null ? tieBreaker.compare(a.value(), b.value()) : 0));
+        queue.add(new Candidate<>(start, null, start.best));
+
+        List<V> result = new ArrayList<>(limit);
+        Set<V> seen = new HashSet<>();
+        while (!queue.isEmpty() && result.size() < limit) {
+            Candidate<V> candidate = queue.poll();
+            if (candidate.node == null) {
+                if (seen.add(candidate.value)) {
+                    result.add(candidate.value);
+                }
+                continue;
+            }
+            candidate.node.values.forEach((value, weight) -> queue.add(new Candidate<>(null, value, weight)));
+            for (Node<V> child : candidate.node.children.values()) {
+                queue.add(new Candidate<>(child, null, child.best));
+            }
+        }
+        return result;
+    }
+
+    private record Candidate<V>(Node<V> node, V value, long weight) {
+    }
+
+    private Node<V> find(String prefix) {
+        Node<V> node = root;
+        int pos = 0;
+        while (pos < prefix.length()) {
+            Node<V> child = node.children.get(prefix.charAt(pos));
+            if (child == null) {
+                return null;
+            }
+            int common = commonPrefix(child.label, prefix, pos);
+            if (pos + common == prefix.length()) {
+                return child;
+            }
+            if (common < child.label.length()) {
+                return null;
+            }
+            pos += common;
+            node = child;
+        }
+        return node;
+    }
+
+    private boolean put(Node<V> node, String key, int pos, V value, long weight) {
+        boolean added;
+        if (pos == key.length()) {
+            added = node.values.put(value, weight) == null;
+        } else {
+            Node<V> child = node.children.get(key.charAt(pos));
+            if (child == null) {
+                child = new Node<>(key.substring(pos));
+                node.children.put(key.charAt(pos), child);
+            } else {
+                int common = commonPrefix(child.label, key, pos);
+                if (common < child.label.length()) {
+                    child = split(node, child, common);
+                }
+            }
+            added = put(child, key, pos + child.label.length(), value, weight);
+        }
+        node.updateBest();
+        return added;
+    }
+
+    private boolean remove(Node<V> node, String key, int pos, V value) {
+        boolean removed;
+        if (pos == key.length()) {
+            removed = node.values.remove(value) != null;
+        } else {
+            Node<V> child = node.children.get(key.charAt(pos));
+            if (child == null || !key.startsWith(child.label, pos)) {
+                return false;
+            }
+            removed = remove(child, key, pos + child.label.length(), value);
+            if (child.values.isEmpty() && child.children.isEmpty()) {
+                node.children.remove(key.charAt(pos));
+            } else if (child.values.isEmpty() && child.children.size() == 1) {
+                merge(child);
+            }
+        }
+        if (removed) {
+            node.updateBest();
+        }
+        return removed;
+    }
+
+    /**
+     * Split the edge to a child so that its first {@code length} characters become a node of their own.
+     */
+    private static <V> Node<V> split(Node<V> parent, Node<V> child, int length) {
+        Node<V> middle = new Node<>(child.label.substring(0, length));
+        child.label = child.label.substring(length);
+        middle.children.put(child.label.charAt(0), child);
+        middle.best = child.best;
+        parent.children.put(middle.label.charAt(0), middle);
+        return middle;
+    }
+
+    /**
+     * Fold the only child of a node without values into the node.
+     */
+    private static <V> void merge(Node<V> node) {
+        Node<V> only = node.children.values().iterator().next();
+        node.label = node.label + only.label;
+        node.children.clear();
+        node.children.putAll(only.children);
+        node.values.putAll(only.values);
+        node.best = only.best;
+    }
+
+    private static int commonPrefix(String label, String key, int pos) {
+        int max = Math.min(label.length(), key.length() - pos);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(pos + i)) {
+            i++;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,52 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl.search;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Latency and result count of one kind of search.
+ *
+ * <p>All kinds share the meters {@code search.duration} and {@code search.results}, told apart
+ * by the {@code kind} tag, so the search endpoints can be compared on one dashboard.
+ *
+ * @param duration time taken by the search, including loading the returned page
+ * @param results  number of matches, not only those on the returned page
+ */
+public record SearchMeters(Timer duration, DistributionSummary results) {
+
+    /**
+     * Register the meters of a kind of search.
+     *
+     * @param kind          the value of the {@code kind} tag, e.g. {@code full-text}
+     * @param meterRegistry the registry
+     * @return the meters
+     */
+    public static SearchMeters register(String kind, MeterRegistry meterRegistry) {
+        return new SearchMeters(
+            Timer.builder("search.duration")
+                .description("Time taken to answer a search")
+                .tag("kind", kind)
+                .register(meterRegistry),
+            DistributionSummary.builder("search.results")
+                .description("Matches found by a search")
+                .tag("kind", kind)
+                .register(meterRegistry));
+    }
+
+    /**
+     * Run a search, timing it and recording its number of matches.
+     *
+     * @param search  the search
+     * @param matches the number of matches of a result
+     * @return the result of the search
+     */
+    public <T> T record(Supplier<T> search, ToLongFunction<T> matches) {
+        T result = duration.record(search);
+        results.record(matches.applyAsLong(result));
+        return result;
+    }
+}
@@ -0,0 +1,307 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl.search;
+
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.suggest.SuggestionDto;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Artist;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Event;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Location;
+import at.ac.tuwien.sepr.groupphase.backend.repository.ArtistRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.EventRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.EventSalesRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.LocationRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.sales.SalesChangedEvent;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.support.AfterCommit;
+import at.ac.tuwien.sepr.groupphase.backend.type.SuggestionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Typeahead index over event titles, artist names and location names and cities.
+ *
+ * <p>All names are folded and stored in one {@link PrefixTrie}, once per word position,
+ * so "trav" and "la trav" both complete "La Traviata". Suggestions are ranked by
+ * popularity: sold tickets of an event, and of all events of an artist or at a location.
+ *
+ * <p>The index is rebuilt on startup, updated after writes to events, artists and
+ * locations have committed, and re-weighted on every {@link SalesChangedEvent}.
+ */
+@Component
+public class SuggestionIndex {
+
+    private static final Logger LOGGER =
+        LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    // Words of a name that start a key; later words are only reachable through earlier ones
+    private static final int MAX_KEY_POSITIONS = 6;
+
+    private final EventRepository eventRepository;
+    private final EventSalesRepository eventSalesRepository;
+    private final ArtistRepository artistRepository;
+    private final LocationRepository locationRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final PrefixTrie<Key> trie = new PrefixTrie<>(
+        Comparator.comparing(Key::type).thenComparing(Key::id));
+    private final Map<Key, Entry> entries = new HashMap<>();
+    private final Map<Key, Long> weights = new HashMap<>();
+    private final Map<Long, Links> eventLinks = new HashMap<>();
+
+    public SuggestionIndex(EventRepository eventRepository,
+                           EventSalesRepository eventSalesRepository,
+                           ArtistRepository artistRepository,
+                           LocationRepository locationRepository) {
+        this.eventRepository = eventRepository;
+        this.eventSalesRepository = eventSalesRepository;
+        this.artistRepository = artistRepository;
+        this.locationRepository = locationRepository;
+    }
+
+    private record Key(SuggestionType type, Long id) {
+    }
+
+    private record Entry(String label, List<String> keys) {
+    }
+
+    private record Links(Long locationId, List<Long> artistIds) {
+    }
+
+    /**
+     * Rebuild the whole index from the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        final long start = System.currentTimeMillis();
+        int suggestions;
+        int keys;
+
+        lock.writeLock().lock();
+        try {
+            // Updates committed while loading wait for the lock and are applied afterwards
+            final List<Object[]> events = eventSalesRepository.countSoldTicketsPerEvent();
+            final List<Object[]> links = eventRepository.findSuggestionLinks();
+            final List<Artist> artists = artistRepository.findAll();
+            final List<Location> locations = locationRepository.findAll();
+
+            trie.clear();
+            entries.clear();
+            weights.clear();
+            eventLinks.clear();
+
+            Map<Long, List<Long>> artistIds = new HashMap<>();
+            Map<Long, Long> locationIds = new HashMap<>();
+            for (Object[] link : links) {
+                Long eventId = (Long) link[0];
+                locationIds.put(eventId, (Long) link[1]);
+                if (link[2] != null) {
+                    artistIds.computeIfAbsent(eventId, id -> new ArrayList<>()).add((Long) link[2]);
+                }
+            }
+            for (Object[] event : events) {
+                Long eventId = (Long) event[0];
+                putEvent(eventId, (String) event[1], locationIds.get(eventId), artistIds.getOrDefault(eventId, List.of()));
+                addSold(eventId, ((Number) event[4]).longValue());
+            }
+            for (Artist artist : artists) {
+                putEntry(new Key(SuggestionType.ARTIST, artist.getId()), artist.getName(), artist.getName());
+            }
+            for (Location location : locations) {
+                putLocation(location.getId(), location.getName(), location.getCity());
+            }
+            suggestions = entries.size();
+            keys = trie.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        LOGGER.info("Indexed {} suggestions under {} keys in {} ms",
+            suggestions, keys, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Add or replace an event once the current transaction has committed.
+     * Title, location and artists are read immediately.
+     *
+     * @param event the saved event
+     */
+    public void eventSavedAfterCommit(Event event) {
+        Long id = event.getId();
+        String title = event.getTitle();
+        Long locationId = event.getLocation() != null ? event.getLocation().getId() : null;
+        List<Long> artistIds = event.getArtists() == null ? List.of() : event.getArtists().stream().map(Artist::getId).toList();
+        AfterCommit.run(() -> write(() -> putEvent(id, title, locationId, artistIds)));
+    }
+
+    /**
+     * Remove an event once the current transaction has committed.
+     *
+     * @param eventId the deleted event ID
+     */
+    public void eventRemovedAfterCommit(Long eventId) {
+        AfterCommit.run(() -> write(() -> {
+            Key key = new Key(SuggestionType.EVENT, eventId);
+            addSold(eventId, -weights.getOrDefault(key, 0L));
+            eventLinks.remove(eventId);
+            weights.remove(key);
+            removeEntry(key);
+        }));
+    }
+
+    /**
+     * Add or replace an artist once the current transaction has committed.
+     *
+     * @param artist the saved artist
+     */
+    public void artistSavedAfterCommit(Artist artist) {
+        Key key = new Key(SuggestionType.ARTIST, artist.getId());
+        String name = artist.getName();
+        AfterCommit.run(() -> write(() -> putEntry(key, name, name)));
+    }
+
+    /**
+     * Add or replace a location once the current transaction has committed.
+     *
+     * @param location the saved location
+     */
+    public void locationSavedAfterCommit(Location location) {
+        Long id = location.getId();
+        String name = location.getName();
+        String city = location.getCity();
+        AfterCommit.run(() -> write(() -> putLocation(id, name, city)));
+    }
+
+    /**
+     * Re-weight events, their artists and locations after tickets were sold or cancelled.
+     */
+    @EventListener
+    public void onSalesChanged(SalesChangedEvent event) {
+        write(() -> event.soldDeltas().forEach(this::addSold));
+    }
+
+    /**
+     * The most popular events, artists and locations with a word starting with the query.
+     *
+     * @param query the text typed so far
+     * @param limit maximum number of suggestions
+     * @return suggestions, most popular first; empty for a blank query
+     */
+    public List<SuggestionDto> suggest(String query, int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            return trie.top(prefix, limit).stream()
+                .map(key -> new SuggestionDto(key.type(), key.id(), entries.get(key).label()))
+                .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void putEvent(Long id, String title, Long locationId, List<Long> artistIds) {
+        Key key = new Key(SuggestionType.EVENT, id);
+        long sold = weights.getOrDefault(key, 0L);
+
+        // move the sales of the event from its old to its new artists and location
+        addSold(id, -sold);
+        eventLinks.put(id, new Links(locationId, List.copyOf(artistIds)));
+        addSold(id, sold);
+
+        putEntry(key, title, title);
+    }
+
+    private void putLocation(Long id, String name, String city) {
+        String label = city == null || city.isBlank() ? name : name + ", " + city;
+        putEntry(new Key(SuggestionType.LOCATION, id), label, name, city);
+    }
+
+    private void putEntry(Key key, String label, String... names) {
+        removeEntry(key);
+        Set<String> keys = new LinkedHashSet<>();
+        for (String name : names) {
+            keys.addAll(keysOf(name));
+        }
+        long weight = weights.getOrDefault(key, 0L);
+        for (String k : keys) {
+            trie.put(k, key, weight);
+        }
+        entries.put(key, new Entry(label, List.copyOf(keys)));
+    }
+
+    private void removeEntry(Key key) {
+        Entry old = entries.remove(key);
+        if (old != null) {
+            old.keys().forEach(k -> trie.remove(k, key));
+        }
+    }
+
+    /**
+     * Add sold tickets to an event and to the artists and location it is linked to.
+     */
+    private void addSold(Long eventId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        addWeight(new Key(SuggestionType.EVENT, eventId), delta);
+        Links links = eventLinks.get(eventId);
+        if (links == null) {
+            return;
+        }
+        if (links.locationId() != null) {
+            addWeight(new Key(SuggestionType.LOCATION, links.locationId()), delta);
+        }
+        for (Long artistId : links.artistIds()) {
+            addWeight(new Key(SuggestionType.ARTIST, artistId), delta);
+        }
+    }
+
+    private void addWeight(Key key, long delta) {
+        long weight = Math.max(0, weights.getOrDefault(key, 0L) + delta);
+        weights.put(key, weight);
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            entry.keys().forEach(k -> trie.put(k, key, weight));
+        }
+    }
+
+    /**
+     * Keys of a name: the folded words from every word position on.
+     */
+    private static List<String> keysOf(String name) {
+        List<String> words = TextNormalizer.tokenize(name);
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < Math.min(words.size(), MAX_KEY_POSITIONS); i++) {
+            keys.add(String.join(" ", words.subList(i, words.size())));
+        }
+        return keys;
+    }
+
+    private static String normalize(String query) {
+        String joined = String.join(" ", TextNormalizer.tokenize(query));
+        // keep a trailing separator so "la " only completes names continuing after "la"
+        return query != null && !joined.isEmpty() && query.endsWith(" ") ? joined + " " : joined;
+    }
+}
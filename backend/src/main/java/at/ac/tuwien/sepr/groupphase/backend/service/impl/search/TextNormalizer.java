@@ -0,0 +1,70 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Case- and diacritic-folding tokenizer shared by the in-memory search structures.
+ * "Mozart: Zauberflöte" and "mozart zauberflote" produce the same tokens.
+ */
+public final class TextNormalizer {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern TOKEN_SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private TextNormalizer() {
+    }
+
+    /**
+     * Fold a text to lower case without diacritics.
+     *
+     * @param text the text, may be null
+     * @return the folded text, empty for null input
+     */
+    public static String fold(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("")
+            .replace("ß", "ss")
+            .toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Split a text into folded tokens, keeping duplicates and order.
+     *
+     * @param text the text, may be null
+     * @return the tokens
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : TOKEN_SEPARATORS.split(fold(text))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Character trigrams of a term padded with boundary markers, so that
+     * "rock" yields {@code ^ro, roc, ock, ck$}. Prefix queries use the leading marker.
+     *
+     * @param term a folded token
+     * @return the trigrams in order of appearance
+     */
+    public static Set<String> trigrams(String term) {
+        String padded = "^" + term + "$";
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+}
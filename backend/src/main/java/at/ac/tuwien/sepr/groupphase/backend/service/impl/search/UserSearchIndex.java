@@ -0,0 +1,254 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl.search;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.User;
+import at.ac.tuwien.sepr.groupphase.backend.repository.UserRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.support.AfterCommit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process trigram index over first name, last name and e-mail address of all users,
+ * used by the administrative user search.
+ *
+ * <p>Every trigram of a folded field maps to the users containing it. A substring query
+ * intersects the posting lists of its trigrams, starting with the shortest, and checks the
+ * few remaining candidates against the folded fields, so a match means the query occurs in
+ * one of the fields just like {@code LIKE '%query%'}. Queries shorter than a trigram are
+ * checked against every indexed user, which still avoids the database.
+ *
+ * <p>The index is rebuilt from the database on startup and updated by
+ * {@link at.ac.tuwien.sepr.groupphase.backend.service.UserService} after a user was
+ * registered, created, changed, locked, unlocked or deleted and the change has committed.
+ * Until the first rebuild has finished, {@link #isReady()} is false and callers query the
+ * database instead.
+ */
+@Component
+public class UserSearchIndex {
+
+    private static final Logger LOGGER =
+        LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    private static final int GRAM = 3;
+
+    private final UserRepository userRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private volatile boolean ready;
+
+    public UserSearchIndex(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Rebuild the whole index from the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        final long start = System.currentTimeMillis();
+        List<User> users;
+        int grams;
+
+        lock.writeLock().lock();
+        try {
+            // Loading under the lock keeps users saved during the rebuild from being dropped
+            users = userRepository.findAll();
+            documents.clear();
+            postings.clear();
+            for (User user : users) {
+                add(user.getId(), Document.of(user));
+            }
+            grams = postings.size();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        LOGGER.info("Indexed {} users with {} trigrams in {} ms",
+            users.size(), grams, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Add or replace a user once the current transaction has committed.
+     * The indexed fields are read immediately.
+     *
+     * @param user the saved user
+     */
+    public void indexAfterCommit(User user) {
+        Long id = user.getId();
+        Document document = Document.of(user);
+        AfterCommit.run(() -> index(id, document));
+    }
+
+    /**
+     * Remove a user once the current transaction has committed.
+     *
+     * @param userId the deleted user ID
+     */
+    public void removeAfterCommit(Long userId) {
+        AfterCommit.run(() -> remove(userId));
+    }
+
+    /**
+     * Remove a user from the index.
+     */
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Find the users whose first name, last name or e-mail address contains the query.
+     *
+     * @param query  the substring to look for, compared case- and diacritic-insensitively
+     * @param locked whether to return locked (by failed logins or an administrator) or active users
+     * @return the IDs of the matching users in ascending order, empty for an empty query
+     */
+    public List<Long> search(String query, boolean locked) {
+        String needle = TextNormalizer.fold(query);
+        if (needle.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Long> ids = new ArrayList<>();
+            for (Long id : candidates(needle)) {
+                Document document = documents.get(id);
+                if (document.locked() == locked && document.contains(needle)) {
+                    ids.add(id);
+                }
+            }
+            ids.sort(Comparator.naturalOrder());
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Whether the index has been built and can answer queries.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Number of indexed users.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void index(Long id, Document document) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+            add(id, document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Users containing every trigram of the needle, or all users for needles shorter than a trigram.
+     */
+    private Set<Long> candidates(String needle) {
+        if (needle.length() < GRAM) {
+            return documents.keySet();
+        }
+
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String gram : grams(needle)) {
+            Set<Long> list = postings.get(gram);
+            if (list == null) {
+                return Set.of();
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = new HashSet<>(lists.getFirst());
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    private void add(Long id, Document document) {
+        documents.put(id, document);
+        for (String gram : document.grams()) {
+            postings.computeIfAbsent(gram, g -> new HashSet<>()).add(id);
+        }
+    }
+
+    private void removeDocument(Long id) {
+        Document document = documents.remove(id);
+        if (document == null) {
+            return;
+        }
+        for (String gram : document.grams()) {
+            Set<Long> ids = postings.get(gram);
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    /**
+     * The folded searchable fields of a user and whether the user is locked.
+     */
+    private record Document(String firstName, String lastName, String email, boolean locked) {
+
+        static Document of(User user) {
+            return new Document(
+                TextNormalizer.fold(user.getFirstName()),
+                TextNormalizer.fold(user.getLastName()),
+                TextNormalizer.fold(user.getEmail()),
+                user.isLocked() || user.isAdminLocked());
+        }
+
+        boolean contains(String needle) {
+            return firstName.contains(needle) || lastName.contains(needle) || email.contains(needle);
+        }
+
+        Set<String> grams() {
+            Set<String> grams = UserSearchIndex.grams(firstName);
+            grams.addAll(UserSearchIndex.grams(lastName));
+            grams.addAll(UserSearchIndex.grams(email));
+            return grams;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package at.ac.tuwien.sepr.groupphase.backend.type;
+
+public enum CancellationStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
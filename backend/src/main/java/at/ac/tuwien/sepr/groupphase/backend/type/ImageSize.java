@@ -0,0 +1,20 @@
+package at.ac.tuwien.sepr.groupphase.backend.type;
+
+/**
+ * Renditions of an uploaded image, bounded by the length of their longest edge in pixels.
+ */
+public enum ImageSize {
+    THUMB(200),
+    CARD(600),
+    FULL(1600);
+
+    private final int maxEdge;
+
+    ImageSize(int maxEdge) {
+        this.maxEdge = maxEdge;
+    }
+
+    public int maxEdge() {
+        return maxEdge;
+    }
+}
@@ -0,0 +1,35 @@
+package at.ac.tuwien.sepr.groupphase.backend.type;
+
+/**
+ * Price bands used as search facet, based on the minimum ticket price of an event in cents.
+ */
+public enum PriceBand {
+    UNDER_20(0, 2000),
+    FROM_20_TO_50(2000, 5000),
+    FROM_50_TO_100(5000, 10000),
+    FROM_100(10000, Integer.MAX_VALUE),
+    NO_PRICE(-1, -1);
+
+    private final int minInclusive;
+    private final int maxExclusive;
+
+    PriceBand(int minInclusive, int maxExclusive) {
+        this.minInclusive = minInclusive;
+        this.maxExclusive = maxExclusive;
+    }
+
+    /**
+     * Band of a price in cents; {@link #NO_PRICE} for events without price categories.
+     */
+    public static PriceBand of(Integer price) {
+        if (price == null || price < 0) {
+            return NO_PRICE;
+        }
+        for (PriceBand band : values()) {
+            if (price >= band.minInclusive && price < band.maxExclusive) {
+                return band;
+            }
+        }
+        return FROM_100;
+    }
+}
@@ -0,0 +1,137 @@
+package at.ac.tuwien.sepr.groupphase.backend.benchmark;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.Event;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Location;
+import at.ac.tuwien.sepr.groupphase.backend.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+import javax.sql.DataSource;
+import java.lang.invoke.MethodHandles;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the former in-memory event search (load everything, filter and page in Java)
+ * with the database-side paginated search on 100k events.
+ *
+ * <p>Not part of the regular build; run with {@code mvn test -Dbenchmark=true -Dtest=EventSearchBenchmarkTest}.
+ */
+@DataJpaTest
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class EventSearchBenchmarkTest {
+
+    private static final Logger LOGGER =
+        LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+    private static final int EVENT_COUNT = 100_000;
+    private static final int BATCH_SIZE = 1_000;
+    private static final int ROUNDS = 5;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        Location location = new Location();
+        location.setName("Benchmark Hall");
+        location.setStreet("Street");
+        location.setStreetNumber("1");
+        location.setCity("Wien");
+        location.setZipCode(1010);
+        location.setStagePosition("TOP");
+        entityManager.persist(location);
+        entityManager.flush();
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (PreparedStatement ps = connection.prepareStatement(
+            "INSERT INTO events (title, type, duration_minutes, description, date_time, location_id, min_price, max_price, cancelled) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, FALSE)")) {
+            LocalDateTime base = LocalDateTime.of(2027, 1, 1, 20, 0);
+            for (int i = 0; i < EVENT_COUNT; i++) {
+                ps.setString(1, "Event " + i);
+                ps.setString(2, i % 3 == 0 ? "CONCERT" : "THEATER");
+                ps.setInt(3, 60 + i % 120);
+                ps.setString(4, "Description " + i);
+                ps.setTimestamp(5, Timestamp.valueOf(base.plusMinutes(i * 7L)));
+                ps.setLong(6, location.getId());
+                ps.setInt(7, 1000 + (i % 100) * 100);
+                ps.setInt(8, 5000 + (i % 100) * 100);
+                ps.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    ps.executeBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+    }
+
+    @Test
+    void databasePagination_vsInMemoryPagination() {
+        Pageable firstPage = PageRequest.of(0, 20, Sort.by("dateTime", "id"));
+        Pageable deepPage = PageRequest.of(2_000, 20, Sort.by("dateTime", "id"));
+
+        long inMemory = measure("in-memory, page 0", () -> inMemorySearch(firstPage));
+        long dbFirst = measure("database, page 0", () -> eventRepository.searchEventsPage(
+            null, "CONCERT", null, null, null, null, null, 2000, 6000, firstPage).getContent());
+        long dbDeep = measure("database, page 2000", () -> eventRepository.searchEventsPage(
+            null, null, null, null, null, null, null, null, null, deepPage).getContent());
+
+        Page<Event> page = eventRepository.searchEventsPage(
+            null, "CONCERT", null, null, null, null, null, 2000, 6000, firstPage);
+        assertThat(page.getContent()).hasSize(20);
+        assertThat(page.getContent()).allSatisfy(e -> assertThat(e.getMinPrice()).isBetween(2000, 6000));
+
+        LOGGER.info("Event search over {} events: in-memory {} ms, database page 0 {} ms, database page 2000 {} ms",
+            EVENT_COUNT, inMemory, dbFirst, dbDeep);
+    }
+
+    private List<Event> inMemorySearch(Pageable pageable) {
+        List<Event> filtered = eventRepository.findAllByOrderByDateTimeAsc().stream()
+            .filter(e -> "CONCERT".equalsIgnoreCase(e.getType()))
+            .filter(e -> e.getMinPrice() != null && e.getMinPrice() >= 2000 && e.getMinPrice() <= 6000)
+            .toList();
+        int start = (int) pageable.getOffset();
+        return filtered.subList(start, Math.min(start + pageable.getPageSize(), filtered.size()));
+    }
+
+    private long measure(String label, Supplier<List<Event>> search) {
+        search.get();
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            entityManager.clear();
+            long start = System.nanoTime();
+            List<Event> result = search.get();
+            best = Math.min(best, (System.nanoTime() - start) / 1_000_000);
+            assertThat(result).isNotEmpty();
+        }
+        LOGGER.info("{}: best of {} rounds {} ms", label, ROUNDS, best);
+        return best;
+    }
+}
@@ -1,15 +1,21 @@
 package at.ac.tuwien.sepr.groupphase.backend.endpoint;
 
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.artist.SimpleArtistDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.CalendarDayDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.CalendarEventDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.DetailedEventDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.EventCreateDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.EventUpdateDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.SeatmapDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.SimpleEventDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.TopTenEventDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.image.ImageResourceDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.location.SimpleLocationDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.page.CursorPageDto;
 import at.ac.tuwien.sepr.groupphase.backend.security.JwtAuthorizationFilter;
+import at.ac.tuwien.sepr.groupphase.backend.service.EventCancellationService;
 import at.ac.tuwien.sepr.groupphase.backend.service.EventService;
+import at.ac.tuwien.sepr.groupphase.backend.type.ImageSize;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,6 +23,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -27,7 +34,10 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -47,6 +57,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @AutoConfigureMockMvc(addFilters = false)
 class EventEndpointTest {
 
+    private static final String IMAGE_KEY = "a".repeat(64);
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -56,6 +68,9 @@ class EventEndpointTest {
     @MockitoBean
     private EventService eventService;
 
+    @MockitoBean
+    private EventCancellationService eventCancellationService;
+
     @Test
     void findAll_returnsOk_andMapsPagedList() throws Exception {
         SimpleEventDto dto1 = new SimpleEventDto(
@@ -328,8 +343,7 @@ class EventEndpointTest {
     void getImage_returnsImageWithHeaders() throws Exception {
         byte[] imageData = "image bytes".getBytes();
 
-        when(eventService.getImage(1L)).thenReturn(imageData);
-        when(eventService.getImageContentType(1L)).thenReturn("image/jpeg");
+        when(eventService.getImage(1L, ImageSize.FULL)).thenReturn(new ImageResourceDto("key", "image/jpeg", new ByteArrayResource(imageData)));
 
         mockMvc.perform(get("/api/v1/events/1/image"))
             .andExpect(status().isOk())
@@ -337,4 +351,105 @@ class EventEndpointTest {
             .andExpect(header().string("Content-Length", String.valueOf(imageData.length)))
             .andExpect(content().bytes(imageData));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getImage_withSize_requestsRendition() throws Exception {
+        byte[] thumb = "thumb".getBytes();
+        when(eventService.getImage(1L, ImageSize.THUMB)).thenReturn(new ImageResourceDto("key", "image/jpeg", new ByteArrayResource(thumb)));
+
+        mockMvc.perform(get("/api/v1/events/1/image").param("size", "thumb"))
+            .andExpect(status().isOk())
+            .andExpect(content().bytes(thumb));
+    }
+
+    @Test
+    void getImage_withUnknownSize_returnsUnprocessableEntity() throws Exception {
+        mockMvc.perform(get("/api/v1/events/1/image").param("size", "huge"))
+            .andExpect(status().isUnprocessableEntity());
+    }
+
+    @Test
+    void getImage_sendsContentHashAsETag_andRequiresRevalidation() throws Exception {
+        when(eventService.getImage(1L, ImageSize.FULL)).thenReturn(new ImageResourceDto(IMAGE_KEY, "image/jpeg", new ByteArrayResource("image".getBytes())));
+
+        mockMvc.perform(get("/api/v1/events/1/image"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"" + IMAGE_KEY + "\""))
+            .andExpect(header().string("Cache-Control", "no-cache, public"));
+    }
+
+    @Test
+    void getImage_matchingIfNoneMatch_returnsNotModifiedWithoutBody() throws Exception {
+        when(eventService.getImage(1L, ImageSize.FULL)).thenReturn(new ImageResourceDto(IMAGE_KEY, "image/jpeg", new ByteArrayResource("image".getBytes())));
+
+        mockMvc.perform(get("/api/v1/events/1/image").header("If-None-Match", "\"" + IMAGE_KEY + "\""))
+            .andExpect(status().isNotModified())
+            .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    void getImage_versionedUrl_isImmutable() throws Exception {
+        when(eventService.getImage(1L, ImageSize.CARD)).thenReturn(new ImageResourceDto(IMAGE_KEY, "image/jpeg", new ByteArrayResource("image".getBytes())));
+
+        mockMvc.perform(get("/api/v1/events/1/image").param("size", "card").param("v", IMAGE_KEY))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Cache-Control", "max-age=31536000, public, immutable"));
+    }
+
+    @Test
+    void getImage_outdatedVersion_requiresRevalidation() throws Exception {
+        when(eventService.getImage(1L, ImageSize.FULL)).thenReturn(new ImageResourceDto(IMAGE_KEY, "image/jpeg", new ByteArrayResource("image".getBytes())));
+
+        mockMvc.perform(get("/api/v1/events/1/image").param("v", "b".repeat(64)))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Cache-Control", "no-cache, public"));
+    }
+
+    @Test
+    void getImage_withRange_returnsPartialContent() throws Exception {
+        byte[] imageData = "image bytes".getBytes();
+        when(eventService.getImage(1L, ImageSize.FULL)).thenReturn(new ImageResourceDto("key", "image/jpeg", new ByteArrayResource(imageData)));
+
+        mockMvc.perform(get("/api/v1/events/1/image").header("Range", "bytes=0-4"))
+            .andExpect(status().isPartialContent())
+            .andExpect(header().string("Content-Range", "bytes 0-4/" + imageData.length))
+            .andExpect(content().bytes("image".getBytes()));
+    }
+
+    @Test
+    void findCalendar_returnsOk_andParsesMonths() throws Exception {
+        CalendarDayDto day = new CalendarDayDto(LocalDate.of(2026, 6, 15), 1, 5000, List.of(
+            new CalendarEventDto(1L, "Rock Concert", "Concert", LocalTime.of(20, 0), 5000)));
+        when(eventService.findCalendar(YearMonth.of(2026, 6), YearMonth.of(2026, 7))).thenReturn(List.of(day));
+
+        mockMvc.perform(get("/api/v1/events/calendar").param("from", "2026-06").param("to", "2026-07"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].date").value("2026-06-15"))
+            .andExpect(jsonPath("$[0].eventCount").value(1))
+            .andExpect(jsonPath("$[0].minPrice").value(5000))
+            .andExpect(jsonPath("$[0].events[0].title").value("Rock Concert"))
+            .andExpect(jsonPath("$[0].events[0].time").value("20:00:00"));
+    }
+
+    @Test
+    void findAll_withCursor_returnsCursorPage() throws Exception {
+        SimpleEventDto dto = new SimpleEventDto(
+            2L, "La Traviata", "Opera", 180, LocalDateTime.of(2026, 7, 20, 19, 0), "Vienna", null, 4000, null);
+        when(eventService.findAllByCursor("abc", 5)).thenReturn(new CursorPageDto<>(List.of(dto), "next"));
+
+        mockMvc.perform(get("/api/v1/events").param("cursor", "abc").param("size", "5"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].title").value("La Traviata"))
+            .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    void findAll_withEmptyCursor_startsAtFirstEvent() throws Exception {
+        when(eventService.findAllByCursor("", 12)).thenReturn(new CursorPageDto<>(List.of(), null));
+
+        mockMvc.perform(get("/api/v1/events").param("cursor", ""))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content").isEmpty())
+            .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+}
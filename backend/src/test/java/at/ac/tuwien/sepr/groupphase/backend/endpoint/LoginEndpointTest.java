@@ -4,6 +4,7 @@ import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.user.UserLoginDto;
 import at.ac.tuwien.sepr.groupphase.backend.exception.AccountLockedException;
 import at.ac.tuwien.sepr.groupphase.backend.exception.InvalidCredentialsException;
 import at.ac.tuwien.sepr.groupphase.backend.security.JwtAuthorizationFilter;
+import at.ac.tuwien.sepr.groupphase.backend.security.LoginRateLimiter;
 import at.ac.tuwien.sepr.groupphase.backend.service.UserService;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -16,6 +17,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -33,6 +35,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
     )
 )
 @AutoConfigureMockMvc(addFilters = false)
+@Import(LoginRateLimiter.class)
 class LoginEndpointTest {
 
     @Autowired
@@ -176,4 +179,38 @@ class LoginEndpointTest {
             .andExpect(jsonPath("$.errors").isArray())
             .andExpect(jsonPath("$.errors[0]").value("Account is locked"));
     }
-}
\ No newline at end of file
+
+    // ---------------------------------------------------------
+    // RATE LIMIT
+    // ---------------------------------------------------------
+
+    @Test
+    void login_tooManyAttemptsForEmail_returnsTooManyRequests() throws Exception {
+        UserLoginDto dto = UserLoginDto.UserLoginDtoBuilder
+            .anUserLoginDto()
+            .withEmail("limited@example.com")
+            .withPassword("wrongPassword")
+            .build();
+
+        when(userService.login(any()))
+            .thenThrow(new InvalidCredentialsException("Invalid credentials"));
+
+        for (int i = 0; i < 10; i++) {
+            mockMvc.perform(
+                    post("/api/v1/authentication")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto))
+                )
+                .andExpect(status().isUnauthorized());
+        }
+
+        mockMvc.perform(
+                post("/api/v1/authentication")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(dto))
+            )
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().exists("Retry-After"))
+            .andExpect(jsonPath("$.message").value("Too many login attempts"));
+    }
+}
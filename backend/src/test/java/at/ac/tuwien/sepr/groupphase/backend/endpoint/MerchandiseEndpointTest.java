@@ -1,10 +1,12 @@
 package at.ac.tuwien.sepr.groupphase.backend.endpoint;
 
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.image.ImageResourceDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.merchandise.DetailedMerchandiseDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.merchandise.MerchandiseCreateDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.merchandise.SimpleMerchandiseDto;
 import at.ac.tuwien.sepr.groupphase.backend.security.JwtAuthorizationFilter;
 import at.ac.tuwien.sepr.groupphase.backend.service.MerchandiseService;
+import at.ac.tuwien.sepr.groupphase.backend.type.ImageSize;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -18,6 +20,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.test.context.support.WithMockUser;
@@ -33,6 +36,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -186,14 +191,23 @@ public class MerchandiseEndpointTest {
 
     @Test
     void getImage_returnsOk_andDelegatesToService() throws Exception {
-        when(merchandiseService.getImageResponse(10L))
-            .thenReturn(org.springframework.http.ResponseEntity.ok()
-                .contentType(MediaType.IMAGE_JPEG)
-                .body("bytes".getBytes()));
+        byte[] bytes = "bytes".getBytes();
+        when(merchandiseService.getImage(10L, ImageSize.FULL))
+            .thenReturn(new ImageResourceDto("key", MediaType.IMAGE_JPEG_VALUE, new ByteArrayResource(bytes)));
 
         mockMvc.perform(get("/api/v1/merchandise/10/image"))
-            .andExpect(status().isOk());
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", MediaType.IMAGE_JPEG_VALUE))
+            .andExpect(content().bytes(bytes));
+
+        verify(merchandiseService, times(1)).getImage(10L, ImageSize.FULL);
+    }
 
-        verify(merchandiseService, times(1)).getImageResponse(10L);
+    @Test
+    void getImage_noImage_returnsNotFound() throws Exception {
+        when(merchandiseService.getImage(10L, ImageSize.FULL)).thenReturn(null);
+
+        mockMvc.perform(get("/api/v1/merchandise/10/image"))
+            .andExpect(status().isNotFound());
     }
 }
@@ -34,6 +34,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -217,6 +219,30 @@ class NewsEndpointTest {
             .andExpect(jsonPath("$.message").value("News item with id 99 not found"));
     }
 
+    @Test
+    @WithMockUser(username = "user@example.com", roles = "USER")
+    void markAllAsRead_returnsNoContent() throws Exception {
+        mockMvc.perform(post("/api/v1/news/mark-read")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\": [1, 2, 2]}"))
+            .andExpect(status().isNoContent());
+
+        verify(newsItemService).markAllAsRead(List.of(1L, 2L, 2L), "user@example.com");
+    }
+
+    @Test
+    @WithMockUser(username = "user@example.com", roles = "USER")
+    void markAllAsRead_noIds_returnsUnprocessableEntity() throws Exception {
+        mockMvc.perform(post("/api/v1/news/mark-read")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\": []}"))
+            .andExpect(status().isUnprocessableEntity());
+
+        verifyNoInteractions(newsItemService);
+    }
+
     // ---------------------------------------------------------
     // CREATE NEWS (ADMIN ONLY)
     // ---------------------------------------------------------
@@ -0,0 +1,62 @@
+package at.ac.tuwien.sepr.groupphase.backend.endpoint;
+
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.suggest.SuggestionDto;
+import at.ac.tuwien.sepr.groupphase.backend.exception.ValidationException;
+import at.ac.tuwien.sepr.groupphase.backend.security.JwtAuthorizationFilter;
+import at.ac.tuwien.sepr.groupphase.backend.service.SuggestionService;
+import at.ac.tuwien.sepr.groupphase.backend.type.SuggestionType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(
+    controllers = SuggestEndpoint.class,
+    excludeFilters = @ComponentScan.Filter(
+        type = FilterType.ASSIGNABLE_TYPE,
+        classes = JwtAuthorizationFilter.class
+    )
+)
+@AutoConfigureMockMvc(addFilters = false)
+class SuggestEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private SuggestionService suggestionService;
+
+    @Test
+    void suggest_returnsOk_withDefaultLimit() throws Exception {
+        when(suggestionService.suggest("trav", 8)).thenReturn(List.of(
+            new SuggestionDto(SuggestionType.EVENT, 1L, "La Traviata"),
+            new SuggestionDto(SuggestionType.LOCATION, 10L, "Traviata Hall, Wien")));
+
+        mockMvc.perform(get("/api/v1/suggest").param("q", "trav").accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$[0].type").value("EVENT"))
+            .andExpect(jsonPath("$[0].id").value(1))
+            .andExpect(jsonPath("$[0].label").value("La Traviata"))
+            .andExpect(jsonPath("$[1].type").value("LOCATION"));
+    }
+
+    @Test
+    void suggest_invalidLimit_returnsUnprocessableEntity() throws Exception {
+        when(suggestionService.suggest("trav", 100)).thenThrow(new ValidationException("limit must be between 1 and 20"));
+
+        mockMvc.perform(get("/api/v1/suggest").param("q", "trav").param("limit", "100"))
+            .andExpect(status().isUnprocessableEntity());
+    }
+}
@@ -6,7 +6,10 @@ import at.ac.tuwien.sepr.groupphase.backend.repository.PasswordResetTokenReposit
 import at.ac.tuwien.sepr.groupphase.backend.repository.UserRepository;
 import at.ac.tuwien.sepr.groupphase.backend.type.UserRole;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.time.LocalDateTime;
+import java.util.Base64;
 
 import org.junit.jupiter.api.Test;
 
@@ -21,7 +24,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -81,8 +84,8 @@ class PasswordResetIntegrationTest {
         assertThat(token.getUser().getId()).isEqualTo(user.getId());
         assertThat(token.getExpiresAt()).isAfter(LocalDateTime.now());
 
-        verify(mailSender, atLeastOnce())
-            .send(Mockito.any(SimpleMailMessage.class));
+        verify(mailSender, timeout(5000).atLeastOnce())
+            .send(Mockito.any(SimpleMailMessage[].class));
     }
 
     @Test
@@ -116,7 +119,7 @@ class PasswordResetIntegrationTest {
         assertThat(token.getUser().getEmail()).isEqualTo("forgot@example.com");
         assertThat(token.getExpiresAt()).isAfter(LocalDateTime.now());
 
-        verify(mailSender).send(Mockito.any(SimpleMailMessage.class));
+        verify(mailSender, timeout(5000)).send(Mockito.any(SimpleMailMessage[].class));
     }
 
     @Test
@@ -136,11 +139,10 @@ class PasswordResetIntegrationTest {
         user.setLoginFailCount(5);
         user = userRepository.save(user);
 
-        String rawToken = "RAW_TOKEN";
-
         PasswordResetToken token = new PasswordResetToken();
         token.setUser(user);
-        token.setTokenHash(passwordEncoder.encode(rawToken));
+        token.setSelector("SELECTOR");
+        token.setTokenHash(hashVerifier("VERIFIER"));
         token.setExpiresAt(LocalDateTime.now().plusMinutes(10));
         tokenRepository.save(token);
 
@@ -149,7 +151,7 @@ class PasswordResetIntegrationTest {
                     .contentType("application/json")
                     .content("""
                     {
-                      "token": "RAW_TOKEN",
+                      "token": "SELECTOR.VERIFIER",
                       "newPassword": "newSecurePassword"
                     }
                     """)
@@ -169,6 +171,11 @@ class PasswordResetIntegrationTest {
         assertThat(tokenRepository.findAll()).isEmpty();
     }
 
+    private static String hashVerifier(String verifier) throws Exception {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(verifier.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(digest);
+    }
+
     /**
      * Test configuration providing a mocked {@link JavaMailSender}
      * to avoid sending real e-mails during integration tests.
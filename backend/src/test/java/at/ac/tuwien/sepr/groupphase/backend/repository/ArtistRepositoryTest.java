@@ -10,6 +10,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 /**
  * Tests for ArtistRepository CUSTOM @Query methods only.
@@ -92,4 +93,20 @@ class ArtistRepositoryTest {
         assertThat(results).hasSize(2);
         assertThat(results).allMatch(Artist::getIsBand);
     }
-}
\ No newline at end of file
+
+    @Test
+    void findBandMemberships_returnsBandMemberPairs() {
+        Artist notABand = new Artist();
+        notABand.setName("Freddie & Friends");
+        notABand.setIsBand(false);
+        notABand.setMembers(List.of(bandMember2));
+        entityManager.persist(notABand);
+        entityManager.flush();
+
+        List<Object[]> results = artistRepository.findBandMemberships();
+
+        assertThat(results).extracting(row -> row[0], row -> row[1]).containsExactlyInAnyOrder(
+            tuple(band.getId(), bandMember1.getId()),
+            tuple(band.getId(), bandMember2.getId()));
+    }
+}
@@ -1,17 +1,24 @@
 package at.ac.tuwien.sepr.groupphase.backend.repository;
 
 import at.ac.tuwien.sepr.groupphase.backend.entity.*;
+import at.ac.tuwien.sepr.groupphase.backend.repository.keyset.Keyset;
+import at.ac.tuwien.sepr.groupphase.backend.repository.keyset.KeysetPage;
 import at.ac.tuwien.sepr.groupphase.backend.type.UserRole;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 /**
  * Tests for EventRepository CUSTOM @Query methods only.
@@ -218,4 +225,143 @@ class EventRepositoryTest {
 
         assertThat(results).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    void refreshPriceRangeByLocationIds_setsMinAndMaxFromPriceCategories() {
+        int updated = eventRepository.refreshPriceRangeByLocationIds(List.of(location.getId()));
+        entityManager.clear();
+
+        Event refreshed = eventRepository.findById(eventConcert.getId()).orElseThrow();
+        assertThat(updated).isEqualTo(2);
+        assertThat(refreshed.getMinPrice()).isEqualTo(5000);
+        assertThat(refreshed.getMaxPrice()).isEqualTo(5000);
+    }
+
+    @Test
+    void findCatalogPrices_returnsOnlyRequestedEvents() {
+        eventRepository.refreshPriceRangeByLocationIds(List.of(location.getId()));
+        entityManager.clear();
+
+        List<Long> ids = eventRepository.findIdsByLocationIds(List.of(location.getId()));
+        List<Object[]> prices = eventRepository.findCatalogPrices(List.of(eventOpera.getId()));
+
+        assertThat(ids).containsExactlyInAnyOrder(eventConcert.getId(), eventOpera.getId());
+        assertThat(prices).extracting(row -> row[0], row -> row[1])
+            .containsExactly(tuple(eventOpera.getId(), 5000));
+    }
+
+    @Test
+    void findAllWithLocation_returnsRequestedPageInOrder() {
+        Page<Event> page = eventRepository.findAllWithLocation(
+            PageRequest.of(1, 1, Sort.by("dateTime")));
+
+        assertThat(page.getContent()).extracting(Event::getTitle).containsExactly("La Traviata");
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void searchEventsPage_filtersByPriceBounds() {
+        eventRepository.refreshPriceRangeByLocationIds(List.of(location.getId()));
+        entityManager.clear();
+
+        Page<Event> matching = eventRepository.searchEventsPage(
+            null, null, null, null, null, null, null, 4000, 6000, PageRequest.of(0, 10));
+        Page<Event> tooExpensive = eventRepository.searchEventsPage(
+            null, null, null, null, null, null, null, 6000, null, PageRequest.of(0, 10));
+
+        assertThat(matching.getTotalElements()).isEqualTo(2);
+        assertThat(tooExpensive.getContent()).isEmpty();
+    }
+
+    @Test
+    void searchEventsPage_priceBoundExcludesEventsWithoutPrice() {
+        Page<Event> results = eventRepository.searchEventsPage(
+            null, null, null, null, null, null, null, null, 100000, PageRequest.of(0, 10));
+
+        assertThat(results.getContent()).isEmpty();
+    }
+
+    @Test
+    void searchEventsPage_combinesCriteriaAndPaginates() {
+        Page<Event> results = eventRepository.searchEventsPage(
+            "concert", "CONCERT", 100, 150, null, null, location.getId(), null, null,
+            PageRequest.of(0, 10, Sort.by("dateTime")));
+
+        assertThat(results.getContent()).extracting(Event::getTitle).containsExactly("Rock Concert");
+        assertThat(results.getContent().get(0).getLocation().getName()).isEqualTo("Wiener Stadthalle");
+    }
+
+    @Test
+    void findByArtistIds_findsEventsOfAnyArtistOnceInDateOrder() {
+        Artist band = new Artist();
+        band.setName("Die Toten Hosen");
+        band.setIsBand(true);
+        entityManager.persist(band);
+        eventOpera.setArtists(List.of(artist, band));
+        entityManager.persist(eventOpera);
+        entityManager.flush();
+
+        List<Event> results = eventRepository.findByArtistIds(List.of(artist.getId(), band.getId()));
+
+        assertThat(results).containsExactly(eventConcert, eventOpera);
+    }
+
+    @Test
+    void findCalendarRows_returnsCalendarColumns() {
+        List<Object[]> rows = eventRepository.findCalendarRows();
+
+        assertThat(rows).extracting(row -> row[0], row -> row[1], row -> row[3]).containsExactlyInAnyOrder(
+            tuple(eventConcert.getId(), "Rock Concert", LocalDateTime.of(2026, 6, 15, 20, 0)),
+            tuple(eventOpera.getId(), "La Traviata", LocalDateTime.of(2026, 7, 20, 19, 0)));
+    }
+
+    @Test
+    void findSuggestionLinks_returnsLocationAndArtistsPerEvent() {
+        List<Object[]> links = eventRepository.findSuggestionLinks();
+
+        assertThat(links).extracting(row -> row[0], row -> row[1], row -> row[2]).containsExactlyInAnyOrder(
+            tuple(eventConcert.getId(), location.getId(), artist.getId()),
+            tuple(eventOpera.getId(), location.getId(), null));
+    }
+
+    @Test
+    void findKeyset_pagesThroughEventsWithIdAsTieBreaker() {
+        Event encore = new Event();
+        encore.setTitle("Encore");
+        encore.setType("OPERA");
+        encore.setDurationMinutes(60);
+        encore.setDateTime(eventOpera.getDateTime());
+        encore.setLocation(location);
+        entityManager.persist(encore);
+        entityManager.flush();
+
+        List<String> titles = new ArrayList<>();
+        String cursor = null;
+        do {
+            Keyset<LocalDateTime> keyset = Keyset.ascending("dateTime", LocalDateTime.class, cursor, 2);
+            KeysetPage<Event> page = eventRepository.findKeyset(Event.class, null, keyset);
+            page.content().forEach(event -> titles.add(event.getTitle()));
+            cursor = keyset.nextCursor(page, Event::getDateTime, Event::getId);
+        } while (cursor != null);
+
+        assertThat(titles).containsExactly("Rock Concert", "La Traviata", "Encore");
+    }
+
+    @Test
+    void findKeyset_descendingAppliesFilter() {
+        Keyset<LocalDateTime> keyset = Keyset.descending("dateTime", LocalDateTime.class, null, 1);
+        KeysetPage<Event> page = eventRepository.findKeyset(Event.class,
+            (root, query, cb) -> cb.equal(root.get("location"), location), keyset);
+
+        assertThat(page.content()).extracting(Event::getTitle).containsExactly("La Traviata");
+        assertThat(page.hasNext()).isTrue();
+
+        Keyset<LocalDateTime> next = Keyset.descending("dateTime", LocalDateTime.class,
+            keyset.nextCursor(page, Event::getDateTime, Event::getId), 1);
+        KeysetPage<Event> last = eventRepository.findKeyset(Event.class, null, next);
+
+        assertThat(last.content()).extracting(Event::getTitle).containsExactly("Rock Concert");
+        assertThat(last.hasNext()).isFalse();
+        assertThat(next.nextCursor(last, Event::getDateTime, Event::getId)).isNull();
+    }
+}
@@ -0,0 +1,152 @@
+package at.ac.tuwien.sepr.groupphase.backend.repository;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.Event;
+import at.ac.tuwien.sepr.groupphase.backend.entity.EventSales;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Invoice;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Location;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Seat;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Sector;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Ticket;
+import at.ac.tuwien.sepr.groupphase.backend.entity.User;
+import at.ac.tuwien.sepr.groupphase.backend.type.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the custom queries of EventSalesRepository.
+ */
+@DataJpaTest
+class EventSalesRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EventSalesRepository eventSalesRepository;
+
+    private Event concert;
+    private Event opera;
+
+    @BeforeEach
+    void setUp() {
+        Location location = new Location();
+        location.setName("Wiener Stadthalle");
+        location.setStreet("Roland-Rainer-Platz");
+        location.setStreetNumber("1");
+        location.setCity("Wien");
+        location.setZipCode(1150);
+        location.setStagePosition("TOP");
+        entityManager.persist(location);
+
+        Sector sector = new Sector();
+        sector.setName("Main Hall");
+        sector.setLocation(location);
+        entityManager.persist(sector);
+
+        User user = new User();
+        user.setEmail("buyer@example.com");
+        user.setPasswordHash("$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy");
+        user.setUserRole(UserRole.ROLE_USER);
+        user.setFirstName("Test");
+        user.setLastName("User");
+        user.setAddress("Test Street 1");
+        entityManager.persist(user);
+
+        concert = event("Rock Concert", "CONCERT", LocalDateTime.of(2026, 6, 15, 20, 0), location);
+        opera = event("La Traviata", "OPERA", LocalDateTime.of(2026, 7, 20, 19, 0), location);
+
+        Invoice paid = invoice("INV-1", user, null);
+        Invoice cancelled = invoice("INV-2", user, LocalDate.of(2026, 5, 2));
+
+        ticket(concert, seat(sector, 1), paid);
+        ticket(concert, seat(sector, 2), paid);
+        ticket(concert, seat(sector, 3), cancelled);
+        ticket(concert, seat(sector, 4), null);
+
+        entityManager.flush();
+    }
+
+    private Event event(String title, String type, LocalDateTime dateTime, Location location) {
+        Event event = new Event();
+        event.setTitle(title);
+        event.setType(type);
+        event.setDurationMinutes(120);
+        event.setDateTime(dateTime);
+        event.setLocation(location);
+        return entityManager.persist(event);
+    }
+
+    private Seat seat(Sector sector, int number) {
+        Seat seat = new Seat();
+        seat.setRowNumber(1);
+        seat.setSeatNumber(number);
+        seat.setSector(sector);
+        return entityManager.persist(seat);
+    }
+
+    private Invoice invoice(String number, User user, LocalDate cancellationDate) {
+        Invoice invoice = new Invoice();
+        invoice.setInvoiceNumber(number);
+        invoice.setUser(user);
+        invoice.setInvoiceDate(LocalDate.of(2026, 5, 1));
+        invoice.setInvoiceCancellationDate(cancellationDate);
+        invoice.setEventDate(concert.getDateTime());
+        return entityManager.persist(invoice);
+    }
+
+    private void ticket(Event event, Seat seat, Invoice invoice) {
+        Ticket ticket = new Ticket(seat, event);
+        ticket.setInvoice(invoice);
+        ticket.setNetPrice(50.0);
+        ticket.setTaxRate(20.0);
+        ticket.setGrossPrice(60.0);
+        entityManager.persist(ticket);
+    }
+
+    @Test
+    void countSoldTicketsPerEvent_countsOnlyTicketsOfActiveInvoices() {
+        List<Object[]> rows = eventSalesRepository.countSoldTicketsPerEvent();
+
+        assertThat(rows).hasSize(2);
+        for (Object[] row : rows) {
+            long expected = row[0].equals(concert.getId()) ? 2 : 0;
+            assertThat(((Number) row[4]).longValue()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void addSold_updatesExistingRowOnly() {
+        entityManager.persist(new EventSales(concert.getId(), concert.getDateTime(), concert.getType(), 2));
+        entityManager.flush();
+
+        assertThat(eventSalesRepository.addSold(concert.getId(), 3)).isEqualTo(1);
+        assertThat(eventSalesRepository.addSold(opera.getId(), 1)).isZero();
+
+        entityManager.clear();
+        assertThat(eventSalesRepository.findById(concert.getId()))
+            .hasValueSatisfying(s -> assertThat(s.getSoldCount()).isEqualTo(5));
+    }
+
+    @Test
+    void moveEvent_changesMonthAndType() {
+        entityManager.persist(new EventSales(opera.getId(), opera.getDateTime(), opera.getType(), 4));
+        entityManager.flush();
+
+        eventSalesRepository.moveEvent(opera.getId(), 2026, 9, "BALLET");
+
+        entityManager.clear();
+        EventSales moved = eventSalesRepository.findById(opera.getId()).orElseThrow();
+        assertThat(moved.getSalesMonth()).isEqualTo(9);
+        assertThat(moved.getType()).isEqualTo("BALLET");
+        assertThat(moved.getSoldCount()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,78 @@
+package at.ac.tuwien.sepr.groupphase.backend.repository;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.ImageDerivative;
+import at.ac.tuwien.sepr.groupphase.backend.entity.NewsItem;
+import at.ac.tuwien.sepr.groupphase.backend.type.ImageSize;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the derivative queries of ImageDerivativeRepository and BlobReferenceRepository.
+ */
+@DataJpaTest
+@Import(BlobReferenceRepository.class)
+class ImageDerivativeRepositoryTest {
+
+    private static final String SOURCE = "a".repeat(64);
+    private static final String ORPHAN = "b".repeat(64);
+    private static final String THUMB = "c".repeat(64);
+    private static final String ORPHAN_THUMB = "d".repeat(64);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ImageDerivativeRepository imageDerivativeRepository;
+
+    @Autowired
+    private BlobReferenceRepository blobReferenceRepository;
+
+    @BeforeEach
+    void setUp() {
+        NewsItem news = new NewsItem("Title", "Summary", "Text", LocalDate.now());
+        news.setImageKey(SOURCE);
+        news.setImageContentType("image/png");
+        entityManager.persist(news);
+
+        entityManager.persist(new ImageDerivative(SOURCE, ImageSize.THUMB, THUMB));
+        entityManager.persist(new ImageDerivative(SOURCE, ImageSize.CARD, SOURCE));
+        entityManager.persist(new ImageDerivative(SOURCE, ImageSize.FULL, SOURCE));
+        entityManager.persist(new ImageDerivative(ORPHAN, ImageSize.THUMB, ORPHAN_THUMB));
+        entityManager.flush();
+    }
+
+    @Test
+    void findBlobKey_returnsDerivativeOfSize() {
+        assertThat(imageDerivativeRepository.findBlobKey(SOURCE, ImageSize.THUMB)).contains(THUMB);
+        assertThat(imageDerivativeRepository.findBlobKey(ORPHAN, ImageSize.CARD)).isEmpty();
+    }
+
+    @Test
+    void findCompleteSourceKeys_requiresEverySize() {
+        List<ImageSize> sizes = List.of(ImageSize.values());
+
+        assertThat(imageDerivativeRepository.findCompleteSourceKeys(sizes, sizes.size())).containsExactly(SOURCE);
+    }
+
+    @Test
+    void findReferencedKeys_includesDerivativesOfReferencedImagesOnly() {
+        assertThat(blobReferenceRepository.findReferencedKeys()).containsExactlyInAnyOrder(SOURCE, THUMB);
+        assertThat(blobReferenceRepository.findImages()).containsEntry(SOURCE, "image/png").hasSize(1);
+    }
+
+    @Test
+    void deleteOrphanedDerivatives_keepsDerivativesOfReferencedImages() {
+        assertThat(blobReferenceRepository.deleteOrphanedDerivatives()).isEqualTo(1);
+        assertThat(imageDerivativeRepository.findBlobKey(ORPHAN, ImageSize.THUMB)).isEmpty();
+        assertThat(imageDerivativeRepository.findBlobKey(SOURCE, ImageSize.THUMB)).contains(THUMB);
+    }
+}
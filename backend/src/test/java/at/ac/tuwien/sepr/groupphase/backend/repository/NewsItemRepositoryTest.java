@@ -0,0 +1,145 @@
+package at.ac.tuwien.sepr.groupphase.backend.repository;
+
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.newsItem.SimpleNewsItemDto;
+import at.ac.tuwien.sepr.groupphase.backend.entity.NewsItem;
+import at.ac.tuwien.sepr.groupphase.backend.entity.SeenNews;
+import at.ac.tuwien.sepr.groupphase.backend.entity.User;
+import at.ac.tuwien.sepr.groupphase.backend.type.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the read status queries of NewsItemRepository, SeenNewsItemRepository and SeenNewsBatchRepository.
+ */
+@DataJpaTest
+@Import(SeenNewsBatchRepository.class)
+class NewsItemRepositoryTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 15);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private NewsItemRepository newsItemRepository;
+
+    @Autowired
+    private SeenNewsItemRepository seenNewsItemRepository;
+
+    @Autowired
+    private SeenNewsBatchRepository seenNewsBatchRepository;
+
+    private User user;
+    private NewsItem old;
+    private NewsItem recent;
+    private NewsItem today;
+    private NewsItem future;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(new User("reader@example.com", "a".repeat(60), UserRole.ROLE_USER, "Anna", "Reader", null));
+        User other = entityManager.persist(new User("other@example.com", "a".repeat(60), UserRole.ROLE_USER, "Otto", "Other", null));
+
+        old = entityManager.persist(new NewsItem("Old", "Summary", "Text", TODAY.minusDays(10)));
+        recent = entityManager.persist(new NewsItem("Recent", "Summary", "Text", TODAY.minusDays(1)));
+        today = entityManager.persist(new NewsItem("Today", "Summary", "Text", TODAY));
+        future = entityManager.persist(new NewsItem("Future", "Summary", "Text", TODAY.plusDays(3)));
+
+        entityManager.persist(new SeenNews(user, recent));
+        entityManager.persist(new SeenNews(user, future));
+        entityManager.persist(new SeenNews(other, old));
+        entityManager.flush();
+    }
+
+    @Test
+    void findUnread_excludesSeenAndUnpublished_newestFirst() {
+        Page<NewsItem> page = newsItemRepository.findUnread(user.getId(), TODAY, PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).containsExactly(today, old);
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void findUnread_pagesInDatabase() {
+        Page<NewsItem> page = newsItemRepository.findUnread(user.getId(), TODAY, PageRequest.of(1, 1));
+
+        assertThat(page.getContent()).containsExactly(old);
+        assertThat(page.getTotalPages()).isEqualTo(2);
+    }
+
+    @Test
+    void findRead_includesOnlySeenPublished() {
+        Page<NewsItem> page = newsItemRepository.findRead(user.getId(), TODAY, PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).containsExactly(recent);
+    }
+
+    @Test
+    void findPublishedFeed_splitsPublishedAndUnpublished() {
+        assertThat(newsItemRepository.findPublishedFeed(TODAY))
+            .extracting(SimpleNewsItemDto::id)
+            .containsExactly(today.getId(), recent.getId(), old.getId());
+        assertThat(newsItemRepository.findByPublishedAtAfterOrderByPublishedAtAscIdAsc(TODAY, PageRequest.of(0, 10)))
+            .containsExactly(future);
+    }
+
+    @Test
+    void findNextPublication_returnsEarliestScheduledDay() {
+        assertThat(newsItemRepository.findNextPublication(TODAY)).contains(TODAY.plusDays(3));
+        assertThat(newsItemRepository.findNextPublication(TODAY.plusDays(3))).isEmpty();
+    }
+
+    @Test
+    void findNewsItemIdsByUserId_returnsSeenIds() {
+        assertThat(seenNewsItemRepository.findNewsItemIdsByUserId(user.getId()))
+            .containsExactlyInAnyOrder(recent.getId(), future.getId());
+    }
+
+    @Test
+    void seenNews_sameUserAndNewsTwice_isRejected() {
+        assertThatThrownBy(() -> seenNewsItemRepository.saveAndFlush(new SeenNews(user, recent)))
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void insertMissing_skipsSeenAndDeletedNewsItems() {
+        LocalDateTime now = LocalDateTime.now();
+        int inserted = seenNewsBatchRepository.insertMissing(List.of(
+            new SeenNewsBatchRepository.Mark(user.getId(), recent.getId(), now),
+            new SeenNewsBatchRepository.Mark(user.getId(), old.getId(), now),
+            new SeenNewsBatchRepository.Mark(user.getId(), today.getId(), now),
+            new SeenNewsBatchRepository.Mark(user.getId(), 9999L, now)), 2);
+
+        assertThat(inserted).isEqualTo(2);
+        assertThat(seenNewsItemRepository.findNewsItemIdsByUserId(user.getId()))
+            .containsExactlyInAnyOrder(recent.getId(), future.getId(), old.getId(), today.getId());
+    }
+
+    @Test
+    void insertMissing_skipsDeletedUsers() {
+        int inserted = seenNewsBatchRepository.insertMissing(List.of(
+            new SeenNewsBatchRepository.Mark(9999L, old.getId(), LocalDateTime.now())), 10);
+
+        assertThat(inserted).isZero();
+        assertThat(seenNewsItemRepository.findNewsItemIdsByUserId(9999L)).isEmpty();
+    }
+
+    @Test
+    void findExistingIds_dropsUnknownIds() {
+        assertThat(newsItemRepository.findExistingIds(List.of(old.getId(), 9999L))).containsExactly(old.getId());
+    }
+}
@@ -0,0 +1,65 @@
+package at.ac.tuwien.sepr.groupphase.backend.repository;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.OutboundMail;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the due mail query and the lease of OutboundMailRepository.
+ */
+@DataJpaTest
+class OutboundMailRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 15, 12, 0);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private OutboundMailRepository mailRepository;
+
+    private OutboundMail dueLater;
+    private OutboundMail dueFirst;
+
+    @BeforeEach
+    void setUp() {
+        dueLater = entityManager.persist(mail("later@example.com", NOW.minusMinutes(1), null));
+        dueFirst = entityManager.persist(mail("first@example.com", NOW.minusMinutes(5), null));
+        entityManager.persist(mail("future@example.com", NOW.plusMinutes(1), null));
+        entityManager.persist(mail("failed@example.com", NOW.minusMinutes(10), NOW.minusMinutes(10)));
+        entityManager.flush();
+    }
+
+    @Test
+    void findDue_returnsPendingMailsOldestFirst() {
+        assertThat(mailRepository.findDue(NOW, PageRequest.of(0, 10))).containsExactly(dueFirst, dueLater);
+        assertThat(mailRepository.findDue(NOW, PageRequest.of(0, 1))).containsExactly(dueFirst);
+    }
+
+    @Test
+    void lease_postponesClaimedMails() {
+        int leased = mailRepository.lease(List.of(dueFirst.getId()), NOW.plusMinutes(5));
+        entityManager.clear();
+
+        assertThat(leased).isEqualTo(1);
+        assertThat(mailRepository.findDue(NOW, PageRequest.of(0, 10)))
+            .extracting(OutboundMail::getRecipient)
+            .containsExactly("later@example.com");
+    }
+
+    private static OutboundMail mail(String recipient, LocalDateTime nextAttemptAt, LocalDateTime failedAt) {
+        OutboundMail mail = new OutboundMail(recipient, "Subject", "Body");
+        mail.setNextAttemptAt(nextAttemptAt);
+        mail.setFailedAt(failedAt);
+        return mail;
+    }
+}
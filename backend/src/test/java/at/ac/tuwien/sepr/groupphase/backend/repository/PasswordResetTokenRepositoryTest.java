@@ -0,0 +1,78 @@
+package at.ac.tuwien.sepr.groupphase.backend.repository;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.PasswordResetToken;
+import at.ac.tuwien.sepr.groupphase.backend.entity.User;
+import at.ac.tuwien.sepr.groupphase.backend.type.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the selector lookup and the purge of PasswordResetTokenRepository.
+ */
+@DataJpaTest
+class PasswordResetTokenRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 15, 12, 0);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PasswordResetTokenRepository tokenRepository;
+
+    private PasswordResetToken valid;
+    private PasswordResetToken expired;
+
+    @BeforeEach
+    void setUp() {
+        valid = entityManager.persist(token(user("valid@example.com"), "valid-selector", NOW.plusMinutes(5)));
+        expired = entityManager.persist(token(user("expired@example.com"), "expired-selector", NOW.minusMinutes(5)));
+        entityManager.flush();
+    }
+
+    @Test
+    void findBySelector_returnsMatchingTokenOnly() {
+        assertThat(tokenRepository.findBySelector("valid-selector")).contains(valid);
+        assertThat(tokenRepository.findBySelector("unknown")).isEmpty();
+    }
+
+    @Test
+    void selector_isUnique() {
+        PasswordResetToken duplicate = token(user("other@example.com"), "valid-selector", NOW.plusMinutes(5));
+
+        assertThatThrownBy(() -> tokenRepository.saveAndFlush(duplicate))
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void deleteExpired_removesExpiredTokensOnly() {
+        int deleted = tokenRepository.deleteExpired(NOW);
+        entityManager.clear();
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(tokenRepository.findById(valid.getId())).isPresent();
+        assertThat(tokenRepository.findById(expired.getId())).isEmpty();
+    }
+
+    private User user(String email) {
+        return entityManager.persist(new User(email, "a".repeat(60), UserRole.ROLE_USER, "Max", "Mustermann", null));
+    }
+
+    private static PasswordResetToken token(User user, String selector, LocalDateTime expiresAt) {
+        PasswordResetToken token = new PasswordResetToken();
+        token.setUser(user);
+        token.setSelector(selector);
+        token.setTokenHash("hash");
+        token.setExpiresAt(expiresAt);
+        return token;
+    }
+}
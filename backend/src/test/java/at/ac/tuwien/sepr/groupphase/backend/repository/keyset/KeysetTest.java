@@ -0,0 +1,74 @@
+package at.ac.tuwien.sepr.groupphase.backend.repository.keyset;
+
+import at.ac.tuwien.sepr.groupphase.backend.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetTest {
+
+    private record Row(Long id, LocalDate date) {
+    }
+
+    @Test
+    void firstPage_hasNoPosition() {
+        Keyset<LocalDate> keyset = Keyset.descending("publishedAt", LocalDate.class, "", 10);
+
+        assertThat(keyset.afterKey()).isNull();
+        assertThat(keyset.afterId()).isNull();
+        assertThat(keyset.descending()).isTrue();
+    }
+
+    @Test
+    void nextCursor_roundTripsKeyAndId() {
+        Keyset<LocalDate> keyset = Keyset.ascending("publishedAt", LocalDate.class, null, 2);
+        KeysetPage<Row> page = new KeysetPage<>(
+            List.of(new Row(3L, LocalDate.of(2026, 1, 1)), new Row(7L, LocalDate.of(2026, 2, 1))), true);
+
+        String cursor = keyset.nextCursor(page, Row::date, Row::id);
+        Keyset<LocalDate> next = Keyset.ascending("publishedAt", LocalDate.class, cursor, 2);
+
+        assertThat(next.afterKey()).isEqualTo(LocalDate.of(2026, 2, 1));
+        assertThat(next.afterId()).isEqualTo(7L);
+    }
+
+    @Test
+    void nextCursor_isNullOnLastPage() {
+        Keyset<LocalDate> keyset = Keyset.ascending("publishedAt", LocalDate.class, null, 2);
+        KeysetPage<Row> page = new KeysetPage<>(List.of(new Row(3L, LocalDate.of(2026, 1, 1))), false);
+
+        assertThat(keyset.nextCursor(page, Row::date, Row::id)).isNull();
+    }
+
+    @Test
+    void cursorOfOtherAttribute_isRejected() {
+        String cursor = Base64.getUrlEncoder().encodeToString("dateTime;2026-01-01;3".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> Keyset.ascending("publishedAt", LocalDate.class, cursor, 10))
+            .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    void malformedCursor_isRejected() {
+        String cursor = Base64.getUrlEncoder().encodeToString("publishedAt;tomorrow;3".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> Keyset.ascending("publishedAt", LocalDate.class, cursor, 10))
+            .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> Keyset.ascending("publishedAt", LocalDate.class, "%%%", 10))
+            .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    void sizeOutOfBounds_isRejected() {
+        assertThatThrownBy(() -> Keyset.ascending("id", Long.class, null, 0))
+            .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> Keyset.ascending("id", Long.class, null, Keyset.MAX_SIZE + 1))
+            .isInstanceOf(ValidationException.class);
+    }
+}
@@ -0,0 +1,136 @@
+package at.ac.tuwien.sepr.groupphase.backend.security;
+
+import at.ac.tuwien.sepr.groupphase.backend.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    private BoundedPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("password-hasher-");
+        executor.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        executor.shutdown();
+    }
+
+    @Test
+    void encodeAndMatches_delegateOnHashingThreadAndRecordLatency() {
+        encoder = new BoundedPasswordEncoder(new PrefixEncoder(null), executor, meterRegistry);
+
+        String hash = encoder.encode("secret");
+
+        assertThat(hash).startsWith("password-hasher-").endsWith(":secret");
+        assertThat(encoder.matches("secret", hash)).isTrue();
+        assertThat(encoder.matches("wrong", hash)).isFalse();
+        assertThat(meterRegistry.get("password.hash.duration").tag("operation", "encode").tag("path", "none").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("password.hash.duration").tag("operation", "matches").tag("path", "none").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("password.hash.wait").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    void matches_insideRequest_recordsLatencyPerMappedPath() {
+        encoder = new BoundedPasswordEncoder(new PrefixEncoder(null), executor, meterRegistry);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/authentication");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/authentication");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        encoder.matches("secret", "password-hasher-1:secret");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/users/password-reset/confirmation");
+        encoder.encode("secret");
+
+        assertThat(meterRegistry.get("password.hash.duration").tag("operation", "matches")
+            .tag("path", "/api/v1/authentication").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("password.hash.duration").tag("operation", "encode")
+            .tag("path", "/api/v1/users/password-reset/confirmation").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void encode_queueFull_rejectsImmediately() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(new PrefixEncoder(release), executor, meterRegistry);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+        waitUntil(() -> meterRegistry.get("password.hash.wait").timer().count() == 1);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+        waitUntil(() -> meterRegistry.get("password.hash.queue").gauge().value() == 1);
+
+        assertThatThrownBy(() -> encoder.encode("c"))
+            .isInstanceOf(TooManyRequestsException.class);
+        assertThat(meterRegistry.get("password.hash.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).endsWith(":a");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).endsWith(":b");
+    }
+
+    @Test
+    void encode_delegateFails_rethrowsOnCaller() {
+        encoder = new BoundedPasswordEncoder(new PrefixEncoder(null), executor, meterRegistry);
+
+        assertThatThrownBy(() -> encoder.encode(null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("rawPassword cannot be null");
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * Encodes as {@code <thread name>:<password>}, optionally blocking until released.
+     */
+    private record PrefixEncoder(CountDownLatch release) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            if (rawPassword == null) {
+                throw new IllegalArgumentException("rawPassword cannot be null");
+            }
+            if (release != null) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return Thread.currentThread().getName() + ":" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.endsWith(":" + rawPassword);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package at.ac.tuwien.sepr.groupphase.backend.security;
+
+import at.ac.tuwien.sepr.groupphase.backend.config.SecurityPropertiesConfig;
+import at.ac.tuwien.sepr.groupphase.backend.config.properties.SecurityProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtAuthorizationFilterTest {
+
+    private SecurityProperties securityProperties;
+    private JwtTokenizer jwtTokenizer;
+    private JwtAuthorizationFilter filter;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        securityProperties = properties(43_200_000L);
+        jwtTokenizer = new JwtTokenizer(securityProperties);
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new JwtAuthorizationFilter(securityProperties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static SecurityProperties properties(long expirationTime) {
+        SecurityPropertiesConfig.Auth auth = new SecurityPropertiesConfig.Auth();
+        auth.setHeader("Authorization");
+        auth.setPrefix("Bearer ");
+        SecurityPropertiesConfig.Jwt jwt = new SecurityPropertiesConfig.Jwt();
+        jwt.setSecret("s".repeat(64));
+        jwt.setType("JWT");
+        jwt.setIssuer("issuer");
+        jwt.setAudience("audience");
+        jwt.setExpirationTime(expirationTime);
+        jwt.setVerifiedTokenCacheSize(10);
+        return new SecurityProperties(auth, jwt);
+    }
+
+    private Authentication authenticate(String method, String uri, String header) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        if (header != null) {
+            request.addHeader("Authorization", header);
+        }
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Test
+    void validToken_authenticatesUserWithRoles() throws Exception {
+        String header = jwtTokenizer.getAuthToken("user@example.com", List.of("ROLE_USER"));
+
+        Authentication first = authenticate("POST", "/api/v1/news/1/mark-read", header);
+        Authentication second = authenticate("POST", "/api/v1/news/1/mark-read", header);
+
+        assertThat(first.getName()).isEqualTo("user@example.com");
+        assertThat(first.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_USER");
+        assertThat(second.getName()).isEqualTo("user@example.com");
+        assertThat(second).isNotSameAs(first);
+        assertThat(meterRegistry.get("jwt.verification.duration").tag("result", "valid").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("jwt.verification.cache").tag("result", "hit").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void tamperedToken_isRejectedEvenAfterOriginalWasCached() throws Exception {
+        String header = jwtTokenizer.getAuthToken("user@example.com", List.of("ROLE_USER"));
+        authenticate("GET", "/api/v1/users/me", header);
+
+        String tampered = header.substring(0, header.length() - 2) + (header.endsWith("AA") ? "BB" : "AA");
+
+        assertThat(authenticate("GET", "/api/v1/users/me", tampered)).isNull();
+    }
+
+    @Test
+    void expiredToken_isRejected() throws Exception {
+        String header = new JwtTokenizer(properties(-1_000L)).getAuthToken("user@example.com", List.of("ROLE_USER"));
+
+        assertThat(authenticate("GET", "/api/v1/users/me", header)).isNull();
+        assertThat(meterRegistry.get("jwt.verification.duration").tag("result", "invalid").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void publicGetEndpoint_isNotFiltered() throws Exception {
+        String header = jwtTokenizer.getAuthToken("user@example.com", List.of("ROLE_USER"));
+
+        assertThat(authenticate("GET", "/api/v1/news/7", header)).isNull();
+        assertThat(authenticate("GET", "/api/v1/events/7/image", header)).isNull();
+        assertThat(authenticate("GET", "/api/v1/news/unread", header)).isNotNull();
+    }
+}
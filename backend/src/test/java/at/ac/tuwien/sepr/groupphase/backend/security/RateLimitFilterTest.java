@@ -0,0 +1,166 @@
+package at.ac.tuwien.sepr.groupphase.backend.security;
+
+import at.ac.tuwien.sepr.groupphase.backend.config.SecurityPropertiesConfig;
+import at.ac.tuwien.sepr.groupphase.backend.config.properties.SecurityProperties;
+import at.ac.tuwien.sepr.groupphase.backend.exception.TooManyRequestsException;
+import at.ac.tuwien.sepr.groupphase.backend.security.ApiRateLimiter.Policy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.ModelAndView;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SecurityProperties securityProperties = securityProperties();
+    private final List<Exception> resolved = new ArrayList<>();
+    private final HandlerExceptionResolver resolver = (request, response, handler, ex) -> {
+        resolved.add(ex);
+        response.setStatus(429);
+        return new ModelAndView();
+    };
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static SecurityProperties securityProperties() {
+        SecurityPropertiesConfig.Auth auth = new SecurityPropertiesConfig.Auth();
+        auth.setHeader("Authorization");
+        auth.setPrefix("Bearer ");
+        SecurityPropertiesConfig.Jwt jwt = new SecurityPropertiesConfig.Jwt();
+        jwt.setSecret("s".repeat(64));
+        jwt.setType("JWT");
+        jwt.setIssuer("issuer");
+        jwt.setAudience("audience");
+        jwt.setExpirationTime(43_200_000L);
+        jwt.setVerifiedTokenCacheSize(10);
+        return new SecurityProperties(auth, jwt);
+    }
+
+    private RateLimitFilter filter(boolean enabled) {
+        ApiRateLimiter rateLimiter = new ApiRateLimiter(enabled, 100,
+            5, Duration.ofMinutes(1),
+            2, Duration.ofMinutes(1),
+            1, Duration.ofMinutes(1),
+            meterRegistry);
+        return new RateLimitFilter(rateLimiter, new JwtAuthorizationFilter(securityProperties, meterRegistry), resolver);
+    }
+
+    private static MockHttpServletResponse send(RateLimitFilter filter, MockFilterChain chain,
+                                                String method, String uri, String ip) throws Exception {
+        return send(filter, chain, method, uri, ip, null);
+    }
+
+    private static MockHttpServletResponse send(RateLimitFilter filter, MockFilterChain chain,
+                                                String method, String uri, String ip, String authorization) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(ip);
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    @Test
+    void classify_mapsRoutesToPolicies() {
+        assertThat(RateLimitFilter.classify("GET", "/api/v1/events/1/seatmap")).isEqualTo(Policy.PUBLIC_READ);
+        assertThat(RateLimitFilter.classify("POST", "/api/v1/tickets")).isEqualTo(Policy.TICKET_WRITE);
+        assertThat(RateLimitFilter.classify("PATCH", "/api/v1/reservations/cancellation")).isEqualTo(Policy.TICKET_WRITE);
+        assertThat(RateLimitFilter.classify("DELETE", "/api/v1/cart/items/3")).isEqualTo(Policy.TICKET_WRITE);
+        assertThat(RateLimitFilter.classify("POST", "/api/v1/authentication")).isEqualTo(Policy.AUTH);
+        assertThat(RateLimitFilter.classify("POST", "/api/v1/users/password-reset/request")).isEqualTo(Policy.AUTH);
+        assertThat(RateLimitFilter.classify("POST", "/api/v1/news")).isNull();
+        assertThat(RateLimitFilter.classify("POST", "/api/v1/ticketsx")).isNull();
+        assertThat(RateLimitFilter.classify("OPTIONS", "/api/v1/tickets")).isNull();
+        assertThat(RateLimitFilter.classify("GET", "/health")).isNull();
+    }
+
+    @Test
+    void allowedRequest_passesWithRateLimitHeaders() throws Exception {
+        RateLimitFilter filter = filter(true);
+        MockFilterChain chain = new MockFilterChain();
+
+        MockHttpServletResponse response = send(filter, chain, "GET", "/api/v1/events", "10.0.0.1");
+
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(response.getHeader("RateLimit-Limit")).isEqualTo("5");
+        assertThat(response.getHeader("RateLimit-Remaining")).isEqualTo("4");
+        assertThat(response.getHeader("RateLimit-Reset")).isEqualTo("12");
+        assertThat(response.getHeader("RateLimit-Policy")).isEqualTo("5;w=60");
+    }
+
+    @Test
+    void exhaustedBucket_rejectsWithoutCallingController() throws Exception {
+        RateLimitFilter filter = filter(true);
+        send(filter, new MockFilterChain(), "POST", "/api/v1/authentication", "10.0.0.1");
+        MockFilterChain chain = new MockFilterChain();
+
+        MockHttpServletResponse response = send(filter, chain, "POST", "/api/v1/authentication", "10.0.0.1");
+
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("RateLimit-Remaining")).isEqualTo("0");
+        assertThat(resolved).singleElement()
+            .isInstanceOfSatisfying(TooManyRequestsException.class,
+                ex -> assertThat(ex.getRetryAfter()).isBetween(Duration.ofSeconds(59), Duration.ofMinutes(1)));
+        assertThat(meterRegistry.get("api.rate.limit.rejected").tag("policy", "auth").counter().count()).isEqualTo(1);
+        assertThat(send(filter, new MockFilterChain(), "POST", "/api/v1/authentication", "10.0.0.2").getStatus())
+            .isEqualTo(200);
+    }
+
+    @Test
+    void authenticatedRequests_areLimitedPerUserAcrossAddresses() throws Exception {
+        RateLimitFilter filter = filter(true);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+            "user@example.com", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+
+        send(filter, new MockFilterChain(), "POST", "/api/v1/tickets", "10.0.0.1");
+        send(filter, new MockFilterChain(), "POST", "/api/v1/tickets", "10.0.0.2");
+        MockHttpServletResponse third = send(filter, new MockFilterChain(), "POST", "/api/v1/tickets", "10.0.0.3");
+
+        assertThat(third.getStatus()).isEqualTo(429);
+        assertThat(meterRegistry.get("api.rate.limit.keys").tag("policy", "ticket-write").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void authenticatedSeatmapRequests_areLimitedPerUserAlthoughJwtFilterSkipsThem() throws Exception {
+        RateLimitFilter filter = filter(true);
+        String token = new JwtTokenizer(securityProperties).getAuthToken("user@example.com", List.of("ROLE_USER"));
+
+        send(filter, new MockFilterChain(), "GET", "/api/v1/events/1/seatmap", "10.0.0.1", token);
+        MockHttpServletResponse second = send(filter, new MockFilterChain(), "GET", "/api/v1/events/1/seatmap", "10.0.0.2", token);
+        send(filter, new MockFilterChain(), "GET", "/api/v1/events/1/seatmap", "10.0.0.2", "Bearer invalid");
+
+        assertThat(second.getHeader("RateLimit-Remaining")).isEqualTo("3");
+        assertThat(meterRegistry.get("api.rate.limit.keys").tag("policy", "public-read").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void disabled_passesWithoutHeaders() throws Exception {
+        RateLimitFilter filter = filter(false);
+        for (int i = 0; i < 3; i++) {
+            MockFilterChain chain = new MockFilterChain();
+            MockHttpServletResponse response = send(filter, chain, "POST", "/api/v1/authentication", "10.0.0.1");
+
+            assertThat(chain.getRequest()).isNotNull();
+            assertThat(response.getHeader("RateLimit-Limit")).isNull();
+        }
+    }
+}
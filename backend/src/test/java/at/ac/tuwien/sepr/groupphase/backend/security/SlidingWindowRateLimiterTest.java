@@ -0,0 +1,56 @@
+package at.ac.tuwien.sepr.groupphase.backend.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingWindowRateLimiterTest {
+
+    private static final long WINDOW = 60_000;
+    private static final long START = 10 * WINDOW;
+
+    private final SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(3, WINDOW);
+
+    @Test
+    void tryAcquire_withinLimit_allowsAndThenRejectsUntilWindowEnds() {
+        assertThat(limiter.tryAcquire("a", START)).isZero();
+        assertThat(limiter.tryAcquire("a", START + 1)).isZero();
+        assertThat(limiter.tryAcquire("a", START + 2)).isZero();
+
+        assertThat(limiter.tryAcquire("a", START + 10_000)).isEqualTo(WINDOW - 10_000);
+        assertThat(limiter.tryAcquire("b", START + 10_000)).isZero();
+    }
+
+    @Test
+    void tryAcquire_previousWindow_isWeightedByOverlap() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("a", START + i);
+        }
+
+        // a quarter into the next window, the previous requests still count 3 * 0.75 = 2.25
+        assertThat(limiter.tryAcquire("a", START + WINDOW + WINDOW / 4)).isEqualTo(WINDOW / 12);
+        // a third into the window they count 2, leaving room for one request
+        assertThat(limiter.tryAcquire("a", START + WINDOW + WINDOW / 3)).isZero();
+        assertThat(limiter.tryAcquire("a", START + WINDOW + WINDOW / 3 + 1)).isPositive();
+    }
+
+    @Test
+    void tryAcquire_afterIdleWindow_forgetsOldRequests() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("a", START + i);
+        }
+
+        assertThat(limiter.tryAcquire("a", START + 2 * WINDOW)).isZero();
+    }
+
+    @Test
+    void evictIdle_removesKeysIdleForTwoWindows() {
+        limiter.tryAcquire("old", START);
+        limiter.tryAcquire("recent", START + WINDOW);
+
+        limiter.evictIdle(START + 2 * WINDOW);
+
+        assertThat(limiter.size()).isEqualTo(1);
+        assertThat(limiter.tryAcquire("recent", START + 2 * WINDOW)).isZero();
+    }
+}
@@ -0,0 +1,72 @@
+package at.ac.tuwien.sepr.groupphase.backend.security;
+
+import at.ac.tuwien.sepr.groupphase.backend.security.TokenBucketRateLimiter.Decision;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long NOW = 1_000 * SECOND;
+
+    @Test
+    void tryAcquire_allowsBurstUpToCapacity() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(3, 3 * SECOND, 10, NOW);
+
+        assertThat(limiter.tryAcquire("a", NOW)).isEqualTo(new Decision(true, 2, SECOND, 0));
+        assertThat(limiter.tryAcquire("a", NOW)).isEqualTo(new Decision(true, 1, 2 * SECOND, 0));
+        assertThat(limiter.tryAcquire("a", NOW)).isEqualTo(new Decision(true, 0, 3 * SECOND, 0));
+        assertThat(limiter.tryAcquire("a", NOW)).isEqualTo(new Decision(false, 0, 3 * SECOND, SECOND));
+    }
+
+    @Test
+    void tryAcquire_refillsOneTokenPerInterval() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(2, 2 * SECOND, 10, NOW);
+        limiter.tryAcquire("a", NOW);
+        limiter.tryAcquire("a", NOW);
+
+        Decision early = limiter.tryAcquire("a", NOW + SECOND / 2);
+        Decision refilled = limiter.tryAcquire("a", NOW + SECOND);
+
+        assertThat(early.allowed()).isFalse();
+        assertThat(early.retryAfterNanos()).isEqualTo(SECOND / 2);
+        assertThat(refilled.allowed()).isTrue();
+        assertThat(refilled.remaining()).isZero();
+    }
+
+    @Test
+    void tryAcquire_keepsKeysApart() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, SECOND, 10, NOW);
+
+        assertThat(limiter.tryAcquire("a", NOW).allowed()).isTrue();
+        assertThat(limiter.tryAcquire("a", NOW).allowed()).isFalse();
+        assertThat(limiter.tryAcquire("b", NOW).allowed()).isTrue();
+    }
+
+    @Test
+    void evictIdle_removesRefilledBucketsOnly() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(2, 2 * SECOND, 10, NOW);
+        limiter.tryAcquire("a", NOW);
+        limiter.tryAcquire("b", NOW + SECOND);
+
+        limiter.evictIdle(NOW + SECOND);
+
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    void tryAcquire_mapFull_newKeysShareOverflowBucket() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, SECOND, 1, NOW);
+        limiter.tryAcquire("a", NOW);
+
+        assertThat(limiter.tryAcquire("b", NOW).allowed()).isTrue();
+        assertThat(limiter.tryAcquire("c", NOW).allowed()).isFalse();
+        assertThat(limiter.size()).isEqualTo(1);
+
+        assertThat(limiter.tryAcquire("c", NOW + SECOND).allowed()).isTrue();
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,48 @@
+package at.ac.tuwien.sepr.groupphase.backend.security;
+
+import at.ac.tuwien.sepr.groupphase.backend.security.VerifiedTokenCache.VerifiedToken;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private static VerifiedToken verified(long expiresAt) {
+        return new VerifiedToken("user@example.com", List.of(), expiresAt);
+    }
+
+    @Test
+    void get_expiredEntry_isDropped() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        cache.put("token", verified(2_000), 1_000);
+
+        assertThat(cache.get("token", 1_999)).isNotNull();
+        assertThat(cache.get("token", 2_000)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void put_full_evictsLeastRecentlyUsed() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(2);
+        cache.put("a", verified(5_000), 1_000);
+        cache.put("b", verified(5_000), 1_000);
+        cache.get("a", 1_500);
+
+        cache.put("c", verified(5_000), 2_000);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("a", 2_000)).isNotNull();
+        assertThat(cache.get("b", 2_000)).isNull();
+        assertThat(cache.get("c", 2_000)).isNotNull();
+    }
+
+    @Test
+    void disabled_cachesNothing() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(0);
+        cache.put("token", verified(5_000), 1_000);
+
+        assertThat(cache.get("token", 1_000)).isNull();
+    }
+}
@@ -8,6 +8,8 @@ import at.ac.tuwien.sepr.groupphase.backend.entity.Artist;
 import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
 import at.ac.tuwien.sepr.groupphase.backend.exception.ValidationException;
 import at.ac.tuwien.sepr.groupphase.backend.repository.ArtistRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.search.ArtistMembershipIndex;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.search.SuggestionIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,6 +20,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -33,6 +36,12 @@ class ArtistServiceImplTest {
     @Mock
     private ArtistMapper artistMapper;
 
+    @Mock
+    private SuggestionIndex suggestionIndex;
+
+    @Mock
+    private ArtistMembershipIndex artistMembershipIndex;
+
     @InjectMocks
     private ArtistServiceImpl artistService;
 
@@ -109,6 +118,8 @@ class ArtistServiceImplTest {
 
         assertThat(result).isEqualTo(newArtist);
         verify(artistRepository).save(newArtist);
+        verify(suggestionIndex).artistSavedAfterCommit(newArtist);
+        verify(artistMembershipIndex).artistSavedAfterCommit(newArtist);
     }
 
     @Test
@@ -187,15 +198,15 @@ class ArtistServiceImplTest {
     void searchArtistsWithBands_includesBandsOfSoloArtists() {
         when(artistRepository.findByNameContainingIgnoreCase("Lennon"))
             .thenReturn(List.of(member1));
-        when(artistRepository.findBandsByMemberId(2L))
+        when(artistMembershipIndex.bandsOf(2L)).thenReturn(Set.of(4L));
+        when(artistRepository.findAllById(Set.of(4L)))
             .thenReturn(List.of(bandArtist));
 
         List<Artist> result = artistService.searchArtistsWithBands("Lennon");
 
-        assertThat(result).hasSize(2);
-        assertThat(result).contains(member1, bandArtist);
+        assertThat(result).containsExactly(member1, bandArtist);
         verify(artistRepository).findByNameContainingIgnoreCase("Lennon");
-        verify(artistRepository).findBandsByMemberId(2L);
+        verify(artistRepository, never()).findBandsByMemberId(any());
     }
 
     @Test
@@ -207,7 +218,26 @@ class ArtistServiceImplTest {
 
         assertThat(result).hasSize(1);
         assertThat(result).containsExactly(bandArtist);
-        verify(artistRepository, never()).findBandsByMemberId(any());
+        verify(artistMembershipIndex, never()).bandsOf(any());
+        verify(artistRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void searchArtistsWithBands_sharedAndMatchedBands_loadedOnceInOneQuery() {
+        Artist supergroup = new Artist("Supergroup");
+        supergroup.setId(9L);
+        supergroup.setIsBand(true);
+
+        when(artistRepository.findByNameContainingIgnoreCase("o"))
+            .thenReturn(List.of(member1, member2, bandArtist));
+        when(artistMembershipIndex.bandsOf(2L)).thenReturn(Set.of(4L, 9L));
+        when(artistMembershipIndex.bandsOf(3L)).thenReturn(Set.of(4L, 9L));
+        when(artistRepository.findAllById(Set.of(9L))).thenReturn(List.of(supergroup));
+
+        List<Artist> result = artistService.searchArtistsWithBands("o");
+
+        assertThat(result).containsExactly(member1, member2, bandArtist, supergroup);
+        verify(artistRepository).findAllById(any());
     }
 
     @Test
@@ -308,7 +338,8 @@ class ArtistServiceImplTest {
     void searchArtistsAsDto_withBands_includesBands() {
         when(artistRepository.findByNameContainingIgnoreCase("John"))
             .thenReturn(List.of(member1));
-        when(artistRepository.findBandsByMemberId(2L))
+        when(artistMembershipIndex.bandsOf(2L)).thenReturn(Set.of(4L));
+        when(artistRepository.findAllById(Set.of(4L)))
             .thenReturn(List.of(bandArtist));
 
         SimpleArtistDto dto1 = new SimpleArtistDto(2L, "John Lennon", false, List.of());
@@ -320,7 +351,7 @@ class ArtistServiceImplTest {
         List<SimpleArtistDto> result = artistService.searchArtistsAsDto("John", true);
 
         assertThat(result).hasSize(2);
-        verify(artistRepository).findBandsByMemberId(2L);
+        verify(artistMembershipIndex).bandsOf(2L);
     }
 
     @Test
@@ -404,14 +435,15 @@ class ArtistServiceImplTest {
     void searchArtistsWithBands_soloArtistWithNoBands_returnsOnlyArtist() {
         when(artistRepository.findByNameContainingIgnoreCase("Solo"))
             .thenReturn(List.of(soloArtist));
-        when(artistRepository.findBandsByMemberId(1L))
-            .thenReturn(List.of());
+        when(artistMembershipIndex.bandsOf(1L))
+            .thenReturn(Set.of());
 
         List<Artist> result = artistService.searchArtistsWithBands("Solo");
 
         assertThat(result).hasSize(1);
         assertThat(result.get(0)).isEqualTo(soloArtist);
-        verify(artistRepository).findBandsByMemberId(1L);
+        verify(artistMembershipIndex).bandsOf(1L);
+        verify(artistRepository, never()).findAllById(any());
     }
 
     @Test
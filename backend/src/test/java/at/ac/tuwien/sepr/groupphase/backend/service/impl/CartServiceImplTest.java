@@ -26,9 +26,12 @@ import at.ac.tuwien.sepr.groupphase.backend.repository.TicketRepository;
 import at.ac.tuwien.sepr.groupphase.backend.repository.UserRepository;
 import at.ac.tuwien.sepr.groupphase.backend.service.InvoiceService;
 import at.ac.tuwien.sepr.groupphase.backend.service.TicketService;
+import at.ac.tuwien.sepr.groupphase.backend.service.UserIdentity;
 import at.ac.tuwien.sepr.groupphase.backend.service.UserService;
 import at.ac.tuwien.sepr.groupphase.backend.type.CartItemType;
 import at.ac.tuwien.sepr.groupphase.backend.type.PaymentMethod;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -69,6 +72,8 @@ public class CartServiceImplTest {
     @Mock private TicketRepository ticketRepository;
     @Mock private UserRepository userRepository;
 
+    private MeterRegistry meterRegistry;
+
     private CartServiceImpl cartService;
 
     private User user;
@@ -76,6 +81,7 @@ public class CartServiceImplTest {
 
     @BeforeEach
     void setup() {
+        meterRegistry = new SimpleMeterRegistry();
         cartService = new CartServiceImpl(
             cartRepository,
             cartItemRepository,
@@ -85,7 +91,8 @@ public class CartServiceImplTest {
             ticketService,
             reservationRepository,
             ticketRepository,
-            userRepository
+            userRepository,
+            meterRegistry
         );
 
         user = new User();
@@ -151,7 +158,7 @@ public class CartServiceImplTest {
 
     @Test
     void getMyCart_cartExists_returnsDto() {
-        when(userService.findByEmail(user.getEmail())).thenReturn(user);
+        when(userService.findIdentityByEmail(user.getEmail())).thenReturn(UserIdentity.of(user));
         when(cartRepository.findByUserId(user.getId())).thenReturn(Optional.of(cart));
         when(cartItemRepository.findAllByCartId(cart.getId())).thenReturn(List.of());
 
@@ -169,7 +176,8 @@ public class CartServiceImplTest {
 
     @Test
     void getMyCart_cartMissing_createsAndReturnsDto() {
-        when(userService.findByEmail(user.getEmail())).thenReturn(user);
+        when(userService.findIdentityByEmail(user.getEmail())).thenReturn(UserIdentity.of(user));
+        when(userRepository.getReferenceById(user.getId())).thenReturn(user);
         when(cartRepository.findByUserId(user.getId())).thenReturn(Optional.empty());
         when(cartRepository.save(any(Cart.class))).thenAnswer(inv -> {
             Cart c = inv.getArgument(0);
@@ -187,7 +195,10 @@ public class CartServiceImplTest {
             () -> assertThat(dto.total()).isEqualByComparingTo(BigDecimal.ZERO)
         );
 
-        verify(cartRepository).save(any(Cart.class));
+        ArgumentCaptor<Cart> cartCaptor = ArgumentCaptor.forClass(Cart.class);
+        verify(cartRepository).save(cartCaptor.capture());
+        assertThat(cartCaptor.getValue().getUser()).isSameAs(user);
+        verify(userService, never()).findByEmail(any());
     }
 
     // -------------------------
@@ -808,6 +819,8 @@ public class CartServiceImplTest {
 
         verify(cartItemRepository).deleteAll(List.of(item1, item2));
         verify(invoiceService, never()).purchaseMerchandiseWithRewards(any(), anyList(), anyList(), any(), any());
+        assertThat(meterRegistry.get("cart.checkout.duration").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cart.checkout.items").summary().totalAmount()).isEqualTo(2);
     }
 
     @Test
@@ -0,0 +1,251 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl;
+
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.EventCancellationDto;
+import at.ac.tuwien.sepr.groupphase.backend.entity.CancelledTicket;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Event;
+import at.ac.tuwien.sepr.groupphase.backend.entity.EventCancellation;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Invoice;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Seat;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Ticket;
+import at.ac.tuwien.sepr.groupphase.backend.entity.User;
+import at.ac.tuwien.sepr.groupphase.backend.exception.ConflictException;
+import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
+import at.ac.tuwien.sepr.groupphase.backend.repository.CancelledTicketBatchRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.EventCancellationRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.EventRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.InvoiceRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.TicketRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.sales.SalesRollup;
+import at.ac.tuwien.sepr.groupphase.backend.type.CancellationStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventCancellationServiceImplTest {
+
+    @Mock private EventRepository eventRepository;
+    @Mock private TicketRepository ticketRepository;
+    @Mock private InvoiceRepository invoiceRepository;
+    @Mock private EventCancellationRepository cancellationRepository;
+    @Mock private CancelledTicketBatchRepository batchRepository;
+    @Mock private SalesRollup salesRollup;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private EventCancellationServiceImpl service;
+
+    private Invoice originalInvoice;
+    private Ticket ticket1;
+    private Ticket ticket2;
+
+    @BeforeEach
+    void setUp() {
+        service = new EventCancellationServiceImpl(eventRepository, ticketRepository, invoiceRepository,
+            cancellationRepository, batchRepository, salesRollup, transactionManager, new SyncTaskExecutor(), 2, 50);
+
+        User user = new User();
+        user.setId(7L);
+
+        Event event = new Event();
+        event.setId(1L);
+        event.setTitle("Concert");
+        event.setDateTime(LocalDateTime.now().plusDays(10));
+
+        originalInvoice = new Invoice();
+        originalInvoice.setId(100L);
+        originalInvoice.setUser(user);
+        originalInvoice.setInvoiceNumber("INV-2026-100");
+        originalInvoice.setInvoiceDate(LocalDate.now().minusDays(3));
+
+        ticket1 = soldTicket(11L, event, 1, 1);
+        ticket2 = soldTicket(12L, event, 1, 2);
+    }
+
+    private Ticket soldTicket(Long id, Event event, int row, int number) {
+        Seat seat = new Seat();
+        seat.setRowNumber(row);
+        seat.setSeatNumber(number);
+
+        Ticket ticket = new Ticket(seat, event);
+        ticket.setId(id);
+        ticket.setInvoice(originalInvoice);
+        ticket.setNetPrice(50.0);
+        ticket.setTaxRate(0.2);
+        ticket.setGrossPrice(60.0);
+        return ticket;
+    }
+
+    @Test
+    void cancelEvent_unknownEvent_throwsNotFound() {
+        when(eventRepository.existsById(99L)).thenReturn(false);
+
+        assertThatThrownBy(() -> service.cancelEvent(99L))
+            .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    void cancelEvent_noSoldTickets_throwsConflict() {
+        when(eventRepository.existsById(1L)).thenReturn(true);
+        when(cancellationRepository.findFirstByEventIdOrderByStartedAtDesc(1L)).thenReturn(Optional.empty());
+        when(ticketRepository.countByEventIdAndInvoiceIsNotNull(1L)).thenReturn(0L);
+
+        assertThatThrownBy(() -> service.cancelEvent(1L))
+            .isInstanceOf(ConflictException.class);
+        verify(cancellationRepository, never()).save(any());
+        verify(eventRepository, never()).markCancelled(any());
+    }
+
+    @Test
+    void cancelEvent_closesEventBeforeStartingJob() {
+        when(eventRepository.existsById(1L)).thenReturn(true);
+        when(cancellationRepository.findFirstByEventIdOrderByStartedAtDesc(1L)).thenReturn(Optional.empty());
+        when(ticketRepository.countByEventIdAndInvoiceIsNotNull(1L)).thenReturn(2L);
+        ArgumentCaptor<EventCancellation> jobCaptor = ArgumentCaptor.forClass(EventCancellation.class);
+        when(cancellationRepository.save(jobCaptor.capture())).thenAnswer(inv -> {
+            EventCancellation saved = inv.getArgument(0);
+            saved.setId(5L);
+            return saved;
+        });
+        when(cancellationRepository.findById(5L)).thenAnswer(inv -> Optional.of(jobCaptor.getValue()));
+
+        EventCancellationDto dto = service.cancelEvent(1L);
+
+        assertThat(dto.status()).isEqualTo(CancellationStatus.RUNNING);
+        assertThat(jobCaptor.getValue().getStatus()).isEqualTo(CancellationStatus.COMPLETED);
+        InOrder order = inOrder(eventRepository, cancellationRepository);
+        order.verify(eventRepository).markCancelled(1L);
+        order.verify(cancellationRepository).save(any(EventCancellation.class));
+    }
+
+    @Test
+    void cancelPartition_createsCreditInvoiceAndBatchesTickets() {
+        when(ticketRepository.findSoldByEventIdAndInvoiceId(1L, 100L)).thenReturn(List.of(ticket1, ticket2));
+        when(invoiceRepository.save(any(Invoice.class))).thenAnswer(inv -> {
+            Invoice saved = inv.getArgument(0);
+            saved.setId(200L);
+            return saved;
+        });
+
+        int cancelled = service.cancelPartition(5L, 1L, 100L);
+
+        assertThat(cancelled).isEqualTo(2);
+
+        ArgumentCaptor<Invoice> invoiceCaptor = ArgumentCaptor.forClass(Invoice.class);
+        verify(invoiceRepository).save(invoiceCaptor.capture());
+        Invoice credit = invoiceCaptor.getValue();
+        assertThat(credit.getOriginalInvoiceNumber()).isEqualTo("INV-2026-100");
+        assertThat(credit.getInvoiceCancellationDate()).isEqualTo(LocalDate.now());
+        assertThat(credit.getInvoiceNumber()).isEqualTo("INV-" + LocalDate.now().getYear() + "-200");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CancelledTicket>> ticketsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(batchRepository).insertAll(ticketsCaptor.capture(), eq(50));
+        assertThat(ticketsCaptor.getValue()).hasSize(2)
+            .allSatisfy(ct -> assertThat(ct.getInvoice()).isSameAs(credit));
+
+        verify(batchRepository).deleteTickets(List.of(11L, 12L), 50);
+        verify(salesRollup).recordCancelled(List.of(ticket1, ticket2));
+        verify(cancellationRepository).addProcessedPartition(5L, 2);
+    }
+
+    @Test
+    void cancelPartition_alreadyCancelled_doesNothing() {
+        when(ticketRepository.findSoldByEventIdAndInvoiceId(1L, 100L)).thenReturn(List.of());
+
+        assertThat(service.cancelPartition(5L, 1L, 100L)).isZero();
+
+        verify(invoiceRepository, never()).save(any());
+        verify(batchRepository, never()).insertAll(anyList(), anyInt());
+    }
+
+    @Test
+    void run_allPartitionsSucceed_completesJob() {
+        EventCancellation job = new EventCancellation(1L);
+        job.setId(5L);
+
+        when(ticketRepository.findSoldInvoiceIdsByEventId(1L)).thenReturn(List.of(100L)).thenReturn(List.of());
+        when(ticketRepository.countByEventIdAndInvoiceIsNotNull(1L)).thenReturn(2L);
+        when(cancellationRepository.findById(5L)).thenReturn(Optional.of(job));
+        when(ticketRepository.findSoldByEventIdAndInvoiceId(1L, 100L)).thenReturn(List.of(ticket1, ticket2));
+        when(invoiceRepository.save(any(Invoice.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        service.run(5L, 1L);
+
+        assertThat(job.getStatus()).isEqualTo(CancellationStatus.COMPLETED);
+        assertThat(job.getTotalInvoices()).isEqualTo(1);
+        assertThat(job.getTotalTickets()).isEqualTo(2L);
+        assertThat(job.getFinishedAt()).isNotNull();
+    }
+
+    @Test
+    void run_ticketsSoldWhileClosing_cancelsThemInAnotherRound() {
+        EventCancellation job = new EventCancellation(1L);
+        job.setId(5L);
+
+        when(ticketRepository.findSoldInvoiceIdsByEventId(1L)).thenReturn(List.of(100L)).thenReturn(List.of(101L)).thenReturn(List.of());
+        when(ticketRepository.countByEventIdAndInvoiceIsNotNull(1L)).thenReturn(2L, 1L);
+        when(cancellationRepository.findById(5L)).thenReturn(Optional.of(job));
+        when(ticketRepository.findSoldByEventIdAndInvoiceId(eq(1L), any())).thenReturn(List.of());
+
+        service.run(5L, 1L);
+
+        verify(ticketRepository).findSoldByEventIdAndInvoiceId(1L, 100L);
+        verify(ticketRepository).findSoldByEventIdAndInvoiceId(1L, 101L);
+        assertThat(job.getStatus()).isEqualTo(CancellationStatus.COMPLETED);
+        assertThat(job.getTotalInvoices()).isEqualTo(1);
+        assertThat(job.getTotalTickets()).isEqualTo(1L);
+    }
+
+    @Test
+    void run_failingPartition_marksJobFailed() {
+        EventCancellation job = new EventCancellation(1L);
+        job.setId(5L);
+
+        when(ticketRepository.findSoldInvoiceIdsByEventId(1L)).thenReturn(List.of(100L));
+        when(ticketRepository.countByEventIdAndInvoiceIsNotNull(1L)).thenReturn(2L);
+        when(cancellationRepository.findById(5L)).thenReturn(Optional.of(job));
+        when(ticketRepository.findSoldByEventIdAndInvoiceId(1L, 100L)).thenThrow(new IllegalStateException("db down"));
+
+        service.run(5L, 1L);
+
+        assertThat(job.getStatus()).isEqualTo(CancellationStatus.FAILED);
+        assertThat(job.getFailedInvoices()).isEqualTo(1);
+        assertThat(job.getLastError()).isEqualTo("db down");
+    }
+
+    @Test
+    void getProgress_returnsLatestJob() {
+        EventCancellation job = new EventCancellation(1L);
+        job.setTotalTickets(10);
+        job.setProcessedTickets(4);
+        when(cancellationRepository.findFirstByEventIdOrderByStartedAtDesc(1L)).thenReturn(Optional.of(job));
+
+        EventCancellationDto dto = service.getProgress(1L);
+
+        assertThat(dto.status()).isEqualTo(CancellationStatus.RUNNING);
+        assertThat(dto.processedTickets()).isEqualTo(4L);
+        assertThat(dto.totalTickets()).isEqualTo(10L);
+    }
+}
@@ -1,11 +1,15 @@
 package at.ac.tuwien.sepr.groupphase.backend.service.impl;
 
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.CalendarDayDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.DetailedEventDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.EventCreateDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.EventUpdateDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.SeatmapDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.FacetCountDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.FacetedEventSearchDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.SimpleEventDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.TopTenEventDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.image.ImageResourceDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.location.SimpleLocationDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.seat.SeatStatus;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.seat.SeatmapSeatDto;
@@ -16,26 +20,45 @@ import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
 import at.ac.tuwien.sepr.groupphase.backend.exception.ValidationException;
 import at.ac.tuwien.sepr.groupphase.backend.repository.*;
 import at.ac.tuwien.sepr.groupphase.backend.service.ArtistService;
+import at.ac.tuwien.sepr.groupphase.backend.service.BlobStore;
+import at.ac.tuwien.sepr.groupphase.backend.service.ImageDerivativeService;
 import at.ac.tuwien.sepr.groupphase.backend.service.LocationService;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.blob.ImageByteCache;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.sales.SalesRollup;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.search.ArtistMembershipIndex;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.search.EventCalendar;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.search.EventCatalog;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.search.EventSearchIndex;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.search.SuggestionIndex;
 import at.ac.tuwien.sepr.groupphase.backend.service.impl.validators.EventValidator;
+import at.ac.tuwien.sepr.groupphase.backend.type.ImageSize;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -45,6 +68,8 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class EventServiceImplTest {
 
+    private static final String IMAGE_KEY = "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa";
+
     @Mock
     private EventRepository eventRepository;
 
@@ -72,6 +97,36 @@ class EventServiceImplTest {
     @Mock
     private EventValidator eventValidator;
 
+    @Mock
+    private EventSearchIndex eventSearchIndex;
+
+    @Mock
+    private EventCatalog eventCatalog;
+
+    @Mock
+    private SalesRollup salesRollup;
+
+    @Mock
+    private SuggestionIndex suggestionIndex;
+
+    @Mock
+    private ArtistMembershipIndex artistMembershipIndex;
+
+    @Mock
+    private EventCalendar eventCalendar;
+
+    @Mock
+    private BlobStore blobStore;
+
+    @Mock
+    private ImageDerivativeService imageDerivativeService;
+
+    @Mock
+    private ImageByteCache imageByteCache;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private EventServiceImpl eventService;
 
@@ -380,7 +435,8 @@ class EventServiceImplTest {
 
     @Test
     void findByArtistId_findsMatchingEvents() {
-        when(eventRepository.findByArtistId(10L))
+        when(artistMembershipIndex.withBands(10L)).thenReturn(Set.of(10L));
+        when(eventRepository.findByArtistIds(Set.of(10L)))
             .thenReturn(List.of(event1));
 
         List<Event> result = eventService.findByArtistId(10L);
@@ -389,6 +445,18 @@ class EventServiceImplTest {
         assertThat(result.get(0).getArtists()).contains(artist1);
     }
 
+    @Test
+    void findByArtistId_includesEventsOfBandsInOneQuery() {
+        when(artistMembershipIndex.withBands(10L)).thenReturn(Set.of(10L, 40L, 41L));
+        when(eventRepository.findByArtistIds(Set.of(10L, 40L, 41L)))
+            .thenReturn(List.of(event1, event2));
+
+        List<Event> result = eventService.findByArtistId(10L);
+
+        assertThat(result).containsExactly(event1, event2);
+        verify(eventRepository, never()).findByArtistId(any());
+    }
+
     @Test
     void findByLocationId_findsMatchingEvents() {
         when(eventRepository.findByLocationId(1L))
@@ -404,12 +472,14 @@ class EventServiceImplTest {
         LocalDateTime start = LocalDateTime.now();
         LocalDateTime end = LocalDateTime.now().plusDays(15);
 
-        when(eventRepository.findByDateTimeBetween(start, end))
-            .thenReturn(List.of(event1));
+        when(eventCalendar.idsBetween(start, end)).thenReturn(List.of(2L, 1L));
+        when(eventRepository.findAllWithLocationByIdIn(List.of(2L, 1L)))
+            .thenReturn(List.of(event1, event2));
 
         List<Event> result = eventService.searchByDateRange(start, end);
 
-        assertThat(result).hasSize(1);
+        assertThat(result).containsExactly(event2, event1);
+        verify(eventRepository, never()).findByDateTimeBetween(any(), any());
     }
 
     @Test
@@ -438,37 +508,17 @@ class EventServiceImplTest {
     }
 
     @Test
-    void findTopTenByTicketSales_returnsTopEvents() {
-        Object[] row1 = {1L, "Rock Concert", "Concert", 500L};
-        Object[] row2 = {2L, "Jazz Night", "Concert", 300L};
-        List<Object[]> rows = new ArrayList<>();
-        rows.add(row1);
-        rows.add(row2);
-
-        when(eventRepository.findTopTenEventsByTicketSales(6, 2026, null))
-            .thenReturn(rows);
-
-        List<TopTenEventDto> result = eventService.findTopTenByTicketSales(6, 2026, null);
-
-        assertThat(result).hasSize(2);
-        assertThat(result.get(0).eventId()).isEqualTo(1L);
-        assertThat(result.get(0).title()).isEqualTo("Rock Concert");
-        assertThat(result.get(0).ticketsSold()).isEqualTo(500L);
-    }
-
-    @Test
-    void findTopTenByTicketSales_withType_filtersResults() {
-        Object[] row1 = {1L, "Rock Concert", "Concert", 500L};
-        List<Object[]> rows = new ArrayList<>();
-        rows.add(row1);
-
-        when(eventRepository.findTopTenEventsByTicketSales(6, 2026, "Concert"))
-            .thenReturn(rows);
+    void findTopTenByTicketSales_returnsRankingFromRollup() {
+        List<TopTenEventDto> top = List.of(
+            new TopTenEventDto(1L, "Rock Concert", "Concert", 500L),
+            new TopTenEventDto(2L, "Jazz Night", "Concert", 300L)
+        );
+        when(salesRollup.topTen(6, 2026, "Concert")).thenReturn(top);
 
         List<TopTenEventDto> result = eventService.findTopTenByTicketSales(6, 2026, "Concert");
 
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).type()).isEqualTo("Concert");
+        assertThat(result).isEqualTo(top);
+        verifyNoInteractions(ticketRepository);
     }
 
     @Test
@@ -505,6 +555,8 @@ class EventServiceImplTest {
         assertThat(result.getStagePosition()).isEqualTo("TOP");
         assertThat(result.getStageLabel()).isEqualTo("Stage");
         verify(eventRepository).findById(1L);
+        assertThat(meterRegistry.get("seatmap.load").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("seatmap.seats").summary().totalAmount()).isEqualTo(2);
     }
 
     @Test
@@ -524,15 +576,24 @@ class EventServiceImplTest {
             "test image content".getBytes()
         );
 
+        String previousKey = "b".repeat(64);
+        event1.setImageKey(previousKey);
+
         doNothing().when(eventValidator).validateImage(imageFile);
         when(eventRepository.findById(1L)).thenReturn(Optional.of(event1));
         when(eventRepository.save(event1)).thenReturn(event1);
+        when(blobStore.put(any(InputStream.class))).thenReturn(IMAGE_KEY);
+        when(imageDerivativeService.blobKeys(previousKey)).thenReturn(Set.of(previousKey, "c".repeat(64)));
 
         eventService.uploadImage(1L, imageFile);
 
         verify(eventValidator).validateImage(imageFile);
+        verify(imageByteCache).invalidate(previousKey);
+        verify(imageByteCache).invalidate("c".repeat(64));
+        verify(blobStore).put(any(InputStream.class));
         verify(eventRepository).save(event1);
-        assertThat(event1.getImage()).isNotNull();
+        verify(imageDerivativeService).generateAfterCommit(IMAGE_KEY, "image/jpeg");
+        assertThat(event1.getImageKey()).isEqualTo(IMAGE_KEY);
         assertThat(event1.getImageContentType()).isEqualTo("image/jpeg");
     }
 
@@ -603,69 +664,106 @@ class EventServiceImplTest {
     }
 
     @Test
-    void getImage_existingImage_returnsImageBytes() {
-        byte[] imageData = "image data".getBytes();
-        event1.setImage(imageData);
+    void getImage_existingImage_returnsRequestedRendition() {
+        String thumbKey = "b".repeat(64);
+        ByteArrayResource content = new ByteArrayResource("image data".getBytes());
+        event1.setImageKey(IMAGE_KEY);
         event1.setImageContentType("image/jpeg");
 
         when(eventRepository.findById(1L)).thenReturn(Optional.of(event1));
+        when(imageDerivativeService.resolve(IMAGE_KEY, ImageSize.THUMB)).thenReturn(thumbKey);
+        when(imageByteCache.get(thumbKey)).thenReturn(content);
 
-        byte[] result = eventService.getImage(1L);
+        ImageResourceDto result = eventService.getImage(1L, ImageSize.THUMB);
 
-        assertThat(result).isEqualTo(imageData);
+        assertThat(result.key()).isEqualTo(thumbKey);
+        assertThat(result.contentType()).isEqualTo("image/jpeg");
+        assertThat(result.content()).isSameAs(content);
     }
 
     @Test
     void getImage_noImage_throwsNotFoundException() {
-        event1.setImage(null);
+        event1.setImageKey(null);
         when(eventRepository.findById(1L)).thenReturn(Optional.of(event1));
 
-        assertThatThrownBy(() -> eventService.getImage(1L))
+        assertThatThrownBy(() -> eventService.getImage(1L, ImageSize.FULL))
             .isInstanceOf(NotFoundException.class)
             .hasMessageContaining("kein Bild für diese Veranstaltung gefunden");
+        verifyNoInteractions(blobStore);
     }
 
     @Test
     void getImage_eventNotFound_throwsNotFoundException() {
         when(eventRepository.findById(99L)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> eventService.getImage(99L))
+        assertThatThrownBy(() -> eventService.getImage(99L, ImageSize.FULL))
             .isInstanceOf(NotFoundException.class);
     }
 
     @Test
-    void getImageContentType_existingImage_returnsContentType() {
-        event1.setImage("image data".getBytes());
-        event1.setImageContentType("image/png");
+    void findMinPriceForEvent_returnsMinPrice() {
+        when(eventRepository.findMinPriceForEvent(1L)).thenReturn(5000);
 
-        when(eventRepository.findById(1L)).thenReturn(Optional.of(event1));
+        Integer result = eventService.findMinPriceForEvent(1L);
+
+        assertThat(result).isEqualTo(5000);
+    }
+
+    @Test
+    void create_setsPriceRangeFromLocation() {
+        event1.setMinPrice(null);
+        event1.setMaxPrice(null);
+        when(eventRepository.findMinPriceForLocation(1L)).thenReturn(2500);
+        when(eventRepository.findMaxPriceForLocation(1L)).thenReturn(9000);
+        when(eventRepository.save(event1)).thenReturn(event1);
 
-        String result = eventService.getImageContentType(1L);
+        Event result = eventService.create(event1);
 
-        assertThat(result).isEqualTo("image/png");
+        assertThat(result.getMinPrice()).isEqualTo(2500);
+        assertThat(result.getMaxPrice()).isEqualTo(9000);
     }
 
     @Test
-    void getImageContentType_noImage_throwsNotFoundException() {
-        event1.setImage(null);
-        when(eventRepository.findById(1L)).thenReturn(Optional.of(event1));
+    void createFromDto_returnsPriceOfLocation() {
+        EventCreateDto dto = new EventCreateDto("New Concert", "Concert", 120, "Description",
+            LocalDateTime.now().plusDays(10), 1L, null);
+        when(eventMapper.fromCreateDto(dto)).thenReturn(new Event());
+        when(locationService.findById(1L)).thenReturn(location);
+        when(eventRepository.findMinPriceForLocation(1L)).thenReturn(2500);
+        when(eventRepository.save(any(Event.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(eventMapper.toSimple(any(Event.class))).thenReturn(new SimpleEventDto(
+            50L, "New Concert", "Concert", 120, dto.dateTime(), "Vienna", null, null, null));
 
-        assertThatThrownBy(() -> eventService.getImageContentType(1L))
-            .isInstanceOf(NotFoundException.class);
+        SimpleEventDto result = eventService.createFromDto(dto);
+
+        assertThat(result.minPrice()).isEqualTo(2500);
     }
 
     @Test
-    void findMinPriceForEvent_returnsMinPrice() {
-        when(eventRepository.findMinPriceForEvent(1L)).thenReturn(5000);
+    void updateFromDto_changedLocation_returnsPriceOfNewLocation() {
+        Location otherLocation = new Location();
+        otherLocation.setId(2L);
+        event1.setMinPrice(5000);
+        EventUpdateDto dto = new EventUpdateDto(1L, "Title", "Concert", 120, "Description",
+            LocalDateTime.now().plusDays(10), 2L, null);
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event1));
+        when(locationService.findById(2L)).thenReturn(otherLocation);
+        when(eventRepository.existsById(1L)).thenReturn(true);
+        when(eventRepository.findMinPriceForLocation(2L)).thenReturn(7000);
+        when(eventRepository.save(any(Event.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(eventMapper.toDetailed(any(Event.class))).thenReturn(new DetailedEventDto(
+            1L, "Title", "Concert", 120, "Description", dto.dateTime(), null, List.of(), 0, null));
 
-        Integer result = eventService.findMinPriceForEvent(1L);
+        DetailedEventDto result = eventService.updateFromDto(1L, dto);
 
-        assertThat(result).isEqualTo(5000);
+        assertThat(result.minPrice()).isEqualTo(7000);
     }
 
     @Test
     void findAllAsDto_enrichesWithPrices() {
-        when(eventRepository.findAllByOrderByDateTimeAsc()).thenReturn(List.of(event1));
+        Pageable pageable = PageRequest.of(0, 12);
+        when(eventRepository.findAllWithLocation(any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(event1), pageable, 1));
 
         SimpleEventDto simpleDto = new SimpleEventDto(
             1L, "Rock Concert", "Concert", 120,
@@ -673,14 +771,28 @@ class EventServiceImplTest {
         );
 
         when(eventMapper.toSimple(event1)).thenReturn(simpleDto);
-        when(eventRepository.findMinPriceForEvent(1L)).thenReturn(5000);
+        event1.setMinPrice(5000);
 
-        Pageable pageable = PageRequest.of(0, 12);
         Page<SimpleEventDto> result = eventService.findAllAsDto(pageable);
 
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().get(0).minPrice()).isEqualTo(5000);
         assertThat(result.getTotalElements()).isEqualTo(1);
+        verify(eventRepository, never()).findMinPriceForEvent(anyLong());
+    }
+
+    @Test
+    void findAllAsDto_unsortedPageable_ordersByDateTime() {
+        when(eventRepository.findAllWithLocation(any(Pageable.class))).thenReturn(Page.empty());
+
+        eventService.findAllAsDto(PageRequest.of(2, 20));
+
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(eventRepository).findAllWithLocation(pageableCaptor.capture());
+        Pageable used = pageableCaptor.getValue();
+        assertThat(used.getPageNumber()).isEqualTo(2);
+        assertThat(used.getPageSize()).isEqualTo(20);
+        assertThat(used.getSort().getOrderFor("dateTime")).isNotNull();
     }
 
     @Test
@@ -698,7 +810,7 @@ class EventServiceImplTest {
         );
 
         when(eventMapper.toDetailed(event1)).thenReturn(detailedDto);
-        when(eventRepository.findMinPriceForEvent(1L)).thenReturn(5000);
+        event1.setMinPrice(5000);
 
         DetailedEventDto result = eventService.findByIdAsDto(1L);
 
@@ -740,7 +852,7 @@ class EventServiceImplTest {
         when(artistService.findById(10L)).thenReturn(artist1);
         when(eventRepository.save(any(Event.class))).thenReturn(savedEvent);
         when(eventMapper.toSimple(savedEvent)).thenReturn(simpleDto);
-        when(eventRepository.findMinPriceForEvent(50L)).thenReturn(5000);
+        when(eventRepository.findMinPriceForLocation(1L)).thenReturn(5000);
 
         SimpleEventDto result = eventService.createFromDto(dto);
 
@@ -774,7 +886,7 @@ class EventServiceImplTest {
         existingEvent.setLocation(location);
         existingEvent.setArtists(new ArrayList<>());
         existingEvent.setTickets(new ArrayList<>());
-        existingEvent.setImage("old-image".getBytes());
+        existingEvent.setImageKey(IMAGE_KEY);
         existingEvent.setImageContentType("image/jpeg");
 
         Event updatedEvent = new Event();
@@ -787,7 +899,7 @@ class EventServiceImplTest {
         updatedEvent.setLocation(location);
         updatedEvent.setArtists(List.of(artist2));
         updatedEvent.setTickets(new ArrayList<>());
-        updatedEvent.setImage("old-image".getBytes());
+        updatedEvent.setImageKey(IMAGE_KEY);
         updatedEvent.setImageContentType("image/jpeg");
 
         SimpleLocationDto locationDto = new SimpleLocationDto(
@@ -807,7 +919,7 @@ class EventServiceImplTest {
         when(eventRepository.existsById(1L)).thenReturn(true);
         when(eventRepository.save(any(Event.class))).thenReturn(updatedEvent);
         when(eventMapper.toDetailed(updatedEvent)).thenReturn(detailedDto);
-        when(eventRepository.findMinPriceForEvent(1L)).thenReturn(5000);
+        when(eventRepository.findMinPriceForLocation(1L)).thenReturn(5000);
 
         DetailedEventDto result = eventService.updateFromDto(1L, dto);
 
@@ -850,7 +962,7 @@ class EventServiceImplTest {
         existingEvent.setDateTime(LocalDateTime.now().plusDays(10));
         existingEvent.setLocation(location);
         existingEvent.setTickets(new ArrayList<>());
-        existingEvent.setImage("existing-image-data".getBytes());
+        existingEvent.setImageKey(IMAGE_KEY);
         existingEvent.setImageContentType("image/png");
 
         doNothing().when(eventValidator).validateForUpdate(dto);
@@ -865,21 +977,22 @@ class EventServiceImplTest {
             new DetailedEventDto(1L, "Updated Title", "Concert", 120, "Updated description",
                 existingEvent.getDateTime(), null, List.of(), 0, null)
         );
-        when(eventRepository.findMinPriceForEvent(1L)).thenReturn(5000);
+        when(eventRepository.findMinPriceForLocation(1L)).thenReturn(5000);
 
         eventService.updateFromDto(1L, dto);
 
         Event savedEvent = eventCaptor.getValue();
-        assertThat(savedEvent.getImage()).isNotNull();
-        assertThat(savedEvent.getImage()).isEqualTo("existing-image-data".getBytes());
+        assertThat(savedEvent.getImageKey()).isEqualTo(IMAGE_KEY);
         assertThat(savedEvent.getImageContentType()).isEqualTo("image/png");
     }
 
     @Test
     void searchEventsAsDto_withCriteria_filtersAndEnriches() {
-        when(eventRepository.searchEventsByCriteria(
-            "Rock", "Concert", 90, 150, null, null, null))
-            .thenReturn(List.of(event1));
+        Pageable pageable = PageRequest.of(0, 12);
+        when(eventRepository.searchEventsPage(
+            eq("Rock"), eq("Concert"), eq(90), eq(150), isNull(), isNull(), isNull(), isNull(), isNull(),
+            any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(event1), pageable, 1));
 
         SimpleEventDto simpleDto = new SimpleEventDto(
             1L, "Rock Concert", "Concert", 120,
@@ -887,9 +1000,8 @@ class EventServiceImplTest {
         );
 
         when(eventMapper.toSimple(event1)).thenReturn(simpleDto);
-        when(eventRepository.findMinPriceForEvent(1L)).thenReturn(5000);
+        event1.setMinPrice(5000);
 
-        Pageable pageable = PageRequest.of(0, 12);
         Page<SimpleEventDto> result = eventService.searchEventsAsDto(
             "Rock", "Concert", 120, null, null, null, null, null, pageable
         );
@@ -899,27 +1011,23 @@ class EventServiceImplTest {
     }
 
     @Test
-    void searchEventsAsDto_withPriceFilter_filtersResults() {
-        when(eventRepository.findAllByOrderByDateTimeAsc()).thenReturn(List.of(event1, event2));
+    void searchEventsAsDto_withPriceFilter_passesBoundsToRepository() {
+        Pageable pageable = PageRequest.of(0, 12);
+        when(eventRepository.searchEventsPage(
+            isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), eq(1L), eq(4000), eq(6000),
+            any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(event1), pageable, 1));
 
         SimpleEventDto dto1 = new SimpleEventDto(
             1L, "Rock Concert", "Concert", 120,
             event1.getDateTime(), "Vienna", null, null, null
         );
 
-        SimpleEventDto dto2 = new SimpleEventDto(
-            2L, "Jazz Night", "Concert", 90,
-            event2.getDateTime(), "Vienna", null, null, null
-        );
-
         when(eventMapper.toSimple(event1)).thenReturn(dto1);
-        when(eventMapper.toSimple(event2)).thenReturn(dto2);
-        when(eventRepository.findMinPriceForEvent(1L)).thenReturn(5000);
-        when(eventRepository.findMinPriceForEvent(2L)).thenReturn(3000);
+        event1.setMinPrice(5000);
 
-        Pageable pageable = PageRequest.of(0, 12);
         Page<SimpleEventDto> result = eventService.searchEventsAsDto(
-            null, null, null, null, null, null, 4000, 6000, pageable
+            null, null, null, null, null, 1L, 4000, 6000, pageable
         );
 
         assertThat(result.getContent()).hasSize(1);
@@ -936,7 +1044,7 @@ class EventServiceImplTest {
         );
 
         when(eventMapper.toSimple(event1)).thenReturn(simpleDto);
-        when(eventRepository.findMinPriceForEvent(1L)).thenReturn(5000);
+        event1.setMinPrice(5000);
 
         List<SimpleEventDto> result = eventService.findByLocationIdAsDto(1L);
 
@@ -946,7 +1054,8 @@ class EventServiceImplTest {
 
     @Test
     void findByArtistIdAsDto_returnsEnrichedDtos() {
-        when(eventRepository.findByArtistId(10L)).thenReturn(List.of(event1));
+        when(artistMembershipIndex.withBands(10L)).thenReturn(Set.of(10L));
+        when(eventRepository.findByArtistIds(Set.of(10L))).thenReturn(List.of(event1));
 
         SimpleEventDto simpleDto = new SimpleEventDto(
             1L, "Rock Concert", "Concert", 120,
@@ -954,7 +1063,7 @@ class EventServiceImplTest {
         );
 
         when(eventMapper.toSimple(event1)).thenReturn(simpleDto);
-        when(eventRepository.findMinPriceForEvent(1L)).thenReturn(5000);
+        event1.setMinPrice(5000);
 
         List<SimpleEventDto> result = eventService.findByArtistIdAsDto(10L);
 
@@ -966,7 +1075,7 @@ class EventServiceImplTest {
     void uploadImage_ioExceptionDuringRead_throwsValidationException() throws IOException {
         MultipartFile mockFile = mock(MultipartFile.class);
 
-        when(mockFile.getBytes()).thenThrow(new IOException("Read error"));
+        when(mockFile.getInputStream()).thenThrow(new IOException("Read error"));
 
         doNothing().when(eventValidator).validateImage(mockFile);
         when(eventRepository.findById(1L)).thenReturn(Optional.of(event1));
@@ -1100,29 +1209,13 @@ class EventServiceImplTest {
         assertThat(result.getRunwayOffsetPx()).isNull();
     }
 
-    @Test
-    void searchEventsAsDto_minPriceNull_filtersOutEvent() {
-        when(eventRepository.findAllByOrderByDateTimeAsc()).thenReturn(List.of(event1));
-
-        SimpleEventDto dto = new SimpleEventDto(
-            1L, "Rock Concert", "Concert", 120,
-            event1.getDateTime(), "Vienna", null, null, null
-        );
-
-        when(eventMapper.toSimple(event1)).thenReturn(dto);
-        when(eventRepository.findMinPriceForEvent(1L)).thenReturn(null);
-
-        Pageable pageable = PageRequest.of(0, 12);
-        Page<SimpleEventDto> result = eventService.searchEventsAsDto(
-            null, null, null, null, null, null, 1000, 5000, pageable
-        );
-
-        assertThat(result.getContent()).isEmpty();
-    }
-
     @Test
     void searchEventsAsDto_noPriceFilter_includesEventWithNullPrice() {
-        when(eventRepository.findAllByOrderByDateTimeAsc()).thenReturn(List.of(event1));
+        Pageable pageable = PageRequest.of(0, 12);
+        when(eventRepository.searchEventsPage(
+            isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
+            any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(event1), pageable, 1));
 
         SimpleEventDto dto = new SimpleEventDto(
             1L, "Rock Concert", "Concert", 120,
@@ -1130,14 +1223,14 @@ class EventServiceImplTest {
         );
 
         when(eventMapper.toSimple(event1)).thenReturn(dto);
-        when(eventRepository.findMinPriceForEvent(1L)).thenReturn(null);
+        event1.setMinPrice(null);
 
-        Pageable pageable = PageRequest.of(0, 12);
         Page<SimpleEventDto> result = eventService.searchEventsAsDto(
             null, null, null, null, null, null, null, null, pageable
         );
 
         assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getContent().get(0).minPrice()).isNull();
     }
 
     @Test
@@ -1174,7 +1267,7 @@ class EventServiceImplTest {
         when(locationService.findById(1L)).thenReturn(location);
         when(eventRepository.save(any(Event.class))).thenReturn(savedEvent);
         when(eventMapper.toSimple(savedEvent)).thenReturn(simpleDto);
-        when(eventRepository.findMinPriceForEvent(99L)).thenReturn(5000);
+        when(eventRepository.findMinPriceForLocation(1L)).thenReturn(5000);
 
         SimpleEventDto result = eventService.createFromDto(dto);
 
@@ -1216,7 +1309,7 @@ class EventServiceImplTest {
         when(locationService.findById(1L)).thenReturn(location);
         when(eventRepository.save(any(Event.class))).thenReturn(savedEvent);
         when(eventMapper.toSimple(savedEvent)).thenReturn(simpleDto);
-        when(eventRepository.findMinPriceForEvent(99L)).thenReturn(5000);
+        when(eventRepository.findMinPriceForLocation(1L)).thenReturn(5000);
 
         SimpleEventDto result = eventService.createFromDto(dto);
 
@@ -1225,58 +1318,107 @@ class EventServiceImplTest {
     }
 
     @Test
-    void searchEventsAsDto_withPriceMinOnly_filtersCorrectly() {
-        when(eventRepository.findAllByOrderByDateTimeAsc()).thenReturn(List.of(event1, event2));
+    void searchFullText_returnsEventsInRankOrder() {
+        when(eventSearchIndex.search("concert")).thenReturn(List.of(
+            new EventSearchIndex.Hit(2L, 3.5),
+            new EventSearchIndex.Hit(1L, 1.2)
+        ));
+        when(eventRepository.findAllWithLocationByIdIn(List.of(2L, 1L))).thenReturn(List.of(event1, event2));
 
         SimpleEventDto dto1 = new SimpleEventDto(
             1L, "Rock Concert", "Concert", 120,
-            event1.getDateTime(), "Vienna", null, 5000, null
+            event1.getDateTime(), "Vienna", null, null, null
         );
-
         SimpleEventDto dto2 = new SimpleEventDto(
             2L, "Jazz Night", "Concert", 90,
-            event2.getDateTime(), "Vienna", null, 3000, null
+            event2.getDateTime(), "Vienna", null, null, null
         );
-
         when(eventMapper.toSimple(event1)).thenReturn(dto1);
         when(eventMapper.toSimple(event2)).thenReturn(dto2);
-        when(eventRepository.findMinPriceForEvent(1L)).thenReturn(5000);
-        when(eventRepository.findMinPriceForEvent(2L)).thenReturn(3000);
 
-        Pageable pageable = PageRequest.of(0, 12);
-        Page<SimpleEventDto> result = eventService.searchEventsAsDto(
-            null, null, null, null, null, null, 4000, null, pageable
-        );
+        Page<SimpleEventDto> result = eventService.searchFullText("concert", PageRequest.of(0, 12));
 
-        assertThat(result.getContent()).hasSize(1);
-        assertThat(result.getContent().get(0).title()).isEqualTo("Rock Concert");
+        assertThat(result.getContent()).extracting(SimpleEventDto::id).containsExactly(2L, 1L);
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(meterRegistry.get("search.duration").tag("kind", "full-text").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("search.results").tag("kind", "full-text").summary().totalAmount()).isEqualTo(2);
     }
 
     @Test
-    void searchEventsAsDto_withPriceMaxOnly_filtersCorrectly() {
-        when(eventRepository.findAllByOrderByDateTimeAsc()).thenReturn(List.of(event1, event2));
+    void searchFullText_pageBeyondHits_returnsEmptyPage() {
+        when(eventSearchIndex.search("concert")).thenReturn(List.of(new EventSearchIndex.Hit(1L, 1.0)));
+        when(eventRepository.findAllWithLocationByIdIn(List.of())).thenReturn(List.of());
 
-        SimpleEventDto dto1 = new SimpleEventDto(
-            1L, "Rock Concert", "Concert", 120,
-            event1.getDateTime(), "Vienna", null, 5000, null
-        );
+        Page<SimpleEventDto> result = eventService.searchFullText("concert", PageRequest.of(3, 12));
 
-        SimpleEventDto dto2 = new SimpleEventDto(
-            2L, "Jazz Night", "Concert", 90,
-            event2.getDateTime(), "Vienna", null, 3000, null
-        );
+        assertThat(result.getContent()).isEmpty();
+        assertThat(result.getTotalElements()).isEqualTo(1);
+    }
 
-        when(eventMapper.toSimple(event1)).thenReturn(dto1);
-        when(eventMapper.toSimple(event2)).thenReturn(dto2);
-        when(eventRepository.findMinPriceForEvent(1L)).thenReturn(5000);
-        when(eventRepository.findMinPriceForEvent(2L)).thenReturn(3000);
+    @Test
+    void delete_removesEventFromSearchIndex() {
+        when(eventRepository.findById(2L)).thenReturn(Optional.of(event2));
 
-        Pageable pageable = PageRequest.of(0, 12);
-        Page<SimpleEventDto> result = eventService.searchEventsAsDto(
-            null, null, null, null, null, null, null, 4000, pageable
-        );
+        eventService.delete(2L);
 
-        assertThat(result.getContent()).hasSize(1);
-        assertThat(result.getContent().get(0).title()).isEqualTo("Jazz Night");
+        verify(eventSearchIndex).removeAfterCommit(2L);
+        verify(eventCatalog).removeAfterCommit(2L);
+        verify(eventCalendar).removeAfterCommit(2L);
+        verify(salesRollup).eventDeleted(2L);
+        verify(suggestionIndex).eventRemovedAfterCommit(2L);
+    }
+
+    @Test
+    void searchFaceted_loadsPageInCatalogOrderWithFacets() {
+        FacetCountDto concerts = new FacetCountDto("Concert", "Concert", 2);
+        when(eventCatalog.search(new EventCatalog.Filter("Concert", null, null, null), 0, 12))
+            .thenReturn(new EventCatalog.Result(List.of(2L, 1L), 2, List.of(concerts), List.of(), List.of(), List.of()));
+        when(eventRepository.findAllWithLocationByIdIn(List.of(2L, 1L))).thenReturn(List.of(event1, event2));
+        when(eventMapper.toSimple(event1)).thenReturn(new SimpleEventDto(
+            1L, "Rock Concert", "Concert", 120, event1.getDateTime(), "Vienna", null, null, null));
+        when(eventMapper.toSimple(event2)).thenReturn(new SimpleEventDto(
+            2L, "Jazz Night", "Concert", 90, event2.getDateTime(), "Vienna", null, null, null));
+
+        FacetedEventSearchDto result = eventService.searchFaceted("Concert", null, null, null, PageRequest.of(0, 12));
+
+        assertThat(result.events()).extracting(SimpleEventDto::id).containsExactly(2L, 1L);
+        assertThat(result.totalElements()).isEqualTo(2);
+        assertThat(result.types()).containsExactly(concerts);
+    }
+
+    @Test
+    void findCalendar_servesMonthRangeFromCalendar() {
+        List<CalendarDayDto> days = List.of(new CalendarDayDto(LocalDate.of(2026, 6, 15), 1, 5000, List.of()));
+        when(eventCalendar.days(LocalDate.of(2026, 6, 1), LocalDate.of(2026, 8, 31))).thenReturn(days);
+
+        List<CalendarDayDto> result = eventService.findCalendar(YearMonth.of(2026, 6), YearMonth.of(2026, 8));
+
+        assertThat(result).isEqualTo(days);
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void findCalendar_withoutEndMonth_returnsSingleMonth() {
+        eventService.findCalendar(YearMonth.of(2026, 2), null);
+
+        verify(eventCalendar).days(LocalDate.of(2026, 2, 1), LocalDate.of(2026, 2, 28));
+    }
+
+    @Test
+    void findCalendar_invalidRange_throwsValidationException() {
+        assertThatThrownBy(() -> eventService.findCalendar(YearMonth.of(2026, 6), YearMonth.of(2026, 5)))
+            .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> eventService.findCalendar(YearMonth.of(2026, 1), YearMonth.of(2027, 1)))
+            .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> eventService.findCalendar(null, null))
+            .isInstanceOf(ValidationException.class);
+        verifyNoInteractions(eventCalendar);
+    }
+
+    @Test
+    void findCalendar_twelveMonths_isAllowed() {
+        eventService.findCalendar(YearMonth.of(2026, 1), YearMonth.of(2026, 12));
+
+        verify(eventCalendar).days(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31));
     }
-}
\ No newline at end of file
+}
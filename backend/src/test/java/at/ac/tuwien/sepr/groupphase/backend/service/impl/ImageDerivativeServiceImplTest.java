@@ -0,0 +1,158 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.ImageDerivative;
+import at.ac.tuwien.sepr.groupphase.backend.repository.BlobReferenceRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.ImageDerivativeRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.blob.FileSystemBlobStore;
+import at.ac.tuwien.sepr.groupphase.backend.type.ImageSize;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ImageDerivativeServiceImplTest {
+
+    @TempDir
+    Path root;
+
+    @Mock
+    private ImageDerivativeRepository imageDerivativeRepository;
+
+    @Mock
+    private BlobReferenceRepository blobReferenceRepository;
+
+    private FileSystemBlobStore blobStore;
+    private ImageDerivativeServiceImpl service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        blobStore = new FileSystemBlobStore(root);
+        service = new ImageDerivativeServiceImpl(blobStore, imageDerivativeRepository, blobReferenceRepository, new SyncTaskExecutor(), 1, 40_000_000);
+        lenient().when(imageDerivativeRepository.findBlobKey(anyString(), any())).thenReturn(Optional.empty());
+    }
+
+    private String storeImage(int width, int height, String format) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return blobStore.put(out.toByteArray());
+    }
+
+    private BufferedImage read(String key) throws IOException {
+        try (InputStream content = blobStore.get(key).getInputStream()) {
+            return ImageIO.read(content);
+        }
+    }
+
+    @Test
+    void generate_largeImage_storesEverySizeScaledToItsLongestEdge() throws IOException {
+        String source = storeImage(2400, 1200, "jpeg");
+
+        int stored = service.generate(source, "jpeg");
+
+        ArgumentCaptor<ImageDerivative> saved = ArgumentCaptor.forClass(ImageDerivative.class);
+        verify(imageDerivativeRepository, times(3)).save(saved.capture());
+        assertThat(stored).isEqualTo(3);
+        for (ImageDerivative derivative : saved.getAllValues()) {
+            BufferedImage image = read(derivative.getBlobKey());
+            assertThat(derivative.getSourceKey()).isEqualTo(source);
+            assertThat(image.getWidth()).isEqualTo(derivative.getSize().maxEdge());
+            assertThat(image.getHeight()).isEqualTo(derivative.getSize().maxEdge() / 2);
+        }
+    }
+
+    @Test
+    void generate_imageSmallerThanSize_usesOriginal() throws IOException {
+        String source = storeImage(400, 300, "png");
+
+        service.generate(source, "png");
+
+        ArgumentCaptor<ImageDerivative> saved = ArgumentCaptor.forClass(ImageDerivative.class);
+        verify(imageDerivativeRepository, times(3)).save(saved.capture());
+        assertThat(saved.getAllValues())
+            .filteredOn(derivative -> derivative.getSize() != ImageSize.THUMB)
+            .extracting(ImageDerivative::getBlobKey)
+            .containsOnly(source);
+        assertThat(saved.getAllValues())
+            .filteredOn(derivative -> derivative.getSize() == ImageSize.THUMB)
+            .extracting(ImageDerivative::getBlobKey)
+            .doesNotContain(source);
+    }
+
+    @Test
+    void generate_existingDerivative_isKept() throws IOException {
+        String source = storeImage(400, 300, "png");
+        when(imageDerivativeRepository.findBlobKey(source, ImageSize.FULL)).thenReturn(Optional.of(source));
+
+        assertThat(service.generate(source, "png")).isEqualTo(2);
+    }
+
+    @Test
+    void generate_undecodableImage_storesNothing() throws IOException {
+        String source = blobStore.put("not an image".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(service.generate(source, "jpeg")).isZero();
+        verify(imageDerivativeRepository, never()).save(any());
+    }
+
+    @Test
+    void generate_tooManyPixels_storesNothing() throws IOException {
+        String source = storeImage(400, 300, "png");
+        service = new ImageDerivativeServiceImpl(blobStore, imageDerivativeRepository, blobReferenceRepository, new SyncTaskExecutor(), 1, 400 * 300 - 1);
+
+        assertThat(service.generate(source, "png")).isZero();
+        verify(imageDerivativeRepository, never()).save(any());
+    }
+
+    @Test
+    void blobKeys_includesOriginalAndDerivatives() {
+        when(imageDerivativeRepository.findBlobKeys("a".repeat(64))).thenReturn(List.of("b".repeat(64), "a".repeat(64)));
+
+        assertThat(service.blobKeys("a".repeat(64))).containsExactly("a".repeat(64), "b".repeat(64));
+        assertThat(service.blobKeys(null)).isEmpty();
+    }
+
+    @Test
+    void resolve_withoutDerivative_returnsOriginal() {
+        assertThat(service.resolve("a".repeat(64), ImageSize.THUMB)).isEqualTo("a".repeat(64));
+    }
+
+    @Test
+    void backfill_queuesOnlyIncompleteImagesInSupportedFormats() {
+        when(imageDerivativeRepository.findCompleteSourceKeys(any(), anyLong())).thenReturn(List.of("c".repeat(64)));
+        when(blobReferenceRepository.findImages()).thenReturn(Map.of(
+            "a".repeat(64), "image/jpeg",
+            "b".repeat(64), "image/webp",
+            "c".repeat(64), "image/png"));
+        // only queue, the originals do not exist
+        service = new ImageDerivativeServiceImpl(blobStore, imageDerivativeRepository, blobReferenceRepository, task -> { }, 1, 40_000_000);
+
+        assertThat(service.backfill()).isEqualTo(1);
+    }
+}
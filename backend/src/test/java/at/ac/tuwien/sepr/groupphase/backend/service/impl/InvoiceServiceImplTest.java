@@ -22,6 +22,7 @@ import at.ac.tuwien.sepr.groupphase.backend.repository.UserRepository;
 import at.ac.tuwien.sepr.groupphase.backend.service.PdfService;
 import at.ac.tuwien.sepr.groupphase.backend.service.TicketService;
 import at.ac.tuwien.sepr.groupphase.backend.service.UserService;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.sales.SalesRollup;
 import at.ac.tuwien.sepr.groupphase.backend.type.PaymentMethod;
 
 import java.math.BigDecimal;
@@ -63,6 +64,7 @@ class InvoiceServiceImplTest {
     @Mock private InvoiceMapper invoiceMapper;
     @Mock private TicketService ticketService;
     @Mock private PdfService pdfService;
+    @Mock private SalesRollup salesRollup;
 
 
     @InjectMocks private InvoiceServiceImpl invoiceService;
@@ -694,6 +696,7 @@ class InvoiceServiceImplTest {
 
         verify(invoiceRepository, times(1)).save(any(Invoice.class));
         verify(ticketService).findAllByIds(dto.ticketIds());
+        verify(salesRollup).recordSold(List.of(ticket1, ticket2));
     }
 
     @Test
@@ -11,6 +11,7 @@ import at.ac.tuwien.sepr.groupphase.backend.entity.Sector;
 import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
 import at.ac.tuwien.sepr.groupphase.backend.repository.LocationRepository;
 import at.ac.tuwien.sepr.groupphase.backend.service.SectorService;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.search.SuggestionIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -41,6 +42,9 @@ class LocationServiceImplTest {
     @Mock
     private SectorService sectorService;
 
+    @Mock
+    private SuggestionIndex suggestionIndex;
+
     @InjectMocks
     private LocationServiceImpl locationService;
 
@@ -132,6 +136,7 @@ class LocationServiceImplTest {
 
         assertThat(result).isEqualTo(newLocation);
         verify(locationRepository).save(newLocation);
+        verify(suggestionIndex).locationSavedAfterCommit(newLocation);
     }
 
     @Test
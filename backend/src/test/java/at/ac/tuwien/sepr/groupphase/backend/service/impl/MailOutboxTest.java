@@ -0,0 +1,278 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.OutboundMail;
+import at.ac.tuwien.sepr.groupphase.backend.repository.OutboundMailRepository;
+import jakarta.mail.MessagingException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MailOutboxTest {
+
+    @Mock
+    private OutboundMailRepository mailRepository;
+
+    @Mock
+    private JavaMailSender mailSender;
+
+    private MailOutbox outbox;
+
+    private MailOutbox outbox(JavaMailSender sender) {
+        return new MailOutbox(mailRepository, sender, new SyncTaskExecutor(), 1, 20, 3,
+            Duration.ofSeconds(30), Duration.ofMinutes(1), Duration.ofMinutes(5));
+    }
+
+    private static OutboundMail mail(long id, String recipient) {
+        OutboundMail mail = new OutboundMail(recipient, "Subject " + id, "Body " + id);
+        mail.setId(id);
+        return mail;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<OutboundMail> savedMails() {
+        ArgumentCaptor<Iterable<OutboundMail>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(mailRepository).saveAll(captor.capture());
+        List<OutboundMail> saved = new ArrayList<>();
+        captor.getValue().forEach(saved::add);
+        return saved;
+    }
+
+    @Test
+    void claim_leasesDueBatch() {
+        outbox = outbox(mailSender);
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboundMail> due = List.of(mail(1, "a@example.com"), mail(2, "b@example.com"));
+        when(mailRepository.findDue(eq(now), any(Pageable.class))).thenReturn(due);
+
+        assertThat(outbox.claim(now)).isEqualTo(due);
+
+        verify(mailRepository).lease(List.of(1L, 2L), now.plusMinutes(5));
+    }
+
+    @Test
+    void claim_nothingDue_leasesNothing() {
+        outbox = outbox(mailSender);
+        when(mailRepository.findDue(any(), any(Pageable.class))).thenReturn(List.of());
+
+        assertThat(outbox.claim(LocalDateTime.now())).isEmpty();
+
+        verify(mailRepository, never()).lease(anyList(), any());
+    }
+
+    @Test
+    void poll_deliversClaimedBatchesUntilNothingIsDue() {
+        outbox = outbox(mailSender);
+        when(mailRepository.findDue(any(), any(Pageable.class))).thenReturn(List.of(mail(1, "a@example.com"))).thenReturn(List.of());
+
+        assertThat(outbox.poll()).isEqualTo(1);
+
+        verify(mailSender).send(any(SimpleMailMessage[].class));
+        verify(mailRepository).deleteAllByIdInBatch(List.of(1L));
+    }
+
+    @Test
+    void deliver_someRecipientsRejected_deletesSentAndReschedulesRejected() {
+        outbox = outbox(mailSender);
+        OutboundMail sent = mail(1, "a@example.com");
+        OutboundMail rejected = mail(2, "b@example.com");
+        doAnswer(invocation -> {
+            Object rejectedMessage = invocation.getArguments()[1];
+            throw new MailSendException(Map.of(rejectedMessage, new MessagingException("550 mailbox unavailable")));
+        }).when(mailSender).send(any(SimpleMailMessage[].class));
+
+        outbox.deliver(List.of(sent, rejected));
+
+        verify(mailRepository).deleteAllByIdInBatch(List.of(1L));
+        assertThat(savedMails()).containsExactly(rejected);
+        assertThat(rejected.getAttempts()).isEqualTo(1);
+        assertThat(rejected.getLastError()).isEqualTo("550 mailbox unavailable");
+        assertThat(rejected.getFailedAt()).isNull();
+        assertThat(rejected.getNextAttemptAt())
+            .isCloseTo(LocalDateTime.now().plusSeconds(30), within(5, ChronoUnit.SECONDS));
+    }
+
+    @Test
+    void deliver_lastAttemptFails_givesUp() {
+        outbox = outbox(mailSender);
+        OutboundMail mail = mail(1, "a@example.com");
+        mail.setAttempts(2);
+        doAnswer(invocation -> {
+            throw new MailSendException("Mail server connection failed");
+        }).when(mailSender).send(any(SimpleMailMessage[].class));
+
+        outbox.deliver(List.of(mail));
+
+        verify(mailRepository, never()).deleteAllByIdInBatch(any());
+        assertThat(savedMails()).containsExactly(mail);
+        assertThat(mail.getAttempts()).isEqualTo(3);
+        assertThat(mail.getFailedAt()).isNotNull();
+    }
+
+    @Test
+    void backoff_doublesUpToMaximum() {
+        outbox = outbox(mailSender);
+
+        assertThat(outbox.backoff(1)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(outbox.backoff(2)).isEqualTo(Duration.ofSeconds(60));
+        assertThat(outbox.backoff(3)).isEqualTo(Duration.ofMinutes(1));
+        assertThat(outbox.backoff(100)).isEqualTo(Duration.ofMinutes(1));
+    }
+
+    @Test
+    void deliver_localSmtpServer_sendsBatchOverOneConnection() throws Exception {
+        try (SmtpStandIn smtp = new SmtpStandIn()) {
+            outbox = outbox(smtp.sender());
+
+            outbox.deliver(List.of(mail(1, "a@example.com"), mail(2, "b@example.com"), mail(3, "c@example.com")));
+
+            verify(mailRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+            verify(mailRepository, never()).saveAll(any());
+            assertThat(smtp.connections()).isEqualTo(1);
+            assertThat(smtp.recipients()).containsExactly("a@example.com", "b@example.com", "c@example.com");
+            assertThat(smtp.messages().getFirst()).contains("Subject: Subject 1", "Body 1");
+        }
+    }
+
+    @Test
+    void deliver_smtpServerUnavailable_reschedulesWholeBatch() throws Exception {
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+        JavaMailSenderImpl sender = new JavaMailSenderImpl();
+        sender.setHost("localhost");
+        sender.setPort(closedPort);
+        outbox = outbox(sender);
+        OutboundMail first = mail(1, "a@example.com");
+        OutboundMail second = mail(2, "b@example.com");
+
+        outbox.deliver(List.of(first, second));
+
+        assertThat(savedMails()).containsExactlyInAnyOrder(first, second);
+        assertThat(first.getAttempts()).isEqualTo(1);
+        assertThat(second.getAttempts()).isEqualTo(1);
+    }
+
+    /**
+     * Minimal SMTP server on a local port that accepts every mail and records what it received.
+     */
+    private static final class SmtpStandIn implements AutoCloseable {
+
+        private final ServerSocket serverSocket = new ServerSocket(0);
+        private final AtomicInteger connections = new AtomicInteger();
+        private final List<String> recipients = Collections.synchronizedList(new ArrayList<>());
+        private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        private final Thread thread = new Thread(this::serve, "smtp-stand-in");
+
+        SmtpStandIn() throws IOException {
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        JavaMailSender sender() {
+            JavaMailSenderImpl sender = new JavaMailSenderImpl();
+            sender.setHost("localhost");
+            sender.setPort(serverSocket.getLocalPort());
+            Properties properties = new Properties();
+            properties.setProperty("mail.smtp.from", "noreply@example.com");
+            sender.setJavaMailProperties(properties);
+            return sender;
+        }
+
+        int connections() {
+            return connections.get();
+        }
+
+        List<String> recipients() {
+            return recipients;
+        }
+
+        List<String> messages() {
+            return messages;
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverSocket.close();
+        }
+
+        private void serve() {
+            while (!serverSocket.isClosed()) {
+                try (Socket socket = serverSocket.accept()) {
+                    connections.incrementAndGet();
+                    converse(socket);
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private void converse(Socket socket) throws IOException {
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.US_ASCII);
+            reply(out, "220 localhost");
+            String line;
+            while ((line = in.readLine()) != null) {
+                String command = line.toUpperCase();
+                if (command.startsWith("RCPT TO:")) {
+                    recipients.add(line.substring(line.indexOf('<') + 1, line.indexOf('>')));
+                    reply(out, "250 OK");
+                } else if (command.equals("DATA")) {
+                    reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                    StringBuilder message = new StringBuilder();
+                    while (!(line = in.readLine()).equals(".")) {
+                        message.append(line).append('\n');
+                    }
+                    messages.add(message.toString());
+                    reply(out, "250 OK");
+                } else if (command.equals("QUIT")) {
+                    reply(out, "221 Bye");
+                    return;
+                } else {
+                    reply(out, "250 OK");
+                }
+            }
+        }
+
+        private static void reply(PrintWriter out, String line) {
+            out.print(line + "\r\n");
+            out.flush();
+        }
+    }
+}
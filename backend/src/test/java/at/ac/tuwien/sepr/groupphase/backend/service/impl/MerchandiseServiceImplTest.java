@@ -1,5 +1,6 @@
 package at.ac.tuwien.sepr.groupphase.backend.service.impl;
 
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.image.ImageResourceDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.merchandise.DetailedMerchandiseDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.merchandise.MerchandiseCreateDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.merchandise.SimpleMerchandiseDto;
@@ -8,18 +9,23 @@ import at.ac.tuwien.sepr.groupphase.backend.entity.Merchandise;
 import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
 import at.ac.tuwien.sepr.groupphase.backend.exception.ValidationException;
 import at.ac.tuwien.sepr.groupphase.backend.repository.MerchandiseRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.BlobStore;
+import at.ac.tuwien.sepr.groupphase.backend.service.ImageDerivativeService;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.blob.ImageByteCache;
+import at.ac.tuwien.sepr.groupphase.backend.type.ImageSize;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
@@ -39,14 +45,19 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 public class MerchandiseServiceImplTest {
 
+    private static final String IMAGE_KEY = "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa";
+
     @Mock private MerchandiseRepository merchandiseRepository;
     @Mock private MerchandiseMapper merchandiseMapper;
+    @Mock private BlobStore blobStore;
+    @Mock private ImageDerivativeService imageDerivativeService;
+    @Mock private ImageByteCache imageByteCache;
 
     private MerchandiseServiceImpl merchandiseService;
 
     @BeforeEach
     void setup() {
-        merchandiseService = new MerchandiseServiceImpl(merchandiseRepository, merchandiseMapper);
+        merchandiseService = new MerchandiseServiceImpl(merchandiseRepository, merchandiseMapper, blobStore, imageDerivativeService, imageByteCache);
     }
 
     private Merchandise merch(
@@ -54,7 +65,7 @@ public class MerchandiseServiceImplTest {
         boolean deleted,
         boolean redeemable,
         Integer pointsPrice,
-        byte[] image,
+        String imageKey,
         String imageContentType
     ) {
         Merchandise m = new Merchandise();
@@ -67,7 +78,7 @@ public class MerchandiseServiceImplTest {
         m.setRedeemableWithPoints(redeemable);
         m.setPointsPrice(pointsPrice);
         m.setDeleted(deleted);
-        m.setImage(image);
+        m.setImageKey(imageKey);
         m.setImageContentType(imageContentType);
         return m;
     }
@@ -272,10 +283,11 @@ public class MerchandiseServiceImplTest {
     // -------------------------
 
     @Test
-    void uploadImage_validPng_storesBytes_andNormalizedContentType_andSaves() {
+    void uploadImage_validPng_storesBlob_andNormalizedContentType_andSaves() throws IOException {
         Merchandise m = merch(5L, false, false, null, null, null);
         when(merchandiseRepository.findById(5L)).thenReturn(Optional.of(m));
         when(merchandiseRepository.save(m)).thenReturn(m);
+        when(blobStore.put(any(InputStream.class))).thenReturn(IMAGE_KEY);
 
         MockMultipartFile img = new MockMultipartFile(
             "image",
@@ -287,10 +299,11 @@ public class MerchandiseServiceImplTest {
         merchandiseService.uploadImage(5L, img);
 
         assertAll(
-            () -> assertThat(m.getImage()).isEqualTo("abc".getBytes(StandardCharsets.UTF_8)),
+            () -> assertThat(m.getImageKey()).isEqualTo(IMAGE_KEY),
             () -> assertThat(m.getImageContentType()).isEqualTo("image/png")
         );
         verify(merchandiseRepository).save(m);
+        verify(imageDerivativeService).generateAfterCommit(IMAGE_KEY, "image/png");
     }
 
     @Test
@@ -354,7 +367,7 @@ public class MerchandiseServiceImplTest {
     }
 
     @Test
-    void uploadImage_getBytesThrowsIOException_wrapsAsValidationException() throws Exception {
+    void uploadImage_readThrowsIOException_wrapsAsValidationException() throws Exception {
         Merchandise m = merch(5L, false, false, null, null, null);
         when(merchandiseRepository.findById(5L)).thenReturn(Optional.of(m));
 
@@ -362,7 +375,7 @@ public class MerchandiseServiceImplTest {
         when(file.isEmpty()).thenReturn(false);
         when(file.getSize()).thenReturn(10L);
         when(file.getContentType()).thenReturn("image/png");
-        when(file.getBytes()).thenThrow(new IOException("boom"));
+        when(file.getInputStream()).thenThrow(new IOException("boom"));
 
         assertThatThrownBy(() -> merchandiseService.uploadImage(5L, file))
             .isInstanceOf(ValidationException.class)
@@ -372,59 +385,54 @@ public class MerchandiseServiceImplTest {
     }
 
     // -------------------------
-    // getImageResponse
+    // getImage
     // -------------------------
 
     @Test
-    void getImageResponse_noImage_returns404() {
+    void getImage_noImage_returnsNull() {
         Merchandise m = merch(5L, false, false, null, null, null);
         when(merchandiseRepository.findById(5L)).thenReturn(Optional.of(m));
 
-        ResponseEntity<byte[]> res = merchandiseService.getImageResponse(5L);
-
-        assertAll(
-            () -> assertThat(res.getStatusCode().value()).isEqualTo(404),
-            () -> assertThat(res.getBody()).isNull()
-        );
+        assertThat(merchandiseService.getImage(5L, ImageSize.FULL)).isNull();
+        verifyNoInteractions(blobStore);
     }
 
     @Test
-    void getImageResponse_withImage_andContentType_returns200WithHeaders() {
-        byte[] bytes = "img".getBytes(StandardCharsets.UTF_8);
-        Merchandise m = merch(5L, false, false, null, bytes, "image/webp");
+    void getImage_withImage_andContentType_returnsStoredContent() {
+        ByteArrayResource content = new ByteArrayResource("img".getBytes(StandardCharsets.UTF_8));
+        Merchandise m = merch(5L, false, false, null, IMAGE_KEY, "image/webp");
 
         when(merchandiseRepository.findById(5L)).thenReturn(Optional.of(m));
+        when(imageDerivativeService.resolve(IMAGE_KEY, ImageSize.CARD)).thenReturn(IMAGE_KEY);
+        when(imageByteCache.get(IMAGE_KEY)).thenReturn(content);
 
-        ResponseEntity<byte[]> res = merchandiseService.getImageResponse(5L);
+        ImageResourceDto res = merchandiseService.getImage(5L, ImageSize.CARD);
 
         assertAll(
-            () -> assertThat(res.getStatusCode().value()).isEqualTo(200),
-            () -> assertThat(res.getBody()).isEqualTo(bytes),
-            () -> assertThat(res.getHeaders().getContentType()).isEqualTo(MediaType.parseMediaType("image/webp")),
-            () -> assertThat(res.getHeaders().getContentLength()).isEqualTo(bytes.length)
+            () -> assertThat(res.key()).isEqualTo(IMAGE_KEY),
+            () -> assertThat(res.contentType()).isEqualTo("image/webp"),
+            () -> assertThat(res.content()).isSameAs(content)
         );
     }
 
     @Test
-    void getImageResponse_withImage_butBlankContentType_fallsBackToOctetStream() {
-        byte[] bytes = "img".getBytes(StandardCharsets.UTF_8);
-        Merchandise m = merch(5L, false, false, null, bytes, "   ");
+    void getImage_withImage_butBlankContentType_fallsBackToOctetStream() {
+        Merchandise m = merch(5L, false, false, null, IMAGE_KEY, "   ");
 
         when(merchandiseRepository.findById(5L)).thenReturn(Optional.of(m));
+        when(imageDerivativeService.resolve(IMAGE_KEY, ImageSize.FULL)).thenReturn(IMAGE_KEY);
+        when(imageByteCache.get(IMAGE_KEY)).thenReturn(new ByteArrayResource(new byte[]{1}));
 
-        ResponseEntity<byte[]> res = merchandiseService.getImageResponse(5L);
+        ImageResourceDto res = merchandiseService.getImage(5L, ImageSize.FULL);
 
-        assertAll(
-            () -> assertThat(res.getStatusCode().value()).isEqualTo(200),
-            () -> assertThat(res.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_OCTET_STREAM)
-        );
+        assertThat(res.contentType()).isEqualTo(MediaType.APPLICATION_OCTET_STREAM_VALUE);
     }
 
     @Test
-    void getImageResponse_merchandiseMissing_throwsNotFound() {
+    void getImage_merchandiseMissing_throwsNotFound() {
         when(merchandiseRepository.findById(5L)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> merchandiseService.getImageResponse(5L))
+        assertThatThrownBy(() -> merchandiseService.getImage(5L, ImageSize.FULL))
             .isInstanceOf(NotFoundException.class)
             .hasMessageContaining("Merchandise not found");
 
@@ -6,10 +6,10 @@ import at.ac.tuwien.sepr.groupphase.backend.exception.ConflictException;
 import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
 import at.ac.tuwien.sepr.groupphase.backend.repository.PasswordResetTokenRepository;
 import at.ac.tuwien.sepr.groupphase.backend.repository.UserRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.search.UserSearchIndex;
 import at.ac.tuwien.sepr.groupphase.backend.type.UserRole;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -21,8 +21,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -42,7 +40,13 @@ class PasswordResetImplTest {
     private PasswordEncoder passwordEncoder;
 
     @Mock
-    private JavaMailSender mailSender;
+    private MailOutbox mailOutbox;
+
+    @Mock
+    private UserIdentityCache userIdentityCache;
+
+    @Mock
+    private UserSearchIndex userSearchIndex;
 
     @InjectMocks
     private PasswordResetServiceImpl passwordResetService;
@@ -69,9 +73,6 @@ class PasswordResetImplTest {
         when(userRepository.findById(1L))
             .thenReturn(Optional.of(user));
 
-        when(passwordEncoder.encode(anyString()))
-            .thenReturn("HASHED_TOKEN");
-
         passwordResetService.triggerPasswordReset(1L);
 
         verify(tokenRepository).deleteByUserId(user.getId());
@@ -84,13 +85,14 @@ class PasswordResetImplTest {
         PasswordResetToken savedToken = captor.getValue();
 
         assertThat(savedToken.getUser()).isEqualTo(user);
-        assertThat(savedToken.getTokenHash()).isEqualTo("HASHED_TOKEN");
+        assertThat(savedToken.getSelector()).isNotBlank();
+        assertThat(savedToken.getTokenHash()).isNotBlank();
 
         assertThat(savedToken.getExpiresAt())
             .isAfter(LocalDateTime.now())
             .isBefore(LocalDateTime.now().plusMinutes(31));
 
-        verify(mailSender).send(any(SimpleMailMessage.class));
+        verify(mailOutbox).enqueue(eq(user.getEmail()), eq("Password reset"), anyString());
     }
 
     @Test
@@ -104,26 +106,24 @@ class PasswordResetImplTest {
         );
 
         verifyNoInteractions(tokenRepository);
-        verifyNoInteractions(mailSender);
+        verifyNoInteractions(mailOutbox);
     }
 
     @Test
     void resetPassword_validToken_resetsPasswordAndUnlocksUser() {
         PasswordResetToken token = new PasswordResetToken();
         token.setUser(user);
-        token.setTokenHash("HASHED_TOKEN");
+        token.setSelector("SELECTOR");
+        token.setTokenHash(PasswordResetServiceImpl.hashVerifier("VERIFIER"));
         token.setExpiresAt(LocalDateTime.now().plusMinutes(10));
 
-        when(tokenRepository.findAll())
-            .thenReturn(List.of(token));
-
-        when(passwordEncoder.matches("RAW_TOKEN", "HASHED_TOKEN"))
-            .thenReturn(true);
+        when(tokenRepository.findBySelector("SELECTOR"))
+            .thenReturn(Optional.of(token));
 
         when(passwordEncoder.encode("newPassword"))
             .thenReturn("NEW_HASH");
 
-        passwordResetService.resetPassword("RAW_TOKEN", "newPassword");
+        passwordResetService.resetPassword("SELECTOR.VERIFIER", "newPassword");
 
         verify(userRepository).save(argThat(saved ->
             saved.getPasswordHash().equals("NEW_HASH")
@@ -138,18 +138,16 @@ class PasswordResetImplTest {
     void resetPassword_expiredToken_throwsConflictException() {
         PasswordResetToken expiredToken = new PasswordResetToken();
         expiredToken.setUser(user);
-        expiredToken.setTokenHash("HASHED_TOKEN");
+        expiredToken.setSelector("SELECTOR");
+        expiredToken.setTokenHash(PasswordResetServiceImpl.hashVerifier("VERIFIER"));
         expiredToken.setExpiresAt(LocalDateTime.now().minusMinutes(1));
 
-        when(tokenRepository.findAll())
-            .thenReturn(List.of(expiredToken));
-
-        when(passwordEncoder.matches(anyString(), anyString()))
-            .thenReturn(true);
+        when(tokenRepository.findBySelector("SELECTOR"))
+            .thenReturn(Optional.of(expiredToken));
 
         assertThrows(
             ConflictException.class,
-            () -> passwordResetService.resetPassword("RAW_TOKEN", "newPassword")
+            () -> passwordResetService.resetPassword("SELECTOR.VERIFIER", "newPassword")
         );
 
         verify(tokenRepository).delete(expiredToken);
@@ -158,12 +156,12 @@ class PasswordResetImplTest {
 
     @Test
     void resetPassword_invalidToken_throwsConflictException() {
-        when(tokenRepository.findAll())
-            .thenReturn(List.of());
+        when(tokenRepository.findBySelector("UNKNOWN"))
+            .thenReturn(Optional.empty());
 
         assertThrows(
             ConflictException.class,
-            () -> passwordResetService.resetPassword("INVALID", "newPassword")
+            () -> passwordResetService.resetPassword("UNKNOWN.VERIFIER", "newPassword")
         );
 
         verifyNoInteractions(userRepository);
@@ -175,9 +173,6 @@ class PasswordResetImplTest {
         when(userRepository.findByEmail("test@example.com"))
             .thenReturn(Optional.of(user));
 
-        when(passwordEncoder.encode(anyString()))
-            .thenReturn("HASHED_TOKEN");
-
         passwordResetService.requestPasswordReset("test@example.com");
 
         verify(tokenRepository).deleteByUserId(user.getId());
@@ -190,12 +185,13 @@ class PasswordResetImplTest {
         PasswordResetToken savedToken = captor.getValue();
 
         assertThat(savedToken.getUser()).isEqualTo(user);
-        assertThat(savedToken.getTokenHash()).isEqualTo("HASHED_TOKEN");
+        assertThat(savedToken.getSelector()).isNotBlank();
+        assertThat(savedToken.getTokenHash()).isNotBlank();
         assertThat(savedToken.getExpiresAt())
             .isAfter(LocalDateTime.now())
             .isBefore(LocalDateTime.now().plusMinutes(31));
 
-        verify(mailSender).send(any(SimpleMailMessage.class));
+        verify(mailOutbox).enqueue(eq(user.getEmail()), eq("Password reset"), anyString());
     }
 
     @Test
@@ -206,6 +202,6 @@ class PasswordResetImplTest {
         passwordResetService.requestPasswordReset("unknown@example.com");
 
         verifyNoInteractions(tokenRepository);
-        verifyNoInteractions(mailSender);
+        verifyNoInteractions(mailOutbox);
     }
 }
\ No newline at end of file
@@ -6,12 +6,11 @@ import at.ac.tuwien.sepr.groupphase.backend.exception.ConflictException;
 import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
 import at.ac.tuwien.sepr.groupphase.backend.repository.PasswordResetTokenRepository;
 import at.ac.tuwien.sepr.groupphase.backend.repository.UserRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.search.UserSearchIndex;
 import at.ac.tuwien.sepr.groupphase.backend.type.UserRole;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,8 +21,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -43,7 +40,13 @@ class PasswordResetServiceImplTest {
     private PasswordEncoder passwordEncoder;
 
     @Mock
-    private JavaMailSender mailSender;
+    private MailOutbox mailOutbox;
+
+    @Mock
+    private UserIdentityCache userIdentityCache;
+
+    @Mock
+    private UserSearchIndex userSearchIndex;
 
     @InjectMocks
     private PasswordResetServiceImpl passwordResetService;
@@ -67,7 +70,8 @@ class PasswordResetServiceImplTest {
 
         validToken = new PasswordResetToken();
         validToken.setUser(user);
-        validToken.setTokenHash("HASHED_TOKEN");
+        validToken.setSelector("SELECTOR");
+        validToken.setTokenHash(PasswordResetServiceImpl.hashVerifier("VERIFIER"));
         validToken.setExpiresAt(LocalDateTime.now().plusMinutes(30));
     }
 
@@ -80,9 +84,6 @@ class PasswordResetServiceImplTest {
         when(userRepository.findById(1L))
             .thenReturn(Optional.of(user));
 
-        when(passwordEncoder.encode(anyString()))
-            .thenReturn("HASHED_TOKEN");
-
         doNothing().when(tokenRepository).deleteByUserId(1L);
         doNothing().when(tokenRepository).flush();
         when(tokenRepository.save(any(PasswordResetToken.class)))
@@ -102,7 +103,17 @@ class PasswordResetServiceImplTest {
         assertThat(savedToken.getUser()).isEqualTo(user);
         assertThat(savedToken.getExpiresAt()).isAfter(LocalDateTime.now());
 
-        verify(mailSender).send(any(SimpleMailMessage.class));
+        ArgumentCaptor<String> mailCaptor = ArgumentCaptor.forClass(String.class);
+        verify(mailOutbox).enqueue(eq(user.getEmail()), eq("Password reset"), mailCaptor.capture());
+
+        String rawToken = mailCaptor.getValue().split("token=")[1].split("\\s")[0];
+        String[] parts = rawToken.split("\\.");
+        assertThat(parts).hasSize(2);
+        assertThat(savedToken.getSelector()).isEqualTo(parts[0]);
+        assertThat(savedToken.getTokenHash())
+            .isEqualTo(PasswordResetServiceImpl.hashVerifier(parts[1]))
+            .doesNotContain(parts[1]);
+        verifyNoInteractions(passwordEncoder);
     }
 
     @Test
@@ -118,7 +129,7 @@ class PasswordResetServiceImplTest {
         assertThat(ex.getMessage()).contains("User with id 99 not found");
 
         verifyNoInteractions(tokenRepository);
-        verifyNoInteractions(mailSender);
+        verifyNoInteractions(mailOutbox);
     }
 
     // -------------------------------------------------------------------------
@@ -127,18 +138,13 @@ class PasswordResetServiceImplTest {
 
     @Test
     void resetPassword_validToken_resetsPasswordAndUnlocksUser() {
-        String rawToken = UUID.randomUUID().toString();
-
-        when(tokenRepository.findAll())
-            .thenReturn(List.of(validToken));
-
-        when(passwordEncoder.matches(rawToken, "HASHED_TOKEN"))
-            .thenReturn(true);
+        when(tokenRepository.findBySelector("SELECTOR"))
+            .thenReturn(Optional.of(validToken));
 
         when(passwordEncoder.encode("newPassword"))
             .thenReturn("NEW_HASH");
 
-        passwordResetService.resetPassword(rawToken, "newPassword");
+        passwordResetService.resetPassword("SELECTOR.VERIFIER", "newPassword");
 
         ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
         verify(userRepository).save(userCaptor.capture());
@@ -147,18 +153,30 @@ class PasswordResetServiceImplTest {
         assertThat(savedUser.getPasswordHash()).isEqualTo("NEW_HASH");
         assertThat(savedUser.isLocked()).isFalse();
         assertThat(savedUser.getLoginFailCount()).isEqualTo(0);
+        verify(userSearchIndex).indexAfterCommit(savedUser);
 
         verify(tokenRepository).delete(validToken);
     }
 
     @Test
     void resetPassword_invalidToken_throwsConflictException() {
-        when(tokenRepository.findAll())
-            .thenReturn(List.of(validToken));
+        when(tokenRepository.findBySelector("SELECTOR"))
+            .thenReturn(Optional.of(validToken));
 
-        when(passwordEncoder.matches(anyString(), anyString()))
-            .thenReturn(false);
+        ConflictException ex = assertThrows(
+            ConflictException.class,
+            () -> passwordResetService.resetPassword("SELECTOR.WRONG", "newPassword")
+        );
 
+        assertThat(ex.getMessage())
+            .contains("Invalid or expired reset token");
+
+        verifyNoInteractions(userRepository);
+        verify(tokenRepository, never()).delete(any());
+    }
+
+    @Test
+    void resetPassword_malformedToken_throwsConflictExceptionWithoutLookup() {
         ConflictException ex = assertThrows(
             ConflictException.class,
             () -> passwordResetService.resetPassword("invalid", "newPassword")
@@ -167,6 +185,7 @@ class PasswordResetServiceImplTest {
         assertThat(ex.getMessage())
             .contains("Invalid or expired reset token");
 
+        verifyNoInteractions(tokenRepository);
         verifyNoInteractions(userRepository);
     }
 
@@ -174,15 +193,12 @@ class PasswordResetServiceImplTest {
     void resetPassword_expiredToken_throwsConflictExceptionAndDeletesToken() {
         validToken.setExpiresAt(LocalDateTime.now().minusMinutes(1));
 
-        when(tokenRepository.findAll())
-            .thenReturn(List.of(validToken));
-
-        when(passwordEncoder.matches(anyString(), anyString()))
-            .thenReturn(true);
+        when(tokenRepository.findBySelector("SELECTOR"))
+            .thenReturn(Optional.of(validToken));
 
         ConflictException ex = assertThrows(
             ConflictException.class,
-            () -> passwordResetService.resetPassword("token", "newPassword")
+            () -> passwordResetService.resetPassword("SELECTOR.VERIFIER", "newPassword")
         );
 
         assertThat(ex.getMessage()).contains("expired");
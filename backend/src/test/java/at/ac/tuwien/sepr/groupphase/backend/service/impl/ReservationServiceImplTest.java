@@ -8,15 +8,21 @@ import at.ac.tuwien.sepr.groupphase.backend.entity.Reservation;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Seat;
 import at.ac.tuwien.sepr.groupphase.backend.entity.Ticket;
 import at.ac.tuwien.sepr.groupphase.backend.entity.User;
+import at.ac.tuwien.sepr.groupphase.backend.exception.ConflictException;
+import at.ac.tuwien.sepr.groupphase.backend.exception.ValidationException;
 import at.ac.tuwien.sepr.groupphase.backend.repository.ReservationRepository;
 import at.ac.tuwien.sepr.groupphase.backend.service.CartService;
 import at.ac.tuwien.sepr.groupphase.backend.service.TicketService;
+import at.ac.tuwien.sepr.groupphase.backend.service.UserIdentity;
 import at.ac.tuwien.sepr.groupphase.backend.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.TestingAuthenticationToken;
@@ -39,6 +45,7 @@ class ReservationServiceImplTest {
     @Mock private UserService userService;
     @Mock private ReservationMapper reservationMapper;
     @Mock private CartService cartService;
+    @Spy private MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     @InjectMocks private ReservationServiceImpl reservationService;
 
@@ -157,11 +164,36 @@ class ReservationServiceImplTest {
 
         verify(ticketService).reserve(any(), eq(ticketIds), eq(user.getEmail()));
         verify(reservationRepository, times(2)).save(any(Reservation.class));
+        assertThat(meterRegistry.get("ticket.holds").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void create_ticketAlreadyReserved_countsConflict() {
+        ticket2.setReservation(reservation);
+        when(ticketService.findAllByIds(List.of(1L, 2L))).thenReturn(List.of(ticket1, ticket2));
+
+        assertThatThrownBy(() -> reservationService.create(List.of(1L, 2L), user.getEmail()))
+            .isInstanceOf(ValidationException.class);
+
+        verify(reservationRepository, never()).save(any(Reservation.class));
+        assertThat(meterRegistry.get("ticket.conflicts").tag("operation", "hold").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("ticket.holds").counter().count()).isZero();
+    }
+
+    @Test
+    void create_cancelledEvent_throwsConflict() {
+        ticket1.getEvent().setCancelled(true);
+        when(ticketService.findAllByIds(List.of(1L, 2L))).thenReturn(List.of(ticket1, ticket2));
+
+        assertThatThrownBy(() -> reservationService.create(List.of(1L, 2L), user.getEmail()))
+            .isInstanceOf(ConflictException.class);
+
+        verify(reservationRepository, never()).save(any(Reservation.class));
     }
 
     @Test
     void findByUserId_returnsDetailedDtos() {
-        when(userService.findByEmail(user.getEmail())).thenReturn(user);
+        when(userService.findIdentityByEmail(user.getEmail())).thenReturn(UserIdentity.of(user));
         when(reservationRepository.findByUserId(user.getId()))
             .thenReturn(List.of(reservation));
         when(reservationMapper.toTicketDetailed(ticket1, reservation))
@@ -10,7 +10,9 @@ import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.ticket.TicketCreateDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.mapper.CancelledTicketMapper;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.mapper.TicketMapper;
 import at.ac.tuwien.sepr.groupphase.backend.entity.*;
+import at.ac.tuwien.sepr.groupphase.backend.exception.ConflictException;
 import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
+import at.ac.tuwien.sepr.groupphase.backend.exception.ValidationException;
 import at.ac.tuwien.sepr.groupphase.backend.repository.CancelledTicketRepository;
 import at.ac.tuwien.sepr.groupphase.backend.repository.ReservationRepository;
 import at.ac.tuwien.sepr.groupphase.backend.repository.TicketRepository;
@@ -18,12 +20,17 @@ import at.ac.tuwien.sepr.groupphase.backend.service.InvoiceService;
 import at.ac.tuwien.sepr.groupphase.backend.service.LocationService;
 import at.ac.tuwien.sepr.groupphase.backend.service.ReservationService;
 import at.ac.tuwien.sepr.groupphase.backend.service.SeatService;
+import at.ac.tuwien.sepr.groupphase.backend.service.UserIdentity;
 import at.ac.tuwien.sepr.groupphase.backend.service.UserService;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.sales.SalesRollup;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
@@ -55,6 +62,8 @@ class TicketServiceImplTest {
     @Mock private CancelledTicketRepository cancelledTicketRepository;
     @Mock private CancelledTicketMapper cancelledTicketMapper;
     @Mock private ReservationRepository reservationRepository;
+    @Mock private SalesRollup salesRollup;
+    @Spy private MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     @InjectMocks private TicketServiceImpl ticketService;
 
@@ -102,7 +111,7 @@ class TicketServiceImplTest {
     void testCreate() {
         Authentication auth = mock(Authentication.class);
         when(auth.getName()).thenReturn("user@test.at");
-        when(userService.findByEmail("user@test.at")).thenReturn(user);
+        when(userService.findIdentityByEmail("user@test.at")).thenReturn(UserIdentity.of(user));
         when(seatService.findById(20L)).thenReturn(seat);
         when(eventService.findById(30L)).thenReturn(event);
         when(ticketRepository.saveAll(any())).thenReturn(List.of(ticket));
@@ -141,6 +150,23 @@ class TicketServiceImplTest {
         assertThat(result).hasSize(1);
         assertThat(result.get(0).id()).isEqualTo(99L);
         assertThat(result.get(0).eventName()).isEqualTo("SEPR Konzert");
+        assertThat(meterRegistry.get("ticket.operation.duration").tag("operation", "create").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("ticket.operation.tickets").tag("operation", "create").summary().totalAmount()).isEqualTo(1);
+    }
+
+    @Test
+    void testCreate_seatAlreadyTaken_countsConflict() {
+        when(userService.findIdentityByEmail("user@test.at")).thenReturn(UserIdentity.of(user));
+        when(ticketMapper.fromCreateDto(any(TicketCreateDto.class))).thenReturn(new Ticket());
+        when(eventService.findById(30L)).thenReturn(event);
+        when(seatService.findById(20L)).thenReturn(seat);
+        when(ticketRepository.existsByEventIdAndSeatId(event.getId(), seat.getId())).thenReturn(true);
+
+        assertThatThrownBy(() -> ticketService.create(List.of(new TicketCreateDto(30L, 20L)), "user@test.at"))
+            .isInstanceOf(ValidationException.class);
+
+        assertThat(meterRegistry.get("ticket.conflicts").tag("operation", "create").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("ticket.operation.duration").tag("operation", "create").timer().count()).isEqualTo(1);
     }
 
 
@@ -381,12 +407,26 @@ class TicketServiceImplTest {
         assertThat(purchased).hasSize(1);
         assertThat(ticket.getReservation()).isNull();
         verify(reservationRepository, never()).delete(any());
+        verify(invoiceService).create(any(InvoiceCreateDto.class));
+        verify(salesRollup, never()).recordSold(anyList());
     }
 
 
 
 
 
+    @Test
+    void testPurchase_cancelledEvent_throwsConflict() {
+        ticket.getEvent().setCancelled(true);
+        when(userService.findByEmail(user.getEmail())).thenReturn(user);
+        when(ticketRepository.findById(ticket.getId())).thenReturn(Optional.of(ticket));
+
+        assertThatThrownBy(() -> ticketService.purchase(List.of(ticket.getId()), user.getEmail()))
+            .isInstanceOf(ConflictException.class);
+
+        verify(invoiceService, never()).create(any());
+    }
+
     @Test
     void testPurchase() {
 
@@ -442,7 +482,7 @@ class TicketServiceImplTest {
 
     @Test
     void testReserve() {
-        when(userService.findByEmail("user@test.at")).thenReturn(user);
+        when(userService.findIdentityByEmail("user@test.at")).thenReturn(UserIdentity.of(user));
         Reservation reservation = new Reservation();
         reservation.setId(7L);
         reservation.setReservationNumber("RES-1");
@@ -481,7 +521,7 @@ class TicketServiceImplTest {
 
     @Test
     void testDeleteByIds() {
-        when(userService.findByEmail("user@test.at")).thenReturn(user);
+        when(userService.findIdentityByEmail("user@test.at")).thenReturn(UserIdentity.of(user));
         Reservation reservation = new Reservation();
         reservation.setId(1L);
         reservation.setUser(user);
@@ -489,6 +529,22 @@ class TicketServiceImplTest {
         when(ticketRepository.findAllById(List.of(99L))).thenReturn(List.of(ticket));
         ticketService.deleteByIds(List.of(99L), "user@test.at");
         verify(ticketRepository).deleteAll(List.of(ticket));
+        verify(salesRollup, never()).recordCancelled(anyList());
+    }
+
+    @Test
+    void testDeleteByIds_soldTicket_countsCancellation() {
+        when(userService.findIdentityByEmail("user@test.at")).thenReturn(UserIdentity.of(user));
+        Invoice invoice = new Invoice();
+        invoice.setId(1L);
+        invoice.setUser(user);
+        ticket.setInvoice(invoice);
+        when(ticketRepository.findAllById(List.of(99L))).thenReturn(List.of(ticket));
+
+        ticketService.deleteByIds(List.of(99L), "user@test.at");
+
+        verify(salesRollup).recordCancelled(List.of(ticket));
+        verify(ticketRepository).deleteAll(List.of(ticket));
     }
 
     @Test
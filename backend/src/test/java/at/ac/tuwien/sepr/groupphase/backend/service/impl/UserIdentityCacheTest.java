@@ -0,0 +1,75 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl;
+
+import at.ac.tuwien.sepr.groupphase.backend.service.UserIdentity;
+import at.ac.tuwien.sepr.groupphase.backend.type.UserRole;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserIdentityCacheTest {
+
+    private static final long NOW = 1_000_000;
+
+    private final UserIdentityCache cache = new UserIdentityCache(Duration.ofSeconds(30), 2);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final Function<String, UserIdentity> loader = email -> {
+        loads.incrementAndGet();
+        return new UserIdentity((long) email.length(), email, UserRole.ROLE_USER, false, false);
+    };
+
+    @Test
+    void get_withinTtl_loadsOnce() {
+        cache.get("a@example.com", loader, NOW);
+        UserIdentity cached = cache.get("a@example.com", loader, NOW + 29_999);
+
+        assertThat(cached.email()).isEqualTo("a@example.com");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void get_afterTtl_reloads() {
+        cache.get("a@example.com", loader, NOW);
+        cache.get("a@example.com", loader, NOW + 30_000);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void invalidate_dropsEntry() {
+        cache.get("a@example.com", loader, NOW);
+
+        cache.invalidate("a@example.com");
+        cache.get("a@example.com", loader, NOW);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void get_invalidatedWhileLoading_doesNotCacheStaleSnapshot() {
+        cache.get("a@example.com", email -> {
+            cache.invalidate(email);
+            return loader.apply(email);
+        }, NOW);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void get_full_evictsExpiredOrSkipsCaching() {
+        cache.get("a@example.com", loader, NOW);
+        cache.get("b@example.com", loader, NOW + 10_000);
+
+        cache.get("c@example.com", loader, NOW + 20_000);
+        assertThat(cache.size()).isEqualTo(2);
+
+        cache.get("d@example.com", loader, NOW + 30_000);
+        assertThat(cache.size()).isEqualTo(2);
+        cache.get("d@example.com", loader, NOW + 30_001);
+        assertThat(loads).hasValue(4);
+    }
+}
@@ -1,5 +1,6 @@
 package at.ac.tuwien.sepr.groupphase.backend.service.impl;
 
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.user.DetailedUserDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.user.SimpleUserDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.user.UserCreateDto;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.user.UserLockUpdateDto;
@@ -14,9 +15,12 @@ import at.ac.tuwien.sepr.groupphase.backend.exception.ValidationException;
 import at.ac.tuwien.sepr.groupphase.backend.repository.UserRepository;
 import at.ac.tuwien.sepr.groupphase.backend.endpoint.mapper.UserMapper;
 import at.ac.tuwien.sepr.groupphase.backend.security.JwtTokenizer;
+import at.ac.tuwien.sepr.groupphase.backend.service.UserIdentity;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.search.UserSearchIndex;
 import at.ac.tuwien.sepr.groupphase.backend.service.impl.validators.UserValidator;
 import at.ac.tuwien.sepr.groupphase.backend.type.UserRole;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,8 +31,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -55,6 +62,12 @@ class UserServiceImplTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Spy
+    private UserIdentityCache userIdentityCache = new UserIdentityCache(Duration.ofSeconds(30), 100);
+
+    @Mock
+    private UserSearchIndex userSearchIndex;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -456,4 +469,79 @@ class UserServiceImplTest {
 
         verify(userRepository, never()).save(any());
     }
-}
\ No newline at end of file
+
+    // ---------------------------------------------------------
+    // IDENTITY CACHE
+    // ---------------------------------------------------------
+
+    @Test
+    void findIdentityByEmail_repeatedLookup_queriesOnce() {
+        when(userRepository.findByEmail("test@example.com"))
+            .thenReturn(Optional.of(loginUser));
+
+        UserIdentity first = userService.findIdentityByEmail("test@example.com");
+        UserIdentity second = userService.findIdentityByEmail("test@example.com");
+
+        assertThat(first).isEqualTo(new UserIdentity(1L, "test@example.com", UserRole.ROLE_USER, false, false));
+        assertThat(second).isEqualTo(first);
+        verify(userRepository, times(1)).findByEmail("test@example.com");
+    }
+
+    @Test
+    void findIdentityByEmail_afterAccountLocked_reloadsSnapshot() {
+        loginUser.setLoginFailCount(4);
+        when(userRepository.findByEmail("test@example.com"))
+            .thenReturn(Optional.of(loginUser));
+        when(passwordEncoder.matches("wrong", "HASHED_PASSWORD"))
+            .thenReturn(false);
+
+        assertThat(userService.findIdentityByEmail("test@example.com").locked()).isFalse();
+
+        UserLoginDto dto = UserLoginDto.UserLoginDtoBuilder
+            .anUserLoginDto()
+            .withEmail("test@example.com")
+            .withPassword("wrong")
+            .build();
+        assertThrows(AccountLockedException.class, () -> userService.login(dto));
+
+        assertThat(userService.findIdentityByEmail("test@example.com").locked()).isTrue();
+        verify(userIdentityCache).invalidate("test@example.com");
+    }
+
+    // ---------------------------------------------------------
+    // USER SEARCH
+    // ---------------------------------------------------------
+
+    @Test
+    void findUsers_withSearch_fetchesRequestedPageOfIndexHitsInOrder() {
+        User second = new User();
+        second.setId(7L);
+        User third = new User();
+        third.setId(9L);
+        DetailedUserDto secondDto = new DetailedUserDto(7L, "b@example.com", "B", "Muster", true, "ROLE_USER", null);
+        DetailedUserDto thirdDto = new DetailedUserDto(9L, "c@example.com", "C", "Muster", true, "ROLE_USER", null);
+
+        when(userSearchIndex.isReady()).thenReturn(true);
+        when(userSearchIndex.search("mus", true)).thenReturn(List.of(3L, 5L, 7L, 9L, 11L));
+        when(userRepository.findAllById(List.of(7L, 9L))).thenReturn(List.of(third, second));
+        when(userMapper.toDetailed(second)).thenReturn(secondDto);
+        when(userMapper.toDetailed(third)).thenReturn(thirdDto);
+
+        Page<DetailedUserDto> page = userService.findUsers(true, "mus", PageRequest.of(1, 2));
+
+        assertThat(page.getContent()).containsExactly(secondDto, thirdDto);
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        verify(userRepository, never()).searchAllLocked(any(), any());
+    }
+
+    @Test
+    void findUsers_withSearchBeforeIndexIsBuilt_queriesDatabase() {
+        when(userSearchIndex.isReady()).thenReturn(false);
+        when(userRepository.searchAllUnlocked("mus", PageRequest.of(0, 10))).thenReturn(Page.empty());
+
+        Page<DetailedUserDto> page = userService.findUsers(false, "Mus", PageRequest.of(0, 10));
+
+        assertThat(page).isEmpty();
+        verify(userSearchIndex, never()).search(any(), anyBoolean());
+    }
+}
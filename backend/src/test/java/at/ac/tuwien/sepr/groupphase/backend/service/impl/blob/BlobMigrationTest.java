@@ -0,0 +1,115 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl.blob;
+
+import at.ac.tuwien.sepr.groupphase.backend.repository.BlobReferenceRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.BlobReferenceRepository.ImageTable;
+import at.ac.tuwien.sepr.groupphase.backend.service.BlobStore;
+import at.ac.tuwien.sepr.groupphase.backend.service.ImageDerivativeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BlobMigrationTest {
+
+    private static final ImageTable EVENTS = new ImageTable("events", "image");
+    private static final String KEY_A = "a".repeat(64);
+    private static final String KEY_B = "b".repeat(64);
+
+    @TempDir
+    Path root;
+
+    @Mock
+    private BlobReferenceRepository blobReferenceRepository;
+
+    @Mock
+    private BlobStore blobStore;
+
+    @Mock
+    private ImageDerivativeService imageDerivativeService;
+
+    private BlobMigration migration;
+
+    @BeforeEach
+    void setUp() {
+        migration = new BlobMigration(blobReferenceRepository, blobStore, imageDerivativeService);
+    }
+
+    @Test
+    void migrate_withoutLegacyColumn_doesNothing() {
+        when(blobReferenceRepository.hasColumn("events", "image")).thenReturn(false);
+
+        assertThat(migration.migrate(EVENTS)).isZero();
+        verify(blobReferenceRepository, never()).findIdsWithLegacyImage(any(), anyLong(), anyInt());
+    }
+
+    @Test
+    void migrate_movesEveryLegacyImage() {
+        when(blobReferenceRepository.hasColumn("events", "image")).thenReturn(true);
+        when(blobReferenceRepository.findIdsWithLegacyImage(eq(EVENTS), eq(0L), anyInt())).thenReturn(List.of(1L, 2L));
+        when(blobReferenceRepository.readLegacyImage(eq(EVENTS), eq(1L), any())).thenReturn(KEY_A);
+        when(blobReferenceRepository.readLegacyImage(eq(EVENTS), eq(2L), any())).thenReturn(null);
+
+        assertThat(migration.migrate(EVENTS)).isEqualTo(1);
+        verify(blobReferenceRepository).replaceLegacyImage(EVENTS, 1L, KEY_A);
+        verify(blobReferenceRepository, never()).replaceLegacyImage(EVENTS, 2L, null);
+    }
+
+    @Test
+    void migrate_legacySchema_movesImagesIntoBlobStore() throws IOException {
+        // ddl-auto never creates the legacy column, so set up a schema from before the blob store
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource("jdbc:h2:mem:blob-migration", "sa", "", true);
+        try {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.execute("CREATE TABLE events (id BIGINT PRIMARY KEY, image BLOB, image_key VARCHAR(64), image_content_type VARCHAR(255))");
+            jdbcTemplate.update("INSERT INTO events (id, image) VALUES (?, ?)", 1L, "legacy image".getBytes(StandardCharsets.UTF_8));
+            jdbcTemplate.update("INSERT INTO events (id) VALUES (?)", 2L);
+            FileSystemBlobStore store = new FileSystemBlobStore(root);
+            BlobMigration legacyMigration = new BlobMigration(new BlobReferenceRepository(jdbcTemplate), store, imageDerivativeService);
+
+            assertThat(legacyMigration.migrate(EVENTS)).isEqualTo(1);
+            assertThat(legacyMigration.migrate(EVENTS)).isZero();
+
+            String key = jdbcTemplate.queryForObject("SELECT image_key FROM events WHERE id = 1", String.class);
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM events WHERE image IS NOT NULL", Integer.class)).isZero();
+            try (InputStream content = store.get(key).getInputStream()) {
+                assertThat(content.readAllBytes()).isEqualTo("legacy image".getBytes(StandardCharsets.UTF_8));
+            }
+        } finally {
+            dataSource.destroy();
+        }
+    }
+
+    @Test
+    void sweep_deletesOnlyUnreferencedBlobs() throws IOException {
+        Instant cutoff = Instant.now();
+        when(blobStore.keysStoredBefore(cutoff)).thenReturn(Set.of(KEY_A, KEY_B));
+        when(blobReferenceRepository.findReferencedKeys()).thenReturn(Set.of(KEY_A));
+
+        assertThat(migration.sweep(cutoff)).isEqualTo(1);
+        verify(blobReferenceRepository).deleteOrphanedDerivatives();
+        verify(blobStore).delete(KEY_B);
+        verify(blobStore, never()).delete(KEY_A);
+    }
+}
@@ -0,0 +1,113 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl.blob;
+
+import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FileSystemBlobStoreTest {
+
+    // SHA-256 of "hello"
+    private static final String HELLO_KEY = "2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824";
+
+    @TempDir
+    Path root;
+
+    private FileSystemBlobStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        store = new FileSystemBlobStore(root);
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void put_storesContentUnderItsHash() throws IOException {
+        String key = store.put(bytes("hello"));
+
+        assertThat(key).isEqualTo(HELLO_KEY);
+        assertThat(Files.readString(root.resolve("2c").resolve(HELLO_KEY))).isEqualTo("hello");
+        assertThat(store.exists(key)).isTrue();
+    }
+
+    @Test
+    void put_sameContentTwice_storesOneBlob() throws IOException {
+        String first = store.put(bytes("hello"));
+        String second = store.put(bytes("hello"));
+
+        assertThat(second).isEqualTo(first);
+        assertThat(store.keysStoredBefore(Instant.now().plusSeconds(60))).containsExactly(first);
+        try (var parts = Files.list(root.resolve("tmp"))) {
+            assertThat(parts).isEmpty();
+        }
+    }
+
+    @Test
+    void get_returnsStreamableResource() throws IOException {
+        String key = store.put(bytes("hello"));
+
+        Resource resource = store.get(key);
+
+        assertThat(resource.contentLength()).isEqualTo(5);
+        assertThat(resource.getContentAsByteArray()).isEqualTo(bytes("hello"));
+    }
+
+    @Test
+    void get_unknownKey_throwsNotFound() {
+        assertThatThrownBy(() -> store.get(HELLO_KEY))
+            .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    void get_keyOutsideStore_isRejected() {
+        assertThatThrownBy(() -> store.get("../../etc/passwd"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void keysStoredBefore_skipsRecentBlobs() throws IOException {
+        String old = store.put(bytes("old"));
+        String recent = store.put(bytes("recent"));
+        Files.setLastModifiedTime(root.resolve(old.substring(0, 2)).resolve(old),
+            FileTime.from(Instant.now().minus(1, ChronoUnit.HOURS)));
+
+        assertThat(store.keysStoredBefore(Instant.now().minus(10, ChronoUnit.MINUTES)))
+            .containsExactly(old)
+            .doesNotContain(recent);
+    }
+
+    @Test
+    void put_existingBlob_refreshesStorageTime() throws IOException {
+        String key = store.put(bytes("hello"));
+        Path file = root.resolve("2c").resolve(key);
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(1, ChronoUnit.HOURS)));
+
+        store.put(bytes("hello"));
+
+        assertThat(store.keysStoredBefore(Instant.now().minus(10, ChronoUnit.MINUTES))).isEmpty();
+    }
+
+    @Test
+    void delete_removesBlob() throws IOException {
+        String key = store.put(bytes("hello"));
+
+        store.delete(key);
+
+        assertThat(store.exists(key)).isFalse();
+    }
+}
@@ -0,0 +1,134 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl.blob;
+
+import at.ac.tuwien.sepr.groupphase.backend.exception.NotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.Resource;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImageByteCacheTest {
+
+    @TempDir
+    Path root;
+
+    private FileSystemBlobStore store;
+    private SimpleMeterRegistry registry;
+    private ImageByteCache cache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        store = new FileSystemBlobStore(root);
+        registry = new SimpleMeterRegistry();
+        cache = new ImageByteCache(store, registry, DataSize.ofBytes(250), DataSize.ofBytes(120));
+        cache.bindTo(registry);
+    }
+
+    private String blob(int size, int fill) throws IOException {
+        byte[] content = new byte[size];
+        Arrays.fill(content, (byte) fill);
+        return store.put(content);
+    }
+
+    private static byte[] read(Resource resource) throws IOException {
+        try (InputStream in = resource.getInputStream()) {
+            return in.readAllBytes();
+        }
+    }
+
+    @Test
+    void get_secondRequest_isServedFromMemory() throws IOException {
+        String key = blob(100, 1);
+
+        byte[] first = read(cache.get(key));
+        Files.delete(root.resolve(key.substring(0, 2)).resolve(key));
+        Resource second = cache.get(key);
+
+        assertThat(first).hasSize(100).containsOnly(1);
+        assertThat(read(second)).isEqualTo(first);
+        assertThat(second.contentLength()).isEqualTo(100);
+        assertThat(registry.get("image.cache.requests").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(registry.get("image.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+        assertThat(registry.get("image.cache.resident").gauge().value()).isEqualTo(100);
+    }
+
+    @Test
+    void get_overBudget_evictsLeastRecentlyUsed() throws IOException {
+        String a = blob(100, 1);
+        String b = blob(100, 2);
+        String c = blob(100, 3);
+
+        read(cache.get(a));
+        read(cache.get(b));
+        read(cache.get(a));
+        read(cache.get(c));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.residentBytes()).isEqualTo(200);
+        assertThat(registry.get("image.cache.evictions").counter().count()).isEqualTo(1);
+
+        read(cache.get(a));
+        assertThat(registry.get("image.cache.requests").tag("result", "hit").counter().count()).isEqualTo(2);
+        read(cache.get(b));
+        assertThat(registry.get("image.cache.requests").tag("result", "miss").counter().count()).isEqualTo(4);
+    }
+
+    @Test
+    void get_contentNotRead_doesNotLoadBlob() throws IOException {
+        String key = blob(100, 1);
+
+        Resource resource = cache.get(key);
+
+        assertThat(resource.contentLength()).isEqualTo(100);
+        assertThat(cache.size()).isZero();
+        assertThat(registry.get("image.cache.requests").tag("result", "miss").counter().count()).isZero();
+    }
+
+    @Test
+    void get_missingBlob_throwsNotFound() {
+        assertThatThrownBy(() -> cache.get("a".repeat(64))).isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    void get_largerThanEntryLimit_isNotCached() throws IOException {
+        String key = blob(200, 1);
+
+        assertThat(read(cache.get(key))).hasSize(200);
+        assertThat(cache.size()).isZero();
+        assertThat(cache.residentBytes()).isZero();
+    }
+
+    @Test
+    void invalidate_releasesBudget() throws IOException {
+        String key = blob(100, 1);
+        read(cache.get(key));
+
+        cache.invalidate(key);
+        cache.invalidate(null);
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.residentBytes()).isZero();
+    }
+
+    @Test
+    void streams_areIndependentViewsOfTheSameBuffer() throws IOException {
+        String key = blob(100, 7);
+        Resource resource = cache.get(key);
+
+        try (InputStream first = resource.getInputStream(); InputStream second = resource.getInputStream()) {
+            assertThat(first.skip(90)).isEqualTo(90);
+            assertThat(first.readAllBytes()).hasSize(10);
+            assertThat(second.readAllBytes()).hasSize(100);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl.news;
+
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.newsItem.SimpleNewsItemDto;
+import at.ac.tuwien.sepr.groupphase.backend.repository.NewsItemRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NewsFeedTest {
+
+    @Mock
+    private NewsItemRepository newsItemRepository;
+
+    private final ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+    private NewsFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        taskScheduler.initialize();
+        feed = new NewsFeed(newsItemRepository, taskScheduler);
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskScheduler.shutdown();
+    }
+
+    private static SimpleNewsItemDto news(long id, LocalDate publishedAt) {
+        return new SimpleNewsItemDto(id, "News " + id, publishedAt, "Summary");
+    }
+
+    @Test
+    void page_isSliceOfSnapshot() {
+        LocalDate today = LocalDate.now();
+        when(newsItemRepository.findPublishedFeed(today)).thenReturn(List.of(
+            news(3, today), news(2, today.minusDays(1)), news(1, today.minusDays(2))));
+        when(newsItemRepository.findNextPublication(today)).thenReturn(Optional.empty());
+
+        feed.rebuild(today);
+        Page<SimpleNewsItemDto> page = feed.page(PageRequest.of(1, 2));
+
+        assertThat(page.getContent()).extracting(SimpleNewsItemDto::id).containsExactly(1L);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(feed.page(PageRequest.of(5, 2)).getContent()).isEmpty();
+    }
+
+    @Test
+    void rebuild_remembersNextPublication() {
+        LocalDate today = LocalDate.now();
+        when(newsItemRepository.findPublishedFeed(today)).thenReturn(List.of());
+        when(newsItemRepository.findNextPublication(today)).thenReturn(Optional.of(today.plusDays(2)));
+
+        feed.rebuild(today);
+
+        assertThat(feed.nextPublication()).isEqualTo(today.plusDays(2));
+    }
+
+    @Test
+    void rebuild_publicationDue_rebuildsAgainWhenItIsReached() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        LocalDate today = LocalDate.now();
+        when(newsItemRepository.findPublishedFeed(yesterday)).thenReturn(List.of());
+        when(newsItemRepository.findNextPublication(yesterday)).thenReturn(Optional.of(today));
+        when(newsItemRepository.findPublishedFeed(today)).thenReturn(List.of(news(1, today)));
+        when(newsItemRepository.findNextPublication(today)).thenReturn(Optional.empty());
+
+        feed.rebuild(yesterday);
+
+        verify(newsItemRepository, timeout(2000).times(1)).findNextPublication(today);
+        synchronized (feed) {
+            // the scheduled rebuild holds the monitor until its snapshot is published
+        }
+        assertThat(feed.page(PageRequest.of(0, 10)).getContent()).extracting(SimpleNewsItemDto::id).containsExactly(1L);
+        verify(newsItemRepository, times(1)).findPublishedFeed(yesterday);
+    }
+}
@@ -0,0 +1,79 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl.news;
+
+import at.ac.tuwien.sepr.groupphase.backend.repository.SeenNewsItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SeenNewsIndexTest {
+
+    private static final long USER = 1L;
+    private static final long OTHER_USER = 2L;
+
+    @Mock
+    private SeenNewsItemRepository seenNewsItemRepository;
+
+    private SeenNewsIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SeenNewsIndex(seenNewsItemRepository, 1);
+    }
+
+    @Test
+    void isSeen_loadsBitmapOnce() {
+        when(seenNewsItemRepository.findNewsItemIdsByUserId(USER)).thenReturn(List.of(120L, 100L));
+
+        assertThat(index.isSeen(USER, 100L)).isTrue();
+        assertThat(index.isSeen(USER, 120L)).isTrue();
+        assertThat(index.isSeen(USER, 110L)).isFalse();
+        assertThat(index.isSeen(USER, 5L)).isFalse();
+        verify(seenNewsItemRepository, times(1)).findNewsItemIdsByUserId(USER);
+    }
+
+    @Test
+    void markSeen_idBelowBase_keepsExistingIds() {
+        when(seenNewsItemRepository.findNewsItemIdsByUserId(USER)).thenReturn(List.of(100L));
+        index.isSeen(USER, 100L);
+
+        index.markSeenAfterCommit(USER, 3L);
+
+        assertThat(index.isSeen(USER, 3L)).isTrue();
+        assertThat(index.isSeen(USER, 100L)).isTrue();
+        assertThat(index.isSeen(USER, 4L)).isFalse();
+    }
+
+    @Test
+    void forgetNewsItem_clearsBitInEveryBitmap() {
+        when(seenNewsItemRepository.findNewsItemIdsByUserId(USER)).thenReturn(List.of(7L, 8L));
+        index.isSeen(USER, 7L);
+
+        index.forgetNewsItemAfterCommit(7L);
+
+        assertThat(index.isSeen(USER, 7L)).isFalse();
+        assertThat(index.isSeen(USER, 8L)).isTrue();
+    }
+
+    @Test
+    void cache_keepsOnlyMostRecentlyUsedUsers() {
+        when(seenNewsItemRepository.findNewsItemIdsByUserId(USER)).thenReturn(List.of());
+        when(seenNewsItemRepository.findNewsItemIdsByUserId(OTHER_USER)).thenReturn(List.of(1L));
+
+        index.isSeen(USER, 1L);
+        index.isSeen(OTHER_USER, 1L);
+        index.isSeen(USER, 1L);
+
+        assertThat(index.cachedUsers()).isEqualTo(1);
+        verify(seenNewsItemRepository, times(2)).findNewsItemIdsByUserId(USER);
+    }
+}
@@ -0,0 +1,122 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl.news;
+
+import at.ac.tuwien.sepr.groupphase.backend.repository.SeenNewsBatchRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.SeenNewsBatchRepository.Mark;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SeenNewsWriteBufferTest {
+
+    @Mock
+    private SeenNewsBatchRepository seenNewsBatchRepository;
+
+    private final ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+    private SeenNewsWriteBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        taskExecutor.initialize();
+        buffer = new SeenNewsWriteBuffer(seenNewsBatchRepository, taskExecutor, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        buffer.shutdown();
+        taskExecutor.shutdown();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Mark> flushedMarks() {
+        ArgumentCaptor<Collection<Mark>> marks = ArgumentCaptor.forClass(Collection.class);
+        verify(seenNewsBatchRepository).insertMissing(marks.capture(), eq(3));
+        return List.copyOf(marks.getValue());
+    }
+
+    @Test
+    void flush_coalescesDuplicateMarks() {
+        buffer.add(1L, List.of(10L));
+        buffer.add(1L, List.of(10L));
+
+        buffer.flush();
+
+        assertThat(flushedMarks()).extracting(Mark::userId, Mark::newsItemId)
+            .containsExactly(tuple(1L, 10L));
+        assertThat(buffer.pendingCount()).isZero();
+    }
+
+    @Test
+    void add_fullBatch_flushesInBackground() {
+        buffer.add(1L, List.of(10L, 11L, 12L));
+
+        verify(seenNewsBatchRepository, timeout(2000)).insertMissing(anyCollection(), eq(3));
+    }
+
+    @Test
+    void flushIfPending_onlyFlushesForUsersWithPendingMarks() {
+        buffer.add(1L, List.of(10L));
+
+        buffer.flushIfPending(2L);
+        verify(seenNewsBatchRepository, never()).insertMissing(anyCollection(), anyInt());
+
+        buffer.flushIfPending(1L);
+        assertThat(flushedMarks()).extracting(Mark::newsItemId).containsExactly(10L);
+    }
+
+    @Test
+    void flush_failure_keepsMarksForNextFlush() {
+        when(seenNewsBatchRepository.insertMissing(anyCollection(), anyInt()))
+            .thenThrow(new DataAccessResourceFailureException("down"));
+        buffer.add(1L, List.of(10L, 11L));
+
+        assertThatThrownBy(() -> buffer.flush()).isInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(buffer.pendingCount()).isEqualTo(2);
+    }
+
+    @Test
+    void flush_constraintViolation_dropsOnlyFailingMarks() {
+        when(seenNewsBatchRepository.insertMissing(anyCollection(), anyInt())).thenAnswer(invocation -> {
+            Collection<Mark> marks = invocation.getArgument(0);
+            if (marks.size() > 1 || marks.iterator().next().userId() == 2L) {
+                throw new DataIntegrityViolationException("fk");
+            }
+            return 1;
+        });
+        buffer.add(1L, List.of(10L));
+        buffer.add(2L, List.of(10L));
+
+        assertThat(buffer.flush()).isEqualTo(1);
+        assertThat(buffer.pendingCount()).isZero();
+    }
+
+    @Test
+    void shutdown_writesPendingMarks() {
+        buffer.add(1L, List.of(10L));
+
+        buffer.shutdown();
+
+        assertThat(flushedMarks()).hasSize(1);
+    }
+}
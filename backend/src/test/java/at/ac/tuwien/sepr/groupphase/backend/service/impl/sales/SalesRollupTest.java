@@ -0,0 +1,152 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl.sales;
+
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.TopTenEventDto;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Event;
+import at.ac.tuwien.sepr.groupphase.backend.entity.EventSales;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Ticket;
+import at.ac.tuwien.sepr.groupphase.backend.repository.EventSalesRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SalesRollupTest {
+
+    @Mock
+    private EventSalesRepository eventSalesRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SalesRollup rollup;
+
+    private Event concert;
+    private Event opera;
+
+    @BeforeEach
+    void setUp() {
+        rollup = new SalesRollup(eventSalesRepository, transactionManager, eventPublisher);
+        concert = event(1L, "Rock Concert", "Concert", LocalDateTime.of(2026, 6, 10, 20, 0));
+        opera = event(2L, "Tosca", "Opera", LocalDateTime.of(2026, 6, 12, 19, 0));
+    }
+
+    private static Event event(Long id, String title, String type, LocalDateTime dateTime) {
+        Event event = new Event();
+        event.setId(id);
+        event.setTitle(title);
+        event.setType(type);
+        event.setDateTime(dateTime);
+        return event;
+    }
+
+    private static List<Ticket> tickets(Event event, int count) {
+        List<Ticket> tickets = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Ticket ticket = new Ticket();
+            ticket.setEvent(event);
+            tickets.add(ticket);
+        }
+        return tickets;
+    }
+
+    @Test
+    void recordSold_updatesRollupRowAndRanking() {
+        when(eventSalesRepository.addSold(anyLong(), anyLong())).thenReturn(1);
+
+        rollup.recordSold(tickets(concert, 3));
+        rollup.recordSold(tickets(opera, 5));
+
+        verify(eventSalesRepository).addSold(1L, 3);
+        verify(eventSalesRepository).addSold(2L, 5);
+        verify(eventPublisher).publishEvent(new SalesChangedEvent(Map.of(1L, 3L)));
+        assertThat(rollup.topTen(6, 2026, null)).extracting(TopTenEventDto::eventId, TopTenEventDto::ticketsSold)
+            .containsExactly(tuple(2L, 5L), tuple(1L, 3L));
+        assertThat(rollup.topTen(6, 2026, "CONCERT")).extracting(TopTenEventDto::eventId).containsExactly(1L);
+        assertThat(rollup.topTen(7, 2026, null)).isEmpty();
+    }
+
+    @Test
+    void recordSold_withoutRollupRow_insertsRow() {
+        when(eventSalesRepository.addSold(1L, 2)).thenReturn(0);
+
+        rollup.recordSold(tickets(concert, 2));
+
+        verify(eventSalesRepository).save(any(EventSales.class));
+    }
+
+    @Test
+    void recordCancelled_decrementsAndDropsEventsWithoutSales() {
+        when(eventSalesRepository.addSold(anyLong(), anyLong())).thenReturn(1);
+        rollup.recordSold(tickets(concert, 2));
+        rollup.recordSold(tickets(opera, 1));
+
+        rollup.recordCancelled(tickets(concert, 1));
+        rollup.recordCancelled(tickets(opera, 1));
+
+        verify(eventSalesRepository).addSold(1L, -1);
+        assertThat(rollup.topTen(6, 2026, null)).extracting(TopTenEventDto::eventId, TopTenEventDto::ticketsSold)
+            .containsExactly(tuple(1L, 1L));
+    }
+
+    @Test
+    void topTen_limitsToTenBestSelling() {
+        when(eventSalesRepository.addSold(anyLong(), anyLong())).thenReturn(1);
+        for (long id = 1; id <= 12; id++) {
+            rollup.recordSold(tickets(event(id, "Event " + id, "Concert", LocalDateTime.of(2026, 6, 1, 20, 0)), (int) id));
+        }
+
+        List<TopTenEventDto> top = rollup.topTen(6, 2026, "concert");
+
+        assertThat(top).hasSize(10);
+        assertThat(top.getFirst().eventId()).isEqualTo(12L);
+        assertThat(top.getLast().eventId()).isEqualTo(3L);
+    }
+
+    @Test
+    void eventUpdated_movesSalesToNewMonthAndType() {
+        when(eventSalesRepository.addSold(anyLong(), anyLong())).thenReturn(1);
+        when(eventSalesRepository.moveEvent(1L, 2026, 7, "Festival")).thenReturn(1);
+        rollup.recordSold(tickets(concert, 4));
+
+        concert.setType("Festival");
+        concert.setDateTime(LocalDateTime.of(2026, 7, 1, 18, 0));
+        rollup.eventUpdated(concert);
+
+        assertThat(rollup.topTen(6, 2026, null)).isEmpty();
+        assertThat(rollup.topTen(7, 2026, "festival")).extracting(TopTenEventDto::ticketsSold).containsExactly(4L);
+        verify(eventSalesRepository, never()).save(any(EventSales.class));
+    }
+
+    @Test
+    void rebuild_loadsRankingFromTicketCounts() {
+        when(eventSalesRepository.countSoldTicketsPerEvent()).thenReturn(List.of(
+            new Object[] {1L, "Rock Concert", "Concert", concert.getDateTime(), 7L},
+            new Object[] {2L, "Tosca", "Opera", opera.getDateTime(), 0L}
+        ));
+
+        rollup.rebuild();
+
+        verify(eventSalesRepository).deleteAllInBatch();
+        assertThat(rollup.topTen(6, 2026, null)).extracting(TopTenEventDto::eventId).containsExactly(1L);
+    }
+}
@@ -0,0 +1,106 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl.search;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.Artist;
+import at.ac.tuwien.sepr.groupphase.backend.repository.ArtistRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ArtistMembershipIndexTest {
+
+    private static final long FREDDIE = 1L;
+    private static final long BRIAN = 2L;
+    private static final long QUEEN = 10L;
+    private static final long SUPERGROUP = 20L;
+    private static final long SOLO = 3L;
+
+    @Mock
+    private ArtistRepository artistRepository;
+
+    private ArtistMembershipIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ArtistMembershipIndex(artistRepository);
+        when(artistRepository.findBandMemberships()).thenReturn(List.of(
+            new Object[] {QUEEN, FREDDIE},
+            new Object[] {QUEEN, BRIAN},
+            new Object[] {SUPERGROUP, QUEEN}
+        ));
+        index.rebuild();
+    }
+
+    private static Artist band(long id, long... memberIds) {
+        Artist band = new Artist("Band " + id);
+        band.setId(id);
+        band.setIsBand(true);
+        for (long memberId : memberIds) {
+            Artist member = new Artist("Member " + memberId);
+            member.setId(memberId);
+            band.addMember(member);
+        }
+        return band;
+    }
+
+    @Test
+    void rebuild_buildsTransitiveClosureInBothDirections() {
+        assertThat(index.bandsOf(FREDDIE)).containsExactlyInAnyOrder(QUEEN, SUPERGROUP);
+        assertThat(index.bandsOf(QUEEN)).containsExactly(SUPERGROUP);
+        assertThat(index.bandsOf(SUPERGROUP)).isEmpty();
+        assertThat(index.membersOf(SUPERGROUP)).containsExactlyInAnyOrder(QUEEN, FREDDIE, BRIAN);
+        assertThat(index.membersOf(QUEEN)).containsExactlyInAnyOrder(FREDDIE, BRIAN);
+        assertThat(index.withBands(BRIAN)).containsExactlyInAnyOrder(BRIAN, QUEEN, SUPERGROUP);
+    }
+
+    @Test
+    void unknownArtist_hasNoBandsOrMembers() {
+        assertThat(index.bandsOf(SOLO)).isEmpty();
+        assertThat(index.membersOf(SOLO)).isEmpty();
+        assertThat(index.withBands(SOLO)).containsExactly(SOLO);
+    }
+
+    @Test
+    void artistSaved_newBand_extendsClosureIncrementally() {
+        index.artistSavedAfterCommit(band(30L, SOLO, SUPERGROUP));
+
+        assertThat(index.bandsOf(FREDDIE)).containsExactlyInAnyOrder(QUEEN, SUPERGROUP, 30L);
+        assertThat(index.bandsOf(SOLO)).containsExactly(30L);
+        assertThat(index.membersOf(30L)).containsExactlyInAnyOrder(SOLO, SUPERGROUP, QUEEN, FREDDIE, BRIAN);
+    }
+
+    @Test
+    void artistSaved_removedMember_recomputesClosure() {
+        index.artistSavedAfterCommit(band(QUEEN, FREDDIE));
+
+        assertThat(index.bandsOf(BRIAN)).isEmpty();
+        assertThat(index.membersOf(SUPERGROUP)).containsExactlyInAnyOrder(QUEEN, FREDDIE);
+        assertThat(index.bandsOf(FREDDIE)).containsExactlyInAnyOrder(QUEEN, SUPERGROUP);
+    }
+
+    @Test
+    void artistSaved_notABand_dropsMemberships() {
+        Artist queen = band(QUEEN, FREDDIE, BRIAN);
+        queen.setIsBand(false);
+        index.artistSavedAfterCommit(queen);
+
+        assertThat(index.bandsOf(FREDDIE)).isEmpty();
+        assertThat(index.membersOf(SUPERGROUP)).containsExactly(QUEEN);
+    }
+
+    @Test
+    void cycle_doesNotContainArtistItself() {
+        index.setMembers(FREDDIE, Set.of(SUPERGROUP));
+
+        assertThat(index.bandsOf(FREDDIE)).containsExactlyInAnyOrder(QUEEN, SUPERGROUP);
+        assertThat(index.membersOf(FREDDIE)).containsExactlyInAnyOrder(SUPERGROUP, QUEEN, BRIAN);
+    }
+}
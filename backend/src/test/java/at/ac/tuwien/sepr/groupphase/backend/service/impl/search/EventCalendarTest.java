@@ -0,0 +1,114 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl.search;
+
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.CalendarDayDto;
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.CalendarEventDto;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Event;
+import at.ac.tuwien.sepr.groupphase.backend.entity.listener.PriceRangeRefreshedEvent;
+import at.ac.tuwien.sepr.groupphase.backend.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventCalendarTest {
+
+    private static final LocalDate JUNE_15 = LocalDate.of(2026, 6, 15);
+    private static final LocalDate JUNE_20 = LocalDate.of(2026, 6, 20);
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private EventCalendar calendar;
+
+    @BeforeEach
+    void setUp() {
+        calendar = new EventCalendar(eventRepository);
+        when(eventRepository.findCalendarRows()).thenReturn(List.of(
+            new Object[] {1L, "Evening Concert", "Concert", JUNE_15.atTime(20, 0), 5000},
+            new Object[] {2L, "Matinee", "Opera", JUNE_15.atTime(11, 0), 8000},
+            new Object[] {3L, "Jazz Night", "Concert", JUNE_20.atTime(21, 0), null},
+            new Object[] {4L, "New Year", "Concert", LocalDateTime.of(2026, 7, 1, 0, 0), 1000}
+        ));
+        calendar.rebuild();
+    }
+
+    private static Event event(Long id, String title, LocalDateTime dateTime) {
+        Event event = new Event();
+        event.setId(id);
+        event.setTitle(title);
+        event.setType("Concert");
+        event.setDateTime(dateTime);
+        event.setMinPrice(3000);
+        return event;
+    }
+
+    @Test
+    void days_summarizesDaysInRangeOrderedByStartTime() {
+        List<CalendarDayDto> days = calendar.days(LocalDate.of(2026, 6, 1), LocalDate.of(2026, 6, 30));
+
+        assertThat(days).extracting(CalendarDayDto::date).containsExactly(JUNE_15, JUNE_20);
+        CalendarDayDto first = days.get(0);
+        assertThat(first.eventCount()).isEqualTo(2);
+        assertThat(first.minPrice()).isEqualTo(5000);
+        assertThat(first.events()).containsExactly(
+            new CalendarEventDto(2L, "Matinee", "Opera", LocalTime.of(11, 0), 8000),
+            new CalendarEventDto(1L, "Evening Concert", "Concert", LocalTime.of(20, 0), 5000));
+        assertThat(days.get(1).minPrice()).isNull();
+    }
+
+    @Test
+    void days_emptyRange_returnsNothing() {
+        assertThat(calendar.days(LocalDate.of(2026, 5, 1), LocalDate.of(2026, 5, 31))).isEmpty();
+    }
+
+    @Test
+    void idsBetween_honoursTimesOnBoundaryDays() {
+        assertThat(calendar.idsBetween(JUNE_15.atTime(12, 0), JUNE_20.atTime(21, 0))).containsExactly(1L, 3L);
+        assertThat(calendar.idsBetween(JUNE_15.atStartOfDay(), LocalDateTime.of(2026, 7, 1, 0, 0)))
+            .containsExactly(2L, 1L, 3L, 4L);
+    }
+
+    @Test
+    void upsertAfterCommit_movesEventToNewDay() {
+        calendar.upsertAfterCommit(event(1L, "Evening Concert", JUNE_20.atTime(19, 0)));
+
+        List<CalendarDayDto> days = calendar.days(JUNE_15, JUNE_20);
+        assertThat(days.get(0).events()).extracting(CalendarEventDto::id).containsExactly(2L);
+        assertThat(days.get(1).events()).extracting(CalendarEventDto::id).containsExactly(1L, 3L);
+        assertThat(days.get(1).minPrice()).isEqualTo(3000);
+    }
+
+    @Test
+    void upsertAfterCommit_insertsNewEventInTimeOrder() {
+        calendar.upsertAfterCommit(event(5L, "Lunch Concert", JUNE_15.atTime(13, 0)));
+
+        assertThat(calendar.days(JUNE_15, JUNE_15).get(0).events())
+            .extracting(CalendarEventDto::id).containsExactly(2L, 5L, 1L);
+    }
+
+    @Test
+    void removeAfterCommit_dropsEmptyDays() {
+        calendar.removeAfterCommit(3L);
+
+        assertThat(calendar.days(JUNE_20, JUNE_20)).isEmpty();
+        assertThat(calendar.idsBetween(JUNE_20.atStartOfDay(), JUNE_20.atTime(23, 59))).isEmpty();
+    }
+
+    @Test
+    void onPriceRangeRefreshed_updatesPrices() {
+        calendar.onPriceRangeRefreshed(new PriceRangeRefreshedEvent(Map.of(3L, 2500)));
+
+        assertThat(calendar.days(JUNE_20, JUNE_20).get(0).minPrice()).isEqualTo(2500);
+    }
+}
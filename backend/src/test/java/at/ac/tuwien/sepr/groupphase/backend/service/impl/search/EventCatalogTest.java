@@ -0,0 +1,129 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl.search;
+
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.event.FacetCountDto;
+import at.ac.tuwien.sepr.groupphase.backend.entity.listener.PriceRangeRefreshedEvent;
+import at.ac.tuwien.sepr.groupphase.backend.repository.EventRepository;
+import at.ac.tuwien.sepr.groupphase.backend.type.PriceBand;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventCatalogTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private EventCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new EventCatalog(eventRepository);
+        catalog.upsert(1L, "Concert", 10L, "Stadthalle", 1500, LocalDateTime.of(2026, 3, 10, 20, 0));
+        catalog.upsert(2L, "concert", 20L, "Arena", 3000, LocalDateTime.of(2026, 3, 5, 20, 0));
+        catalog.upsert(3L, "Opera", 10L, "Stadthalle", 8000, LocalDateTime.of(2026, 4, 1, 19, 0));
+        catalog.upsert(4L, "Theater", 20L, "Arena", null, LocalDateTime.of(2026, 4, 2, 19, 0));
+    }
+
+    private static EventCatalog.Filter noFilter() {
+        return new EventCatalog.Filter(null, null, null, null);
+    }
+
+    @Test
+    void search_withoutFilters_returnsAllEventsByDateWithCounts() {
+        EventCatalog.Result result = catalog.search(noFilter(), 0, 10);
+
+        assertThat(result.pageIds()).containsExactly(2L, 1L, 3L, 4L);
+        assertThat(result.total()).isEqualTo(4);
+        assertThat(result.types()).extracting(FacetCountDto::label, FacetCountDto::count)
+            .containsExactly(tuple("Concert", 2L), tuple("Opera", 1L), tuple("Theater", 1L));
+        assertThat(result.priceBands()).extracting(FacetCountDto::value, FacetCountDto::count)
+            .containsExactly(tuple("UNDER_20", 1L), tuple("FROM_20_TO_50", 1L), tuple("FROM_50_TO_100", 1L), tuple("NO_PRICE", 1L));
+        assertThat(result.months()).extracting(FacetCountDto::value, FacetCountDto::count)
+            .containsExactly(tuple("2026-03", 2L), tuple("2026-04", 2L));
+    }
+
+    @Test
+    void search_facetCountsIgnoreOwnFilterButHonourOthers() {
+        EventCatalog.Result result = catalog.search(
+            new EventCatalog.Filter("CONCERT", 10L, null, null), 0, 10);
+
+        assertThat(result.pageIds()).containsExactly(1L);
+        // other types at location 10
+        assertThat(result.types()).extracting(FacetCountDto::label, FacetCountDto::count)
+            .containsExactly(tuple("Concert", 1L), tuple("Opera", 1L));
+        // concerts at other locations
+        assertThat(result.locations()).extracting(FacetCountDto::label, FacetCountDto::count)
+            .containsExactly(tuple("Arena", 1L), tuple("Stadthalle", 1L));
+        assertThat(result.months()).extracting(FacetCountDto::value).containsExactly("2026-03");
+    }
+
+    @Test
+    void search_byPriceBandAndMonth() {
+        EventCatalog.Result result = catalog.search(
+            new EventCatalog.Filter(null, null, PriceBand.NO_PRICE, YearMonth.of(2026, 4)), 0, 10);
+
+        assertThat(result.pageIds()).containsExactly(4L);
+    }
+
+    @Test
+    void search_unknownType_returnsNothing() {
+        EventCatalog.Result result = catalog.search(
+            new EventCatalog.Filter("Ballet", null, null, null), 0, 10);
+
+        assertThat(result.pageIds()).isEmpty();
+        assertThat(result.total()).isZero();
+    }
+
+    @Test
+    void search_paginatesMatches() {
+        EventCatalog.Result result = catalog.search(noFilter(), 2, 1);
+
+        assertThat(result.pageIds()).containsExactly(3L);
+        assertThat(result.total()).isEqualTo(4);
+    }
+
+    @Test
+    void upsertAndRemove_updateRowsInPlace() {
+        catalog.upsert(1L, "Opera", 10L, "Stadthalle", 1500, LocalDateTime.of(2026, 3, 10, 20, 0));
+        catalog.remove(3L);
+
+        EventCatalog.Result result = catalog.search(new EventCatalog.Filter("opera", null, null, null), 0, 10);
+
+        assertThat(result.pageIds()).containsExactly(1L);
+        assertThat(catalog.size()).isEqualTo(3);
+    }
+
+    @Test
+    void onPriceRangeRefreshed_reloadsPriceBands() {
+        catalog.onPriceRangeRefreshed(new PriceRangeRefreshedEvent(Map.of(4L, 12000)));
+
+        EventCatalog.Result result = catalog.search(
+            new EventCatalog.Filter(null, null, PriceBand.FROM_100, null), 0, 10);
+        assertThat(result.pageIds()).containsExactly(4L);
+    }
+
+    @Test
+    void rebuild_loadsCatalogRows() {
+        when(eventRepository.findCatalogRows()).thenReturn(List.<Object[]>of(
+            new Object[] {7L, "Musical", 30L, "Ronacher", 4500, LocalDateTime.of(2026, 5, 1, 19, 30)}
+        ));
+
+        catalog.rebuild();
+
+        EventCatalog.Result result = catalog.search(noFilter(), 0, 10);
+        assertThat(result.pageIds()).containsExactly(7L);
+        assertThat(result.locations()).extracting(FacetCountDto::value).containsExactly("30");
+    }
+}
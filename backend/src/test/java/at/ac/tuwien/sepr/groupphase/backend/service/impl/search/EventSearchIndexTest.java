@@ -0,0 +1,97 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl.search;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.Event;
+import at.ac.tuwien.sepr.groupphase.backend.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventSearchIndexTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private EventSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new EventSearchIndex(eventRepository);
+        index.index(1L, "Die Zauberflöte", "OPERA", "Mozarts Oper in zwei Aufzügen");
+        index.index(2L, "Rock im Park", "CONCERT", "Rock Festival mit vielen Bands");
+        index.index(3L, "Jazz Night", "CONCERT", "Ein Abend mit Jazz und etwas Rock");
+    }
+
+    private List<Long> ids(String query) {
+        return index.search(query).stream().map(EventSearchIndex.Hit::eventId).toList();
+    }
+
+    @Test
+    void search_ignoresCaseAndDiacritics() {
+        assertThat(ids("ZAUBERFLOTE")).containsExactly(1L);
+        assertThat(ids("aufzugen")).containsExactly(1L);
+    }
+
+    @Test
+    void search_ranksTitleMatchesAboveDescriptionMatches() {
+        assertThat(ids("rock")).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void search_matchesPrefixesAndInfixes() {
+        assertThat(ids("zaub")).containsExactly(1L);
+        assertThat(ids("berfl")).containsExactly(1L);
+        assertThat(ids("ja")).containsExactly(3L);
+    }
+
+    @Test
+    void search_requiresAllTokens() {
+        assertThat(ids("rock jazz")).containsExactly(3L);
+        assertThat(ids("rock oper")).isEmpty();
+    }
+
+    @Test
+    void search_blankQuery_returnsNothing() {
+        assertThat(index.search("  ")).isEmpty();
+        assertThat(index.search(null)).isEmpty();
+    }
+
+    @Test
+    void index_replacesPreviousVersion() {
+        index.index(2L, "Pop im Park", "CONCERT", "Festival");
+
+        assertThat(ids("rock")).containsExactly(3L);
+        assertThat(ids("pop")).containsExactly(2L);
+    }
+
+    @Test
+    void remove_dropsEventAndUnusedTerms() {
+        index.remove(1L);
+
+        assertThat(ids("zauberflote")).isEmpty();
+        assertThat(ids("zaub")).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void rebuild_loadsAllEventsFromRepository() {
+        Event event = new Event();
+        event.setId(10L);
+        event.setTitle("La Traviata");
+        event.setType("OPERA");
+        when(eventRepository.findAll()).thenReturn(List.of(event));
+
+        index.rebuild();
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(ids("traviata")).containsExactly(10L);
+        assertThat(ids("rock")).isEmpty();
+    }
+}
@@ -0,0 +1,74 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixTrieTest {
+
+    private PrefixTrie<String> trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new PrefixTrie<>(Comparator.<String>naturalOrder());
+        trie.put("rock im park", "rock-im-park", 50);
+        trie.put("rocky horror show", "rocky", 80);
+        trie.put("romeo und julia", "romeo", 20);
+        trie.put("roman holiday", "roman", 20);
+        trie.put("jazz night", "jazz", 100);
+    }
+
+    @Test
+    void top_returnsCompletionsByWeight() {
+        assertThat(trie.top("ro", 10)).containsExactly("rocky", "rock-im-park", "roman", "romeo");
+        assertThat(trie.top("rock", 10)).containsExactly("rocky", "rock-im-park");
+        assertThat(trie.top("rock ", 10)).containsExactly("rock-im-park");
+    }
+
+    @Test
+    void top_limitsResults() {
+        assertThat(trie.top("", 2)).containsExactly("jazz", "rocky");
+        assertThat(trie.top("ro", 1)).containsExactly("rocky");
+    }
+
+    @Test
+    void top_unknownPrefix_returnsEmpty() {
+        assertThat(trie.top("x", 5)).isEmpty();
+        assertThat(trie.top("rocx", 5)).isEmpty();
+        assertThat(trie.top("rock im parkett", 5)).isEmpty();
+    }
+
+    @Test
+    void put_existingValue_updatesWeight() {
+        trie.put("romeo und julia", "romeo", 90);
+
+        assertThat(trie.top("ro", 2)).containsExactly("romeo", "rocky");
+        assertThat(trie.size()).isEqualTo(5);
+    }
+
+    @Test
+    void put_valueUnderSeveralKeys_isReturnedOnce() {
+        trie.put("park", "rock-im-park", 50);
+        trie.put("im park", "rock-im-park", 50);
+
+        assertThat(trie.top("", 10)).containsOnlyOnce("rock-im-park");
+        assertThat(trie.top("pa", 10)).containsExactly("rock-im-park");
+    }
+
+    @Test
+    void remove_prunesAndKeepsOtherKeysReachable() {
+        trie.remove("rocky horror show", "rocky");
+
+        assertThat(trie.top("ro", 10)).containsExactly("rock-im-park", "roman", "romeo");
+        assertThat(trie.top("rocky", 10)).isEmpty();
+        assertThat(trie.size()).isEqualTo(4);
+
+        trie.remove("roman holiday", "roman");
+        trie.remove("romeo und julia", "romeo");
+        assertThat(trie.top("ro", 10)).containsExactly("rock-im-park");
+        assertThat(trie.top("rock i", 10)).containsExactly("rock-im-park");
+    }
+}
@@ -0,0 +1,135 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl.search;
+
+import at.ac.tuwien.sepr.groupphase.backend.endpoint.dto.suggest.SuggestionDto;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Artist;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Event;
+import at.ac.tuwien.sepr.groupphase.backend.entity.Location;
+import at.ac.tuwien.sepr.groupphase.backend.repository.ArtistRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.EventRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.EventSalesRepository;
+import at.ac.tuwien.sepr.groupphase.backend.repository.LocationRepository;
+import at.ac.tuwien.sepr.groupphase.backend.service.impl.sales.SalesChangedEvent;
+import at.ac.tuwien.sepr.groupphase.backend.type.SuggestionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SuggestionIndexTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventSalesRepository eventSalesRepository;
+
+    @Mock
+    private ArtistRepository artistRepository;
+
+    @Mock
+    private LocationRepository locationRepository;
+
+    private SuggestionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SuggestionIndex(eventRepository, eventSalesRepository, artistRepository, locationRepository);
+
+        LocalDateTime date = LocalDateTime.of(2026, 6, 1, 20, 0);
+        when(eventSalesRepository.countSoldTicketsPerEvent()).thenReturn(List.of(
+            new Object[] {1L, "La Traviata", "Opera", date, 40L},
+            new Object[] {2L, "Rock im Park", "Concert", date, 300L}
+        ));
+        when(eventRepository.findSuggestionLinks()).thenReturn(List.of(
+            new Object[] {1L, 10L, null},
+            new Object[] {2L, 20L, 5L}
+        ));
+        when(artistRepository.findAll()).thenReturn(List.of(artist(5L, "Die Toten Hosen"), artist(6L, "Rolando Villazón")));
+        when(locationRepository.findAll()).thenReturn(List.of(
+            location(10L, "Staatsoper", "Wien"), location(20L, "Zeppelinfeld", "Nürnberg")));
+
+        index.rebuild();
+    }
+
+    private static Artist artist(Long id, String name) {
+        Artist artist = new Artist();
+        artist.setId(id);
+        artist.setName(name);
+        return artist;
+    }
+
+    private static Location location(Long id, String name, String city) {
+        Location location = new Location();
+        location.setId(id);
+        location.setName(name);
+        location.setCity(city);
+        return location;
+    }
+
+    @Test
+    void suggest_completesAnyWordIgnoringCaseAndDiacritics() {
+        assertThat(index.suggest("trav", 5)).extracting(SuggestionDto::id).containsExactly(1L);
+        assertThat(index.suggest("la tra", 5)).extracting(SuggestionDto::id).containsExactly(1L);
+        assertThat(index.suggest("VILLAZON", 5)).extracting(SuggestionDto::type, SuggestionDto::id)
+            .containsExactly(tuple(SuggestionType.ARTIST, 6L));
+        assertThat(index.suggest("nurn", 5)).extracting(SuggestionDto::label).containsExactly("Zeppelinfeld, Nürnberg");
+    }
+
+    @Test
+    void suggest_ranksBySalesIncludingArtistsAndLocations() {
+        // Rock im Park (300) and its artist, before Rolando Villazón (no sales)
+        assertThat(index.suggest("ro", 5)).extracting(SuggestionDto::type, SuggestionDto::id)
+            .containsExactly(tuple(SuggestionType.EVENT, 2L), tuple(SuggestionType.ARTIST, 6L));
+        assertThat(index.suggest("t", 5)).extracting(SuggestionDto::type, SuggestionDto::id)
+            .containsExactly(tuple(SuggestionType.ARTIST, 5L), tuple(SuggestionType.EVENT, 1L));
+    }
+
+    @Test
+    void suggest_blankQuery_returnsNothing() {
+        assertThat(index.suggest("  ", 5)).isEmpty();
+    }
+
+    @Test
+    void onSalesChanged_reweightsEventArtistAndLocation() {
+        index.onSalesChanged(new SalesChangedEvent(Map.of(1L, 500L)));
+
+        assertThat(index.suggest("t", 5)).extracting(SuggestionDto::id).containsExactly(1L, 5L);
+        assertThat(index.suggest("staatsoper", 5)).extracting(SuggestionDto::id).containsExactly(10L);
+    }
+
+    @Test
+    void eventSavedAndRemoved_updateIndex() {
+        Event event = new Event();
+        event.setId(3L);
+        event.setTitle("Tosca");
+        event.setLocation(location(10L, "Staatsoper", "Wien"));
+        index.eventSavedAfterCommit(event);
+
+        assertThat(index.suggest("tos", 5)).extracting(SuggestionDto::id).containsExactly(3L);
+
+        index.eventRemovedAfterCommit(2L);
+        assertThat(index.suggest("park", 5)).isEmpty();
+        assertThat(index.suggest("hosen", 5)).extracting(SuggestionDto::id).containsExactly(5L);
+    }
+
+    @Test
+    void eventSaved_renamesEvent() {
+        Event event = new Event();
+        event.setId(1L);
+        event.setTitle("Aida");
+        index.eventSavedAfterCommit(event);
+
+        assertThat(index.suggest("trav", 5)).isEmpty();
+        assertThat(index.suggest("aid", 5)).extracting(SuggestionDto::id).containsExactly(1L);
+    }
+}
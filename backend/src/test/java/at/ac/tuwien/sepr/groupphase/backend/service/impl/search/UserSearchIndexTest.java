@@ -0,0 +1,94 @@
+package at.ac.tuwien.sepr.groupphase.backend.service.impl.search;
+
+import at.ac.tuwien.sepr.groupphase.backend.entity.User;
+import at.ac.tuwien.sepr.groupphase.backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserSearchIndexTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new UserSearchIndex(userRepository);
+        when(userRepository.findAll()).thenReturn(List.of(
+            user(1L, "Jürgen", "Müller", "jm@example.com", false),
+            user(2L, "Anna", "Musterfrau", "anna@test.at", false),
+            user(3L, "Max", "Mustermann", "max@example.com", true)));
+        index.rebuild();
+    }
+
+    private static User user(Long id, String firstName, String lastName, String email, boolean locked) {
+        User user = new User();
+        user.setId(id);
+        user.setFirstName(firstName);
+        user.setLastName(lastName);
+        user.setEmail(email);
+        user.setLocked(locked);
+        return user;
+    }
+
+    @Test
+    void rebuild_makesIndexReady() {
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void search_matchesSubstringsOfAnyFieldIgnoringCaseAndDiacritics() {
+        assertThat(index.search("MUSTER", false)).containsExactly(2L);
+        assertThat(index.search("muller", false)).containsExactly(1L);
+        assertThat(index.search("@example.", false)).containsExactly(1L);
+        assertThat(index.search("rgen", false)).containsExactly(1L);
+    }
+
+    @Test
+    void search_filtersByLockState() {
+        assertThat(index.search("muster", true)).containsExactly(3L);
+        assertThat(index.search("example", true)).containsExactly(3L);
+    }
+
+    @Test
+    void search_requiresContiguousMatchWithinOneField() {
+        assertThat(index.search("annamus", false)).isEmpty();
+        assertThat(index.search("frauen", false)).isEmpty();
+    }
+
+    @Test
+    void search_shortQuery_checksAllUsers() {
+        assertThat(index.search("m", false)).containsExactly(1L, 2L);
+        assertThat(index.search("an", false)).containsExactly(2L);
+        assertThat(index.search("", false)).isEmpty();
+    }
+
+    @Test
+    void indexAfterCommit_withoutTransaction_replacesUserImmediately() {
+        User renamed = user(2L, "Anna", "Berger", "anna@test.at", true);
+
+        index.indexAfterCommit(renamed);
+
+        assertThat(index.search("muster", false)).isEmpty();
+        assertThat(index.search("berger", true)).containsExactly(2L);
+    }
+
+    @Test
+    void remove_dropsUser() {
+        index.removeAfterCommit(1L);
+
+        assertThat(index.search("example", false)).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+}